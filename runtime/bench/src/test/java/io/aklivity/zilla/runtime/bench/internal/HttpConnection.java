@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.bench.internal;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+
+final class HttpConnection implements AutoCloseable
+{
+    private static final String CONTENT_LENGTH = "content-length:";
+
+    private final Socket socket;
+    private final InputStream input;
+    private final OutputStream output;
+    private final StringBuilder line;
+    private final byte[] discard;
+
+    HttpConnection(
+        Socket socket) throws IOException
+    {
+        this.socket = socket;
+        this.input = new BufferedInputStream(socket.getInputStream(), 65536);
+        this.output = socket.getOutputStream();
+        this.line = new StringBuilder();
+        this.discard = new byte[8192];
+    }
+
+    static byte[] request(
+        String method,
+        String path,
+        String authority,
+        byte[] content)
+    {
+        final byte[] headers = String.format(
+            "%s %s HTTP/1.1\r\nHost: %s\r\nContent-Type: application/octet-stream\r\nContent-Length: %d\r\n\r\n",
+            method, path, authority, content.length).getBytes(US_ASCII);
+
+        final byte[] request = new byte[headers.length + content.length];
+        System.arraycopy(headers, 0, request, 0, headers.length);
+        System.arraycopy(content, 0, request, headers.length, content.length);
+        return request;
+    }
+
+    int exchange(
+        byte[] request) throws IOException
+    {
+        output.write(request);
+        output.flush();
+
+        final int status = Integer.parseInt(readLine().substring(9, 12));
+
+        int contentLength = 0;
+        for (String header = readLine(); !header.isEmpty(); header = readLine())
+        {
+            if (header.regionMatches(true, 0, CONTENT_LENGTH, 0, CONTENT_LENGTH.length()))
+            {
+                contentLength = Integer.parseInt(header.substring(CONTENT_LENGTH.length()).trim());
+            }
+        }
+
+        for (int remaining = contentLength; remaining > 0; )
+        {
+            final int bytes = input.read(discard, 0, Math.min(remaining, discard.length));
+            if (bytes == -1)
+            {
+                throw new EOFException();
+            }
+            remaining -= bytes;
+        }
+
+        return status;
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        socket.close();
+    }
+
+    private String readLine() throws IOException
+    {
+        line.setLength(0);
+
+        for (int b = input.read(); b != '\n'; b = input.read())
+        {
+            if (b == -1)
+            {
+                throw new EOFException();
+            }
+
+            if (b != '\r')
+            {
+                line.append((char) b);
+            }
+        }
+
+        return line.toString();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.bench.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.net.Socket;
+import java.util.Properties;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class HttpKafkaBM
+{
+    private static final int PORT = 12080;
+    private static final int KAFKA_PORT = 19092;
+    private static final long KAFKA_RETENTION_BYTES = 64L * 1024L * 1024L;
+
+    @Param({"64", "1024"})
+    public int length;
+
+    private KafkaStandin kafka;
+    private PipelineEngine engine;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception
+    {
+        kafka = new KafkaStandin("localhost", KAFKA_PORT, 1, KAFKA_RETENTION_BYTES);
+        engine = PipelineEngine.start("http.kafka", PORT, new Properties());
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws Exception
+    {
+        engine.close();
+        kafka.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Connection
+    {
+        private HttpConnection connection;
+        private byte[] request;
+
+        @Setup(Level.Trial)
+        public void init(
+            HttpKafkaBM bench) throws Exception
+        {
+            final byte[] content = new byte[bench.length];
+            new Random().nextBytes(content);
+
+            final String path = String.format("/items/%d", Thread.currentThread().getId());
+            request = HttpConnection.request("PUT", path, String.format("localhost:%d", PORT), content);
+
+            final Socket socket = new Socket("localhost", PORT);
+            socket.setTcpNoDelay(true);
+
+            connection = new HttpConnection(socket);
+        }
+
+        @TearDown(Level.Trial)
+        public void destroy() throws Exception
+        {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int produce(
+        final Connection connection) throws Exception
+    {
+        return connection.connection.exchange(connection.request);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(HttpKafkaBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,896 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.bench.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loopback stand-in for a single Kafka broker, answering the request versions sent by the
+ * {@code kafka} client binding as captured by the {@code binding-kafka} spec network scripts,
+ * such as {@code metadata.v5}, {@code describe.configs.v0}, {@code fetch.v5}, {@code produce.v3}
+ * and {@code group.f1.j5.s3.l3.h3}.
+ * <p>
+ * Produced record batches are kept in memory per partition, up to a retention limit, and served
+ * back to fetch requests, so pipelines that read their own writes (such as MQTT sessions) make progress.
+ * Consumer groups have a single generation per join and accept the leader assignments as given.
+ */
+final class KafkaStandin implements AutoCloseable
+{
+    private static final short PRODUCE_API_KEY = 0;
+    private static final short FETCH_API_KEY = 1;
+    private static final short OFFSETS_API_KEY = 2;
+    private static final short METADATA_API_KEY = 3;
+    private static final short OFFSET_COMMIT_API_KEY = 8;
+    private static final short OFFSET_FETCH_API_KEY = 9;
+    private static final short FIND_COORDINATOR_API_KEY = 10;
+    private static final short JOIN_GROUP_API_KEY = 11;
+    private static final short HEARTBEAT_API_KEY = 12;
+    private static final short LEAVE_GROUP_API_KEY = 13;
+    private static final short SYNC_GROUP_API_KEY = 14;
+    private static final short INIT_PRODUCER_ID_API_KEY = 22;
+    private static final short DESCRIBE_CONFIGS_API_KEY = 32;
+
+    private static final short ERROR_NONE = 0;
+    private static final short ERROR_OFFSET_OUT_OF_RANGE = 1;
+
+    private static final long OFFSET_EARLIEST = -2L;
+    private static final int NODE_ID = 0;
+    private static final int RECORD_BATCH_OVERHEAD = 12;
+    private static final int RECORD_BATCH_LAST_OFFSET_DELTA_OFFSET = 23;
+    private static final long FETCH_MAX_WAIT_MILLIS = 500L;
+
+    private static final Map<String, String> CONFIG_DEFAULTS = Map.ofEntries(
+        Map.entry("cleanup.policy", "delete"),
+        Map.entry("max.message.bytes", "1000012"),
+        Map.entry("segment.bytes", "1073741824"),
+        Map.entry("segment.index.bytes", "10485760"),
+        Map.entry("segment.ms", "604800000"),
+        Map.entry("retention.bytes", "-1"),
+        Map.entry("retention.ms", "604800000"),
+        Map.entry("delete.retention.ms", "86400000"),
+        Map.entry("min.compaction.lag.ms", "0"),
+        Map.entry("max.compaction.lag.ms", "9223372036854775807"),
+        Map.entry("min.cleanable.dirty.ratio", "0.5"),
+        Map.entry("group.min.session.timeout.ms", "6000"),
+        Map.entry("group.max.session.timeout.ms", "1800000"));
+
+    private final String host;
+    private final int port;
+    private final int partitions;
+    private final long retentionBytes;
+    private final ServerSocketChannel server;
+    private final Thread acceptor;
+    private final Map<String, Partition[]> topics;
+    private final Map<String, Group> groups;
+    private final Map<String, Long> offsets;
+    private final AtomicLong producerIds;
+    private final AtomicLong memberIds;
+    private final Object appended;
+
+    KafkaStandin(
+        String host,
+        int port,
+        int partitions,
+        long retentionBytes) throws IOException
+    {
+        this.host = host;
+        this.port = port;
+        this.partitions = partitions;
+        this.retentionBytes = retentionBytes;
+        this.topics = new ConcurrentHashMap<>();
+        this.groups = new ConcurrentHashMap<>();
+        this.offsets = new ConcurrentHashMap<>();
+        this.producerIds = new AtomicLong();
+        this.memberIds = new AtomicLong();
+        this.appended = new Object();
+        this.server = ServerSocketChannel.open().bind(new InetSocketAddress(host, port));
+        this.acceptor = new Thread(this::accept, "kafka-standin");
+        this.acceptor.setDaemon(true);
+        this.acceptor.start();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        server.close();
+    }
+
+    private void accept()
+    {
+        try
+        {
+            while (server.isOpen())
+            {
+                final SocketChannel channel = server.accept();
+                final Thread session = new Thread(() -> serve(channel), "kafka-standin-session");
+                session.setDaemon(true);
+                session.start();
+            }
+        }
+        catch (IOException ex)
+        {
+            // closed
+        }
+    }
+
+    private void serve(
+        SocketChannel channel)
+    {
+        final ByteBuffer size = ByteBuffer.allocate(Integer.BYTES);
+
+        try (channel)
+        {
+            while (read(channel, size.clear()))
+            {
+                final ByteBuffer request = ByteBuffer.allocate(size.flip().getInt());
+                if (!read(channel, request))
+                {
+                    break;
+                }
+
+                final ByteBuffer response = handle(request.flip());
+                if (response != null)
+                {
+                    while (response.hasRemaining())
+                    {
+                        channel.write(response);
+                    }
+                }
+            }
+        }
+        catch (IOException | InterruptedException ex)
+        {
+            // disconnected
+        }
+    }
+
+    private ByteBuffer handle(
+        ByteBuffer request) throws IOException, InterruptedException
+    {
+        final short apiKey = request.getShort();
+        request.getShort();
+        final int correlationId = request.getInt();
+        readString(request);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream response = new DataOutputStream(bytes);
+        response.writeInt(0);
+        response.writeInt(correlationId);
+
+        boolean respond = true;
+        switch (apiKey)
+        {
+        case PRODUCE_API_KEY:
+            respond = onProduce(request, response);
+            break;
+        case FETCH_API_KEY:
+            onFetch(request, response);
+            break;
+        case OFFSETS_API_KEY:
+            onListOffsets(request, response);
+            break;
+        case METADATA_API_KEY:
+            onMetadata(request, response);
+            break;
+        case OFFSET_COMMIT_API_KEY:
+            onOffsetCommit(request, response);
+            break;
+        case OFFSET_FETCH_API_KEY:
+            onOffsetFetch(request, response);
+            break;
+        case FIND_COORDINATOR_API_KEY:
+            onFindCoordinator(request, response);
+            break;
+        case JOIN_GROUP_API_KEY:
+            onJoinGroup(request, response);
+            break;
+        case HEARTBEAT_API_KEY:
+            onHeartbeat(request, response);
+            break;
+        case LEAVE_GROUP_API_KEY:
+            onLeaveGroup(request, response);
+            break;
+        case SYNC_GROUP_API_KEY:
+            onSyncGroup(request, response);
+            break;
+        case INIT_PRODUCER_ID_API_KEY:
+            onInitProducerId(request, response);
+            break;
+        case DESCRIBE_CONFIGS_API_KEY:
+            onDescribeConfigs(request, response);
+            break;
+        default:
+            throw new IOException(String.format("Unsupported api key %d", apiKey));
+        }
+
+        ByteBuffer encoded = null;
+        if (respond)
+        {
+            encoded = ByteBuffer.wrap(bytes.toByteArray());
+            encoded.putInt(0, encoded.capacity() - Integer.BYTES);
+        }
+        return encoded;
+    }
+
+    private boolean onProduce(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        readString(request);
+        final short acks = request.getShort();
+        request.getInt();
+
+        final int topicCount = request.getInt();
+        response.writeInt(topicCount);
+        for (int t = 0; t < topicCount; t++)
+        {
+            final String topic = readString(request);
+            final Partition[] partitions = supplyTopic(topic);
+
+            writeString(response, topic);
+            final int partitionCount = request.getInt();
+            response.writeInt(partitionCount);
+            for (int p = 0; p < partitionCount; p++)
+            {
+                final int partitionId = request.getInt();
+                final ByteBuffer records = readBytes(request);
+                final long baseOffset = partitions[partitionId].append(records);
+
+                response.writeInt(partitionId);
+                response.writeShort(ERROR_NONE);
+                response.writeLong(baseOffset);
+                response.writeLong(-1L);
+            }
+        }
+        response.writeInt(0);
+
+        synchronized (appended)
+        {
+            appended.notifyAll();
+        }
+
+        return acks != 0;
+    }
+
+    private void onFetch(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException, InterruptedException
+    {
+        request.getInt();
+        final long maxWait = Math.min(request.getInt(), FETCH_MAX_WAIT_MILLIS);
+        request.getInt();
+        final int maxBytes = request.getInt();
+        request.get();
+
+        final int position = request.position();
+        final long deadline = System.currentTimeMillis() + maxWait;
+        synchronized (appended)
+        {
+            for (long remaining = maxWait; remaining > 0 && !fetchable(request.position(position)); )
+            {
+                appended.wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+        request.position(position);
+
+        int budget = maxBytes;
+        response.writeInt(0);
+        final int topicCount = request.getInt();
+        response.writeInt(topicCount);
+        for (int t = 0; t < topicCount; t++)
+        {
+            final String topic = readString(request);
+            final Partition[] partitions = supplyTopic(topic);
+
+            writeString(response, topic);
+            final int partitionCount = request.getInt();
+            response.writeInt(partitionCount);
+            for (int p = 0; p < partitionCount; p++)
+            {
+                final int partitionId = request.getInt();
+                final long fetchOffset = request.getLong();
+                request.getLong();
+                final int partitionMaxBytes = request.getInt();
+
+                final Partition partition = partitions[partitionId];
+                final byte[] records = partition.read(fetchOffset, Math.min(budget, partitionMaxBytes));
+                budget -= records != null ? records.length : 0;
+
+                response.writeInt(partitionId);
+                response.writeShort(records != null ? ERROR_NONE : ERROR_OFFSET_OUT_OF_RANGE);
+                response.writeLong(partition.logEnd());
+                response.writeLong(partition.logEnd());
+                response.writeLong(partition.logStart());
+                response.writeInt(-1);
+                writeBytes(response, records);
+            }
+        }
+    }
+
+    private boolean fetchable(
+        ByteBuffer request)
+    {
+        boolean fetchable = false;
+
+        final int topicCount = request.getInt();
+        for (int t = 0; t < topicCount; t++)
+        {
+            final Partition[] partitions = supplyTopic(readString(request));
+            final int partitionCount = request.getInt();
+            for (int p = 0; p < partitionCount; p++)
+            {
+                final int partitionId = request.getInt();
+                final long fetchOffset = request.getLong();
+                request.getLong();
+                request.getInt();
+
+                final Partition partition = partitions[partitionId];
+                fetchable |= fetchOffset < partition.logEnd() || fetchOffset < partition.logStart();
+            }
+        }
+
+        return fetchable;
+    }
+
+    private void onListOffsets(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        request.getInt();
+        request.get();
+
+        response.writeInt(0);
+        final int topicCount = request.getInt();
+        response.writeInt(topicCount);
+        for (int t = 0; t < topicCount; t++)
+        {
+            final String topic = readString(request);
+            final Partition[] partitions = supplyTopic(topic);
+
+            writeString(response, topic);
+            final int partitionCount = request.getInt();
+            response.writeInt(partitionCount);
+            for (int p = 0; p < partitionCount; p++)
+            {
+                final int partitionId = request.getInt();
+                final long timestamp = request.getLong();
+                final Partition partition = partitions[partitionId];
+
+                response.writeInt(partitionId);
+                response.writeShort(ERROR_NONE);
+                response.writeLong(-1L);
+                response.writeLong(timestamp == OFFSET_EARLIEST ? partition.logStart() : partition.logEnd());
+            }
+        }
+    }
+
+    private void onMetadata(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        final int topicCount = request.getInt();
+        final List<String> names = new ArrayList<>();
+        for (int t = 0; t < topicCount; t++)
+        {
+            names.add(readString(request));
+        }
+
+        if (topicCount == -1)
+        {
+            names.addAll(topics.keySet());
+        }
+
+        response.writeInt(0);
+        response.writeInt(1);
+        response.writeInt(NODE_ID);
+        writeString(response, host);
+        response.writeInt(port);
+        writeString(response, null);
+        writeString(response, "zilla-benchmarks");
+        response.writeInt(NODE_ID);
+
+        response.writeInt(names.size());
+        for (String name : names)
+        {
+            final Partition[] partitions = supplyTopic(name);
+
+            response.writeShort(ERROR_NONE);
+            writeString(response, name);
+            response.writeBoolean(false);
+            response.writeInt(partitions.length);
+            for (int p = 0; p < partitions.length; p++)
+            {
+                response.writeShort(ERROR_NONE);
+                response.writeInt(p);
+                response.writeInt(NODE_ID);
+                response.writeInt(1);
+                response.writeInt(NODE_ID);
+                response.writeInt(1);
+                response.writeInt(NODE_ID);
+                response.writeInt(0);
+            }
+        }
+    }
+
+    private void onDescribeConfigs(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        response.writeInt(0);
+        final int resourceCount = request.getInt();
+        response.writeInt(resourceCount);
+        for (int r = 0; r < resourceCount; r++)
+        {
+            final byte resourceType = request.get();
+            final String resourceName = readString(request);
+            final int keyCount = request.getInt();
+            final List<String> keys = new ArrayList<>();
+            for (int k = 0; k < keyCount; k++)
+            {
+                keys.add(readString(request));
+            }
+
+            if (keyCount == -1)
+            {
+                keys.addAll(CONFIG_DEFAULTS.keySet());
+            }
+
+            response.writeShort(ERROR_NONE);
+            writeString(response, null);
+            response.writeByte(resourceType);
+            writeString(response, resourceName);
+            response.writeInt(keys.size());
+            for (String key : keys)
+            {
+                writeString(response, key);
+                writeString(response, CONFIG_DEFAULTS.get(key));
+                response.writeBoolean(false);
+                response.writeBoolean(true);
+                response.writeBoolean(false);
+            }
+        }
+    }
+
+    private void onFindCoordinator(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        readString(request);
+        request.get();
+
+        response.writeInt(0);
+        response.writeShort(ERROR_NONE);
+        writeString(response, null);
+        response.writeInt(NODE_ID);
+        writeString(response, host);
+        response.writeInt(port);
+    }
+
+    private void onJoinGroup(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        final String groupId = readString(request);
+        request.getInt();
+        request.getInt();
+        final String memberId = readString(request);
+        final String instanceId = readString(request);
+        readString(request);
+
+        String protocol = null;
+        byte[] metadata = null;
+        final int protocolCount = request.getInt();
+        for (int i = 0; i < protocolCount; i++)
+        {
+            final String name = readString(request);
+            final ByteBuffer bytes = readBytes(request);
+            if (protocol == null)
+            {
+                protocol = name;
+                metadata = toByteArray(bytes);
+            }
+        }
+
+        final Group group = groups.computeIfAbsent(groupId, g -> new Group());
+
+        synchronized (group)
+        {
+            final String member = memberId == null || memberId.isEmpty()
+                ? instanceId != null ? instanceId : String.format("member-%d", memberIds.incrementAndGet())
+                : memberId;
+
+            group.members.put(member, metadata);
+            group.generation++;
+
+            response.writeInt(0);
+            response.writeShort(ERROR_NONE);
+            response.writeInt(group.generation);
+            writeString(response, protocol);
+            writeString(response, group.members.keySet().iterator().next());
+            writeString(response, member);
+            response.writeInt(group.members.size());
+            for (Map.Entry<String, byte[]> entry : group.members.entrySet())
+            {
+                writeString(response, entry.getKey());
+                writeString(response, null);
+                writeBytes(response, entry.getValue());
+            }
+        }
+    }
+
+    private void onSyncGroup(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        final String groupId = readString(request);
+        request.getInt();
+        final String memberId = readString(request);
+        readString(request);
+
+        final Group group = groups.computeIfAbsent(groupId, g -> new Group());
+
+        synchronized (group)
+        {
+            final int assignmentCount = request.getInt();
+            for (int i = 0; i < assignmentCount; i++)
+            {
+                final String member = readString(request);
+                group.assignments.put(member, toByteArray(readBytes(request)));
+            }
+
+            response.writeInt(0);
+            response.writeShort(ERROR_NONE);
+            writeBytes(response, group.assignments.getOrDefault(memberId, new byte[0]));
+        }
+    }
+
+    private void onHeartbeat(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        response.writeInt(0);
+        response.writeShort(ERROR_NONE);
+    }
+
+    private void onLeaveGroup(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        final String groupId = readString(request);
+        final Group group = groups.computeIfAbsent(groupId, g -> new Group());
+
+        response.writeInt(0);
+        response.writeShort(ERROR_NONE);
+
+        synchronized (group)
+        {
+            final int memberCount = request.getInt();
+            response.writeInt(memberCount);
+            for (int i = 0; i < memberCount; i++)
+            {
+                final String member = readString(request);
+                readString(request);
+
+                group.members.remove(member);
+                group.assignments.remove(member);
+
+                writeString(response, member);
+                writeString(response, null);
+                response.writeShort(ERROR_NONE);
+            }
+        }
+    }
+
+    private void onOffsetFetch(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        final String groupId = readString(request);
+
+        response.writeInt(0);
+        final int topicCount = request.getInt();
+        response.writeInt(Math.max(topicCount, 0));
+        for (int t = 0; t < topicCount; t++)
+        {
+            final String topic = readString(request);
+
+            writeString(response, topic);
+            final int partitionCount = request.getInt();
+            response.writeInt(partitionCount);
+            for (int p = 0; p < partitionCount; p++)
+            {
+                final int partitionId = request.getInt();
+
+                response.writeInt(partitionId);
+                response.writeLong(offsets.getOrDefault(offsetKey(groupId, topic, partitionId), -1L));
+                response.writeInt(-1);
+                writeString(response, "");
+                response.writeShort(ERROR_NONE);
+            }
+        }
+        response.writeShort(ERROR_NONE);
+    }
+
+    private void onOffsetCommit(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        final String groupId = readString(request);
+        request.getInt();
+        readString(request);
+        readString(request);
+
+        response.writeInt(0);
+        final int topicCount = request.getInt();
+        response.writeInt(topicCount);
+        for (int t = 0; t < topicCount; t++)
+        {
+            final String topic = readString(request);
+
+            writeString(response, topic);
+            final int partitionCount = request.getInt();
+            response.writeInt(partitionCount);
+            for (int p = 0; p < partitionCount; p++)
+            {
+                final int partitionId = request.getInt();
+                final long offset = request.getLong();
+                request.getInt();
+                readString(request);
+
+                offsets.put(offsetKey(groupId, topic, partitionId), offset);
+
+                response.writeInt(partitionId);
+                response.writeShort(ERROR_NONE);
+            }
+        }
+    }
+
+    private void onInitProducerId(
+        ByteBuffer request,
+        DataOutputStream response) throws IOException
+    {
+        response.writeInt(0);
+        response.writeShort(ERROR_NONE);
+        response.writeLong(producerIds.incrementAndGet());
+        response.writeShort(0);
+    }
+
+    private Partition[] supplyTopic(
+        String topic)
+    {
+        return topics.computeIfAbsent(topic, t ->
+        {
+            final Partition[] newPartitions = new Partition[partitions];
+            for (int p = 0; p < newPartitions.length; p++)
+            {
+                newPartitions[p] = new Partition(retentionBytes);
+            }
+            return newPartitions;
+        });
+    }
+
+    private static String offsetKey(
+        String groupId,
+        String topic,
+        int partitionId)
+    {
+        return String.format("%s/%s/%d", groupId, topic, partitionId);
+    }
+
+    private static boolean read(
+        SocketChannel channel,
+        ByteBuffer buffer) throws IOException
+    {
+        int bytes = 0;
+        while (buffer.hasRemaining() && bytes != -1)
+        {
+            bytes = channel.read(buffer);
+        }
+        return !buffer.hasRemaining();
+    }
+
+    private static String readString(
+        ByteBuffer buffer)
+    {
+        final short length = buffer.getShort();
+
+        String value = null;
+        if (length != -1)
+        {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        return value;
+    }
+
+    private static ByteBuffer readBytes(
+        ByteBuffer buffer)
+    {
+        final int length = buffer.getInt();
+
+        ByteBuffer value = null;
+        if (length != -1)
+        {
+            value = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+        }
+        return value;
+    }
+
+    private static byte[] toByteArray(
+        ByteBuffer buffer)
+    {
+        byte[] bytes = null;
+        if (buffer != null)
+        {
+            bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+        }
+        return bytes;
+    }
+
+    private static void writeString(
+        DataOutputStream output,
+        String value) throws IOException
+    {
+        if (value == null)
+        {
+            output.writeShort(-1);
+        }
+        else
+        {
+            final byte[] bytes = value.getBytes(UTF_8);
+            output.writeShort(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static void writeBytes(
+        DataOutputStream output,
+        byte[] value) throws IOException
+    {
+        if (value == null)
+        {
+            output.writeInt(-1);
+        }
+        else
+        {
+            output.writeInt(value.length);
+            output.write(value);
+        }
+    }
+
+    private static final class Group
+    {
+        private final Map<String, byte[]> members = new LinkedHashMap<>();
+        private final Map<String, byte[]> assignments = new LinkedHashMap<>();
+
+        private int generation;
+    }
+
+    private static final class Partition
+    {
+        private final Deque<Batch> batches = new ArrayDeque<>();
+        private final long retentionBytes;
+
+        private long logStart;
+        private long logEnd;
+        private long bytes;
+
+        private Partition(
+            long retentionBytes)
+        {
+            this.retentionBytes = retentionBytes;
+        }
+
+        private synchronized long logStart()
+        {
+            return logStart;
+        }
+
+        private synchronized long logEnd()
+        {
+            return logEnd;
+        }
+
+        private synchronized long append(
+            ByteBuffer records)
+        {
+            final long baseOffset = logEnd;
+
+            while (records != null && records.remaining() > RECORD_BATCH_OVERHEAD)
+            {
+                final int length = records.getInt(records.position() + Long.BYTES) + RECORD_BATCH_OVERHEAD;
+                final byte[] encoded = new byte[length];
+                records.get(encoded);
+
+                final ByteBuffer batch = ByteBuffer.wrap(encoded);
+                final long lastOffset = logEnd + batch.getInt(RECORD_BATCH_LAST_OFFSET_DELTA_OFFSET);
+                batch.putLong(0, logEnd);
+
+                batches.addLast(new Batch(lastOffset, encoded));
+                logEnd = lastOffset + 1;
+                bytes += length;
+            }
+
+            while (bytes > retentionBytes && batches.size() > 1)
+            {
+                final Batch evicted = batches.removeFirst();
+                bytes -= evicted.encoded.length;
+                logStart = evicted.lastOffset + 1;
+            }
+
+            return baseOffset;
+        }
+
+        private synchronized byte[] read(
+            long fetchOffset,
+            int maxBytes)
+        {
+            byte[] records = null;
+
+            if (fetchOffset >= logStart && fetchOffset <= logEnd)
+            {
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                for (Batch batch : batches)
+                {
+                    if (batch.lastOffset >= fetchOffset)
+                    {
+                        if (output.size() > 0 && output.size() + batch.encoded.length > maxBytes)
+                        {
+                            break;
+                        }
+                        output.write(batch.encoded, 0, batch.encoded.length);
+                    }
+                }
+
+                records = output.toByteArray();
+            }
+
+            return records;
+        }
+    }
+
+    private static final class Batch
+    {
+        private final long lastOffset;
+        private final byte[] encoded;
+
+        private Batch(
+            long lastOffset,
+            byte[] encoded)
+        {
+            this.lastOffset = lastOffset;
+            this.encoded = encoded;
+        }
+    }
+}
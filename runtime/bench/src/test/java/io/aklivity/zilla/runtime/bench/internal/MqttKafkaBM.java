@@ -0,0 +1,270 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.bench.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class MqttKafkaBM
+{
+    private static final int PORT = 11883;
+    private static final int KAFKA_PORT = 19092;
+    private static final long KAFKA_RETENTION_BYTES = 64L * 1024L * 1024L;
+    private static final int CONNECT_TIMEOUT_MILLIS = 10000;
+
+    private static final int CONNECT = 0x10;
+    private static final int CONNACK = 0x20;
+    private static final int PUBLISH_QOS1 = 0x32;
+    private static final int PUBACK = 0x40;
+    private static final int DISCONNECT = 0xe0;
+    private static final int PACKET_TYPE_MASK = 0xf0;
+    private static final int MQTT_V5 = 5;
+    private static final int CLEAN_START = 0x02;
+    private static final int KEEP_ALIVE_SECONDS = 60;
+
+    private static final AtomicInteger CLIENT_IDS = new AtomicInteger();
+
+    @Param({"64", "1024"})
+    public int length;
+
+    private KafkaStandin kafka;
+    private PipelineEngine engine;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception
+    {
+        kafka = new KafkaStandin("localhost", KAFKA_PORT, 1, KAFKA_RETENTION_BYTES);
+        engine = PipelineEngine.start("mqtt.kafka", PORT, new Properties());
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws Exception
+    {
+        engine.close();
+        kafka.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Connection
+    {
+        private Socket socket;
+        private InputStream input;
+        private OutputStream output;
+        private byte[] publish;
+        private int packetIdOffset;
+        private int packetId;
+        private byte[] packet;
+
+        @Setup(Level.Trial)
+        public void init(
+            MqttKafkaBM bench) throws Exception
+        {
+            final byte[] payload = new byte[bench.length];
+            new Random().nextBytes(payload);
+
+            final String clientId = String.format("bench-%d", CLIENT_IDS.incrementAndGet());
+            final byte[] topic = "sensors/one".getBytes(UTF_8);
+
+            packet = new byte[256];
+            socket = new Socket("localhost", PORT);
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+            input = new BufferedInputStream(socket.getInputStream());
+            output = socket.getOutputStream();
+
+            final ByteArrayOutputStream connect = new ByteArrayOutputStream();
+            writeString(connect, "MQTT".getBytes(UTF_8));
+            connect.write(MQTT_V5);
+            connect.write(CLEAN_START);
+            connect.write(KEEP_ALIVE_SECONDS >> 8);
+            connect.write(KEEP_ALIVE_SECONDS & 0xff);
+            connect.write(0);
+            writeString(connect, clientId.getBytes(UTF_8));
+
+            output.write(encode(CONNECT, connect.toByteArray()));
+            output.flush();
+
+            if (readPacket() != CONNACK || packet[1] != 0)
+            {
+                throw new IOException(String.format("Connect rejected with reason code %d", packet[1]));
+            }
+            socket.setSoTimeout(0);
+
+            final ByteArrayOutputStream variable = new ByteArrayOutputStream();
+            writeString(variable, topic);
+            variable.write(0);
+            variable.write(0);
+            variable.write(0);
+            variable.writeBytes(payload);
+
+            publish = encode(PUBLISH_QOS1, variable.toByteArray());
+            packetIdOffset = publish.length - payload.length - 3;
+        }
+
+        @TearDown(Level.Trial)
+        public void destroy() throws Exception
+        {
+            output.write(new byte[] { (byte) DISCONNECT, 0 });
+            output.flush();
+            socket.close();
+        }
+
+        private void publish() throws IOException
+        {
+            packetId = packetId % 0xffff + 1;
+            publish[packetIdOffset] = (byte) (packetId >> 8);
+            publish[packetIdOffset + 1] = (byte) packetId;
+
+            output.write(publish);
+            output.flush();
+
+            int type;
+            do
+            {
+                type = readPacket();
+            }
+            while (type != PUBACK);
+        }
+
+        private int readPacket() throws IOException
+        {
+            final int type = read() & PACKET_TYPE_MASK;
+
+            int remaining = 0;
+            int shift = 0;
+            for (int b = read(); ; b = read())
+            {
+                remaining |= (b & 0x7f) << shift;
+                shift += 7;
+                if ((b & 0x80) == 0)
+                {
+                    break;
+                }
+            }
+
+            if (remaining > packet.length)
+            {
+                packet = new byte[remaining];
+            }
+
+            for (int offset = 0; offset < remaining; )
+            {
+                final int bytes = input.read(packet, offset, remaining - offset);
+                if (bytes == -1)
+                {
+                    throw new EOFException();
+                }
+                offset += bytes;
+            }
+
+            return type;
+        }
+
+        private int read() throws IOException
+        {
+            final int b = input.read();
+            if (b == -1)
+            {
+                throw new EOFException();
+            }
+            return b;
+        }
+
+        private static byte[] encode(
+            int type,
+            byte[] body)
+        {
+            final ByteArrayOutputStream packet = new ByteArrayOutputStream();
+            packet.write(type);
+            for (int remaining = body.length; ; )
+            {
+                final int b = remaining & 0x7f;
+                remaining >>>= 7;
+                packet.write(remaining > 0 ? b | 0x80 : b);
+                if (remaining == 0)
+                {
+                    break;
+                }
+            }
+            packet.write(body, 0, body.length);
+            return packet.toByteArray();
+        }
+
+        private static void writeString(
+            ByteArrayOutputStream output,
+            byte[] value)
+        {
+            output.write(value.length >> 8);
+            output.write(value.length & 0xff);
+            output.write(value, 0, value.length);
+        }
+    }
+
+    @Benchmark
+    public void publish(
+        final Connection connection) throws Exception
+    {
+        connection.publish();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(MqttKafkaBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.bench.internal;
+
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_CONFIG_URL;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DIRECTORY;
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_STREAMS_BUFFER_CAPACITY;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.agrona.LangUtil.rethrowUnchecked;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+import io.aklivity.zilla.runtime.engine.Engine;
+
+final class PipelineEngine implements AutoCloseable
+{
+    private static final long START_TIMEOUT_MILLIS = SECONDS.toMillis(30L);
+
+    private final Engine engine;
+    private final AtomicReference<Throwable> failure;
+
+    private PipelineEngine(
+        Engine engine,
+        AtomicReference<Throwable> failure)
+    {
+        this.engine = engine;
+        this.failure = failure;
+    }
+
+    static PipelineEngine start(
+        String fixture,
+        int port,
+        Properties overrides) throws Exception
+    {
+        final Path directory = Path.of("target/zilla-benchmarks", fixture);
+        final Path config = directory.resolve("zilla.yaml");
+
+        Files.createDirectories(directory);
+        try (InputStream input = PipelineEngine.class.getResourceAsStream(String.format("%s.yaml", fixture)))
+        {
+            Files.copy(input, config, REPLACE_EXISTING);
+        }
+
+        final Properties properties = new Properties();
+        properties.setProperty(ENGINE_DIRECTORY.name(), directory.toString());
+        properties.setProperty(ENGINE_CONFIG_URL.name(), config.toUri().toString());
+        properties.setProperty(ENGINE_STREAMS_BUFFER_CAPACITY.name(), Long.toString(1024L * 1024L * 16L));
+        properties.putAll(overrides);
+
+        // keep the first engine error so the trial fails instead of measuring a broken pipeline
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Engine engine = Engine.builder()
+            .config(new Configuration(properties))
+            .errorHandler(ex -> failure.compareAndSet(null, ex))
+            .build();
+
+        final PipelineEngine pipeline = new PipelineEngine(engine, failure);
+
+        try
+        {
+            engine.start();
+
+            awaitListening(port, failure);
+        }
+        catch (Throwable ex)
+        {
+            pipeline.close();
+            rethrowUnchecked(ex);
+        }
+
+        return pipeline;
+    }
+
+    private static void awaitListening(
+        int port,
+        AtomicReference<Throwable> failure) throws Exception
+    {
+        final long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+
+        for (boolean listening = false; !listening; )
+        {
+            rethrowIfFailed(failure);
+
+            try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", port)))
+            {
+                listening = true;
+            }
+            catch (IOException ex)
+            {
+                if (System.currentTimeMillis() > deadline)
+                {
+                    throw ex;
+                }
+
+                Thread.sleep(100L);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        engine.close();
+
+        rethrowIfFailed(failure);
+    }
+
+    private static void rethrowIfFailed(
+        AtomicReference<Throwable> failure)
+    {
+        final Throwable ex = failure.get();
+        if (ex != null)
+        {
+            rethrowUnchecked(ex);
+        }
+    }
+}
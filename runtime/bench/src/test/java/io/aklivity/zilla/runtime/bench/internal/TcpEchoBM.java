@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.bench.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.EOFException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Properties;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class TcpEchoBM
+{
+    private static final int PORT = 12345;
+
+    @Param({"64", "512", "8192"})
+    public int length;
+
+    private PipelineEngine engine;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception
+    {
+        engine = PipelineEngine.start("tcp.echo", PORT, new Properties());
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws Exception
+    {
+        engine.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Connection
+    {
+        private SocketChannel channel;
+        private ByteBuffer request;
+        private ByteBuffer response;
+
+        @Setup(Level.Trial)
+        public void init(
+            TcpEchoBM bench) throws Exception
+        {
+            final byte[] payload = new byte[bench.length];
+            new Random().nextBytes(payload);
+
+            request = ByteBuffer.allocateDirect(payload.length).put(payload);
+            response = ByteBuffer.allocateDirect(payload.length);
+
+            channel = SocketChannel.open(new InetSocketAddress("localhost", PORT));
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        }
+
+        @TearDown(Level.Trial)
+        public void destroy() throws Exception
+        {
+            channel.close();
+        }
+    }
+
+    @Benchmark
+    public void echo(
+        final Connection connection) throws Exception
+    {
+        final SocketChannel channel = connection.channel;
+        final ByteBuffer request = connection.request;
+        final ByteBuffer response = connection.response;
+
+        request.clear();
+        while (request.hasRemaining())
+        {
+            channel.write(request);
+        }
+
+        response.clear();
+        while (response.hasRemaining())
+        {
+            if (channel.read(response) == -1)
+            {
+                throw new EOFException();
+            }
+        }
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(TcpEchoBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.bench.internal;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.security.cert.X509Certificate;
+import java.util.Properties;
+import java.util.Random;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class TlsHttpEchoBM
+{
+    private static final int PORT = 12443;
+
+    @Param({"64", "8192"})
+    public int length;
+
+    private PipelineEngine engine;
+    private SSLContext context;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception
+    {
+        engine = PipelineEngine.start("tls.http.echo", PORT, new Properties());
+
+        context = SSLContext.getInstance("TLS");
+        context.init(null, new TrustManager[] { new TrustAllManager() }, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() throws Exception
+    {
+        engine.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Connection
+    {
+        private HttpConnection connection;
+        private byte[] request;
+
+        @Setup(Level.Trial)
+        public void init(
+            TlsHttpEchoBM bench) throws Exception
+        {
+            final byte[] content = new byte[bench.length];
+            new Random().nextBytes(content);
+
+            request = HttpConnection.request("POST", "/echo", String.format("localhost:%d", PORT), content);
+
+            final SSLSocket socket = (SSLSocket) bench.context.getSocketFactory().createSocket("localhost", PORT);
+            socket.setTcpNoDelay(true);
+            socket.startHandshake();
+
+            connection = new HttpConnection(socket);
+        }
+
+        @TearDown(Level.Trial)
+        public void destroy() throws Exception
+        {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int echo(
+        final Connection connection) throws Exception
+    {
+        return connection.connection.exchange(connection.request);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(TlsHttpEchoBM.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    private static final class TrustAllManager implements X509TrustManager
+    {
+        @Override
+        public void checkClientTrusted(
+            X509Certificate[] chain,
+            String authType)
+        {
+        }
+
+        @Override
+        public void checkServerTrusted(
+            X509Certificate[] chain,
+            String authType)
+        {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers()
+        {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -16,6 +16,7 @@ package io.aklivity.zilla.runtime.binding.asyncapi.internal;
 
 import java.net.URL;
 
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParserCache;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.Binding;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
@@ -25,11 +26,13 @@ public final class AsyncapiBinding implements Binding
     public static final String NAME = "asyncapi";
 
     private final AsyncapiConfiguration config;
+    private final AsyncapiParserCache parsers;
 
     AsyncapiBinding(
         AsyncapiConfiguration config)
     {
         this.config = config;
+        this.parsers = new AsyncapiParserCache(config.cacheDirectory(), config.cacheCapacity());
     }
 
     @Override
@@ -62,6 +65,6 @@ public final class AsyncapiBinding implements Binding
     public AsyncapiBindingContext supply(
         EngineContext context)
     {
-        return new AsyncapiBindingContext(config, context);
+        return new AsyncapiBindingContext(config, context, parsers);
     }
 }
@@ -21,6 +21,7 @@ import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
 import java.util.EnumMap;
 import java.util.Map;
 
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParserCache;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.stream.AsyncapiClientFactory;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.stream.AsyncapiProxyFactory;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.stream.AsyncapiServerFactory;
@@ -37,12 +38,13 @@ final class AsyncapiBindingContext implements BindingContext
 
     AsyncapiBindingContext(
         AsyncapiConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        AsyncapiParserCache parsers)
     {
         Map<KindConfig, AsyncapiStreamFactory> factories = new EnumMap<>(KindConfig.class);
-        factories.put(SERVER, new AsyncapiServerFactory(config, context));
-        factories.put(CLIENT, new AsyncapiClientFactory(config, context));
-        factories.put(PROXY, new AsyncapiProxyFactory(config, context));
+        factories.put(SERVER, new AsyncapiServerFactory(config, context, parsers));
+        factories.put(CLIENT, new AsyncapiClientFactory(config, context, parsers));
+        factories.put(PROXY, new AsyncapiProxyFactory(config, context, parsers));
         this.factories = factories;
     }
 
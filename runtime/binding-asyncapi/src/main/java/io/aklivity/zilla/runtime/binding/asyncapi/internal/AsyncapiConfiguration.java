@@ -14,17 +14,26 @@
  */
 package io.aklivity.zilla.runtime.binding.asyncapi.internal;
 
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_CACHE_DIRECTORY;
+
+import java.nio.file.Path;
+
 import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class AsyncapiConfiguration extends Configuration
 {
     public static final LongPropertyDef ASYNCAPI_COMPOSITE_ROUTE_ID;
+    public static final PropertyDef<Path> ASYNCAPI_CACHE_DIRECTORY;
+    public static final IntPropertyDef ASYNCAPI_CACHE_CAPACITY;
     private static final ConfigurationDef ASYNCAPI_CONFIG;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.asyncapi");
         ASYNCAPI_COMPOSITE_ROUTE_ID = config.property("composite.route.id", -1L);
+        ASYNCAPI_CACHE_DIRECTORY = config.property(Path.class, "cache.directory",
+            AsyncapiConfiguration::cacheDirectory, AsyncapiBinding.NAME);
+        ASYNCAPI_CACHE_CAPACITY = config.property("cache.capacity", 64);
         ASYNCAPI_CONFIG = config;
     }
 
@@ -38,4 +47,21 @@ public class AsyncapiConfiguration extends Configuration
     {
         return ASYNCAPI_COMPOSITE_ROUTE_ID.getAsLong(this);
     }
+
+    public Path cacheDirectory()
+    {
+        return ASYNCAPI_CACHE_DIRECTORY.get(this);
+    }
+
+    public int cacheCapacity()
+    {
+        return ASYNCAPI_CACHE_CAPACITY.getAsInt(this);
+    }
+
+    private static Path cacheDirectory(
+        Configuration config,
+        String cacheDirectory)
+    {
+        return ENGINE_CACHE_DIRECTORY.get(config).resolve(cacheDirectory);
+    }
 }
@@ -32,6 +32,7 @@ import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiBindin
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiCompositeConditionConfig;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiCompositeConfig;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiCompositeRouteConfig;
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParserCache;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiChannelView;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiMessageView;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiOperationView;
@@ -50,6 +51,12 @@ import io.aklivity.zilla.runtime.model.avro.config.AvroModelConfig;
 
 public final class AsyncapiClientGenerator extends AsyncapiCompositeGenerator
 {
+    public AsyncapiClientGenerator(
+        AsyncapiParserCache parsers)
+    {
+        super(parsers);
+    }
+
     @Override
     protected AsyncapiCompositeConfig generate(
         AsyncapiBindingConfig binding,
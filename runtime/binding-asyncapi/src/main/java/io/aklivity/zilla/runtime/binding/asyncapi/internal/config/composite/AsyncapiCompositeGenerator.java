@@ -43,7 +43,7 @@ import io.aklivity.zilla.runtime.binding.asyncapi.config.AsyncapiSpecificationCo
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiBindingConfig;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiCompositeConfig;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.AsyncapiSchemaItem;
-import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParser;
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParserCache;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiMessageView;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiSchemaItemView;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiSchemaView;
@@ -97,10 +97,17 @@ public abstract class AsyncapiCompositeGenerator
             DoubleModelConfig.builder().build()
     );
 
+    private final AsyncapiParserCache parsers;
+
+    protected AsyncapiCompositeGenerator(
+        AsyncapiParserCache parsers)
+    {
+        this.parsers = parsers;
+    }
+
     public final AsyncapiCompositeConfig generate(
         AsyncapiBindingConfig binding)
     {
-        final AsyncapiParser parser = new AsyncapiParser();
         final List<AsyncapiSchemaConfig> schemas = new ArrayList<>();
 
         int tagIndex = 1;
@@ -118,7 +125,7 @@ public abstract class AsyncapiCompositeGenerator
                     specification.servers == null || specification.servers.isEmpty()
                         ? List.of(AsyncapiServerConfig.builder().build())
                         : specification.servers;
-                final AsyncapiView asyncapi = AsyncapiView.of(tagIndex++, label, parser.parse(payload), configs);
+                final AsyncapiView asyncapi = AsyncapiView.of(tagIndex++, label, parsers.parse(payload), configs);
 
                 schemas.add(new AsyncapiSchemaConfig(label, schemaId, asyncapi));
             }
@@ -37,6 +37,7 @@ import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiRouteC
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.bindings.http.kafka.AsyncapiHttpKafkaFilter;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.bindings.http.kafka.AsyncapiHttpKafkaOperationBinding;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.bindings.sse.kafka.AsyncapiSseKafkaFilter;
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParserCache;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiChannelView;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiCorrelationIdView;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.view.AsyncapiMessageView;
@@ -68,6 +69,12 @@ import io.aklivity.zilla.specs.binding.asyncapi.internal.types.MqttQoS;
 
 public final class AsyncapiProxyGenerator extends AsyncapiCompositeGenerator
 {
+    public AsyncapiProxyGenerator(
+        AsyncapiParserCache parsers)
+    {
+        super(parsers);
+    }
+
     @Override
     protected AsyncapiCompositeConfig generate(
         AsyncapiBindingConfig binding,
@@ -17,8 +17,11 @@ package io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser;
 import static java.util.Collections.unmodifiableMap;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -45,17 +48,32 @@ public class AsyncapiParser
     private static final Pattern VERSION_PATTERN = Pattern.compile("(?!\\.)(\\d+(\\.\\d+)+)(?:[-.][a-zA-Z]+)?(?![\\d.])$");
 
     private final Map<String, JsonSchema> schemas;
+    private final String schemaDigest;
 
     public AsyncapiParser()
     {
+        MessageDigest digest = newDigest();
         Map<String, JsonSchema> schemas = new Object2ObjectHashMap<>();
-        schemas.put("2.6.0", schema("2.6.0"));
-        schemas.put("3.0.0", schema("3.0.1"));
+        schemas.put("2.6.0", schema("2.6.0", digest));
+        schemas.put("3.0.0", schema("3.0.1", digest));
         this.schemas = unmodifiableMap(schemas);
+        this.schemaDigest = HexFormat.of().formatHex(digest.digest());
+    }
+
+    String schemaDigest()
+    {
+        return schemaDigest;
     }
 
     public Asyncapi parse(
         String asyncapiText)
+    {
+        return parse(asyncapiText, true);
+    }
+
+    public Asyncapi parse(
+        String asyncapiText,
+        boolean validate)
     {
         Asyncapi asyncapi = null;
 
@@ -63,13 +81,16 @@ public class AsyncapiParser
 
         try
         {
-            String asyncApiVersion = detectAsyncApiVersion(asyncapiText);
+            if (validate)
+            {
+                String asyncApiVersion = detectAsyncApiVersion(asyncapiText);
 
-            JsonValidationService service = JsonValidationService.newInstance();
-            ProblemHandler handler = service.createProblemPrinter(msg -> errors.add(new ConfigException(msg)));
-            JsonSchema schema = schemas.get(asyncApiVersion);
+                JsonValidationService service = JsonValidationService.newInstance();
+                ProblemHandler handler = service.createProblemPrinter(msg -> errors.add(new ConfigException(msg)));
+                JsonSchema schema = schemas.get(asyncApiVersion);
 
-            service.createReader(new StringReader(asyncapiText), schema, handler).read();
+                service.createReader(new StringReader(asyncapiText), schema, handler).read();
+            }
 
             Jsonb jsonb = JsonbBuilder.create();
 
@@ -91,19 +112,54 @@ public class AsyncapiParser
     }
 
     private JsonSchema schema(
-        String version)
+        String version,
+        MessageDigest digest)
     {
         final String schemaName = String.format("schema/asyncapi.%s.schema.json", version);
-        final InputStream schemaInput =  AsyncapiBinding.class.getResourceAsStream(schemaName);
+        final byte[] schemaBytes = readSchema(schemaName);
+        digest.update(schemaBytes);
 
         return JsonValidationService.newInstance()
                 .createSchemaReaderFactoryBuilder()
                 .withSpecVersionDetection(true)
                 .build()
-                .createSchemaReader(schemaInput)
+                .createSchemaReader(new ByteArrayInputStream(schemaBytes))
                 .read();
     }
 
+    private static byte[] readSchema(
+        String schemaName)
+    {
+        byte[] schemaBytes = null;
+
+        try (InputStream schemaInput = AsyncapiBinding.class.getResourceAsStream(schemaName))
+        {
+            schemaBytes = schemaInput.readAllBytes();
+        }
+        catch (Exception ex)
+        {
+            rethrowUnchecked(ex);
+        }
+
+        return schemaBytes;
+    }
+
+    private static MessageDigest newDigest()
+    {
+        MessageDigest digest = null;
+
+        try
+        {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (Exception ex)
+        {
+            rethrowUnchecked(ex);
+        }
+
+        return digest;
+    }
+
     private String detectAsyncApiVersion(
         String asyncapiText)
     {
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.agrona.LangUtil.rethrowUnchecked;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.Asyncapi;
+
+public final class AsyncapiParserCache
+{
+    private final Path directory;
+    private final int capacity;
+    private final Map<String, Asyncapi> parsed;
+
+    private AsyncapiParser parser;
+
+    public AsyncapiParserCache(
+        Path directory,
+        int capacity)
+    {
+        this.directory = directory;
+        this.capacity = capacity;
+        this.parsed = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public synchronized Asyncapi parse(
+        String asyncapiText)
+    {
+        final String key = digest(asyncapiText);
+
+        Asyncapi asyncapi = parsed.get(key);
+        if (asyncapi == null)
+        {
+            // validation depends on the schemas as well as the spec, so an upgraded schema is validated again
+            final Path validated = directory != null ? directory.resolve(digest(parser().schemaDigest() + asyncapiText)) : null;
+            final boolean validate = validated == null || !Files.exists(validated);
+
+            asyncapi = parser().parse(asyncapiText, validate);
+
+            if (validate && validated != null)
+            {
+                markValidated(validated);
+            }
+
+            if (capacity > 0)
+            {
+                parsed.put(key, asyncapi);
+
+                for (Iterator<Asyncapi> i = parsed.values().iterator(); i.hasNext() && parsed.size() > capacity; )
+                {
+                    i.next();
+                    i.remove();
+                }
+            }
+        }
+
+        return asyncapi;
+    }
+
+    synchronized int entries()
+    {
+        return parsed.size();
+    }
+
+    private AsyncapiParser parser()
+    {
+        if (parser == null)
+        {
+            parser = new AsyncapiParser();
+        }
+        return parser;
+    }
+
+    private static void markValidated(
+        Path validated)
+    {
+        try
+        {
+            Files.createDirectories(validated.getParent());
+            Files.write(validated, new byte[0]);
+        }
+        catch (IOException ex)
+        {
+            // cache is best effort, validate again next time
+        }
+    }
+
+    private static String digest(
+        String asyncapiText)
+    {
+        String digest = null;
+
+        try
+        {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            digest = HexFormat.of().formatHex(sha256.digest(asyncapiText.getBytes(UTF_8)));
+        }
+        catch (Exception ex)
+        {
+            rethrowUnchecked(ex);
+        }
+
+        return digest;
+    }
+}
@@ -28,6 +28,7 @@ import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiCompos
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiCompositeRouteConfig;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.composite.AsyncapiClientGenerator;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.composite.AsyncapiCompositeGenerator;
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParserCache;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.stream.AbortFW;
@@ -85,7 +86,8 @@ public final class AsyncapiClientFactory implements AsyncapiStreamFactory
 
     public AsyncapiClientFactory(
         AsyncapiConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        AsyncapiParserCache parsers)
     {
         this.context = context;
         this.streamFactory = context.streamFactory();
@@ -96,7 +98,7 @@ public final class AsyncapiClientFactory implements AsyncapiStreamFactory
         this.bindings = new Long2ObjectHashMap<>();
         this.asyncapiTypeId = context.supplyTypeId(AsyncapiBinding.NAME);
         this.compositeRouteId = config.compositeRouteId();
-        this.generator = new AsyncapiClientGenerator();
+        this.generator = new AsyncapiClientGenerator(parsers);
     }
 
     @Override
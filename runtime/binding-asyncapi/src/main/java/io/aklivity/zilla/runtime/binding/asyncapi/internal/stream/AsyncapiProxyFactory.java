@@ -30,6 +30,7 @@ import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiCompos
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiRouteConfig;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.composite.AsyncapiCompositeGenerator;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.composite.AsyncapiProxyGenerator;
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParserCache;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.stream.AbortFW;
@@ -85,7 +86,8 @@ public final class AsyncapiProxyFactory implements AsyncapiStreamFactory
 
     public AsyncapiProxyFactory(
         AsyncapiConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        AsyncapiParserCache parsers)
     {
         this.context = context;
         this.writeBuffer = context.writeBuffer();
@@ -95,7 +97,7 @@ public final class AsyncapiProxyFactory implements AsyncapiStreamFactory
         this.supplyReplyId = context::supplyReplyId;
         this.bindings = new Long2ObjectHashMap<>();
         this.asyncapiTypeId = context.supplyTypeId(AsyncapiBinding.NAME);
-        this.generator = new AsyncapiProxyGenerator();
+        this.generator = new AsyncapiProxyGenerator(parsers);
     }
 
 
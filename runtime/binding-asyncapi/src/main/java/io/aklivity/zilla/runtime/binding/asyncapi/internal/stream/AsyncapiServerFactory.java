@@ -28,6 +28,7 @@ import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiCompos
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.AsyncapiRouteConfig;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.composite.AsyncapiCompositeGenerator;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.config.composite.AsyncapiServerGenerator;
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser.AsyncapiParserCache;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.asyncapi.internal.types.stream.AbortFW;
@@ -86,7 +87,8 @@ public final class AsyncapiServerFactory implements AsyncapiStreamFactory
 
     public AsyncapiServerFactory(
         AsyncapiConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        AsyncapiParserCache parsers)
     {
         this.context = context;
         this.writeBuffer = context.writeBuffer();
@@ -96,7 +98,7 @@ public final class AsyncapiServerFactory implements AsyncapiStreamFactory
         this.supplyReplyId = context::supplyReplyId;
         this.asyncapiTypeId = context.supplyTypeId(AsyncapiBinding.NAME);
         this.bindings = new Long2ObjectHashMap<>();
-        this.generator = new AsyncapiServerGenerator();
+        this.generator = new AsyncapiServerGenerator(parsers);
     }
 
     @Override
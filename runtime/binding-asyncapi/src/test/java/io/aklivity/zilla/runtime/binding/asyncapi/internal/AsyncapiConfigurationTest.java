@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.binding.asyncapi.internal;
 
+import static io.aklivity.zilla.runtime.binding.asyncapi.internal.AsyncapiConfiguration.ASYNCAPI_CACHE_CAPACITY;
+import static io.aklivity.zilla.runtime.binding.asyncapi.internal.AsyncapiConfiguration.ASYNCAPI_CACHE_DIRECTORY;
 import static io.aklivity.zilla.runtime.binding.asyncapi.internal.AsyncapiConfiguration.ASYNCAPI_COMPOSITE_ROUTE_ID;
 import static org.junit.Assert.assertEquals;
 
@@ -22,10 +24,14 @@ import org.junit.Test;
 public class AsyncapiConfigurationTest
 {
     public static final String ASYNCAPI_COMPOSITE_ROUTE_ID_NAME = "zilla.binding.asyncapi.composite.route.id";
+    public static final String ASYNCAPI_CACHE_DIRECTORY_NAME = "zilla.binding.asyncapi.cache.directory";
+    public static final String ASYNCAPI_CACHE_CAPACITY_NAME = "zilla.binding.asyncapi.cache.capacity";
 
     @Test
     public void shouldVerifyConstants() throws Exception
     {
         assertEquals(ASYNCAPI_COMPOSITE_ROUTE_ID.name(), ASYNCAPI_COMPOSITE_ROUTE_ID_NAME);
+        assertEquals(ASYNCAPI_CACHE_DIRECTORY.name(), ASYNCAPI_CACHE_DIRECTORY_NAME);
+        assertEquals(ASYNCAPI_CACHE_CAPACITY.name(), ASYNCAPI_CACHE_CAPACITY_NAME);
     }
 }
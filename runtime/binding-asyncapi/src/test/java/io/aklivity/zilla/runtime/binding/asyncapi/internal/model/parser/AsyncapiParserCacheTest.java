@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.asyncapi.internal.model.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.aklivity.zilla.runtime.binding.asyncapi.internal.model.Asyncapi;
+
+public class AsyncapiParserCacheTest
+{
+    private static final String ASYNCAPI_TEXT = """
+        asyncapi: 3.0.0
+        info:
+          title: Test API
+          version: 0.1.0
+        """;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReuseParsedSpecification() throws Exception
+    {
+        AsyncapiParserCache parsers = new AsyncapiParserCache(null, 16);
+
+        Asyncapi parsed = parsers.parse(ASYNCAPI_TEXT);
+
+        assertSame(parsed, parsers.parse(ASYNCAPI_TEXT));
+        assertEquals(1, parsers.entries());
+    }
+
+    @Test
+    public void shouldRecordValidatedSpecification() throws Exception
+    {
+        Path directory = folder.getRoot().toPath().resolve("asyncapi");
+
+        new AsyncapiParserCache(directory, 16).parse(ASYNCAPI_TEXT);
+
+        try (Stream<Path> validated = Files.list(directory))
+        {
+            assertEquals(1L, validated.count());
+        }
+
+        assertNotNull(new AsyncapiParserCache(directory, 16).parse(ASYNCAPI_TEXT));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedSpecification() throws Exception
+    {
+        AsyncapiParserCache parsers = new AsyncapiParserCache(null, 1);
+
+        parsers.parse(ASYNCAPI_TEXT);
+        parsers.parse(ASYNCAPI_TEXT.replace("0.1.0", "0.2.0"));
+
+        assertEquals(1, parsers.entries());
+    }
+}
@@ -26,12 +26,16 @@ public class FileSystemConfiguration extends Configuration
     private static final ConfigurationDef FILE_SYSTEM_CONFIG;
 
     public static final PropertyDef<URI> FILE_SYSTEM_SERVER_ROOT;
+    public static final IntPropertyDef FILE_SYSTEM_CACHE_CAPACITY;
+    public static final LongPropertyDef FILE_SYSTEM_CACHE_SIZE_MAX;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef(String.format("zilla.binding.%s", NAME));
         FILE_SYSTEM_SERVER_ROOT = config.property(URI.class, "server.root",
             FileSystemConfiguration::decodeServerRoot, new File(".").toURI());
+        FILE_SYSTEM_CACHE_CAPACITY = config.property("cache.capacity", 1024);
+        FILE_SYSTEM_CACHE_SIZE_MAX = config.property("cache.size.max", 256L * 1024L * 1024L);
 
         FILE_SYSTEM_CONFIG = config;
     }
@@ -47,6 +51,16 @@ public class FileSystemConfiguration extends Configuration
         return FILE_SYSTEM_SERVER_ROOT.get(this);
     }
 
+    public int cacheCapacity()
+    {
+        return FILE_SYSTEM_CACHE_CAPACITY.getAsInt(this);
+    }
+
+    public long cacheSizeMax()
+    {
+        return FILE_SYSTEM_CACHE_SIZE_MAX.getAsLong(this);
+    }
+
     private static URI decodeServerRoot(
         String location)
     {
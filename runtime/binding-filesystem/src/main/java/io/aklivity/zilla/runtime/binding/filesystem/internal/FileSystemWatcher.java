@@ -19,6 +19,7 @@ import static io.aklivity.zilla.runtime.binding.filesystem.internal.stream.FileS
 import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 import static org.agrona.CloseHelper.quietClose;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
@@ -28,6 +29,7 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.Deque;
@@ -37,6 +39,8 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
@@ -44,6 +48,9 @@ import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 public class FileSystemWatcher implements Callable<Void>
 {
     private final Map<WatchKey, Set<WatchedFile>> watchedFiles;
+    private final Map<WatchKey, Consumer<Path>> cachedDirs;
+    private final Map<Path, WatchKey> cachedKeys;
+    private final Map<Path, Integer> cachedRefs;
     private final WatchService watchService;
     private final Signaler signaler;
 
@@ -52,6 +59,9 @@ public class FileSystemWatcher implements Callable<Void>
         Signaler signaler)
     {
         this.watchedFiles = new HashMap<>();
+        this.cachedDirs = new ConcurrentHashMap<>();
+        this.cachedKeys = new ConcurrentHashMap<>();
+        this.cachedRefs = new ConcurrentHashMap<>();
         this.signaler = signaler;
         this.watchService = createWatchService();
     }
@@ -64,6 +74,12 @@ public class FileSystemWatcher implements Callable<Void>
             try
             {
                 final WatchKey watchKey = watchService.take();
+                final Consumer<Path> invalidate = cachedDirs.get(watchKey);
+                if (invalidate != null)
+                {
+                    invalidateChanged(watchKey, invalidate);
+                }
+
                 Set<WatchedFile> changedFiles = watchedFiles.get(watchKey);
                 if (changedFiles != null)
                 {
@@ -96,6 +112,11 @@ public class FileSystemWatcher implements Callable<Void>
                         }
                     }
                 }
+
+                if (invalidate != null)
+                {
+                    rewatchCached(watchKey, invalidate);
+                }
             }
             catch (InterruptedException | ClosedWatchServiceException ex)
             {
@@ -122,6 +143,91 @@ public class FileSystemWatcher implements Callable<Void>
         watchedFile.unregister();
     }
 
+    public void watchCached(
+        Path resolvedPath,
+        Consumer<Path> invalidate)
+    {
+        final Path parent = resolvedPath.getParent();
+        if (parent != null && cachedRefs.merge(parent, 1, Integer::sum) == 1)
+        {
+            watchCachedDir(parent, invalidate);
+        }
+    }
+
+    public void unwatchCached(
+        Path resolvedPath)
+    {
+        final Path parent = resolvedPath.getParent();
+        if (parent != null &&
+            cachedRefs.computeIfPresent(parent, (p, r) -> r > 1 ? r - 1 : null) == null)
+        {
+            final WatchKey key = cachedKeys.remove(parent);
+            if (key != null)
+            {
+                cachedDirs.remove(key);
+
+                // the same key is returned when a watched file shares the directory
+                if (!watchedFiles.containsKey(key))
+                {
+                    key.cancel();
+                }
+            }
+        }
+    }
+
+    private void watchCachedDir(
+        Path dir,
+        Consumer<Path> invalidate)
+    {
+        try
+        {
+            final WatchKey key = dir.register(watchService, ENTRY_MODIFY, ENTRY_CREATE, ENTRY_DELETE);
+            cachedDirs.put(key, invalidate);
+            cachedKeys.put(dir, key);
+        }
+        catch (IOException | ClosedWatchServiceException ex)
+        {
+            // cached files are still validated against their attributes
+        }
+    }
+
+    private void invalidateChanged(
+        WatchKey watchKey,
+        Consumer<Path> invalidate)
+    {
+        final Path watchedDir = (Path) watchKey.watchable();
+        for (WatchEvent<?> event : watchKey.pollEvents())
+        {
+            final Object context = event.context();
+            if (event.kind() == OVERFLOW || !(context instanceof Path))
+            {
+                invalidate.accept(null);
+            }
+            else
+            {
+                invalidate.accept(watchedDir.resolve((Path) context));
+            }
+        }
+    }
+
+    private void rewatchCached(
+        WatchKey watchKey,
+        Consumer<Path> invalidate)
+    {
+        if (!watchKey.reset())
+        {
+            cachedDirs.remove(watchKey);
+
+            final Path watchedDir = (Path) watchKey.watchable();
+            cachedKeys.remove(watchedDir, watchKey);
+
+            if (cachedRefs.containsKey(watchedDir) && Files.isDirectory(watchedDir))
+            {
+                watchCachedDir(watchedDir, invalidate);
+            }
+        }
+    }
+
     public static final class WatchedFile
     {
         private final Set<WatchKey> keys;
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal.stream;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.agrona.CloseHelper.quietClose;
+import static org.agrona.LangUtil.rethrowUnchecked;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+final class FileSystemFile
+{
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> initMessageDigest("MD5"));
+
+    final Path path;
+    final LinkOption[] symlinks;
+    final long size;
+    final String tag;
+    final DirectBuffer content;
+
+    private final FileTime modifiedTime;
+    private final Object fileKey;
+    private final MappedByteBuffer mapping;
+    private final FileChannel channel;
+    private final OpenOption[] options;
+
+    private int references;
+    private boolean evicted;
+
+    private FileSystemFile(
+        Path path,
+        LinkOption[] symlinks,
+        BasicFileAttributes attributes,
+        String tag,
+        MappedByteBuffer mapping,
+        FileChannel channel)
+    {
+        this.path = path;
+        this.symlinks = symlinks;
+        this.size = attributes.size();
+        this.modifiedTime = attributes.lastModifiedTime();
+        this.fileKey = attributes.fileKey();
+        this.tag = tag;
+        this.mapping = mapping;
+        this.channel = channel;
+        this.content = mapping != null ? new UnsafeBuffer(mapping) : null;
+        this.options = openOptions(symlinks);
+    }
+
+    boolean matches(
+        LinkOption[] symlinks,
+        BasicFileAttributes attributes)
+    {
+        return Arrays.equals(this.symlinks, symlinks) &&
+            size == attributes.size() &&
+            modifiedTime.equals(attributes.lastModifiedTime()) &&
+            Objects.equals(fileKey, attributes.fileKey());
+    }
+
+    boolean mapped()
+    {
+        return content != null;
+    }
+
+    boolean mapped(
+        long position,
+        int length)
+    {
+        // mapped pages beyond a truncated end of file fault on access, so check before each slice
+        boolean mapped = content != null;
+
+        if (mapped)
+        {
+            try
+            {
+                mapped = position + length <= channel.size();
+            }
+            catch (IOException ex)
+            {
+                mapped = false;
+            }
+        }
+
+        return mapped;
+    }
+
+    int read(
+        long position,
+        byte[] array,
+        int length) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, options))
+        {
+            return channel.read(ByteBuffer.wrap(array, 0, length), position);
+        }
+    }
+
+    void acquire()
+    {
+        references++;
+    }
+
+    void release()
+    {
+        assert references > 0;
+        references--;
+        unmapIfNecessary();
+    }
+
+    void evict()
+    {
+        if (!evicted)
+        {
+            evicted = true;
+            unmapIfNecessary();
+        }
+    }
+
+    static FileSystemFile load(
+        Path path,
+        LinkOption[] symlinks,
+        int tagLength,
+        long mappedMax)
+    {
+        FileSystemFile file = null;
+        FileChannel channel = null;
+
+        try
+        {
+            channel = FileChannel.open(path, openOptions(symlinks));
+
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, symlinks);
+            final long size = attributes.size();
+            final MappedByteBuffer mapping = size <= mappedMax ? channel.map(READ_ONLY, 0, size) : null;
+
+            final ByteBuffer head;
+            if (mapping != null)
+            {
+                head = mapping.duplicate().limit((int) Math.min(size, tagLength));
+            }
+            else
+            {
+                head = readHead(channel, tagLength);
+            }
+
+            file = new FileSystemFile(path, symlinks, attributes, calculateTag(head), mapping, mapping != null ? channel : null);
+        }
+        catch (IOException ex)
+        {
+            // reject
+        }
+        finally
+        {
+            if (file == null || !file.mapped())
+            {
+                quietClose(channel);
+            }
+        }
+
+        return file;
+    }
+
+    static String calculateTag(
+        Path path,
+        LinkOption[] symlinks,
+        int tagLength)
+    {
+        String tag = null;
+
+        try (FileChannel channel = FileChannel.open(path, openOptions(symlinks)))
+        {
+            tag = calculateTag(readHead(channel, tagLength));
+        }
+        catch (IOException ex)
+        {
+            // reject
+        }
+
+        return tag;
+    }
+
+    private static ByteBuffer readHead(
+        FileChannel channel,
+        int tagLength) throws IOException
+    {
+        final ByteBuffer head = ByteBuffer.allocate(tagLength);
+
+        int bytesRead = 0;
+        while (head.hasRemaining() && bytesRead != -1)
+        {
+            bytesRead = channel.read(head);
+        }
+
+        return head.flip();
+    }
+
+    private static String calculateTag(
+        ByteBuffer head)
+    {
+        final MessageDigest md5 = MD5.get();
+        md5.reset();
+        md5.update(head);
+        return BitUtil.toHex(md5.digest());
+    }
+
+    private void unmapIfNecessary()
+    {
+        if (evicted && references == 0 && mapping != null)
+        {
+            IoUtil.unmap(mapping);
+            quietClose(channel);
+        }
+    }
+
+    private static OpenOption[] openOptions(
+        LinkOption[] symlinks)
+    {
+        final OpenOption[] options = Arrays.copyOf(symlinks, symlinks.length + 1, OpenOption[].class);
+        options[symlinks.length] = READ;
+        return options;
+    }
+
+    private static MessageDigest initMessageDigest(
+        String algorithm)
+    {
+        MessageDigest messageDigest = null;
+        try
+        {
+            messageDigest = MessageDigest.getInstance(algorithm);
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            rethrowUnchecked(ex);
+        }
+        return messageDigest;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal.stream;
+
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
+
+final class FileSystemFileCache
+{
+    private static final Path INVALIDATE_ALL = Path.of("");
+
+    private final Map<Path, FileSystemFile> files;
+    private final Queue<Path> invalidated;
+    private final int capacity;
+    private final long sizeMax;
+    private final Consumer<Path> watch;
+    private final Consumer<Path> unwatch;
+
+    private long size;
+
+    FileSystemFileCache(
+        int capacity,
+        long sizeMax,
+        Consumer<Path> watch,
+        Consumer<Path> unwatch)
+    {
+        this.files = new LinkedHashMap<>(16, 0.75f, true);
+        this.invalidated = new ManyToOneConcurrentLinkedQueue<>();
+        this.capacity = capacity;
+        this.sizeMax = sizeMax;
+        this.watch = watch;
+        this.unwatch = unwatch;
+    }
+
+    FileSystemFile acquire(
+        Path path,
+        LinkOption[] symlinks,
+        BasicFileAttributes attributes)
+    {
+        invalidateIfNecessary();
+
+        FileSystemFile file = files.get(path);
+        if (file != null && !file.matches(symlinks, attributes))
+        {
+            remove(path);
+            file = null;
+        }
+
+        if (file != null)
+        {
+            file.acquire();
+        }
+
+        return file;
+    }
+
+    void put(
+        FileSystemFile file)
+    {
+        invalidateIfNecessary();
+
+        remove(file.path);
+
+        if (file.mapped() && file.size <= sizeMax && capacity > 0)
+        {
+            files.put(file.path, file);
+            size += file.size;
+            watch.accept(file.path);
+
+            for (Iterator<FileSystemFile> i = files.values().iterator();
+                 i.hasNext() && (files.size() > capacity || size > sizeMax); )
+            {
+                FileSystemFile eldest = i.next();
+                i.remove();
+                size -= eldest.size;
+                unwatch.accept(eldest.path);
+                eldest.evict();
+            }
+        }
+        else
+        {
+            file.evict();
+        }
+    }
+
+    void invalidate(
+        Path path)
+    {
+        invalidated.offer(path != null ? path : INVALIDATE_ALL);
+    }
+
+    int entries()
+    {
+        return files.size();
+    }
+
+    private void invalidateIfNecessary()
+    {
+        for (Path path = invalidated.poll(); path != null; path = invalidated.poll())
+        {
+            if (path == INVALIDATE_ALL)
+            {
+                files.values().forEach(this::evict);
+                files.clear();
+                size = 0L;
+            }
+            else
+            {
+                remove(path);
+            }
+        }
+    }
+
+    private void remove(
+        Path path)
+    {
+        FileSystemFile file = files.remove(path);
+        if (file != null)
+        {
+            size -= file.size;
+            evict(file);
+        }
+    }
+
+    private void evict(
+        FileSystemFile file)
+    {
+        unwatch.accept(file.path);
+        file.evict();
+    }
+}
@@ -16,12 +16,11 @@ package io.aklivity.zilla.runtime.binding.filesystem.internal.stream;
 
 import static io.aklivity.zilla.runtime.binding.filesystem.config.FileSystemSymbolicLinksConfig.IGNORE;
 import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
+import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.time.Instant.now;
-import static org.agrona.LangUtil.rethrowUnchecked;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
@@ -30,13 +29,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
-import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
@@ -76,6 +73,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
     private static final int TIMEOUT_EXPIRED_SIGNAL_ID = 0;
     public static final int FILE_CHANGED_SIGNAL_ID = 1;
+    private static final int FILE_LOADED_SIGNAL_ID = 2;
 
     private final BeginFW beginRO = new BeginFW();
     private final EndFW endRO = new EndFW();
@@ -105,9 +103,10 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     private final LongUnaryOperator supplyReplyId;
     private final int fileSystemTypeId;
     private final URI serverRoot;
-    private final MessageDigest md5;
     private final Signaler signaler;
     private final Supplier<FileSystemWatcher> supplyWatcher;
+    private final FileSystemFileCache files;
+    private final int tagLength;
 
     private FileSystemWatcher fileSystemWatcher;
 
@@ -126,8 +125,10 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         this.fileSystemTypeId = context.supplyTypeId(FileSystemBinding.NAME);
         this.bindings = new Long2ObjectHashMap<>();
         this.signaler = context.signaler();
-        this.md5 = initMessageDigest("MD5");
         this.supplyWatcher = supplyWatcher;
+        this.files = new FileSystemFileCache(config.cacheCapacity(), config.cacheSizeMax(),
+            this::watchCached, this::unwatchCached);
+        this.tagLength = readBuffer.capacity();
     }
 
     @Override
@@ -181,7 +182,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             final String tag = beginEx.tag().asString();
             try
             {
-                if (Files.exists(Paths.get(resolvedPath), symlinks))
+                final BasicFileAttributes attributes = readAttributes(Paths.get(resolvedPath), symlinks);
+                if (attributes != null)
                 {
                     String type = probeContentTypeOrDefault(path);
                     newStream = new FileSystemServer(
@@ -194,7 +196,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                         relativePath,
                         resolvedPath,
                         capabilities,
-                        tag)::onAppMessage;
+                        tag,
+                        attributes)::onAppMessage;
                 }
             }
             catch (IOException ex)
@@ -206,19 +209,21 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         return newStream;
     }
 
-    private static MessageDigest initMessageDigest(
-        String algorithm)
+    private static BasicFileAttributes readAttributes(
+        Path path,
+        LinkOption[] symlinks)
     {
-        MessageDigest messageDigest = null;
+        BasicFileAttributes attributes = null;
         try
         {
-            messageDigest = MessageDigest.getInstance(algorithm);
+            BasicFileAttributeView view = Files.getFileAttributeView(path, BasicFileAttributeView.class, symlinks);
+            attributes = view.readAttributes();
         }
-        catch (NoSuchAlgorithmException ex)
+        catch (IOException ex)
         {
-            rethrowUnchecked(ex);
+            // reject
         }
-        return messageDigest;
+        return attributes;
     }
 
     private String probeContentTypeOrDefault(
@@ -228,6 +233,18 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         return contentType != null ? contentType : DEFAULT_CONTENT_TYPE;
     }
 
+    private void watchCached(
+        Path resolvedPath)
+    {
+        fileSystemWatcher.watchCached(resolvedPath, files::invalidate);
+    }
+
+    private void unwatchCached(
+        Path resolvedPath)
+    {
+        fileSystemWatcher.unwatchCached(resolvedPath);
+    }
+
     private final class FileSystemServer
     {
         private final MessageConsumer app;
@@ -243,6 +260,11 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         private final LinkOption[] symlinks;
         private FileSystemWatcher.WatchedFile watchedFile;
         private BasicFileAttributes attributes;
+        private FileSystemFile file;
+        private final AtomicReference<FileSystemFile> loadedFile = new AtomicReference<>();
+        private volatile boolean loadCancelled;
+        private long loadFutureId = NO_CANCEL_ID;
+        private long timeout;
         private long initialSeq;
         private long initialAck;
         private int initialMax;
@@ -270,7 +292,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             String relativePath,
             String resolvedPath,
             int capabilities,
-            String tag)
+            String tag,
+            BasicFileAttributes attributes)
         {
             this.app = app;
             this.originId = originId;
@@ -283,6 +306,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             this.resolvedPath = Paths.get(resolvedPath);
             this.capabilities = capabilities;
             this.tag = tag;
+            this.attributes = attributes;
         }
 
         private void onAppMessage(
@@ -342,83 +366,120 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             assert initialAck <= initialSeq;
 
             state = FileSystemState.openingInitial(state);
+            timeout = beginEx.timeout();
 
             doAppWindow(traceId);
-            String currentTag = calculateTag();
-            if (tag == null || tag.isEmpty() || !tag.equals(currentTag))
+            acquireFile(traceId);
+        }
+
+        private void acquireFile(
+            long traceId)
+        {
+            file = attributes != null && canReadPayload(capabilities)
+                ? files.acquire(resolvedPath, symlinks, attributes)
+                : null;
+
+            if (file == null && attributes != null && canReadPayload(capabilities))
             {
-                doAppBegin(traceId, currentTag);
-                flushAppData(traceId);
+                loadFutureId = signaler.signalTask(this::loadFile, originId, routedId, replyId, traceId,
+                    FILE_LOADED_SIGNAL_ID, 0);
             }
             else
             {
-                long timeoutAt = now().toEpochMilli() + beginEx.timeout();
-                long timeoutId = signaler.signalAt(timeoutAt, originId, routedId, replyId, traceId,
-                    TIMEOUT_EXPIRED_SIGNAL_ID, 0);
-                watchedFile = new FileSystemWatcher.WatchedFile(
-                    resolvedPath, symlinks, this::calculateTag, tag, timeoutId, originId, routedId, replyId);
-                fileSystemWatcher.watch(watchedFile);
+                onFileReady(traceId);
             }
         }
 
-        private BasicFileAttributes getAttributes()
+        private void loadFile()
         {
-            BasicFileAttributes attributes = null;
-            try
+            loadedFile.set(FileSystemFile.load(resolvedPath, symlinks, tagLength, Integer.MAX_VALUE));
+
+            if (loadCancelled)
             {
-                BasicFileAttributeView view = Files.getFileAttributeView(resolvedPath, BasicFileAttributeView.class, symlinks);
-                attributes = view.readAttributes();
+                releaseLoadedFile();
             }
-            catch (IOException ex)
+        }
+
+        private void cancelLoadFile()
+        {
+            signaler.cancel(loadFutureId);
+            loadFutureId = NO_CANCEL_ID;
+
+            // load may already be complete, with the signal no longer delivered to this stream
+            loadCancelled = true;
+            releaseLoadedFile();
+        }
+
+        private void releaseLoadedFile()
+        {
+            final FileSystemFile loaded = loadedFile.getAndSet(null);
+            if (loaded != null)
             {
-                // reject
+                loaded.evict();
             }
-            return attributes;
         }
 
-        private String calculateTag()
+        private void onFileLoaded(
+            long traceId)
         {
-            String newTag = null;
-            try
+            loadFutureId = NO_CANCEL_ID;
+
+            final FileSystemFile loaded = loadedFile.getAndSet(null);
+
+            if (loaded != null)
             {
-                InputStream input = getInputStream();
-                if (input != null)
-                {
-                    final byte[] readArray = readBuffer.byteArray();
-                    int bytesRead = input.read(readArray, 0, readArray.length);
-                    newTag = calculateHash(readArray, 0, Math.max(bytesRead, 0));
-                }
+                loaded.acquire();
+                files.put(loaded);
             }
-            catch (IOException ex)
+            file = loaded;
+
+            if (FileSystemState.replyClosed(state))
             {
-                // reject
+                releaseFile();
+            }
+            else
+            {
+                onFileReady(traceId);
             }
-            return newTag;
         }
 
-        private InputStream getInputStream()
+        private void onFileReady(
+            long traceId)
         {
-            InputStream input = null;
-            try
+            final String currentTag = currentTag();
+            if (watchedFile != null || tag == null || tag.isEmpty() || !tag.equals(currentTag))
             {
-                input = canReadPayload(capabilities) ? Files.newInputStream(resolvedPath, symlinks) : null;
+                doAppBegin(traceId, currentTag);
+                flushAppData(traceId);
             }
-            catch (IOException ex)
+            else
             {
-                // reject
+                long timeoutAt = now().toEpochMilli() + timeout;
+                long timeoutId = signaler.signalAt(timeoutAt, originId, routedId, replyId, traceId,
+                    TIMEOUT_EXPIRED_SIGNAL_ID, 0);
+                watchedFile = new FileSystemWatcher.WatchedFile(
+                    resolvedPath, symlinks, this::calculateTag, tag, timeoutId, originId, routedId, replyId);
+                fileSystemWatcher.watch(watchedFile);
             }
-            return input;
         }
 
-        private String calculateHash(
-            byte[] input,
-            int offset,
-            int length)
+        private String currentTag()
         {
-            md5.reset();
-            md5.update(input, offset, length);
-            byte[] hash = md5.digest();
-            return BitUtil.toHex(hash);
+            return file != null ? file.tag : null;
+        }
+
+        private String calculateTag()
+        {
+            return FileSystemFile.calculateTag(resolvedPath, symlinks, tagLength);
+        }
+
+        private void releaseFile()
+        {
+            if (file != null)
+            {
+                file.release();
+                file = null;
+            }
         }
 
         private void onAppEnd(
@@ -453,6 +514,12 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             state = FileSystemState.closeInitial(state);
 
+            if (loadFutureId != NO_CANCEL_ID)
+            {
+                cancelLoadFile();
+                state = FileSystemState.closeReply(state);
+            }
+
             doAppAbort(traceId);
         }
 
@@ -515,17 +582,23 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             long traceId = signal.traceId();
             switch (signal.signalId())
             {
+            case FILE_LOADED_SIGNAL_ID:
+                onFileLoaded(traceId);
+                break;
             case FILE_CHANGED_SIGNAL_ID:
-                flushAppData(traceId);
+                fileSystemWatcher.unregister(watchedFile);
+                releaseFile();
+                attributes = readAttributes(resolvedPath, symlinks);
+                acquireFile(traceId);
                 break;
             case TIMEOUT_EXPIRED_SIGNAL_ID:
+                fileSystemWatcher.unregister(watchedFile);
                 doAppBegin(traceId, tag, 0);
                 doAppEnd(traceId);
                 break;
             default:
                 break;
             }
-            fileSystemWatcher.unregister(watchedFile);
         }
 
         private void doAppBegin(
@@ -541,12 +614,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             int capabilities)
         {
             state = FileSystemState.openingReply(state);
-            attributes = getAttributes();
-            long size = 0L;
-            if (attributes != null)
-            {
-                size = attributes.size();
-            }
+            final long size = file != null ? file.size : attributes != null ? attributes.size() : 0L;
             Flyweight extension = beginExRW
                 .wrap(extBuffer, 0, extBuffer.capacity())
                 .typeId(fileSystemTypeId)
@@ -582,6 +650,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                 state = FileSystemState.closeReply(state);
                 doEnd(app, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, 0L, EMPTY_EXTENSION);
             }
+            releaseFile();
         }
 
         private void doAppAbort(
@@ -593,6 +662,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                 doAbort(app, originId, routedId, replyId, replySeq, replyAck,
                         replyMax, traceId, 0L, EMPTY_EXTENSION);
             }
+            releaseFile();
         }
 
         private void doAppReset(
@@ -604,6 +674,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
                 doReset(app, originId, routedId, initialId, initialSeq, initialAck, initialMax, traceId, 0L);
             }
+            releaseFile();
         }
 
         private void doAppWindow(
@@ -623,26 +694,18 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             if (!FileSystemState.replyOpening(state))
             {
-                String newTag = calculateTag();
-                doAppBegin(traceId, newTag);
+                doAppBegin(traceId, currentTag());
             }
 
             if (replyWin > 0)
             {
-                InputStream input = getInputStream();
-
                 try
                 {
-                    if (input != null)
-                    {
-                        input.skip(replyBytes);
-                    }
-
-                    int available = input != null ? input.available() : 0;
+                    final long remaining = file != null ? file.size - replyBytes : 0L;
 
-                    if (available > 0)
+                    if (remaining > 0)
                     {
-                        int reserved = Math.min(replyWin, available + replyPad);
+                        int reserved = (int) Math.min(replyWin, remaining + replyPad);
                         int length = Math.max(reserved - replyPad, 0);
 
                         if (length > 0 && replyDebIndex != NO_DEBITOR_INDEX && replyDeb != null)
@@ -654,27 +717,31 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
                         if (length > 0)
                         {
-                            final byte[] readArray = readBuffer.byteArray();
-                            int bytesRead = input.read(readArray, 0, Math.min(readArray.length, length));
-                            if (bytesRead != -1)
-                            {
-                                OctetsFW payload = payloadRO.wrap(readBuffer, 0, bytesRead);
-
-                                doAppData(traceId, reserved, payload);
-
-                                replyBytes += bytesRead;
+                            length = Math.min(readBuffer.capacity(), length);
 
-                                if (replyBytes == attributes.size())
+                            OctetsFW payload;
+                            if (file.mapped(replyBytes, length))
+                            {
+                                final int offset = (int) replyBytes;
+                                payload = payloadRO.wrap(file.content, offset, offset + length);
+                            }
+                            else
+                            {
+                                final int bytesRead = file.read(replyBytes, readBuffer.byteArray(), length);
+                                if (bytesRead == -1)
                                 {
-                                    input.close();
-                                    input = null;
-                                    replyBytes = 0;
+                                    throw new IOException("Unexpected end of file");
                                 }
+                                payload = payloadRO.wrap(readBuffer, 0, bytesRead);
                             }
+
+                            doAppData(traceId, reserved, payload);
+
+                            replyBytes += payload.sizeof();
                         }
                     }
 
-                    if (available <= 0 || input == null)
+                    if (file == null || replyBytes == file.size)
                     {
                         doAppEnd(traceId);
                     }
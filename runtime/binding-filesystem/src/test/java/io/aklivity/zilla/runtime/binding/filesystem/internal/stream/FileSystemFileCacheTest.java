@@ -0,0 +1,218 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal.stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSystemFileCacheTest
+{
+    private static final LinkOption[] SYMLINKS = new LinkOption[0];
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadMappedFileWithTag() throws Exception
+    {
+        Path path = newFile("index.html", "<html>Hello, world</html>");
+
+        FileSystemFile file = FileSystemFile.load(path, SYMLINKS, 8192, Integer.MAX_VALUE);
+
+        assertNotNull(file);
+        assertEquals(25L, file.size);
+        assertEquals("<html>Hello, world</html>", file.content.getStringWithoutLengthUtf8(0, 25));
+        assertEquals(FileSystemFile.calculateTag(path, SYMLINKS, 8192), file.tag);
+    }
+
+    @Test
+    public void shouldLoadUnmappedFileWithTag() throws Exception
+    {
+        Path path = newFile("index.html", "<html>Hello, world</html>");
+
+        FileSystemFile mapped = FileSystemFile.load(path, SYMLINKS, 8192, Integer.MAX_VALUE);
+        FileSystemFile unmapped = FileSystemFile.load(path, SYMLINKS, 8192, 0L);
+
+        assertNull(unmapped.content);
+        assertEquals(mapped.tag, unmapped.tag);
+    }
+
+    @Test
+    public void shouldAcquireCachedFile() throws Exception
+    {
+        Path path = newFile("index.html", "<html>Hello, world</html>");
+        FileSystemFileCache cache = newCache(16, 1024L);
+
+        FileSystemFile file = FileSystemFile.load(path, SYMLINKS, 8192, Integer.MAX_VALUE);
+        file.acquire();
+        cache.put(file);
+        file.release();
+
+        assertSame(file, cache.acquire(path, SYMLINKS, attributes(path)));
+    }
+
+    @Test
+    public void shouldNotAcquireModifiedFile() throws Exception
+    {
+        Path path = newFile("index.html", "<html>Hello, world</html>");
+        FileSystemFileCache cache = newCache(16, 1024L);
+
+        FileSystemFile file = FileSystemFile.load(path, SYMLINKS, 8192, Integer.MAX_VALUE);
+        file.acquire();
+        cache.put(file);
+        file.release();
+
+        Files.writeString(path, "<html>Hello, changed world</html>");
+        Files.setLastModifiedTime(path, FileTime.fromMillis(Files.getLastModifiedTime(path).toMillis() + 1000L));
+
+        assertNull(cache.acquire(path, SYMLINKS, attributes(path)));
+        assertEquals(0, cache.entries());
+    }
+
+    @Test
+    public void shouldNotAcquireInvalidatedFile() throws Exception
+    {
+        Path path = newFile("index.html", "<html>Hello, world</html>");
+        FileSystemFileCache cache = newCache(16, 1024L);
+
+        FileSystemFile file = FileSystemFile.load(path, SYMLINKS, 8192, Integer.MAX_VALUE);
+        file.acquire();
+        cache.put(file);
+        file.release();
+
+        cache.invalidate(path);
+
+        assertNull(cache.acquire(path, SYMLINKS, attributes(path)));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedFile() throws Exception
+    {
+        Path path1 = newFile("one.html", "one");
+        Path path2 = newFile("two.html", "two");
+        Path path3 = newFile("three.html", "three");
+        FileSystemFileCache cache = newCache(2, 1024L);
+
+        put(cache, path1);
+        put(cache, path2);
+        cache.acquire(path1, SYMLINKS, attributes(path1)).release();
+        put(cache, path3);
+
+        assertEquals(2, cache.entries());
+        assertNotNull(cache.acquire(path1, SYMLINKS, attributes(path1)));
+        assertNull(cache.acquire(path2, SYMLINKS, attributes(path2)));
+        assertNotNull(cache.acquire(path3, SYMLINKS, attributes(path3)));
+    }
+
+    @Test
+    public void shouldNotCacheFileExceedingSizeMax() throws Exception
+    {
+        Path path = newFile("index.html", "<html>Hello, world</html>");
+        FileSystemFileCache cache = newCache(16, 8L);
+
+        put(cache, path);
+
+        assertEquals(0, cache.entries());
+    }
+
+    @Test
+    public void shouldUnwatchEvictedFile() throws Exception
+    {
+        Path path1 = newFile("one.html", "one");
+        Path path2 = newFile("two.html", "two");
+        Path path3 = newFile("three.html", "three");
+        Set<Path> watched = new HashSet<>();
+        FileSystemFileCache cache = new FileSystemFileCache(2, 1024L, watched::add, watched::remove);
+
+        put(cache, path1);
+        put(cache, path2);
+        put(cache, path3);
+
+        assertEquals(Set.of(path2, path3), watched);
+
+        cache.invalidate(path2);
+        cache.acquire(path3, SYMLINKS, attributes(path3)).release();
+
+        assertEquals(Set.of(path3), watched);
+    }
+
+    @Test
+    public void shouldNotMapTruncatedRange() throws Exception
+    {
+        Path path = newFile("index.html", "<html>Hello, world</html>");
+
+        FileSystemFile file = FileSystemFile.load(path, SYMLINKS, 8192, Integer.MAX_VALUE);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE))
+        {
+            channel.truncate(6L);
+        }
+
+        assertTrue(file.mapped(0L, 6));
+        assertFalse(file.mapped(0L, 25));
+        assertFalse(file.mapped(6L, 1));
+    }
+
+    private FileSystemFileCache newCache(
+        int capacity,
+        long sizeMax)
+    {
+        return new FileSystemFileCache(capacity, sizeMax, p -> {}, p -> {});
+    }
+
+    private void put(
+        FileSystemFileCache cache,
+        Path path)
+    {
+        FileSystemFile file = FileSystemFile.load(path, SYMLINKS, 8192, Integer.MAX_VALUE);
+        file.acquire();
+        cache.put(file);
+        file.release();
+    }
+
+    private Path newFile(
+        String name,
+        String content) throws Exception
+    {
+        Path path = folder.getRoot().toPath().resolve(name);
+        Files.write(path, content.getBytes(UTF_8));
+        return path;
+    }
+
+    private static BasicFileAttributes attributes(
+        Path path) throws Exception
+    {
+        return Files.readAttributes(path, BasicFileAttributes.class);
+    }
+}
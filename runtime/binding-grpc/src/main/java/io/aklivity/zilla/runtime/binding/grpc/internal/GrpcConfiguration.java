@@ -18,12 +18,14 @@ import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class GrpcConfiguration extends Configuration
 {
-    private static final ConfigurationDef GRPC_CONFIG;
+    public static final PropertyDef<String> GRPC_ENCODING;
 
+    private static final ConfigurationDef GRPC_CONFIG;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.grpc");
+        GRPC_ENCODING = config.property("encoding", "identity");
         GRPC_CONFIG = config;
     }
 
@@ -33,4 +35,9 @@ public class GrpcConfiguration extends Configuration
         super(GRPC_CONFIG, config);
     }
 
+    public String encoding()
+    {
+        return GRPC_ENCODING.get(this);
+    }
+
 }
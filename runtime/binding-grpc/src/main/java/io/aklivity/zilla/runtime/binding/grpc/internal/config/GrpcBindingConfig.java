@@ -145,6 +145,8 @@ public final class GrpcBindingConfig
                     helper.scheme,
                     helper.authority,
                     helper.te,
+                    helper.encoding,
+                    helper.acceptEncoding,
                     helper.metadata
                 );
             }
@@ -193,6 +195,8 @@ public final class GrpcBindingConfig
         private static final String8FW HEADER_NAME_CONTENT_TYPE = new String8FW("content-type");
         private static final String8FW HEADER_NAME_TE = new String8FW("te");
         private static final String8FW HEADER_NAME_GRPC_TIMEOUT = new String8FW("grpc-timeout");
+        private static final String8FW HEADER_NAME_GRPC_ENCODING = new String8FW("grpc-encoding");
+        private static final String8FW HEADER_NAME_GRPC_ACCEPT_ENCODING = new String8FW("grpc-accept-encoding");
 
         private final Array32FW.Builder<GrpcMetadataFW.Builder, GrpcMetadataFW> grpcMetadataRW =
             new Array32FW.Builder<>(new GrpcMetadataFW.Builder(), new GrpcMetadataFW());
@@ -217,6 +221,8 @@ public final class GrpcBindingConfig
             visitors.put(HEADER_NAME_AUTHORITY, this::visitAuthority);
             visitors.put(HEADER_NAME_TE, this::visitTe);
             visitors.put(HEADER_NAME_CONTENT_TYPE, this::visitContentType);
+            visitors.put(HEADER_NAME_GRPC_ENCODING, this::visitEncoding);
+            visitors.put(HEADER_NAME_GRPC_ACCEPT_ENCODING, this::visitAcceptEncoding);
             this.visitors = visitors;
         }
         private final AsciiSequenceView pathRO = new AsciiSequenceView();
@@ -226,6 +232,8 @@ public final class GrpcBindingConfig
         private final String16FW schemeRO = new String16FW();
         private final String16FW authorityRO = new String16FW();
         private final String16FW teRO = new String16FW();
+        private final String16FW encodingRO = new String16FW();
+        private final String16FW acceptEncodingRO = new String16FW();
         private final byte[] headerPrefix = new byte[GRPC_PREFIX_LENGTH];
         private final byte[] headerSuffix = new byte[BIN_SUFFIX_LENGTH];
 
@@ -238,6 +246,8 @@ public final class GrpcBindingConfig
         public String16FW scheme;
         public String16FW authority;
         public String16FW te;
+        public String16FW encoding;
+        public String16FW acceptEncoding;
 
         HttpGrpcHeaderHelper(
             MutableDirectBuffer metadataBuffer)
@@ -254,6 +264,8 @@ public final class GrpcBindingConfig
             scheme = null;
             authority = null;
             te = null;
+            encoding = null;
+            acceptEncoding = null;
             contentType = null;
             metadata = null;
             grpcMetadataRW.wrap(metadataBuffer, 0, metadataBuffer.capacity());
@@ -338,6 +350,18 @@ public final class GrpcBindingConfig
             contentType = contentTypeRO.wrap(value.buffer(), value.offset(), value.limit());
         }
 
+        private void visitEncoding(
+            String16FW value)
+        {
+            encoding = encodingRO.wrap(value.buffer(), value.offset(), value.limit());
+        }
+
+        private void visitAcceptEncoding(
+            String16FW value)
+        {
+            acceptEncoding = acceptEncodingRO.wrap(value.buffer(), value.offset(), value.limit());
+        }
+
         private void visitHeader(
             HttpHeaderFW header)
         {
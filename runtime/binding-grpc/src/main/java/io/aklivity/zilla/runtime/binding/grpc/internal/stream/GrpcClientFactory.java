@@ -14,6 +14,10 @@
  */
 package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcCompression.NO_LENGTH;
+import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcEncoding.IDENTITY;
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
+
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 
@@ -51,12 +55,14 @@ import io.aklivity.zilla.runtime.binding.grpc.internal.types.stream.WindowFW;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
 public class GrpcClientFactory implements GrpcStreamFactory
 {
     private static final int GRPC_MESSAGE_PADDING = 5;
+    private static final int GRPC_MESSAGE_FLAG_COMPRESSED = 0x01;
     private static final int DATA_FLAG_INIT = 0x02;
     private static final int DATA_FLAG_CONT = 0x00;
     private static final int DATA_FLAG_FIN = 0x01;
@@ -69,12 +75,15 @@ public class GrpcClientFactory implements GrpcStreamFactory
     private static final String8FW HTTP_HEADER_CONTENT_TYPE = new String8FW("content-type");
     private static final String8FW HTTP_HEADER_TE = new String8FW("te");
     private static final String8FW HTTP_HEADER_GRPC_STATUS = new String8FW("grpc-status");
+    private static final String8FW HTTP_HEADER_GRPC_ENCODING = new String8FW("grpc-encoding");
+    private static final String8FW HTTP_HEADER_GRPC_ACCEPT_ENCODING = new String8FW("grpc-accept-encoding");
 
     private static final String16FW HTTP_HEADER_VALUE_METHOD_POST = new String16FW("POST");
     private static final String16FW HTTP_HEADER_VALUE_STATUS_200 = new String16FW("200");
     private static final String16FW HEADER_VALUE_CONTENT_TYPE_GRPC = new String16FW("application/grpc");
     private static final String16FW HEADER_VALUE_GRPC_OK = new String16FW("0");
     private static final String16FW HEADER_VALUE_TRAILERS = new String16FW("trailers");
+    private static final String16FW HEADER_VALUE_GRPC_RESOURCE_EXHAUSTED = new String16FW("8");
     private static final String16FW HEADER_VALUE_GRPC_ABORTED = new String16FW("10");
     private static final String16FW HEADER_VALUE_GRPC_INTERNAL_ERROR = new String16FW("13");
     private static final OctetsFW EMPTY_OCTETS = new OctetsFW().wrap(new UnsafeBuffer(0L, 0), 0, 0);
@@ -116,6 +125,8 @@ public class GrpcClientFactory implements GrpcStreamFactory
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer metadataBuffer;
     private final MutableDirectBuffer extBuffer;
+    private final MutableDirectBuffer decodeBuffer;
+    private final BufferPool bufferPool;
     private final BindingHandler streamFactory;
     private final LongFunction<CatalogHandler> supplyCatalog;
     private final LongUnaryOperator supplyInitialId;
@@ -125,6 +136,8 @@ public class GrpcClientFactory implements GrpcStreamFactory
 
     private final Long2ObjectHashMap<GrpcBindingConfig> bindings;
     private final HttpGrpcResponseHeaderHelper helper;
+    private final GrpcCompression compression;
+    private final GrpcEncoding preferredEncoding;
 
     public GrpcClientFactory(
         GrpcConfiguration config,
@@ -133,6 +146,8 @@ public class GrpcClientFactory implements GrpcStreamFactory
         this.writeBuffer = context.writeBuffer();
         this.metadataBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.extBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
+        this.bufferPool = context.bufferPool();
+        this.decodeBuffer = new UnsafeBuffer(new byte[bufferPool.slotCapacity()]);
         this.streamFactory = context.streamFactory();
         this.supplyCatalog = context::supplyCatalog;
         this.supplyInitialId = context::supplyInitialId;
@@ -141,6 +156,9 @@ public class GrpcClientFactory implements GrpcStreamFactory
         this.grpcTypeId = context.supplyTypeId(GrpcBinding.NAME);
         this.bindings = new Long2ObjectHashMap<>();
         this.helper = new HttpGrpcResponseHeaderHelper(metadataBuffer);
+        this.compression = new GrpcCompression(writeBuffer.capacity());
+        final GrpcEncoding configured = GrpcEncoding.of(config.encoding());
+        this.preferredEncoding = configured != null ? configured : IDENTITY;
 
         this.grpcAbortedStatusRO = grpcAbortExRW.wrap(new UnsafeBuffer(new byte[32]), 0, 32)
                 .typeId(grpcTypeId)
@@ -262,6 +280,11 @@ public class GrpcClientFactory implements GrpcStreamFactory
             this.method = method;
         }
 
+        private int replyWindow()
+        {
+            return replyMax - (int)(replySeq - replyAck);
+        }
+
         private void onAppMessage(
             int msgTypeId,
             DirectBuffer buffer,
@@ -594,6 +617,11 @@ public class GrpcClientFactory implements GrpcStreamFactory
 
         private int state;
         private int messageDeferred;
+        private GrpcEncoding replyEncoding = IDENTITY;
+        private String16FW replyStatus;
+        private int decodeSlot = NO_SLOT;
+        private int decodeSlotOffset;
+        private boolean decoding;
 
         private HttpClient(
             long originId,
@@ -641,19 +669,34 @@ public class GrpcClientFactory implements GrpcStreamFactory
             final int payloadSize = payload.sizeof();
 
             int encodeProgress = encodeOffset;
+            int encoded = NO_LENGTH;
 
             if ((flags & DATA_FLAG_INIT) != 0x00)
             {
+                if (deferred == 0 && (flags & DATA_FLAG_FIN) != 0x00 && preferredEncoding != IDENTITY)
+                {
+                    final int deflateOffset = encodeOffset + GRPC_MESSAGE_PADDING;
+                    encoded = compression.deflate(preferredEncoding, payload.buffer(), payload.offset(), payloadSize,
+                        encodeBuffer, deflateOffset, deflateOffset + payloadSize - 1);
+                }
+
                 GrpcMessageFW message = grpcMessageRW
                     .wrap(encodeBuffer, encodeOffset, encodeLimit)
-                    .flag(0)
-                    .length(payloadSize + deferred)
+                    .flag(encoded != NO_LENGTH ? GRPC_MESSAGE_FLAG_COMPRESSED : 0)
+                    .length(encoded != NO_LENGTH ? encoded : payloadSize + deferred)
                     .build();
                 encodeProgress = message.limit();
             }
 
-            encodeBuffer.putBytes(encodeProgress, payload.buffer(), payload.offset(), payloadSize);
-            encodeProgress += payloadSize;
+            if (encoded != NO_LENGTH)
+            {
+                encodeProgress += encoded;
+            }
+            else
+            {
+                encodeBuffer.putBytes(encodeProgress, payload.buffer(), payload.offset(), payloadSize);
+                encodeProgress += payloadSize;
+            }
 
             doData(network, originId, routedId, initialId, initialSeq, initialAck, initialMax, traceId, authorization,
                 budgetId, flags, reserved, encodeBuffer, encodeOffset, encodeProgress - encodeOffset, EMPTY_OCTETS);
@@ -697,21 +740,54 @@ public class GrpcClientFactory implements GrpcStreamFactory
             long replyAck,
             int replyMax)
         {
-            this.replyAck = replyAck;
-            this.replyMax = replyMax;
-
             state = GrpcState.openReply(state);
 
-            doWindow(network, originId, routedId, replyId, replySeq, this.replyAck, this.replyMax,
-                traceId, authorization, budgetId, padding);
+            if (replyEncoding != IDENTITY)
+            {
+                this.replyMax = replyMax;
+
+                if (decodeSlot == NO_SLOT)
+                {
+                    doNetEncodedWindow(traceId, authorization);
+                }
+                else if (!decoding)
+                {
+                    decodeNet(traceId, authorization);
+                }
+            }
+            else
+            {
+                this.replyAck = replyAck;
+                this.replyMax = replyMax;
+
+                doWindow(network, originId, routedId, replyId, replySeq, this.replyAck, this.replyMax,
+                    traceId, authorization, budgetId, padding);
+            }
 
             assert this.replyAck <= this.replySeq;
         }
 
+        private void doNetEncodedWindow(
+            long traceId,
+            long authorization)
+        {
+            final long replyAckMax = replySeq - decodeSlotOffset;
+
+            if (!GrpcState.replyClosed(state) && replyAckMax > replyAck)
+            {
+                replyAck = replyAckMax;
+
+                doWindow(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, 0L, 0);
+            }
+        }
+
         private void doNetReset(
             long traceId,
             long authorization)
         {
+            cleanupDecodeSlot();
+
             if (!GrpcState.replyClosed(state))
             {
                 state = GrpcState.closeReply(state);
@@ -773,6 +849,9 @@ public class GrpcClientFactory implements GrpcStreamFactory
 
             helper.visit(httpBeginEx);
 
+            final GrpcEncoding encoding = GrpcEncoding.of(helper.encoding);
+            replyEncoding = encoding != null ? encoding : IDENTITY;
+
             if (httpBeginEx != null)
             {
                 status = helper.status;
@@ -797,7 +876,8 @@ public class GrpcClientFactory implements GrpcStreamFactory
             delegate.doAppBegin(traceId, authorization, affinity, beginEx);
 
             if (!HTTP_HEADER_VALUE_STATUS_200.equals(status) ||
-                grpcStatus != null && !HEADER_VALUE_GRPC_OK.equals(grpcStatus))
+                grpcStatus != null && !HEADER_VALUE_GRPC_OK.equals(grpcStatus) ||
+                encoding == null)
             {
                 delegate.doAppAbortDeferring(traceId, authorization, grpcStatus);
                 doNetReset(traceId, authorization);
@@ -827,7 +907,11 @@ public class GrpcClientFactory implements GrpcStreamFactory
             final int limit = payload.limit();
             final int size = payload.sizeof();
 
-            if (messageDeferred == 0)
+            if (replyEncoding != IDENTITY)
+            {
+                onNetEncodedData(traceId, authorization, buffer, offset, size);
+            }
+            else if (messageDeferred == 0)
             {
                 final GrpcMessageFW grpcMessage = grpcMessageRO.wrap(buffer, offset, limit);
                 final int messageLength = grpcMessage.length();
@@ -856,6 +940,138 @@ public class GrpcClientFactory implements GrpcStreamFactory
             }
         }
 
+        private void onNetEncodedData(
+            long traceId,
+            long authorization,
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            if (decodeSlot == NO_SLOT)
+            {
+                decodeSlot = bufferPool.acquire(replyId);
+            }
+
+            if (decodeSlot == NO_SLOT ||
+                decodeSlotOffset + length > bufferPool.slotCapacity())
+            {
+                doNetReset(traceId, authorization);
+                delegate.doAppAbortDeferring(traceId, authorization, HEADER_VALUE_GRPC_RESOURCE_EXHAUSTED);
+            }
+            else
+            {
+                final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+                slot.putBytes(decodeSlotOffset, buffer, offset, length);
+                decodeSlotOffset += length;
+
+                decodeNet(traceId, authorization);
+            }
+        }
+
+        private void decodeNet(
+            long traceId,
+            long authorization)
+        {
+            final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+            final int decodeOffset = 0;
+            final int decodeLimit = decodeBuffer.capacity();
+
+            String16FW error = null;
+            int progress = 0;
+
+            decoding = true;
+
+            while (error == null && decodeSlot != NO_SLOT)
+            {
+                final GrpcMessageFW message = grpcMessageRO.tryWrap(slot, progress, decodeSlotOffset);
+                if (message == null)
+                {
+                    break;
+                }
+
+                final int messageLength = message.length();
+                final int messageOffset = message.limit();
+                final int messageLimit = messageOffset + messageLength;
+
+                if (messageLength < 0 || GRPC_MESSAGE_PADDING + messageLength > bufferPool.slotCapacity())
+                {
+                    error = HEADER_VALUE_GRPC_RESOURCE_EXHAUSTED;
+                    break;
+                }
+
+                if (messageLimit > decodeSlotOffset)
+                {
+                    break;
+                }
+
+                final boolean compressed = (message.flag() & GRPC_MESSAGE_FLAG_COMPRESSED) != 0;
+                final DirectBuffer decoded = compressed ? decodeBuffer : slot;
+                final int decodedOffset = compressed ? decodeOffset : messageOffset;
+                final int decodedLength = compressed
+                    ? compression.inflate(replyEncoding, slot, messageOffset, messageLength,
+                        decodeBuffer, decodeOffset, decodeLimit)
+                    : messageLength;
+                final int reserved = decodedLength + delegate.replyPad;
+
+                if (decodedLength == NO_LENGTH)
+                {
+                    error = HEADER_VALUE_GRPC_INTERNAL_ERROR;
+                }
+                else if (reserved > delegate.replyMax)
+                {
+                    error = HEADER_VALUE_GRPC_RESOURCE_EXHAUSTED;
+                }
+                else if (reserved > delegate.replyWindow())
+                {
+                    break;
+                }
+                else
+                {
+                    progress = messageLimit;
+                    delegate.doAppData(traceId, authorization, 0L, reserved, DATA_FLAG_INIT | DATA_FLAG_FIN,
+                        decoded, decodedOffset, decodedLength, EMPTY_OCTETS);
+                }
+            }
+
+            decoding = false;
+
+            if (error != null)
+            {
+                doNetReset(traceId, authorization);
+                delegate.doAppAbortDeferring(traceId, authorization, error);
+            }
+            else if (decodeSlot != NO_SLOT)
+            {
+                if (progress > 0)
+                {
+                    decodeSlotOffset -= progress;
+                    slot.putBytes(0, slot, progress, decodeSlotOffset);
+                }
+
+                if (decodeSlotOffset == 0)
+                {
+                    cleanupDecodeSlot();
+
+                    if (replyStatus != null)
+                    {
+                        doAppEndOrAbort(traceId, authorization, replyStatus);
+                    }
+                }
+
+                doNetEncodedWindow(traceId, authorization);
+            }
+        }
+
+        private void cleanupDecodeSlot()
+        {
+            if (decodeSlot != NO_SLOT)
+            {
+                bufferPool.release(decodeSlot);
+                decodeSlot = NO_SLOT;
+                decodeSlotOffset = 0;
+            }
+        }
+
         private void onNetEnd(
             EndFW end)
         {
@@ -876,15 +1092,30 @@ public class GrpcClientFactory implements GrpcStreamFactory
             final HttpEndExFW endEx = end.extension().get(endExRO::tryWrap);
             final Array32FW<HttpHeaderFW> trailers = endEx != null ? endEx.trailers() : TRAILERS_EMPTY;
             final HttpHeaderFW grpcStatus = trailers.matchFirst(t -> t.name().equals(HTTP_HEADER_GRPC_STATUS));
+            final String16FW status = grpcStatus != null ? grpcStatus.value() : HEADER_VALUE_GRPC_INTERNAL_ERROR;
+
+            if (decodeSlot != NO_SLOT)
+            {
+                replyStatus = new String16FW(status.asString());
+            }
+            else
+            {
+                doAppEndOrAbort(traceId, authorization, status);
+            }
+        }
 
-            if (grpcStatus != null && HEADER_VALUE_GRPC_OK.equals(grpcStatus.value()))
+        private void doAppEndOrAbort(
+            long traceId,
+            long authorization,
+            String16FW status)
+        {
+            if (HEADER_VALUE_GRPC_OK.equals(status))
             {
                 delegate.doAppEnd(traceId, authorization);
             }
             else
             {
-                delegate.doAppAbortDeferring(traceId, authorization,
-                        grpcStatus != null ? grpcStatus.value() : HEADER_VALUE_GRPC_INTERNAL_ERROR);
+                delegate.doAppAbortDeferring(traceId, authorization, status);
             }
         }
 
@@ -905,6 +1136,7 @@ public class GrpcClientFactory implements GrpcStreamFactory
 
             state = GrpcState.closeReply(state);
 
+            cleanupDecodeSlot();
             delegate.doAppAbort(traceId, authorization, grpcAbortedStatusRO);
         }
 
@@ -985,6 +1217,15 @@ public class GrpcClientFactory implements GrpcStreamFactory
                     .name(HTTP_HEADER_TE)
                     .value(HEADER_VALUE_TRAILERS));
 
+                if (preferredEncoding != IDENTITY)
+                {
+                    hs.item(h -> h
+                        .name(HTTP_HEADER_GRPC_ENCODING)
+                        .value(preferredEncoding.value));
+                    hs.item(h -> h
+                        .name(HTTP_HEADER_GRPC_ACCEPT_ENCODING)
+                        .value(GrpcEncoding.ACCEPT_ENCODING));
+                }
 
                 headerOffsetRW.value = 0;
                 metadata.forEach(m ->
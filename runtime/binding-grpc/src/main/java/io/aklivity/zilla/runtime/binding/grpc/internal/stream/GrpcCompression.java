@@ -0,0 +1,330 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
+
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+final class GrpcCompression
+{
+    static final int NO_LENGTH = -1;
+
+    private static final int GZIP_MAGIC_0 = 0x1f;
+    private static final int GZIP_MAGIC_1 = 0x8b;
+    private static final int GZIP_METHOD_DEFLATE = 0x08;
+    private static final int GZIP_FLAG_HCRC = 0x02;
+    private static final int GZIP_FLAG_EXTRA = 0x04;
+    private static final int GZIP_FLAG_NAME = 0x08;
+    private static final int GZIP_FLAG_COMMENT = 0x10;
+    private static final int GZIP_OS_UNKNOWN = 0xff;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private final Inflater inflater;
+    private final Inflater gzipInflater;
+    private final Deflater deflater;
+    private final Deflater gzipDeflater;
+    private final CRC32 checksum;
+    private final byte[] input;
+    private final byte[] output;
+
+    GrpcCompression(
+        int capacity)
+    {
+        this.inflater = new Inflater();
+        this.gzipInflater = new Inflater(true);
+        this.deflater = new Deflater();
+        this.gzipDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        this.checksum = new CRC32();
+        this.input = new byte[capacity];
+        this.output = new byte[capacity + 1];
+    }
+
+    int inflate(
+        GrpcEncoding encoding,
+        DirectBuffer buffer,
+        int offset,
+        int length,
+        MutableDirectBuffer target,
+        int targetOffset,
+        int targetLimit)
+    {
+        int inflated = NO_LENGTH;
+
+        if (length <= input.length)
+        {
+            buffer.getBytes(offset, input, 0, length);
+
+            final int maxLength = Math.min(targetLimit - targetOffset, input.length);
+
+            switch (encoding)
+            {
+            case IDENTITY:
+                System.arraycopy(input, 0, output, 0, length);
+                inflated = length <= maxLength ? length : NO_LENGTH;
+                break;
+            case DEFLATE:
+                inflater.reset();
+                inflater.setInput(input, 0, length);
+                inflated = inflate(inflater, maxLength);
+                break;
+            case GZIP:
+                inflated = inflateGzip(length, maxLength);
+                break;
+            }
+
+            if (inflated != NO_LENGTH)
+            {
+                target.putBytes(targetOffset, output, 0, inflated);
+            }
+        }
+
+        return inflated;
+    }
+
+    int deflate(
+        GrpcEncoding encoding,
+        DirectBuffer buffer,
+        int offset,
+        int length,
+        MutableDirectBuffer target,
+        int targetOffset,
+        int targetLimit)
+    {
+        int deflated = NO_LENGTH;
+
+        if (length <= input.length)
+        {
+            buffer.getBytes(offset, input, 0, length);
+
+            final int maxLength = Math.min(targetLimit - targetOffset, input.length);
+
+            switch (encoding)
+            {
+            case IDENTITY:
+                System.arraycopy(input, 0, output, 0, length);
+                deflated = length <= maxLength ? length : NO_LENGTH;
+                break;
+            case DEFLATE:
+                deflater.reset();
+                deflater.setInput(input, 0, length);
+                deflater.finish();
+                deflated = deflate(deflater, 0, maxLength);
+                break;
+            case GZIP:
+                deflated = deflateGzip(length, maxLength);
+                break;
+            }
+
+            if (deflated != NO_LENGTH)
+            {
+                target.putBytes(targetOffset, output, 0, deflated);
+            }
+        }
+
+        return deflated;
+    }
+
+    private int inflateGzip(
+        int length,
+        int maxLength)
+    {
+        int inflated = NO_LENGTH;
+
+        final int headerSize = gzipHeaderSize(length);
+        if (headerSize != NO_LENGTH)
+        {
+            gzipInflater.reset();
+            gzipInflater.setInput(input, headerSize, length - headerSize);
+            inflated = inflate(gzipInflater, maxLength);
+
+            if (inflated != NO_LENGTH)
+            {
+                final int trailerOffset = length - gzipInflater.getRemaining();
+
+                checksum.reset();
+                checksum.update(output, 0, inflated);
+
+                if (trailerOffset + GZIP_TRAILER_SIZE > length ||
+                    getIntLE(input, trailerOffset) != (int) checksum.getValue() ||
+                    getIntLE(input, trailerOffset + 4) != inflated)
+                {
+                    inflated = NO_LENGTH;
+                }
+            }
+        }
+
+        return inflated;
+    }
+
+    private int deflateGzip(
+        int length,
+        int maxLength)
+    {
+        int deflated = NO_LENGTH;
+
+        if (maxLength >= GZIP_HEADER_SIZE + GZIP_TRAILER_SIZE)
+        {
+            output[0] = (byte) GZIP_MAGIC_0;
+            output[1] = (byte) GZIP_MAGIC_1;
+            output[2] = (byte) GZIP_METHOD_DEFLATE;
+            output[3] = 0;
+            putIntLE(output, 4, 0);
+            output[8] = 0;
+            output[9] = (byte) GZIP_OS_UNKNOWN;
+
+            gzipDeflater.reset();
+            gzipDeflater.setInput(input, 0, length);
+            gzipDeflater.finish();
+
+            final int compressed = deflate(gzipDeflater, GZIP_HEADER_SIZE, maxLength - GZIP_TRAILER_SIZE);
+            if (compressed != NO_LENGTH)
+            {
+                checksum.reset();
+                checksum.update(input, 0, length);
+
+                putIntLE(output, compressed, (int) checksum.getValue());
+                putIntLE(output, compressed + 4, length);
+                deflated = compressed + GZIP_TRAILER_SIZE;
+            }
+        }
+
+        return deflated;
+    }
+
+    private int gzipHeaderSize(
+        int length)
+    {
+        int progress = GZIP_HEADER_SIZE;
+
+        if (length < GZIP_HEADER_SIZE + GZIP_TRAILER_SIZE ||
+            (input[0] & 0xff) != GZIP_MAGIC_0 ||
+            (input[1] & 0xff) != GZIP_MAGIC_1 ||
+            (input[2] & 0xff) != GZIP_METHOD_DEFLATE)
+        {
+            progress = NO_LENGTH;
+        }
+        else
+        {
+            final int flags = input[3] & 0xff;
+
+            if ((flags & GZIP_FLAG_EXTRA) != 0)
+            {
+                progress += 2 + ((input[progress] & 0xff) | (input[progress + 1] & 0xff) << 8);
+            }
+
+            if ((flags & GZIP_FLAG_NAME) != 0)
+            {
+                progress = skipZeroTerminated(progress, length);
+            }
+
+            if ((flags & GZIP_FLAG_COMMENT) != 0 && progress != NO_LENGTH)
+            {
+                progress = skipZeroTerminated(progress, length);
+            }
+
+            if ((flags & GZIP_FLAG_HCRC) != 0 && progress != NO_LENGTH)
+            {
+                progress += 2;
+            }
+
+            if (progress != NO_LENGTH && progress + GZIP_TRAILER_SIZE > length)
+            {
+                progress = NO_LENGTH;
+            }
+        }
+
+        return progress;
+    }
+
+    private int skipZeroTerminated(
+        int offset,
+        int length)
+    {
+        int progress = offset;
+        while (progress < length && input[progress] != 0)
+        {
+            progress++;
+        }
+        return progress < length ? progress + 1 : NO_LENGTH;
+    }
+
+    private int inflate(
+        Inflater stream,
+        int maxLength)
+    {
+        int progress = 0;
+
+        try
+        {
+            while (!stream.finished() && progress <= maxLength)
+            {
+                final int inflated = stream.inflate(output, progress, maxLength + 1 - progress);
+                if (inflated == 0 && (stream.needsInput() || stream.needsDictionary()))
+                {
+                    break;
+                }
+                progress += inflated;
+            }
+        }
+        catch (DataFormatException ex)
+        {
+            progress = NO_LENGTH;
+        }
+
+        return stream.finished() && progress != NO_LENGTH && progress <= maxLength ? progress : NO_LENGTH;
+    }
+
+    private int deflate(
+        Deflater stream,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+
+        while (!stream.finished() && progress < limit)
+        {
+            progress += stream.deflate(output, progress, limit - progress);
+        }
+
+        return stream.finished() ? progress : NO_LENGTH;
+    }
+
+    private static int getIntLE(
+        byte[] bytes,
+        int offset)
+    {
+        return (bytes[offset] & 0xff) |
+            (bytes[offset + 1] & 0xff) << 8 |
+            (bytes[offset + 2] & 0xff) << 16 |
+            (bytes[offset + 3] & 0xff) << 24;
+    }
+
+    private static void putIntLE(
+        byte[] bytes,
+        int offset,
+        int value)
+    {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >>> 8);
+        bytes[offset + 2] = (byte) (value >>> 16);
+        bytes[offset + 3] = (byte) (value >>> 24);
+    }
+}
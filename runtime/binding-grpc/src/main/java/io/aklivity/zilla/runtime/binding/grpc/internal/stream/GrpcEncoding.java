@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
+
+import io.aklivity.zilla.runtime.binding.grpc.internal.types.String16FW;
+
+enum GrpcEncoding
+{
+    IDENTITY("identity"),
+    DEFLATE("deflate"),
+    GZIP("gzip");
+
+    static final String16FW ACCEPT_ENCODING = new String16FW("identity,deflate,gzip");
+
+    final String16FW value;
+
+    GrpcEncoding(
+        String value)
+    {
+        this.value = new String16FW(value);
+    }
+
+    boolean acceptedBy(
+        String16FW acceptEncoding)
+    {
+        boolean accepted = this == IDENTITY;
+
+        if (!accepted && acceptEncoding != null)
+        {
+            final String name = value.asString();
+            for (String token : acceptEncoding.asString().split(","))
+            {
+                accepted |= name.equalsIgnoreCase(token.trim());
+            }
+        }
+
+        return accepted;
+    }
+
+    static GrpcEncoding of(
+        String16FW value)
+    {
+        return value != null ? of(value.asString()) : IDENTITY;
+    }
+
+    static GrpcEncoding of(
+        String value)
+    {
+        GrpcEncoding encoding = null;
+
+        for (GrpcEncoding candidate : values())
+        {
+            if (candidate.value.asString().equalsIgnoreCase(value.trim()))
+            {
+                encoding = candidate;
+                break;
+            }
+        }
+
+        return encoding;
+    }
+}
@@ -14,8 +14,11 @@
  */
 package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcCompression.NO_LENGTH;
+import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcEncoding.IDENTITY;
 import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcServerFactory.ContentType.GRPC;
 import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcServerFactory.ContentType.GRPC_WEB_PROTO;
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.lang.Character.toLowerCase;
 import static java.lang.Character.toUpperCase;
@@ -73,6 +76,7 @@ import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 public final class GrpcServerFactory implements GrpcStreamFactory
 {
     private static final int GRPC_MESSAGE_PADDING = 5;
+    private static final int GRPC_MESSAGE_FLAG_COMPRESSED = 0x01;
     private static final int DATA_FLAG_INIT = 0x02;
     private static final int DATA_FLAG_CONT = 0x00;
     private static final int DATA_FLAG_FIN = 0x01;
@@ -86,6 +90,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
     private static final OctetsFW EMPTY_OCTETS = new OctetsFW().wrap(new UnsafeBuffer(new byte[0]), 0, 0);
     private static final String8FW HEADER_NAME_CONTENT_TYPE = new String8FW("content-type");
     private static final String8FW HEADER_NAME_GRPC_ENCODING = new String8FW("grpc-encoding");
+    private static final String8FW HEADER_NAME_GRPC_ACCEPT_ENCODING = new String8FW("grpc-accept-encoding");
     private static final String8FW HEADER_NAME_GRPC_STATUS = new String8FW("grpc-status");
     private static final String8FW HEADER_NAME_METHOD = new String8FW(":method");
     private static final String8FW HEADER_NAME_STATUS = new String8FW(":status");
@@ -93,13 +98,13 @@ public final class GrpcServerFactory implements GrpcStreamFactory
     private static final String16FW HEADER_VALUE_CONTENT_TYPE_GRPC_PROTO = new String16FW("application/grpc+proto");
     private static final String16FW HEADER_VALUE_CONTENT_TYPE_GRPC_WEB_PROTO = new String16FW("application/grpc-web+proto");
     private static final String16FW HEADER_VALUE_TRAILERS = new String16FW("trailers");
-    private static final String16FW HEADER_VALUE_GRPC_ENCODING = new String16FW("identity");
     private static final String16FW HEADER_VALUE_METHOD_POST = new String16FW("POST");
     private static final String16FW HEADER_VALUE_STATUS_200 = new String16FW("200");
     private static final String16FW HEADER_VALUE_STATUS_405 = new String16FW("405");
     private static final String16FW HEADER_VALUE_STATUS_415 = new String16FW("415");
     private static final String16FW HEADER_VALUE_GRPC_OK = new String16FW("0");
     private static final String16FW HEADER_VALUE_GRPC_DEADLINE_EXCEEDED = new String16FW("4");
+    private static final String16FW HEADER_VALUE_GRPC_RESOURCE_EXHAUSTED = new String16FW("8");
     private static final String16FW HEADER_VALUE_GRPC_ABORTED = new String16FW("10");
     private static final String16FW HEADER_VALUE_GRPC_UNIMPLEMENTED = new String16FW("12");
     private static final String16FW HEADER_VALUE_GRPC_INTERNAL_ERROR = new String16FW("13");
@@ -139,6 +144,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer extBuffer;
     private final MutableDirectBuffer metadataBuffer;
+    private final MutableDirectBuffer decodeBuffer;
     private final BufferPool bufferPool;
     private final Signaler signaler;
     private final BindingHandler streamFactory;
@@ -147,6 +153,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
     private final LongUnaryOperator supplyReplyId;
     private final LongSupplier supplyTraceId;
     private final Long2ObjectHashMap<GrpcBindingConfig> bindings;
+    private final GrpcCompression compression;
+    private final GrpcEncoding preferredEncoding;
     private final int grpcTypeId;
     private final int httpTypeId;
 
@@ -242,6 +250,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         this.extBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.metadataBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.bufferPool = context.bufferPool();
+        this.decodeBuffer = new UnsafeBuffer(new byte[bufferPool.slotCapacity()]);
         this.signaler = context.signaler();
         this.streamFactory = context.streamFactory();
         this.supplyCatalog = context::supplyCatalog;
@@ -249,6 +258,9 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         this.supplyReplyId = context::supplyReplyId;
         this.supplyTraceId = context::supplyTraceId;
         this.bindings = new Long2ObjectHashMap<>();
+        this.compression = new GrpcCompression(writeBuffer.capacity());
+        final GrpcEncoding configured = GrpcEncoding.of(config.encoding());
+        this.preferredEncoding = configured != null ? configured : IDENTITY;
         this.grpcTypeId = context.supplyTypeId(GrpcBinding.NAME);
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
     }
@@ -329,6 +341,11 @@ public final class GrpcServerFactory implements GrpcStreamFactory
                 doRejectNet(network, originId, routedId, traceId, authorization, initialId, sequence, acknowledge,
                     HEADER_VALUE_STATUS_200, HEADER_VALUE_GRPC_ABORTED);
             }
+            else if (GrpcEncoding.of(method.encoding) == null)
+            {
+                doRejectNet(network, originId, routedId, traceId, authorization, initialId, sequence, acknowledge,
+                    HEADER_VALUE_STATUS_200, HEADER_VALUE_GRPC_UNIMPLEMENTED);
+            }
             else
             {
                 newStream = newInitialGrpcStream(begin, network, contentType, method);
@@ -394,6 +411,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         private final GrpcStream delegate;
         private final ContentType contentType;
         private final GrpcMethodResult method;
+        private final GrpcEncoding encoding;
+        private final GrpcEncoding replyEncoding;
         private final long originId;
         private final long routedId;
         private final long initialId;
@@ -410,6 +429,9 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         private int replyMax;
         private int state;
         private int messageDeferred;
+        private int decodeSlot = NO_SLOT;
+        private int decodeSlotOffset;
+        private boolean decoding;
         private long expiringId = NO_CANCEL_ID;
 
         private GrpcServer(
@@ -431,6 +453,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             this.affinity = affinity;
             this.contentType = contentType;
             this.method = method;
+            this.encoding = GrpcEncoding.of(method.encoding);
+            this.replyEncoding = preferredEncoding.acceptedBy(method.acceptEncoding) ? preferredEncoding : IDENTITY;
 
             this.delegate = new GrpcStream(routedId, resolveId, this);
         }
@@ -533,7 +557,11 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             final int limit = payload.limit();
             final int size = payload.sizeof();
 
-            if (messageDeferred == 0)
+            if (encoding != IDENTITY)
+            {
+                onNetEncodedData(traceId, authorization, buffer, offset, size);
+            }
+            else if (messageDeferred == 0)
             {
                 final GrpcMessageFW grpcMessage = grpcMessageRO.tryWrap(buffer, offset, limit);
                 if (grpcMessage != null)
@@ -569,6 +597,155 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             }
         }
 
+        private void onNetEncodedData(
+            long traceId,
+            long authorization,
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            if (decodeSlot == NO_SLOT)
+            {
+                decodeSlot = bufferPool.acquire(initialId);
+            }
+
+            if (decodeSlot == NO_SLOT ||
+                decodeSlotOffset + length > bufferPool.slotCapacity())
+            {
+                doNetReset(traceId, authorization, HEADER_VALUE_GRPC_RESOURCE_EXHAUSTED);
+                delegate.cleanup(traceId, authorization);
+            }
+            else
+            {
+                final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+                slot.putBytes(decodeSlotOffset, buffer, offset, length);
+                decodeSlotOffset += length;
+
+                decodeNet(traceId, authorization);
+            }
+        }
+
+        private void decodeNet(
+            long traceId,
+            long authorization)
+        {
+            final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+            final int decodeOffset = 0;
+            final int decodeLimit = decodeBuffer.capacity();
+
+            String16FW error = null;
+            int progress = 0;
+
+            decoding = true;
+
+            while (error == null && decodeSlot != NO_SLOT)
+            {
+                final GrpcMessageFW message = grpcMessageRO.tryWrap(slot, progress, decodeSlotOffset);
+                if (message == null)
+                {
+                    break;
+                }
+
+                final int messageLength = message.length();
+                final int messageOffset = message.limit();
+                final int messageLimit = messageOffset + messageLength;
+
+                if (messageLength < 0 || GRPC_MESSAGE_PADDING + messageLength > bufferPool.slotCapacity())
+                {
+                    error = HEADER_VALUE_GRPC_RESOURCE_EXHAUSTED;
+                    break;
+                }
+
+                if (messageLimit > decodeSlotOffset)
+                {
+                    break;
+                }
+
+                final boolean compressed = (message.flag() & GRPC_MESSAGE_FLAG_COMPRESSED) != 0;
+                final DirectBuffer decoded = compressed ? decodeBuffer : slot;
+                final int decodedOffset = compressed ? decodeOffset : messageOffset;
+                final int decodedLength = compressed
+                    ? compression.inflate(encoding, slot, messageOffset, messageLength, decodeBuffer, decodeOffset, decodeLimit)
+                    : messageLength;
+                final int reserved = decodedLength + delegate.grpcInitialPad;
+
+                if (decodedLength == NO_LENGTH)
+                {
+                    error = HEADER_VALUE_GRPC_INTERNAL_ERROR;
+                }
+                else if (reserved > delegate.grpcInitialMax)
+                {
+                    error = HEADER_VALUE_GRPC_RESOURCE_EXHAUSTED;
+                }
+                else if (reserved > delegate.initialWindow())
+                {
+                    break;
+                }
+                else
+                {
+                    progress = messageLimit;
+                    delegate.doAppData(traceId, authorization, 0L, reserved, DATA_FLAG_INIT | DATA_FLAG_FIN,
+                        decoded, decodedOffset, decodedLength, EMPTY_OCTETS);
+                }
+            }
+
+            decoding = false;
+
+            if (error != null)
+            {
+                doNetReset(traceId, authorization, error);
+                delegate.cleanup(traceId, authorization);
+            }
+            else if (decodeSlot != NO_SLOT)
+            {
+                if (progress > 0)
+                {
+                    decodeSlotOffset -= progress;
+                    slot.putBytes(0, slot, progress, decodeSlotOffset);
+                }
+
+                if (decodeSlotOffset == 0)
+                {
+                    cleanupDecodeSlot();
+
+                    if (GrpcState.initialClosed(state))
+                    {
+                        delegate.doAppEnd(traceId, authorization);
+                    }
+                }
+
+                doNetEncodedWindow(traceId, authorization);
+            }
+        }
+
+        private void doNetEncodedWindow(
+            long traceId,
+            long authorization)
+        {
+            final long initialAckMax = initialSeq - decodeSlotOffset;
+            final int initialMaxMax = bufferPool.slotCapacity();
+
+            if (!GrpcState.initialClosed(state) &&
+                (initialAckMax > initialAck || initialMaxMax != initialMax))
+            {
+                initialAck = initialAckMax;
+                initialMax = initialMaxMax;
+
+                doWindow(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, authorization, 0L, 0, 0);
+            }
+        }
+
+        private void cleanupDecodeSlot()
+        {
+            if (decodeSlot != NO_SLOT)
+            {
+                bufferPool.release(decodeSlot);
+                decodeSlot = NO_SLOT;
+                decodeSlotOffset = 0;
+            }
+        }
+
         private void onNetEnd(
             EndFW end)
         {
@@ -585,7 +762,10 @@ public final class GrpcServerFactory implements GrpcStreamFactory
 
             assert initialAck <= initialSeq;
 
-            delegate.doAppEnd(traceId, authorization);
+            if (decodeSlot == NO_SLOT)
+            {
+                delegate.doAppEnd(traceId, authorization);
+            }
         }
 
         private void onNetAbort(
@@ -604,6 +784,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
 
             assert initialAck <= initialSeq;
 
+            cleanupDecodeSlot();
             delegate.doAppAbort(traceId, authorization);
         }
 
@@ -692,7 +873,12 @@ public final class GrpcServerFactory implements GrpcStreamFactory
                 {
                     hs.item(h -> h.name(HEADER_NAME_STATUS).value(HEADER_VALUE_STATUS_200))
                         .item(h -> h.name(HEADER_NAME_CONTENT_TYPE).value(method.contentType))
-                        .item(h -> h.name(HEADER_NAME_GRPC_ENCODING).value(HEADER_VALUE_GRPC_ENCODING));
+                        .item(h -> h.name(HEADER_NAME_GRPC_ENCODING).value(replyEncoding.value));
+
+                    if (preferredEncoding != IDENTITY)
+                    {
+                        hs.item(h -> h.name(HEADER_NAME_GRPC_ACCEPT_ENCODING).value(GrpcEncoding.ACCEPT_ENCODING));
+                    }
 
                     headerOffsetRW.value = 0;
 
@@ -774,6 +960,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             long authorization,
             String16FW status)
         {
+            cleanupDecodeSlot();
 
             state = GrpcState.closingInitial(state);
             contentType.doNetReset(this, traceId, authorization, status);
@@ -788,11 +975,25 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             int padding,
             int capabilities)
         {
-            initialAck = delegate.grpcInitialAck;
-            initialMax = delegate.grpcInitialMax;
+            if (encoding != IDENTITY)
+            {
+                if (decodeSlot == NO_SLOT)
+                {
+                    doNetEncodedWindow(traceId, authorization);
+                }
+                else if (!decoding)
+                {
+                    decodeNet(traceId, authorization);
+                }
+            }
+            else
+            {
+                initialAck = delegate.grpcInitialAck;
+                initialMax = delegate.grpcInitialMax;
 
-            doWindow(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                traceId, authorization, budgetId, padding, capabilities);
+                doWindow(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
+                    traceId, authorization, budgetId, padding, capabilities);
+            }
         }
 
         private void doGrpcNetReset(
@@ -871,6 +1072,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         {
             expiringId = NO_CANCEL_ID;
 
+            cleanupDecodeSlot();
+
             if (GrpcState.replyOpening(state))
             {
                 contentType.doNetAbort(this, traceId, 0L, HEADER_VALUE_GRPC_DEADLINE_EXCEEDED);
@@ -907,6 +1110,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         private long grpcInitialSeq;
         private long grpcInitialAck;
         private int grpcInitialMax;
+        private int grpcInitialPad;
 
         private long grpcReplySeq;
         private long grpcReplyAck;
@@ -924,6 +1128,11 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             this.replyId = supplyReplyId.applyAsLong(this.initialId);
         }
 
+        private int initialWindow()
+        {
+            return grpcInitialMax - (int)(grpcInitialSeq - grpcInitialAck);
+        }
+
         private void doAppBegin(
             long traceId,
             long authorization,
@@ -1074,6 +1283,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
 
             grpcInitialAck = acknowledge;
             grpcInitialMax = maximum;
+            grpcInitialPad = padding;
 
             delegate.doNetWindow(authorization, traceId, budgetId, padding, capabilities);
         }
@@ -1132,21 +1342,37 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             final int payloadSize = payload.sizeof();
 
             int encodeProgress = encodeOffset;
+            int encoded = NO_LENGTH;
 
             if ((flags & DATA_FLAG_INIT) != 0x00)
             {
                 final GrpcDataExFW grpcDataEx = extension.get(grpcDataExRO::tryWrap);
                 final int deferred = grpcDataEx != null ? grpcDataEx.deferred() : 0;
+
+                if (deferred == 0 && (flags & DATA_FLAG_FIN) != 0x00 && delegate.replyEncoding != IDENTITY)
+                {
+                    final int deflateOffset = encodeOffset + GRPC_MESSAGE_PADDING;
+                    encoded = compression.deflate(delegate.replyEncoding, payload.buffer(), payload.offset(), payloadSize,
+                        encodeBuffer, deflateOffset, deflateOffset + payloadSize - 1);
+                }
+
                 GrpcMessageFW message = grpcMessageRW
                     .wrap(encodeBuffer, encodeOffset, encodeLimit)
-                    .flag(0)
-                    .length(payloadSize + deferred)
+                    .flag(encoded != NO_LENGTH ? GRPC_MESSAGE_FLAG_COMPRESSED : 0)
+                    .length(encoded != NO_LENGTH ? encoded : payloadSize + deferred)
                     .build();
                 encodeProgress = message.limit();
             }
 
-            encodeBuffer.putBytes(encodeProgress, payload.buffer(), payload.offset(), payloadSize);
-            encodeProgress += payloadSize;
+            if (encoded != NO_LENGTH)
+            {
+                encodeProgress += encoded;
+            }
+            else
+            {
+                encodeBuffer.putBytes(encodeProgress, payload.buffer(), payload.offset(), payloadSize);
+                encodeProgress += payloadSize;
+            }
 
             delegate.doNetData(traceId, authorization, budgetId, reserved, flags, encodeBuffer, encodeOffset,
                 encodeProgress - encodeOffset);
@@ -42,6 +42,7 @@ public final class HttpGrpcResponseHeaderHelper
     private static final String8FW HTTP_HEADER_STATUS = new String8FW(":status");
     private static final String8FW HTTP_HEADER_GRPC_STATUS = new String8FW("grpc-status");
     private static final String8FW HEADER_NAME_CONTENT_TYPE = new String8FW("content-type");
+    private static final String8FW HEADER_NAME_GRPC_ENCODING = new String8FW("grpc-encoding");
 
     private static final byte[] GRPC_PREFIX = "grpc-".getBytes();
     private static final byte[] BIN_SUFFIX = "-bin".getBytes();
@@ -68,11 +69,13 @@ public final class HttpGrpcResponseHeaderHelper
         visitors.put(HTTP_HEADER_STATUS, this::visitStatus);
         visitors.put(HTTP_HEADER_GRPC_STATUS, this::visitGrpcStatus);
         visitors.put(HEADER_NAME_CONTENT_TYPE, this::visitContentType);
+        visitors.put(HEADER_NAME_GRPC_ENCODING, this::visitEncoding);
         this.visitors = visitors;
     }
     private final AsciiSequenceView contentTypeRO = new AsciiSequenceView();
     private final String16FW statusRO = new String16FW();
     private final String16FW grpcStatusRO = new String16FW();
+    private final String16FW encodingRO = new String16FW();
     private final byte[] headerPrefix = new byte[GRPC_PREFIX_LENGTH];
     private final byte[] headerSuffix = new byte[BIN_SUFFIX_LENGTH];
     private final MutableDirectBuffer metadataBuffer;
@@ -80,6 +83,7 @@ public final class HttpGrpcResponseHeaderHelper
     public CharSequence contentType;
     public String16FW status;
     public String16FW grpcStatus;
+    public String16FW encoding;
     public Array32FW<GrpcMetadataFW> metadata;
 
     public HttpGrpcResponseHeaderHelper(
@@ -93,6 +97,7 @@ public final class HttpGrpcResponseHeaderHelper
     {
         status = null;
         grpcStatus = null;
+        encoding = null;
         contentType = null;
         metadata = null;
         grpcMetadataRW.wrap(metadataBuffer, 0, metadataBuffer.capacity());
@@ -143,6 +148,12 @@ public final class HttpGrpcResponseHeaderHelper
         grpcStatus = grpcStatusRO.wrap(value.buffer(), value.offset(), value.limit());
     }
 
+    private void visitEncoding(
+        String16FW value)
+    {
+        encoding = encodingRO.wrap(value.buffer(), value.offset(), value.limit());
+    }
+
     private void visitHeader(
         HttpHeaderFW header)
     {
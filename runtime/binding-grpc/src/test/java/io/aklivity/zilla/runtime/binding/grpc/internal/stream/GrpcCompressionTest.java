@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcCompression.NO_LENGTH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class GrpcCompressionTest
+{
+    private static final String MESSAGE = "Hello, World! Hello, World! Hello, World! Hello, World!";
+
+    @Test
+    public void shouldDeflateAndInflateMessage()
+    {
+        shouldEncodeAndDecodeMessage(GrpcEncoding.DEFLATE);
+    }
+
+    @Test
+    public void shouldGzipAndGunzipMessage()
+    {
+        shouldEncodeAndDecodeMessage(GrpcEncoding.GZIP);
+    }
+
+    @Test
+    public void shouldGzipCompatibleWithJdk() throws IOException
+    {
+        GrpcCompression compression = new GrpcCompression(1024);
+        DirectBuffer message = new UnsafeBuffer(MESSAGE.getBytes(UTF_8));
+        MutableDirectBuffer encoded = new UnsafeBuffer(new byte[1024]);
+
+        int length = compression.deflate(GrpcEncoding.GZIP, message, 0, message.capacity(), encoded, 0, encoded.capacity());
+
+        byte[] bytes = new byte[length];
+        encoded.getBytes(0, bytes);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes)))
+        {
+            assertEquals(MESSAGE, new String(in.readAllBytes(), UTF_8));
+        }
+    }
+
+    @Test
+    public void shouldGunzipCompatibleWithJdk() throws IOException
+    {
+        GrpcCompression compression = new GrpcCompression(1024);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MutableDirectBuffer decoded = new UnsafeBuffer(new byte[1024]);
+
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes))
+        {
+            out.write(MESSAGE.getBytes(UTF_8));
+        }
+
+        DirectBuffer encoded = new UnsafeBuffer(bytes.toByteArray());
+        int length = compression.inflate(GrpcEncoding.GZIP, encoded, 0, encoded.capacity(), decoded, 0, decoded.capacity());
+
+        assertEquals(MESSAGE, decoded.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldNotDeflateMessageExceedingLimit()
+    {
+        GrpcCompression compression = new GrpcCompression(1024);
+        DirectBuffer message = new UnsafeBuffer("x".getBytes(UTF_8));
+        MutableDirectBuffer encoded = new UnsafeBuffer(new byte[1024]);
+
+        assertEquals(NO_LENGTH, compression.deflate(GrpcEncoding.GZIP, message, 0, message.capacity(), encoded, 0, 1));
+    }
+
+    @Test
+    public void shouldNotInflateMessageExceedingLimit()
+    {
+        GrpcCompression compression = new GrpcCompression(1024);
+        DirectBuffer message = new UnsafeBuffer(MESSAGE.getBytes(UTF_8));
+        MutableDirectBuffer encoded = new UnsafeBuffer(new byte[1024]);
+        MutableDirectBuffer decoded = new UnsafeBuffer(new byte[1024]);
+
+        int length = compression.deflate(GrpcEncoding.DEFLATE, message, 0, message.capacity(), encoded, 0, encoded.capacity());
+
+        assertEquals(NO_LENGTH, compression.inflate(GrpcEncoding.DEFLATE, encoded, 0, length, decoded, 0, 8));
+    }
+
+    @Test
+    public void shouldNotInflateMalformedMessage()
+    {
+        GrpcCompression compression = new GrpcCompression(1024);
+        DirectBuffer message = new UnsafeBuffer(MESSAGE.getBytes(UTF_8));
+        MutableDirectBuffer decoded = new UnsafeBuffer(new byte[1024]);
+
+        assertEquals(NO_LENGTH, compression.inflate(GrpcEncoding.GZIP, message, 0, message.capacity(), decoded, 0, 1024));
+        assertEquals(NO_LENGTH, compression.inflate(GrpcEncoding.DEFLATE, message, 0, message.capacity(), decoded, 0, 1024));
+    }
+
+    @Test
+    public void shouldResolveEncoding()
+    {
+        assertEquals(GrpcEncoding.IDENTITY, GrpcEncoding.of("identity"));
+        assertEquals(GrpcEncoding.GZIP, GrpcEncoding.of("GZIP"));
+        assertNull(GrpcEncoding.of("snappy"));
+        assertTrue(GrpcEncoding.GZIP.acceptedBy(GrpcEncoding.ACCEPT_ENCODING));
+    }
+
+    private void shouldEncodeAndDecodeMessage(
+        GrpcEncoding encoding)
+    {
+        GrpcCompression compression = new GrpcCompression(1024);
+        DirectBuffer message = new UnsafeBuffer(MESSAGE.getBytes(UTF_8));
+        MutableDirectBuffer encoded = new UnsafeBuffer(new byte[1024]);
+        MutableDirectBuffer decoded = new UnsafeBuffer(new byte[1024]);
+
+        int encodedLength = compression.deflate(encoding, message, 0, message.capacity(), encoded, 0, encoded.capacity());
+        int decodedLength = compression.inflate(encoding, encoded, 0, encodedLength, decoded, 0, decoded.capacity());
+
+        assertTrue(encodedLength < message.capacity());
+        assertEquals(MESSAGE, decoded.getStringWithoutLengthUtf8(0, decodedLength));
+    }
+}
@@ -27,6 +27,7 @@ import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class UnaryRpcIT
 {
@@ -156,4 +157,27 @@ public class UnaryRpcIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Configuration("client.when.yaml")
+    @Specification({
+        "${app}/message.exchange.compressed/client",
+        "${net}/message.exchange.compressed/server"
+    })
+    @Configure(name = "zilla.binding.grpc.encoding", value = "gzip")
+    public void shouldExchangeCompressedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.when.yaml")
+    @Specification({
+        "${app}/response.unsupported.encoding/client",
+        "${net}/response.unsupported.encoding/server"
+    })
+    public void shouldAbortResponseUnsupportedEncoding() throws Exception
+    {
+        k3po.finish();
+    }
 }
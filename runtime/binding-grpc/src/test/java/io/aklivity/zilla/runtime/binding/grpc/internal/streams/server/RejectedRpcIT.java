@@ -85,4 +85,13 @@ public class RejectedRpcIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.when.yaml")
+    @Specification({
+        "${net}/unsupported.encoding/client",
+    })
+    public void shouldRejectUnsupportedEncoding() throws Exception
+    {
+        k3po.finish();
+    }
 }
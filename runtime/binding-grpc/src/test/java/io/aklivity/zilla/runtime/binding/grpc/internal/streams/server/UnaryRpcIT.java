@@ -27,6 +27,7 @@ import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class UnaryRpcIT
 {
@@ -167,5 +168,26 @@ public class UnaryRpcIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.when.yaml")
+    @Specification({
+        "${net}/message.exchange.compressed/client",
+        "${app}/message.exchange.compressed/server"
+    })
+    @Configure(name = "zilla.binding.grpc.encoding", value = "gzip")
+    public void shouldExchangeCompressedMessage() throws Exception
+    {
+        k3po.finish();
+    }
 
+    @Test
+    @Configuration("server.when.yaml")
+    @Specification({
+        "${net}/message.size.exceeded/client",
+        "${app}/message.size.exceeded/server"
+    })
+    public void shouldRejectMessageSizeExceeded() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -20,9 +20,16 @@ public class HttpFileSystemConfiguration extends Configuration
 {
     private static final ConfigurationDef HTTP_FILE_SYSTEM_CONFIG;
 
+    public static final IntPropertyDef HTTP_FILE_SYSTEM_ENCODING_CACHE_CAPACITY;
+    public static final LongPropertyDef HTTP_FILE_SYSTEM_ENCODING_CACHE_SIZE_MAX;
+    public static final IntPropertyDef HTTP_FILE_SYSTEM_ENCODING_SIZE_MIN;
+
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.http.filesystem");
+        HTTP_FILE_SYSTEM_ENCODING_CACHE_CAPACITY = config.property("encoding.cache.capacity", 256);
+        HTTP_FILE_SYSTEM_ENCODING_CACHE_SIZE_MAX = config.property("encoding.cache.size.max", 32L * 1024L * 1024L);
+        HTTP_FILE_SYSTEM_ENCODING_SIZE_MIN = config.property("encoding.size.min", 256);
         HTTP_FILE_SYSTEM_CONFIG = config;
     }
 
@@ -31,4 +38,19 @@ public class HttpFileSystemConfiguration extends Configuration
     {
         super(HTTP_FILE_SYSTEM_CONFIG, config);
     }
+
+    public int encodingCacheCapacity()
+    {
+        return HTTP_FILE_SYSTEM_ENCODING_CACHE_CAPACITY.getAsInt(this);
+    }
+
+    public long encodingCacheSizeMax()
+    {
+        return HTTP_FILE_SYSTEM_ENCODING_CACHE_SIZE_MAX.getAsLong(this);
+    }
+
+    public int encodingSizeMin()
+    {
+        return HTTP_FILE_SYSTEM_ENCODING_SIZE_MIN.getAsInt(this);
+    }
 }
@@ -55,4 +55,10 @@ public class HttpFileSystemWithResult
         return timeout;
     }
 
+    public HttpFileSystemWithResult variant(
+        String16FW path,
+        String16FW tag)
+    {
+        return new HttpFileSystemWithResult(path, capabilities, tag, timeout);
+    }
 }
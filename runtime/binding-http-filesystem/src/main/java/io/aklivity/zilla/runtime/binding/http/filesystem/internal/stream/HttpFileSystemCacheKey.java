@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.filesystem.internal.stream;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.String16FW;
+
+final class HttpFileSystemCacheKey
+{
+    private long bindingId;
+    private DirectBuffer path;
+    private int length;
+    private int hash;
+
+    HttpFileSystemCacheKey wrap(
+        long resolvedId,
+        String16FW resolvedPath)
+    {
+        return wrap(resolvedId, resolvedPath.value(), Math.max(resolvedPath.length(), 0));
+    }
+
+    HttpFileSystemCacheKey copy()
+    {
+        final byte[] bytes = new byte[length];
+        path.getBytes(0, bytes, 0, length);
+        return new HttpFileSystemCacheKey().wrap(bindingId, new UnsafeBuffer(bytes), length);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(
+        Object obj)
+    {
+        boolean equals = this == obj;
+
+        if (!equals && obj instanceof HttpFileSystemCacheKey)
+        {
+            final HttpFileSystemCacheKey that = (HttpFileSystemCacheKey) obj;
+
+            equals = this.hash == that.hash &&
+                this.bindingId == that.bindingId &&
+                this.length == that.length;
+
+            for (int index = 0; equals && index < length; index++)
+            {
+                equals = this.path.getByte(index) == that.path.getByte(index);
+            }
+        }
+
+        return equals;
+    }
+
+    private HttpFileSystemCacheKey wrap(
+        long resolvedId,
+        DirectBuffer buffer,
+        int limit)
+    {
+        int newHash = Long.hashCode(resolvedId);
+        for (int index = 0; index < limit; index++)
+        {
+            newHash = 31 * newHash + buffer.getByte(index);
+        }
+
+        this.bindingId = resolvedId;
+        this.path = buffer;
+        this.length = limit;
+        this.hash = newHash;
+
+        return this;
+    }
+}
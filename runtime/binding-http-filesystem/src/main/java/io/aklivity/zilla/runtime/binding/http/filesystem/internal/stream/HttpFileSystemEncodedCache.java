@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.filesystem.internal.stream;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+
+import io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.String16FW;
+
+final class HttpFileSystemEncodedCache
+{
+    private final Map<HttpFileSystemCacheKey, Encoded> entries;
+    private final int capacity;
+    private final long sizeMax;
+
+    private long size;
+
+    HttpFileSystemEncodedCache(
+        int capacity,
+        long sizeMax)
+    {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.capacity = capacity;
+        this.sizeMax = sizeMax;
+    }
+
+    DirectBuffer get(
+        HttpFileSystemCacheKey key,
+        String16FW tag)
+    {
+        final Encoded encoded = entries.get(key);
+        return encoded != null && encoded.tag.equals(tag) ? encoded.content : null;
+    }
+
+    void put(
+        HttpFileSystemCacheKey key,
+        String16FW tag,
+        DirectBuffer content)
+    {
+        if (capacity > 0 && content.capacity() <= sizeMax)
+        {
+            final Encoded encoded = new Encoded(new String16FW(tag.asString()), content);
+            final Encoded previous = entries.put(key.copy(), encoded);
+            size += content.capacity() - (previous != null ? previous.content.capacity() : 0);
+
+            for (Iterator<Encoded> i = entries.values().iterator();
+                 i.hasNext() && (entries.size() > capacity || size > sizeMax); )
+            {
+                Encoded eldest = i.next();
+                i.remove();
+                size -= eldest.content.capacity();
+            }
+        }
+    }
+
+    boolean cacheable(
+        long length)
+    {
+        return capacity > 0 && length <= sizeMax;
+    }
+
+    int entries()
+    {
+        return entries.size();
+    }
+
+    private static final class Encoded
+    {
+        private final String16FW tag;
+        private final DirectBuffer content;
+
+        private Encoded(
+            String16FW tag,
+            DirectBuffer content)
+        {
+            this.tag = tag;
+            this.content = content;
+        }
+    }
+}
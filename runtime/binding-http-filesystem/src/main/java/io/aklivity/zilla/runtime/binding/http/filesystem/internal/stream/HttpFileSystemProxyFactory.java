@@ -14,10 +14,17 @@
  */
 package io.aklivity.zilla.runtime.binding.http.filesystem.internal.stream;
 
+import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.net.FileNameMap;
+import java.net.URLConnection;
+import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Predicate;
 
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -42,9 +49,11 @@ import io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.stream.F
 import io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.stream.HttpBeginExFW;
 import io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.stream.ResetFW;
 import io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.stream.WindowFW;
+import io.aklivity.zilla.runtime.binding.http.filesystem.internal.util.DeflateEncoder;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.budget.BudgetDebitor;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
 public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFactory
@@ -58,8 +67,24 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
     private static final String8FW HEADER_ETAG_NAME = new String8FW("etag");
     private static final String8FW HEADER_CONTENT_TYPE_NAME = new String8FW("content-type");
     private static final String8FW HEADER_CONTENT_LENGTH_NAME = new String8FW("content-length");
+    private static final String8FW HEADER_CONTENT_ENCODING_NAME = new String8FW("content-encoding");
+    private static final String8FW HEADER_ACCEPT_ENCODING_NAME = new String8FW("accept-encoding");
+    private static final String8FW HEADER_VARY_NAME = new String8FW("vary");
+    private static final String16FW HEADER_CONTENT_ENCODING_VALUE_GZIP = new String16FW("gzip");
+    private static final String16FW HEADER_CONTENT_ENCODING_VALUE_BR = new String16FW("br");
+    private static final String16FW HEADER_VARY_VALUE_ACCEPT_ENCODING = new String16FW("accept-encoding");
     private static final int READ_PAYLOAD_MASK = 1 << FileSystemCapabilities.READ_PAYLOAD.ordinal();
 
+    private static final int ENCODING_IDENTITY = 0;
+    private static final int ENCODING_GZIP = 1 << 0;
+    private static final int ENCODING_BR = 1 << 1;
+    private static final String ENCODED_TAG_SUFFIX = "-gzip";
+    private static final byte[] CODING_GZIP = "gzip".getBytes(US_ASCII);
+    private static final byte[] CODING_X_GZIP = "x-gzip".getBytes(US_ASCII);
+    private static final byte[] CODING_BR = "br".getBytes(US_ASCII);
+    private static final byte[] CODING_ANY = "*".getBytes(US_ASCII);
+    private static final int DATA_FLAGS_COMPLETE = 0x03;
+
     private static final Predicate<HttpHeaderFW> HEADER_METHOD_GET_OR_HEAD;
 
     static
@@ -82,6 +107,7 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
     }
 
     private final OctetsFW emptyExRO = new OctetsFW().wrap(new UnsafeBuffer(0L, 0), 0, 0);
+    private final OctetsFW payloadRO = new OctetsFW();
 
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -115,6 +141,14 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
     private final LongUnaryOperator supplyReplyId;
     private final int httpTypeId;
     private final int fsTypeId;
+    private final LongFunction<BudgetDebitor> supplyDebitor;
+    private final HttpFileSystemEncodedCache encodedCache;
+    private final HttpFileSystemVariantCache variantCache;
+    private final FileNameMap fileNameMap;
+    private final HttpFileSystemCacheKey cacheKeyRO = new HttpFileSystemCacheKey();
+    private final DeflateEncoder encoder;
+    private final int encodeMax;
+    private final int encodeSizeMin;
 
     private final Long2ObjectHashMap<HttpFileSystemBindingConfig> bindings;
 
@@ -130,6 +164,13 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
         this.bindings = new Long2ObjectHashMap<>();
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
         this.fsTypeId = context.supplyTypeId(FILE_SYSTEM_TYPE_NAME);
+        this.supplyDebitor = context::supplyDebitor;
+        this.encodedCache = new HttpFileSystemEncodedCache(config.encodingCacheCapacity(), config.encodingCacheSizeMax());
+        this.variantCache = new HttpFileSystemVariantCache(config.encodingCacheCapacity());
+        this.fileNameMap = URLConnection.getFileNameMap();
+        this.encoder = new DeflateEncoder(context.bufferPool().slotCapacity());
+        this.encodeMax = context.bufferPool().slotCapacity();
+        this.encodeSizeMin = config.encodingSizeMin();
     }
 
     @Override
@@ -186,6 +227,9 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
             final HttpFileSystemWithResult resolved = route.with
                     .map(r -> r.resolve(beginEx))
                     .orElse(null);
+            final HttpHeaderFW acceptEncoding =
+                    beginEx.headers().matchFirst(h -> HEADER_ACCEPT_ENCODING_NAME.equals(h.name()));
+            final int encodings = acceptEncoding != null ? acceptedEncodings(acceptEncoding.value()) : ENCODING_IDENTITY;
 
             newStream = new HttpProxy(
                     http,
@@ -193,12 +237,176 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
                     routedId,
                     initialId,
                     resolvedId,
-                    resolved)::onHttpMessage;
+                    resolved,
+                    encodings)::onHttpMessage;
         }
 
         return newStream;
     }
 
+    private static int acceptedEncodings(
+        String16FW acceptEncoding)
+    {
+        final DirectBuffer value = acceptEncoding.value();
+        final int limit = Math.max(acceptEncoding.length(), 0);
+
+        int encodings = ENCODING_IDENTITY;
+
+        for (int progress = 0; progress < limit; )
+        {
+            final int codingLimit = indexOf(value, progress, limit, ',');
+            final int params = indexOf(value, progress, codingLimit, ';');
+            final int nameOffset = skipWhitespace(value, progress, params);
+            final int nameLength = trimWhitespace(value, nameOffset, params) - nameOffset;
+
+            if (!rejected(value, params, codingLimit))
+            {
+                if (equalsIgnoreCase(value, nameOffset, nameLength, CODING_GZIP) ||
+                    equalsIgnoreCase(value, nameOffset, nameLength, CODING_X_GZIP))
+                {
+                    encodings |= ENCODING_GZIP;
+                }
+                else if (equalsIgnoreCase(value, nameOffset, nameLength, CODING_BR))
+                {
+                    encodings |= ENCODING_BR;
+                }
+                else if (equalsIgnoreCase(value, nameOffset, nameLength, CODING_ANY))
+                {
+                    encodings |= ENCODING_GZIP | ENCODING_BR;
+                }
+            }
+
+            progress = codingLimit + 1;
+        }
+
+        return encodings;
+    }
+
+    private static boolean rejected(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        boolean rejected = false;
+
+        for (int param = offset; !rejected && param < limit; )
+        {
+            final int paramLimit = indexOf(buffer, param + 1, limit, ';');
+            rejected = qualityZero(buffer, param + 1, paramLimit);
+            param = paramLimit;
+        }
+
+        return rejected;
+    }
+
+    private static boolean qualityZero(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        final int valueLimit = trimWhitespace(buffer, offset, limit);
+
+        int progress = skipWhitespace(buffer, offset, valueLimit);
+        boolean zero = progress < valueLimit && (buffer.getByte(progress) | 0x20) == 'q';
+
+        if (zero)
+        {
+            progress = skipWhitespace(buffer, progress + 1, valueLimit);
+            zero = progress < valueLimit && buffer.getByte(progress) == '=';
+        }
+
+        if (zero)
+        {
+            progress = skipWhitespace(buffer, progress + 1, valueLimit);
+            zero = progress < valueLimit && buffer.getByte(progress) == '0';
+            progress++;
+        }
+
+        if (zero && progress < valueLimit && buffer.getByte(progress) == '.')
+        {
+            final int digitsLimit = Math.min(progress + 4, valueLimit);
+            progress++;
+            while (progress < digitsLimit && buffer.getByte(progress) == '0')
+            {
+                progress++;
+            }
+        }
+
+        return zero && progress == valueLimit;
+    }
+
+    private static int indexOf(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        char delimiter)
+    {
+        int index = offset;
+        while (index < limit && buffer.getByte(index) != delimiter)
+        {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipWhitespace(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int index = offset;
+        while (index < limit && isWhitespace(buffer.getByte(index)))
+        {
+            index++;
+        }
+        return index;
+    }
+
+    private static int trimWhitespace(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int index = limit;
+        while (index > offset && isWhitespace(buffer.getByte(index - 1)))
+        {
+            index--;
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(
+        byte b)
+    {
+        return b == ' ' || b == '\t';
+    }
+
+    private static boolean equalsIgnoreCase(
+        DirectBuffer buffer,
+        int offset,
+        int length,
+        byte[] lowercase)
+    {
+        boolean equals = length == lowercase.length;
+        for (int i = 0; equals && i < length; i++)
+        {
+            final byte b = buffer.getByte(offset + i);
+            equals = (b >= 'A' && b <= 'Z' ? b | 0x20 : b) == lowercase[i];
+        }
+        return equals;
+    }
+
+    private static boolean compressible(
+        String type)
+    {
+        return type != null &&
+            (type.startsWith("text/") ||
+             type.contains("json") ||
+             type.contains("xml") ||
+             type.contains("javascript") ||
+             type.contains("yaml"));
+    }
+
     private final class HttpProxy
     {
         private final MessageConsumer http;
@@ -206,8 +414,21 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
         private final long routedId;
         private final long initialId;
         private final long replyId;
-        private final FileSystemProxy delegate;
+        private final long resolvedId;
         private final HttpFileSystemWithResult resolved;
+        private final HttpFileSystemWithResult identity;
+        private final int encodings;
+        private final boolean taggedEncoded;
+
+        private FileSystemProxy delegate;
+        private int attempts;
+        private int absent;
+        private int encoding;
+        private long authorization;
+        private long affinity;
+
+        private DirectBuffer encoded;
+        private int encodedOffset;
 
         private int state;
 
@@ -218,6 +439,10 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
         private long replySeq;
         private long replyAck;
         private int replyMax;
+        private int replyPad;
+        private long replyBud;
+        private BudgetDebitor replyDeb;
+        private long replyDebIndex = NO_DEBITOR_INDEX;
 
         private HttpProxy(
             MessageConsumer sse,
@@ -225,15 +450,24 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
             long routedId,
             long initialId,
             long resolvedId,
-            HttpFileSystemWithResult resolved)
+            HttpFileSystemWithResult resolved,
+            int encodings)
         {
             this.http = sse;
             this.originId = originId;
             this.routedId = routedId;
             this.initialId = initialId;
             this.replyId = supplyReplyId.applyAsLong(initialId);
-            this.delegate = new FileSystemProxy(routedId, resolvedId, this);
+            this.resolvedId = resolvedId;
             this.resolved = resolved;
+            this.encodings = encodings;
+            this.attempts = encodings != ENCODING_IDENTITY ? encodings & ~variantCache.absent(cacheKey()) : ENCODING_IDENTITY;
+
+            final String tag = (encodings & ENCODING_GZIP) != 0 ? resolved.tag().asString() : null;
+            this.taggedEncoded = tag != null && tag.endsWith(ENCODED_TAG_SUFFIX);
+            this.identity = taggedEncoded
+                ? resolved.variant(resolved.path(), new String16FW(tag.substring(0, tag.length() - ENCODED_TAG_SUFFIX.length())))
+                : resolved;
         }
 
         private void onHttpMessage(
@@ -290,7 +524,83 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
 
             assert initialAck <= initialSeq;
 
-            delegate.doFileSystemBegin(traceId, authorization, affinity, resolved);
+            this.authorization = authorization;
+            this.affinity = affinity;
+
+            doFileSystemBeginNext(traceId);
+        }
+
+        private void doFileSystemBeginNext(
+            long traceId)
+        {
+            encoding = (attempts & ENCODING_BR) != 0 ? ENCODING_BR : attempts & ENCODING_GZIP;
+            attempts &= ~encoding;
+
+            HttpFileSystemWithResult attempt = identity;
+            if (encoding != ENCODING_IDENTITY)
+            {
+                final String extension = encoding == ENCODING_BR ? ".br" : ".gz";
+                attempt = resolved.variant(new String16FW(resolved.path().asString() + extension), resolved.tag());
+            }
+
+            delegate = new FileSystemProxy(routedId, resolvedId, this);
+            delegate.doFileSystemBegin(traceId, authorization, affinity, attempt);
+
+            if (HttpFileSystemState.initialClosed(state))
+            {
+                delegate.doFileSystemEnd(traceId, initialSeq, authorization);
+            }
+        }
+
+        private boolean encodable(
+            FileSystemBeginExFW fsBeginEx)
+        {
+            final long payloadSize = fsBeginEx.payloadSize();
+
+            return encoding == ENCODING_IDENTITY &&
+                (encodings & ENCODING_GZIP) != 0 &&
+                payloadSize >= encodeSizeMin &&
+                payloadSize <= Integer.MAX_VALUE &&
+                encodedCache.cacheable(payloadSize) &&
+                compressible(fsBeginEx.type().asString());
+        }
+
+        private boolean head()
+        {
+            return (resolved.capabilities() & READ_PAYLOAD_MASK) == 0;
+        }
+
+        private HttpFileSystemCacheKey cacheKey()
+        {
+            return cacheKeyRO.wrap(resolvedId, resolved.path());
+        }
+
+        private void onVariantAbsent()
+        {
+            absent |= encoding;
+            variantCache.absent(cacheKey(), encoding);
+        }
+
+        private void onIdentityBegin(
+            String16FW tag,
+            String16FW type)
+        {
+            if (encodings != ENCODING_IDENTITY && type.length() > 0)
+            {
+                final String identityTag = tag.length() != -1 ? tag.asString() : null;
+                variantCache.identity(cacheKey(), identityTag, type.asString(), absent);
+            }
+        }
+
+        private String16FW identityType(
+            String16FW type)
+        {
+            String identityType = variantCache.type(cacheKey());
+            if (identityType == null)
+            {
+                identityType = fileNameMap.getContentTypeFor(resolved.path().asString());
+            }
+            return identityType != null ? new String16FW(identityType) : type;
         }
 
         private void onHttpData(
@@ -369,6 +679,7 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
 
             assert replyAck <= replySeq;
 
+            cleanupDebitorIfNecessary();
             delegate.doFileSystemReset(traceId);
         }
 
@@ -395,7 +706,96 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
 
             assert replyAck <= replySeq;
 
-            delegate.doFileSystemWindow(traceId, authorization, budgetId, padding, capabilities);
+            if (encoded != null)
+            {
+                replyPad = padding;
+                replyBud = budgetId;
+
+                if (replyBud != 0L && replyDebIndex == NO_DEBITOR_INDEX)
+                {
+                    replyDeb = supplyDebitor.apply(budgetId);
+                    replyDebIndex = replyDeb.acquire(budgetId, replyId, this::flushEncoded);
+                }
+
+                flushEncoded(traceId);
+            }
+            else
+            {
+                delegate.doFileSystemWindow(traceId, authorization, budgetId, padding, capabilities);
+            }
+        }
+
+        private void doHttpBeginEncoded(
+            long traceId,
+            String16FW type,
+            String16FW tag,
+            DirectBuffer content)
+        {
+            encoded = content;
+            encodedOffset = 0;
+            state = HttpFileSystemState.openingReply(state);
+
+            final HttpBeginExFW.Builder httpBeginExBuilder =
+                httpBeginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                    .typeId(httpTypeId)
+                    .headersItem(h -> h.name(HEADER_STATUS_NAME).value(HEADER_STATUS_VALUE_200))
+                    .headersItem(h -> h.name(HEADER_CONTENT_TYPE_NAME).value(type))
+                    .headersItem(h -> h.name(HEADER_CONTENT_LENGTH_NAME).value(Integer.toString(content.capacity())))
+                    .headersItem(h -> h.name(HEADER_CONTENT_ENCODING_NAME).value(HEADER_CONTENT_ENCODING_VALUE_GZIP))
+                    .headersItem(h -> h.name(HEADER_VARY_NAME).value(HEADER_VARY_VALUE_ACCEPT_ENCODING));
+            if (tag != null && tag.length() > 0)
+            {
+                final String etag = tag.asString() + ENCODED_TAG_SUFFIX;
+                httpBeginExBuilder.headersItem(h -> h.name(HEADER_ETAG_NAME).value(etag));
+            }
+
+            doBegin(http, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, affinity, httpBeginExBuilder.build());
+        }
+
+        private void flushEncoded(
+            long traceId)
+        {
+            final int replyNoAck = (int)(replySeq - replyAck);
+            final int replyWin = replyMax - replyNoAck - replyPad;
+            final int remaining = encoded.capacity() - encodedOffset;
+
+            if (remaining > 0 && replyWin > 0)
+            {
+                int reserved = Math.min(replyWin, Math.min(remaining, encodeMax) + replyPad);
+                int length = Math.max(reserved - replyPad, 0);
+
+                if (length > 0 && replyDebIndex != NO_DEBITOR_INDEX && replyDeb != null)
+                {
+                    final int minimum = Math.min(encodeMax, reserved);
+                    reserved = replyDeb.claim(traceId, replyDebIndex, replyId, minimum, reserved, 0);
+                    length = Math.max(reserved - replyPad, 0);
+                }
+
+                if (length > 0)
+                {
+                    final OctetsFW payload = payloadRO.wrap(encoded, encodedOffset, encodedOffset + length);
+
+                    doHttpData(traceId, authorization, replyBud, reserved, DATA_FLAGS_COMPLETE, payload);
+
+                    encodedOffset += length;
+                }
+            }
+
+            if (encodedOffset == encoded.capacity())
+            {
+                doHttpEnd(traceId, authorization);
+            }
+        }
+
+        private void cleanupDebitorIfNecessary()
+        {
+            if (replyDebIndex != NO_DEBITOR_INDEX)
+            {
+                replyDeb.release(replyDebIndex, replyId);
+                replyDebIndex = NO_DEBITOR_INDEX;
+                replyDeb = null;
+            }
         }
 
         private void doHttpBegin(
@@ -447,12 +847,13 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
         {
             if (!HttpFileSystemState.replyClosed(state))
             {
-                replySeq = delegate.replySeq;
+                replySeq = encoded != null ? replySeq : delegate.replySeq;
                 state = HttpFileSystemState.closeReply(state);
 
                 doAbort(http, originId, routedId, replyId, replySeq, replyAck, replyMax,
                         traceId, authorization);
             }
+            cleanupDebitorIfNecessary();
         }
 
         private void doHttpEnd(
@@ -461,12 +862,13 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
         {
             if (!HttpFileSystemState.replyClosed(state))
             {
-                replySeq = delegate.replySeq;
+                replySeq = encoded != null ? replySeq : delegate.replySeq;
                 state = HttpFileSystemState.closeReply(state);
 
                 doEnd(http, originId, routedId, replyId, replySeq, replyAck, replyMax,
                       traceId, authorization);
             }
+            cleanupDebitorIfNecessary();
         }
 
         private void doHttpWindow(
@@ -514,6 +916,14 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
         private long replyAck;
         private int replyMax;
 
+        private DeflateEncoder.Encoding gzip;
+        private MutableDirectBuffer encodeBuffer;
+        private int encodeLength;
+        private int encodeProgress;
+        private int encodeLimit;
+        private String16FW encodedType;
+        private String16FW encodedTag;
+
         private FileSystemProxy(
             long originId,
             long routedId,
@@ -640,18 +1050,71 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
             final String length = fsBeginEx != null ? Long.toString(fsBeginEx.payloadSize()) : null;
             final String16FW type = fsBeginEx != null ? fsBeginEx.type() : null;
             final String16FW tag = fsBeginEx != null ? fsBeginEx.tag() : null;
+            final int encoding = delegate.encoding;
+
+            if (fsBeginEx != null && encoding == ENCODING_IDENTITY)
+            {
+                delegate.onIdentityBegin(tag, type);
+            }
+
+            final boolean encodable = fsBeginEx != null && delegate.encodable(fsBeginEx);
+
+            if (encodable && canReadPayload(fsBeginEx.capabilities()))
+            {
+                final DirectBuffer encoded = tag.length() > 0 ? encodedCache.get(delegate.cacheKey(), tag) : null;
+
+                if (encoded != null)
+                {
+                    doFileSystemReset(traceId);
+                    delegate.doHttpBeginEncoded(traceId, type, tag, encoded);
+                }
+                else
+                {
+                    encodedType = new String16FW(type.asString());
+                    encodedTag = tag.length() > 0 ? new String16FW(tag.asString()) : null;
+
+                    doFileSystemEncodeBegin(traceId, authorization, (int) fsBeginEx.payloadSize());
+                }
+                return;
+            }
+
             Flyweight httpBeginEx = emptyExRO;
             if (fsBeginEx != null)
             {
+                final String16FW status = getStatus(fsBeginEx);
+
+                // head reports the same representation as get, so the encoded length is unknown
+                final boolean encodedHead = encodable && delegate.head() && status == HEADER_STATUS_VALUE_200;
+
                 final HttpBeginExFW.Builder httpBeginExBuilder =
                     httpBeginExRW.wrap(extBuffer, 0, extBuffer.capacity())
                         .typeId(httpTypeId)
-                        .headersItem(h -> h.name(HEADER_STATUS_NAME).value(getStatus(fsBeginEx)))
-                        .headersItem(h -> h.name(HEADER_CONTENT_TYPE_NAME).value(type))
-                        .headersItem(h -> h.name(HEADER_CONTENT_LENGTH_NAME).value(length));
+                        .headersItem(h -> h.name(HEADER_STATUS_NAME).value(status))
+                        .headersItem(h -> h.name(HEADER_CONTENT_TYPE_NAME)
+                            .value(encoding != ENCODING_IDENTITY ? delegate.identityType(type) : type));
+                if (!encodedHead)
+                {
+                    httpBeginExBuilder.headersItem(h -> h.name(HEADER_CONTENT_LENGTH_NAME).value(length));
+                }
+                if (encoding != ENCODING_IDENTITY || encodedHead)
+                {
+                    final String16FW contentEncoding = encoding == ENCODING_BR
+                        ? HEADER_CONTENT_ENCODING_VALUE_BR
+                        : HEADER_CONTENT_ENCODING_VALUE_GZIP;
+                    httpBeginExBuilder.headersItem(h -> h.name(HEADER_CONTENT_ENCODING_NAME).value(contentEncoding));
+                }
+                httpBeginExBuilder.headersItem(h -> h.name(HEADER_VARY_NAME).value(HEADER_VARY_VALUE_ACCEPT_ENCODING));
                 if (tag.length() != -1 && tag.asString() != null)
                 {
-                    httpBeginExBuilder.headersItem(h -> h.name(HEADER_ETAG_NAME).value(tag));
+                    if (delegate.taggedEncoded && status == HEADER_STATUS_VALUE_304 && encoding == ENCODING_IDENTITY)
+                    {
+                        final String etag = tag.asString() + ENCODED_TAG_SUFFIX;
+                        httpBeginExBuilder.headersItem(h -> h.name(HEADER_ETAG_NAME).value(etag));
+                    }
+                    else
+                    {
+                        httpBeginExBuilder.headersItem(h -> h.name(HEADER_ETAG_NAME).value(tag));
+                    }
                 }
                 httpBeginEx = httpBeginExBuilder.build();
             }
@@ -659,6 +1122,90 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
             delegate.doHttpBegin(traceId, authorization, affinity, httpBeginEx);
         }
 
+        private void doFileSystemEncodeBegin(
+            long traceId,
+            long authorization,
+            int length)
+        {
+            gzip = encoder.acquire(DeflateEncoder.ENCODING_GZIP);
+            encodeBuffer = new ExpandableArrayBuffer(Math.min(length, encodeMax) + DeflateEncoder.TAIL_MAX);
+            encodeLength = length;
+            encodeProgress = 0;
+            encodeLimit = 0;
+            doFileSystemEncodeWindow(traceId, authorization);
+        }
+
+        private void doFileSystemEncodeWindow(
+            long traceId,
+            long authorization)
+        {
+            replyAck = replySeq;
+            replyMax = encodeMax;
+
+            doWindow(filesystem, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, 0L, 0, 0);
+        }
+
+        private void doFileSystemEncodeData(
+            long traceId,
+            long authorization,
+            OctetsFW payload)
+        {
+            final int length = payload.sizeof();
+
+            if (encodeProgress + length <= encodeLength)
+            {
+                encodeLimit += encoder.encode(gzip, payload.buffer(), payload.offset(), length, encodeBuffer, encodeLimit);
+                encodeProgress += length;
+                doFileSystemEncodeWindow(traceId, authorization);
+            }
+            else
+            {
+                doFileSystemEncodeFailed(traceId);
+            }
+        }
+
+        private void doFileSystemEncodeEnd(
+            long traceId)
+        {
+            if (encodeProgress == encodeLength)
+            {
+                encodeLimit += encoder.finish(gzip, encodeBuffer, encodeLimit);
+
+                final DirectBuffer encoded = new UnsafeBuffer(encodeBuffer.byteArray(), 0, encodeLimit);
+                if (encodedTag != null)
+                {
+                    encodedCache.put(delegate.cacheKey(), encodedTag, encoded);
+                }
+
+                cleanupEncode();
+                delegate.doHttpBeginEncoded(traceId, encodedType, encodedTag, encoded);
+            }
+            else
+            {
+                cleanupEncode();
+                delegate.doHttpReset(traceId);
+            }
+        }
+
+        private void doFileSystemEncodeFailed(
+            long traceId)
+        {
+            cleanupEncode();
+            doFileSystemReset(traceId);
+            delegate.doHttpReset(traceId);
+        }
+
+        private void cleanupEncode()
+        {
+            if (gzip != null)
+            {
+                encoder.release(gzip);
+                gzip = null;
+                encodeBuffer = null;
+            }
+        }
+
         private String16FW getStatus(
             FileSystemBeginExFW fsBeginEx)
         {
@@ -699,7 +1246,11 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
                 doFileSystemReset(traceId);
                 delegate.doHttpAbort(traceId, authorization);
             }
-            else
+            else if (gzip != null)
+            {
+                doFileSystemEncodeData(traceId, authorization, payload);
+            }
+            else if (delegate.encoded == null)
             {
                 delegate.doHttpData(traceId, authorization, budgetId, reserved, flags, payload);
             }
@@ -721,7 +1272,14 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
 
             assert replyAck <= replySeq;
 
-            delegate.doHttpEnd(traceId, authorization);
+            if (gzip != null)
+            {
+                doFileSystemEncodeEnd(traceId);
+            }
+            else if (delegate.encoded == null)
+            {
+                delegate.doHttpEnd(traceId, authorization);
+            }
         }
 
         private void onFileSystemFlush(
@@ -741,7 +1299,10 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
 
             assert replyAck <= replySeq;
 
-            delegate.doHttpFlush(traceId, authorization, budgetId, reserved);
+            if (gzip == null && delegate.encoded == null)
+            {
+                delegate.doHttpFlush(traceId, authorization, budgetId, reserved);
+            }
         }
 
         private void onFileSystemAbort(
@@ -760,7 +1321,14 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
 
             assert replyAck <= replySeq;
 
-            delegate.doHttpAbort(traceId, authorization);
+            if (gzip != null)
+            {
+                doFileSystemEncodeFailed(traceId);
+            }
+            else if (delegate.encoded == null)
+            {
+                delegate.doHttpAbort(traceId, authorization);
+            }
         }
 
         private void onFileSystemWindow(
@@ -802,12 +1370,24 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
 
             assert delegate.initialAck <= delegate.initialSeq;
 
-            delegate.doHttpReset(traceId);
+            state = HttpFileSystemState.closeInitial(state);
+
+            if (delegate.encoding != ENCODING_IDENTITY && !HttpFileSystemState.replyOpening(state))
+            {
+                delegate.onVariantAbsent();
+                delegate.doFileSystemBeginNext(traceId);
+            }
+            else
+            {
+                delegate.doHttpReset(traceId);
+            }
         }
 
         private void doFileSystemReset(
             long traceId)
         {
+            cleanupEncode();
+
             if (!HttpFileSystemState.replyClosed(state))
             {
                 state = HttpFileSystemState.closeReply(state);
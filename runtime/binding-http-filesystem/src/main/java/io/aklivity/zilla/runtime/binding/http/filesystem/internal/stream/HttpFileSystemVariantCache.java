@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.filesystem.internal.stream;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+final class HttpFileSystemVariantCache
+{
+    private final Map<HttpFileSystemCacheKey, Variants> entries;
+
+    HttpFileSystemVariantCache(
+        int capacity)
+    {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(
+                Map.Entry<HttpFileSystemCacheKey, Variants> eldest)
+            {
+                return size() > capacity;
+            }
+        };
+    }
+
+    int absent(
+        HttpFileSystemCacheKey key)
+    {
+        final Variants variants = entries.get(key);
+        return variants != null ? variants.absent : 0;
+    }
+
+    String type(
+        HttpFileSystemCacheKey key)
+    {
+        final Variants variants = entries.get(key);
+        return variants != null ? variants.type : null;
+    }
+
+    void absent(
+        HttpFileSystemCacheKey key,
+        int encoding)
+    {
+        Variants variants = entries.get(key);
+        if (variants == null)
+        {
+            variants = new Variants();
+            entries.put(key.copy(), variants);
+        }
+        variants.absent |= encoding;
+    }
+
+    void identity(
+        HttpFileSystemCacheKey key,
+        String tag,
+        String type,
+        int absent)
+    {
+        Variants variants = entries.get(key);
+        if (variants == null || variants.tag != null && !Objects.equals(variants.tag, tag))
+        {
+            variants = new Variants();
+            entries.put(key.copy(), variants);
+        }
+        variants.tag = tag;
+        variants.type = type;
+        variants.absent |= absent;
+    }
+
+    int entries()
+    {
+        return entries.size();
+    }
+
+    private static final class Variants
+    {
+        private String tag;
+        private String type;
+        private int absent;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.filesystem.internal.util;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Encodes content as {@code gzip} or {@code deflate} using a bounded pool of {@link Encoding}s,
+ * each owning a {@link Deflater} and its checksums.
+ * <p>
+ * Instances are not thread-safe and are intended to be owned by a single engine worker.
+ */
+public final class DeflateEncoder
+{
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_DEFLATE = "deflate";
+
+    // final empty block after sync flush, plus gzip trailer
+    public static final int TAIL_MAX = 16;
+
+    private static final int ENCODINGS_MAX = 64;
+
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0xff };
+    private static final byte[] ZLIB_HEADER = { 0x78, (byte) 0x9c };
+
+    private final Deque<Encoding> encodings;
+    private final int encodingsMax;
+    private final byte[] input;
+    private final byte[] output;
+
+    public DeflateEncoder(
+        int capacity)
+    {
+        this(capacity, ENCODINGS_MAX);
+    }
+
+    public DeflateEncoder(
+        int capacity,
+        int encodingsMax)
+    {
+        this.encodings = new ArrayDeque<>();
+        this.encodingsMax = encodingsMax;
+        this.input = new byte[capacity];
+        this.output = new byte[capacity + padding(capacity)];
+    }
+
+    /**
+     * Returns the maximum growth when encoding up to {@code maxLength} bytes in a single call.
+     *
+     * @param maxLength  the maximum length of content passed to {@link #encode}
+     *
+     * @return  the maximum number of additional bytes produced
+     */
+    public static int padding(
+        int maxLength)
+    {
+        // zlib deflateBound, plus sync flush marker and stream header
+        return (maxLength >> 12) + (maxLength >> 14) + (maxLength >> 25) + 16 + GZIP_HEADER.length;
+    }
+
+    public Encoding acquire(
+        String name)
+    {
+        final Encoding encoding = encodings.poll();
+        return (encoding != null ? encoding : new Encoding()).init(name);
+    }
+
+    public void release(
+        Encoding encoding)
+    {
+        if (encoding.acquired)
+        {
+            encoding.acquired = false;
+
+            if (encodings.size() < encodingsMax)
+            {
+                encoding.deflater.reset();
+                encodings.push(encoding);
+            }
+            else
+            {
+                // free native zlib memory now rather than waiting for the cleaner
+                encoding.deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Encodes content, flushing at the end so the encoded bytes can be sent without waiting for more content.
+     * <p>
+     * Content longer than the encoder capacity is deflated in capacity sized steps without intermediate
+     * flushes, so the target must then be able to grow, such as an expandable buffer.
+     *
+     * @return  the number of encoded bytes written to the target
+     */
+    public int encode(
+        Encoding encoding,
+        DirectBuffer buffer,
+        int offset,
+        int length,
+        MutableDirectBuffer target,
+        int targetOffset)
+    {
+        final Deflater deflater = encoding.deflater;
+
+        int progress = encodeHeaderIfNecessary(encoding, target, targetOffset);
+
+        for (int remaining = length; remaining > 0; )
+        {
+            final int chunk = Math.min(remaining, input.length);
+            buffer.getBytes(offset + length - remaining, input, 0, chunk);
+            encoding.checksum.update(input, 0, chunk);
+            deflater.setInput(input, 0, chunk);
+            remaining -= chunk;
+
+            // flush at end of content so streamed responses are not held back waiting for more content
+            final int flush = remaining > 0 ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH;
+
+            int deflated;
+            do
+            {
+                deflated = deflater.deflate(output, 0, output.length, flush);
+                target.putBytes(progress, output, 0, deflated);
+                progress += deflated;
+            }
+            while (flush == Deflater.NO_FLUSH ? !deflater.needsInput() : deflated == output.length);
+        }
+
+        return progress - targetOffset;
+    }
+
+    /**
+     * Completes the encoded content, including the {@code gzip} or {@code zlib} trailer, and releases the encoding.
+     *
+     * @return  the number of encoded bytes written to the target
+     */
+    public int finish(
+        Encoding encoding,
+        MutableDirectBuffer target,
+        int targetOffset)
+    {
+        final Deflater deflater = encoding.deflater;
+
+        int progress = encodeHeaderIfNecessary(encoding, target, targetOffset);
+
+        deflater.finish();
+        while (!deflater.finished())
+        {
+            final int deflated = deflater.deflate(output, 0, output.length);
+            target.putBytes(progress, output, 0, deflated);
+            progress += deflated;
+        }
+
+        final int checksum = (int) encoding.checksum.getValue();
+        if (encoding.gzip)
+        {
+            target.putInt(progress, checksum, LITTLE_ENDIAN);
+            progress += Integer.BYTES;
+            target.putInt(progress, (int) deflater.getBytesRead(), LITTLE_ENDIAN);
+            progress += Integer.BYTES;
+        }
+        else
+        {
+            target.putInt(progress, checksum, BIG_ENDIAN);
+            progress += Integer.BYTES;
+        }
+
+        release(encoding);
+
+        return progress - targetOffset;
+    }
+
+    private static int encodeHeaderIfNecessary(
+        Encoding encoding,
+        MutableDirectBuffer target,
+        int targetOffset)
+    {
+        int progress = targetOffset;
+
+        if (!encoding.started)
+        {
+            final byte[] header = encoding.gzip ? GZIP_HEADER : ZLIB_HEADER;
+            target.putBytes(progress, header);
+            progress += header.length;
+            encoding.started = true;
+        }
+
+        return progress;
+    }
+
+    public static final class Encoding
+    {
+        private final Deflater deflater;
+        private final Checksum crc32;
+        private final Checksum adler32;
+
+        private String name;
+        private boolean gzip;
+        private Checksum checksum;
+        private boolean started;
+        private boolean acquired;
+
+        private Encoding()
+        {
+            this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            this.crc32 = new CRC32();
+            this.adler32 = new Adler32();
+        }
+
+        public String name()
+        {
+            return name;
+        }
+
+        private Encoding init(
+            String encoding)
+        {
+            this.name = encoding;
+            this.gzip = ENCODING_GZIP.equals(encoding);
+            this.checksum = gzip ? crc32 : adler32;
+            this.checksum.reset();
+            this.started = false;
+            this.acquired = true;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.filesystem.internal.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.String16FW;
+
+public class HttpFileSystemEncodedCacheTest
+{
+    private static final String16FW TAG = new String16FW("tag");
+
+    @Test
+    public void shouldGetCachedContent()
+    {
+        HttpFileSystemEncodedCache cache = new HttpFileSystemEncodedCache(16, 1024L);
+        DirectBuffer content = new UnsafeBuffer(new byte[32]);
+
+        cache.put(key(1L, "/index.html"), TAG, content);
+
+        assertSame(content, cache.get(key(1L, "/index.html"), new String16FW("tag")));
+        assertNull(cache.get(key(1L, "/index.html"), new String16FW("changed")));
+        assertNull(cache.get(key(2L, "/index.html"), TAG));
+        assertNull(cache.get(key(1L, "/other.html"), TAG));
+    }
+
+    @Test
+    public void shouldReplaceContentWhenTagChanges()
+    {
+        HttpFileSystemEncodedCache cache = new HttpFileSystemEncodedCache(16, 1024L);
+        DirectBuffer content = new UnsafeBuffer(new byte[16]);
+
+        cache.put(key(1L, "/index.html"), TAG, new UnsafeBuffer(new byte[8]));
+        cache.put(key(1L, "/index.html"), new String16FW("changed"), content);
+
+        assertEquals(1, cache.entries());
+        assertNull(cache.get(key(1L, "/index.html"), TAG));
+        assertSame(content, cache.get(key(1L, "/index.html"), new String16FW("changed")));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedContent()
+    {
+        HttpFileSystemEncodedCache cache = new HttpFileSystemEncodedCache(2, 1024L);
+
+        cache.put(key(1L, "one"), TAG, new UnsafeBuffer(new byte[8]));
+        cache.put(key(1L, "two"), TAG, new UnsafeBuffer(new byte[8]));
+        cache.get(key(1L, "one"), TAG);
+        cache.put(key(1L, "three"), TAG, new UnsafeBuffer(new byte[8]));
+
+        assertEquals(2, cache.entries());
+        assertNotNull(cache.get(key(1L, "one"), TAG));
+        assertNull(cache.get(key(1L, "two"), TAG));
+        assertNotNull(cache.get(key(1L, "three"), TAG));
+    }
+
+    @Test
+    public void shouldEvictContentExceedingSizeMax()
+    {
+        HttpFileSystemEncodedCache cache = new HttpFileSystemEncodedCache(16, 24L);
+
+        cache.put(key(1L, "one"), TAG, new UnsafeBuffer(new byte[16]));
+        cache.put(key(1L, "two"), TAG, new UnsafeBuffer(new byte[16]));
+
+        assertEquals(1, cache.entries());
+        assertNull(cache.get(key(1L, "one"), TAG));
+        assertNotNull(cache.get(key(1L, "two"), TAG));
+    }
+
+    @Test
+    public void shouldNotCacheContentWhenDisabled()
+    {
+        HttpFileSystemEncodedCache cache = new HttpFileSystemEncodedCache(0, 1024L);
+
+        cache.put(key(1L, "one"), TAG, new UnsafeBuffer(new byte[16]));
+
+        assertEquals(0, cache.entries());
+        assertFalse(cache.cacheable(16L));
+        assertTrue(new HttpFileSystemEncodedCache(16, 1024L).cacheable(16L));
+    }
+
+    @Test
+    public void shouldNotRetainWrappedKey()
+    {
+        HttpFileSystemEncodedCache cache = new HttpFileSystemEncodedCache(16, 1024L);
+        HttpFileSystemCacheKey key = new HttpFileSystemCacheKey();
+
+        cache.put(key.wrap(1L, new String16FW("one")), TAG, new UnsafeBuffer(new byte[8]));
+        key.wrap(1L, new String16FW("two"));
+
+        assertNotNull(cache.get(key(1L, "one"), TAG));
+        assertNull(cache.get(key(1L, "two"), TAG));
+    }
+
+    private static HttpFileSystemCacheKey key(
+        long resolvedId,
+        String path)
+    {
+        return new HttpFileSystemCacheKey().wrap(resolvedId, new String16FW(path));
+    }
+}
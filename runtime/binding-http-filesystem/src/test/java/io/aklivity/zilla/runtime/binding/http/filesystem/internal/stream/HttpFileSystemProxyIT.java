@@ -28,6 +28,7 @@ import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class HttpFileSystemProxyIT
 {
@@ -58,6 +59,36 @@ public class HttpFileSystemProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("proxy.with.path.yaml")
+    @Specification({
+        "${http}/client.read.file.encoding.br/client",
+        "${filesystem}/client.read.file.encoding.br/server"})
+    public void shouldReceiveClientReadFileEncodingBr() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.with.path.yaml")
+    @Specification({
+        "${http}/client.read.file.encoding.gzip/client",
+        "${filesystem}/client.read.file.encoding.gzip/server"})
+    public void shouldReceiveClientReadFileEncodingGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.with.path.yaml")
+    @Specification({
+        "${http}/client.read.file.encoding.identity/client",
+        "${filesystem}/client.read.file.encoding.identity/server"})
+    public void shouldReceiveClientReadFileEncodingIdentity() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("proxy.with.path.yaml")
     @Specification({
@@ -98,6 +129,17 @@ public class HttpFileSystemProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("proxy.with.path.yaml")
+    @Specification({
+        "${http}/client.read.file.info.encoding.gzip/client",
+        "${filesystem}/client.read.file.info.encoding.gzip/server"})
+    @Configure(name = "zilla.binding.http.filesystem.encoding.size.min", value = "64")
+    public void shouldReceiveClientReadFileInfoEncodingGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("proxy.with.path.dynamic.yaml")
     @Specification({
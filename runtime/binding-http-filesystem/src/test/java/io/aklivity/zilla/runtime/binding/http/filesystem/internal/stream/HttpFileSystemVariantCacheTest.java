@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.filesystem.internal.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.String16FW;
+
+public class HttpFileSystemVariantCacheTest
+{
+    private static final int ENCODING_GZIP = 1 << 0;
+    private static final int ENCODING_BR = 1 << 1;
+
+    @Test
+    public void shouldRememberAbsentVariants()
+    {
+        HttpFileSystemVariantCache cache = new HttpFileSystemVariantCache(16);
+
+        cache.absent(key(1L, "index.html"), ENCODING_BR);
+        cache.identity(key(1L, "index.html"), "tag", "text/html", ENCODING_GZIP);
+
+        assertEquals(ENCODING_BR | ENCODING_GZIP, cache.absent(key(1L, "index.html")));
+        assertEquals("text/html", cache.type(key(1L, "index.html")));
+        assertEquals(0, cache.absent(key(2L, "index.html")));
+    }
+
+    @Test
+    public void shouldForgetAbsentVariantsWhenIdentityChanges()
+    {
+        HttpFileSystemVariantCache cache = new HttpFileSystemVariantCache(16);
+
+        cache.identity(key(1L, "index.html"), "tag", "text/html", ENCODING_BR);
+        cache.identity(key(1L, "index.html"), "changed", "text/plain", 0);
+
+        assertEquals(0, cache.absent(key(1L, "index.html")));
+        assertEquals("text/plain", cache.type(key(1L, "index.html")));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedVariants()
+    {
+        HttpFileSystemVariantCache cache = new HttpFileSystemVariantCache(2);
+
+        cache.absent(key(1L, "one"), ENCODING_BR);
+        cache.absent(key(1L, "two"), ENCODING_BR);
+        cache.type(key(1L, "one"));
+        cache.absent(key(1L, "three"), ENCODING_BR);
+
+        assertEquals(2, cache.entries());
+        assertEquals(ENCODING_BR, cache.absent(key(1L, "one")));
+        assertEquals(0, cache.absent(key(1L, "two")));
+        assertNull(cache.type(key(1L, "three")));
+    }
+
+    private static HttpFileSystemCacheKey key(
+        long resolvedId,
+        String path)
+    {
+        return new HttpFileSystemCacheKey().wrap(resolvedId, new String16FW(path));
+    }
+}
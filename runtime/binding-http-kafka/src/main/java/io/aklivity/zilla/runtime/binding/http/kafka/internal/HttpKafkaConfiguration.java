@@ -20,9 +20,14 @@ public class HttpKafkaConfiguration extends Configuration
 {
     private static final ConfigurationDef HTTP_KAFKA_CONFIG;
 
+    public static final IntPropertyDef HTTP_KAFKA_SNAPSHOT_CAPACITY;
+    public static final LongPropertyDef HTTP_KAFKA_SNAPSHOT_SIZE_MAX;
+
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.http.kafka");
+        HTTP_KAFKA_SNAPSHOT_CAPACITY = config.property("snapshot.capacity", 0);
+        HTTP_KAFKA_SNAPSHOT_SIZE_MAX = config.property("snapshot.size.max", 32L * 1024L * 1024L);
         HTTP_KAFKA_CONFIG = config;
     }
 
@@ -31,4 +36,14 @@ public class HttpKafkaConfiguration extends Configuration
     {
         super(HTTP_KAFKA_CONFIG, config);
     }
+
+    public int snapshotCapacity()
+    {
+        return HTTP_KAFKA_SNAPSHOT_CAPACITY.getAsInt(this);
+    }
+
+    public long snapshotSizeMax()
+    {
+        return HTTP_KAFKA_SNAPSHOT_SIZE_MAX.getAsLong(this);
+    }
 }
@@ -117,6 +117,11 @@ public class HttpKafkaWithFetchResult
         }
     }
 
+    public boolean filtered()
+    {
+        return filters != null && !filters.isEmpty();
+    }
+
     public String16FW etag()
     {
         return etag;
@@ -16,9 +16,12 @@ package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
 
 import static io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaCapabilities.FETCH_ONLY;
 import static io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaCapabilities.PRODUCE_ONLY;
+import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
 import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.time.Instant.now;
 
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 
 import org.agrona.DirectBuffer;
@@ -56,6 +59,7 @@ import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.stream.Window
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.budget.BudgetDebitor;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
@@ -69,6 +73,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     private static final int DATA_FLAG_INCOMPLETE = 0x04;
 
     private final OctetsFW emptyRO = new OctetsFW().wrap(new UnsafeBuffer(0L, 0), 0, 0);
+    private final OctetsFW payloadRO = new OctetsFW();
 
     private static final int SIGNAL_WAIT_EXPIRED = 1;
 
@@ -110,6 +115,9 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
     private final Signaler signaler;
+    private final LongFunction<BudgetDebitor> supplyDebitor;
+    private final HttpKafkaSnapshotCache snapshots;
+    private final int encodeMax;
     private final int httpTypeId;
     private final int kafkaTypeId;
 
@@ -136,6 +144,9 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
         this.signaler = context.signaler();
+        this.supplyDebitor = context::supplyDebitor;
+        this.snapshots = new HttpKafkaSnapshotCache(config.snapshotCapacity(), config.snapshotSizeMax());
+        this.encodeMax = context.bufferPool().slotCapacity();
         this.bindings = new Long2ObjectHashMap<>();
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
         this.kafkaTypeId = context.supplyTypeId(KAFKA_TYPE_NAME);
@@ -873,6 +884,21 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
 
         private long replyBud;
         private int replyMsgs;
+        private BudgetDebitor replyDeb;
+        private long replyDebIndex = NO_DEBITOR_INDEX;
+        private long replyAuth;
+
+        private HttpKafkaSnapshot snapshot;
+        private String snapshotKey;
+        private String snapshotEtag;
+        private int pendingPartitionId;
+        private long pendingPartitionOffset;
+        private DirectBuffer pendingKey;
+        private MutableDirectBuffer pendingValue;
+        private int pendingValueProgress;
+
+        private DirectBuffer encoded;
+        private int encodedOffset;
 
         private HttpFetchManyProxy(
             MessageConsumer http,
@@ -946,8 +972,24 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
 
             assert initialAck <= initialSeq;
 
+            replyAuth = authorization;
+
+            if (!fetcher.resolved.filtered())
+            {
+                snapshotKey = fetcher.routedId + ":" + fetcher.resolved.topic().asString();
+                snapshot = snapshots.supply(snapshotKey);
+            }
+
             doHttpWindow(traceId, authorization, 0, 0, 0);
-            fetcher.doKafkaBegin(traceId, authorization, affinity);
+
+            if (snapshot != null)
+            {
+                fetcher.doKafkaBegin(traceId, authorization, affinity, snapshot::partitions);
+            }
+            else
+            {
+                fetcher.doKafkaBegin(traceId, authorization, affinity);
+            }
         }
 
         private void onHttpData(
@@ -1053,6 +1095,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             assert replyAck <= replySeq;
 
             fetcher.doKafkaReset(traceId);
+            cleanupDebitorIfNecessary();
         }
 
         private void onHttpWindow(
@@ -1079,8 +1122,23 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
 
             assert replyAck <= replySeq;
 
-            final int mergePadding = fetcher.resolved.padding();
-            fetcher.doKafkaWindow(traceId, authorization, budgetId, padding + mergePadding, capabilities);
+            if (encoded != null)
+            {
+                replyPad = padding;
+
+                if (replyBud != 0L && replyDebIndex == NO_DEBITOR_INDEX)
+                {
+                    replyDeb = supplyDebitor.apply(budgetId);
+                    replyDebIndex = replyDeb.acquire(budgetId, replyId, this::flushEncoded);
+                }
+
+                flushEncoded(traceId);
+            }
+            else
+            {
+                final int mergePadding = fetcher.resolved.padding();
+                fetcher.doKafkaWindow(traceId, authorization, budgetId, padding + mergePadding, capabilities);
+            }
         }
 
         @Override
@@ -1103,14 +1161,18 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            doHttpReset(traceId);
-
-            if (!HttpKafkaState.replyOpening(state))
+            // response served from snapshot no longer depends on the kafka stream
+            if (encoded == null)
             {
-                doHttpBegin(traceId, authorization, affinity, httpBeginEx500);
-            }
+                doHttpReset(traceId);
 
-            doHttpAbort(traceId, authorization);
+                if (!HttpKafkaState.replyOpening(state))
+                {
+                    doHttpBegin(traceId, authorization, affinity, httpBeginEx500);
+                }
+
+                doHttpAbort(traceId, authorization);
+            }
         }
 
         @Override
@@ -1129,6 +1191,11 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                 final Array32FW<KafkaOffsetFW> partitions = kafkaMergedBeginEx.partitions();
                 final String16FW etag = etagHelper.encodeLatest(partitions);
 
+                if (etag == null)
+                {
+                    snapshot = null;
+                }
+
                 if (fetcher.resolved.partitions(partitions))
                 {
                     final HttpBeginExFW httpBeginEx = httpBeginExRW
@@ -1145,6 +1212,18 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                     fetcher.doKafkaEnd(traceId, authorization);
                     fetcher.doKafkaReset(traceId);
                 }
+                else if (snapshot != null && snapshot.matches(etag.asString()))
+                {
+                    doHttpBeginEncoded(traceId, authorization, etag);
+
+                    fetcher.doKafkaEnd(traceId, authorization);
+                    fetcher.doKafkaReset(traceId);
+                }
+                else if (snapshot != null)
+                {
+                    snapshotEtag = etag.asString();
+                    fetcher.doKafkaWindowConsumed(traceId, authorization);
+                }
                 else
                 {
                     final HttpBeginExFW.Builder builder = httpBeginExRW
@@ -1175,7 +1254,12 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             OctetsFW payload,
             OctetsFW extension)
         {
-            if (payload != null && payload.sizeof() > 0)
+            if (snapshot != null)
+            {
+                onKafkaSnapshotData(flags, payload, extension);
+                fetcher.doKafkaWindowConsumed(traceId, authorization);
+            }
+            else if (payload != null && payload.sizeof() > 0)
             {
                 int replyPadAdjust = 0;
 
@@ -1214,7 +1298,17 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                 fetcher.doKafkaEnd(traceId, authorization);
             }
 
-            if (!HttpKafkaState.replyClosed(state))
+            if (snapshot != null)
+            {
+                if (!HttpKafkaState.replyOpening(state) && !HttpKafkaState.replyClosed(state))
+                {
+                    snapshot.complete(snapshotEtag);
+                    snapshots.update(snapshotKey, snapshot);
+
+                    doHttpBeginEncoded(traceId, authorization, new String16FW(snapshotEtag));
+                }
+            }
+            else if (!HttpKafkaState.replyClosed(state))
             {
                 if (replyMsgs == 0)
                 {
@@ -1238,7 +1332,10 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long budgetId,
             int reserved)
         {
-            doHttpFlush(traceId, authorization, budgetId, reserved);
+            if (snapshot == null)
+            {
+                doHttpFlush(traceId, authorization, budgetId, reserved);
+            }
         }
 
         @Override
@@ -1252,6 +1349,114 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             doHttpWindow(authorization, traceId, budgetId, padding, capabilities);
         }
 
+        private void onKafkaSnapshotData(
+            int flags,
+            OctetsFW payload,
+            OctetsFW extension)
+        {
+            if ((flags & DATA_FLAG_INIT) != 0x00)
+            {
+                final ExtensionFW dataEx = extension.get(extensionRO::tryWrap);
+                final KafkaDataExFW kafkaDataEx =
+                        dataEx != null && dataEx.typeId() == kafkaTypeId ? extension.get(kafkaDataExRO::tryWrap) : null;
+
+                if (kafkaDataEx != null)
+                {
+                    final KafkaMergedFetchDataExFW kafkaMergedFetchDataEx = kafkaDataEx.merged().fetch();
+                    final KafkaOffsetFW partition = kafkaMergedFetchDataEx.partition();
+                    final OctetsFW key = kafkaMergedFetchDataEx.key().value();
+                    final int valueLength = (payload != null ? payload.sizeof() : 0) + kafkaMergedFetchDataEx.deferred();
+
+                    pendingPartitionId = partition.partitionId();
+                    pendingPartitionOffset = partition.partitionOffset();
+                    pendingKey = key != null ? copyOf(key.buffer(), key.offset(), key.sizeof()) : null;
+                    pendingValue = valueLength != 0 ? new UnsafeBuffer(new byte[valueLength]) : null;
+                    pendingValueProgress = 0;
+                }
+            }
+
+            if (payload != null && pendingValue != null)
+            {
+                pendingValue.putBytes(pendingValueProgress, payload.buffer(), payload.offset(), payload.sizeof());
+                pendingValueProgress += payload.sizeof();
+            }
+
+            if ((flags & DATA_FLAG_FIN) != 0x00)
+            {
+                // empty values are never merged into the response, so treat them as tombstones
+                snapshot.apply(pendingPartitionId, pendingPartitionOffset, pendingKey, pendingValue);
+                pendingKey = null;
+                pendingValue = null;
+            }
+        }
+
+        private void doHttpBeginEncoded(
+            long traceId,
+            long authorization,
+            String16FW etag)
+        {
+            final HttpKafkaWithFetchResult resolved = fetcher.resolved;
+
+            encoded = snapshot.encode(resolved.header(), resolved.separator(), resolved.trailer());
+            encodedOffset = 0;
+
+            final String contentLength = Integer.toString(encoded.capacity());
+            final HttpBeginExFW httpBeginEx = httpBeginExRW
+                    .wrap(extBuffer, 0, extBuffer.capacity())
+                    .typeId(httpTypeId)
+                    .headers(resolved::headers)
+                    .headersItem(h -> h.name(httpContentLength).value(contentLength))
+                    .headersItem(h -> h.name(httpEtag).value(etag))
+                    .build();
+
+            doHttpBegin(traceId, authorization, affinity, httpBeginEx);
+        }
+
+        private void flushEncoded(
+            long traceId)
+        {
+            final int replyNoAck = (int)(replySeq - replyAck);
+            final int replyWin = replyMax - replyNoAck - replyPad;
+            final int remaining = encoded.capacity() - encodedOffset;
+
+            if (remaining > 0 && replyWin > 0)
+            {
+                int reserved = Math.min(replyWin, Math.min(remaining, encodeMax) + replyPad);
+                int length = Math.max(reserved - replyPad, 0);
+
+                if (length > 0 && replyDebIndex != NO_DEBITOR_INDEX && replyDeb != null)
+                {
+                    final int minimum = Math.min(encodeMax, reserved);
+                    reserved = replyDeb.claim(traceId, replyDebIndex, replyId, minimum, reserved, 0);
+                    length = Math.max(reserved - replyPad, 0);
+                }
+
+                if (length > 0)
+                {
+                    final OctetsFW payload = payloadRO.wrap(encoded, encodedOffset, encodedOffset + length);
+
+                    doHttpData(traceId, replyAuth, replyBud, reserved, 0x03, payload);
+
+                    encodedOffset += length;
+                }
+            }
+
+            if (encodedOffset == encoded.capacity())
+            {
+                doHttpEnd(traceId, replyAuth);
+            }
+        }
+
+        private void cleanupDebitorIfNecessary()
+        {
+            if (replyDebIndex != NO_DEBITOR_INDEX)
+            {
+                replyDeb.release(replyDebIndex, replyId);
+                replyDebIndex = NO_DEBITOR_INDEX;
+                replyDeb = null;
+            }
+        }
+
         private void doHttpBegin(
             long traceId,
             long authorization,
@@ -1270,12 +1475,13 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         {
             if (!HttpKafkaState.replyClosed(state))
             {
-                replySeq = fetcher.replySeq;
+                replySeq = encoded != null ? replySeq : fetcher.replySeq;
                 state = HttpKafkaState.closeReply(state);
 
                 doAbort(http, originId, routedId, replyId, replySeq, replyAck, replyMax,
                         traceId, authorization);
             }
+            cleanupDebitorIfNecessary();
         }
 
         private void doHttpData(
@@ -1300,12 +1506,13 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         {
             if (!HttpKafkaState.replyClosed(state))
             {
-                replySeq = fetcher.replySeq;
+                replySeq = encoded != null ? replySeq : fetcher.replySeq;
                 state = HttpKafkaState.closeReply(state);
 
                 doEnd(http, originId, routedId, replyId, replySeq, replyAck, replyMax,
                       traceId, authorization);
             }
+            cleanupDebitorIfNecessary();
         }
 
         private void doHttpFlush(
@@ -1386,6 +1593,15 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             long traceId,
             long authorization,
             long affinity)
+        {
+            doKafkaBegin(traceId, authorization, affinity, resolved::partitions);
+        }
+
+        private void doKafkaBegin(
+            long traceId,
+            long authorization,
+            long affinity,
+            Consumer<Array32FW.Builder<KafkaOffsetFW.Builder, KafkaOffsetFW>> partitions)
         {
             initialSeq = delegate.initialSeq;
             initialAck = delegate.initialAck;
@@ -1393,7 +1609,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             state = HttpKafkaState.openingInitial(state);
 
             kafka = newKafkaFetcher(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, authorization, affinity, resolved);
+                    traceId, authorization, affinity, resolved, partitions);
 
             final long timeout = resolved.timeout();
             if (timeout > 0L)
@@ -1692,6 +1908,17 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
                     traceId, authorization, budgetId, padding, capabilities);
         }
+
+        private void doKafkaWindowConsumed(
+            long traceId,
+            long authorization)
+        {
+            replyAck = replySeq;
+            replyMax = encodeMax;
+
+            doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, 0L, 0, 0);
+        }
     }
 
     private final class HttpProduceAsyncProxy extends HttpProxy
@@ -4336,7 +4563,8 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
         long traceId,
         long authorization,
         long affinity,
-        HttpKafkaWithFetchResult resolved)
+        HttpKafkaWithFetchResult resolved,
+        Consumer<Array32FW.Builder<KafkaOffsetFW.Builder, KafkaOffsetFW>> partitions)
     {
         final KafkaBeginExFW kafkaBeginEx =
             kafkaBeginExRW.wrap(extBuffer, 0, extBuffer.capacity())
@@ -4344,7 +4572,7 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
                 .typeId(kafkaTypeId)
                 .merged(m -> m.capabilities(c -> c.set(FETCH_ONLY))
                               .topic(resolved.topic())
-                              .partitions(resolved::partitions)
+                              .partitions(partitions)
                               .filters(resolved::filters))
                 .build();
 
@@ -4522,6 +4750,16 @@ public final class HttpKafkaProxyFactory implements HttpKafkaStreamFactory
             .build();
     }
 
+    private static DirectBuffer copyOf(
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        final byte[] bytes = new byte[length];
+        buffer.getBytes(index, bytes);
+        return new UnsafeBuffer(bytes);
+    }
+
     private HttpHeaderFW initHttpHeader(
         String name,
         String value)
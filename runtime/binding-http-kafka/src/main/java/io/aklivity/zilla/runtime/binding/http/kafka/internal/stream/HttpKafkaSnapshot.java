@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaOffsetFW;
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.KafkaOffsetType;
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.OctetsFW;
+
+final class HttpKafkaSnapshot
+{
+    private static final long NO_OFFSET = -1L;
+
+    private final Map<DirectBuffer, DirectBuffer> entries;
+    private final List<DirectBuffer> unkeyed;
+    private final Long2LongHashMap progress;
+
+    private String etag;
+    private DirectBuffer encoded;
+    private long keysSize;
+    private long valuesSize;
+
+    HttpKafkaSnapshot()
+    {
+        this.entries = new LinkedHashMap<>();
+        this.unkeyed = new ArrayList<>();
+        this.progress = new Long2LongHashMap(NO_OFFSET);
+    }
+
+    void partitions(
+        Array32FW.Builder<KafkaOffsetFW.Builder, KafkaOffsetFW> builder)
+    {
+        progress.longForEach((p, o) -> builder.item(i -> i
+            .partitionId((int) p)
+            .partitionOffset(o)
+            .stableOffset(KafkaOffsetType.HISTORICAL.value())
+            .latestOffset(KafkaOffsetType.HISTORICAL.value())));
+
+        builder.item(i -> i
+            .partitionId(-1)
+            .partitionOffset(0L)
+            .stableOffset(KafkaOffsetType.HISTORICAL.value())
+            .latestOffset(KafkaOffsetType.HISTORICAL.value()));
+    }
+
+    void apply(
+        int partitionId,
+        long partitionOffset,
+        DirectBuffer key,
+        DirectBuffer value)
+    {
+        // concurrent fetches may overlap, so only apply messages beyond the current progress
+        if (partitionOffset >= progress.get(partitionId))
+        {
+            progress.put(partitionId, partitionOffset + 1);
+
+            if (key == null)
+            {
+                if (value != null)
+                {
+                    unkeyed.add(value);
+                    valuesSize += value.capacity();
+                }
+            }
+            else
+            {
+                final DirectBuffer previous = entries.remove(key);
+                if (previous != null)
+                {
+                    keysSize -= key.capacity();
+                    valuesSize -= previous.capacity();
+                }
+
+                if (value != null)
+                {
+                    entries.put(key, value);
+                    keysSize += key.capacity();
+                    valuesSize += value.capacity();
+                }
+            }
+
+            encoded = null;
+        }
+    }
+
+    void complete(
+        String etag)
+    {
+        this.etag = etag;
+    }
+
+    boolean matches(
+        String etag)
+    {
+        return etag.equals(this.etag);
+    }
+
+    DirectBuffer encode(
+        OctetsFW header,
+        OctetsFW separator,
+        OctetsFW trailer)
+    {
+        if (encoded == null)
+        {
+            final int count = entries();
+            final int length = header.sizeof() + (int) valuesSize + Math.max(count - 1, 0) * separator.sizeof() +
+                trailer.sizeof();
+            final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[length]);
+
+            int progress = encodeOctets(buffer, 0, header.buffer(), header.offset(), header.sizeof());
+
+            int index = 0;
+            for (DirectBuffer value : entries.values())
+            {
+                progress = encodeValue(buffer, progress, index++, separator, value);
+            }
+
+            for (DirectBuffer value : unkeyed)
+            {
+                progress = encodeValue(buffer, progress, index++, separator, value);
+            }
+
+            progress = encodeOctets(buffer, progress, trailer.buffer(), trailer.offset(), trailer.sizeof());
+
+            assert progress == length;
+            encoded = buffer;
+        }
+
+        return encoded;
+    }
+
+    long size()
+    {
+        return keysSize + valuesSize + (encoded != null ? encoded.capacity() : 0);
+    }
+
+    int entries()
+    {
+        return entries.size() + unkeyed.size();
+    }
+
+    private static int encodeValue(
+        MutableDirectBuffer buffer,
+        int offset,
+        int index,
+        OctetsFW separator,
+        DirectBuffer value)
+    {
+        int progress = offset;
+
+        if (index > 0)
+        {
+            progress = encodeOctets(buffer, progress, separator.buffer(), separator.offset(), separator.sizeof());
+        }
+
+        return encodeOctets(buffer, progress, value, 0, value.capacity());
+    }
+
+    private static int encodeOctets(
+        MutableDirectBuffer buffer,
+        int offset,
+        DirectBuffer octets,
+        int octetsOffset,
+        int octetsLength)
+    {
+        buffer.putBytes(offset, octets, octetsOffset, octetsLength);
+        return offset + octetsLength;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class HttpKafkaSnapshotCache
+{
+    private final Map<String, HttpKafkaSnapshot> entries;
+    private final int capacity;
+    private final long sizeMax;
+
+    HttpKafkaSnapshotCache(
+        int capacity,
+        long sizeMax)
+    {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.capacity = capacity;
+        this.sizeMax = sizeMax;
+    }
+
+    HttpKafkaSnapshot supply(
+        String key)
+    {
+        HttpKafkaSnapshot snapshot = null;
+
+        if (capacity > 0)
+        {
+            if (entries.containsKey(key))
+            {
+                // null marks a snapshot that outgrew the size limit, served by streaming instead
+                snapshot = entries.get(key);
+            }
+            else
+            {
+                snapshot = new HttpKafkaSnapshot();
+                entries.put(key, snapshot);
+                evict();
+            }
+        }
+
+        return snapshot;
+    }
+
+    void update(
+        String key,
+        HttpKafkaSnapshot snapshot)
+    {
+        if (snapshot.size() > sizeMax && entries.get(key) == snapshot)
+        {
+            entries.put(key, null);
+        }
+
+        evict();
+    }
+
+    int entries()
+    {
+        return entries.size();
+    }
+
+    private void evict()
+    {
+        long size = 0L;
+        for (HttpKafkaSnapshot snapshot : entries.values())
+        {
+            size += snapshot != null ? snapshot.size() : 0L;
+        }
+
+        // evicted snapshots remain usable by in-flight requests until they complete
+        for (Iterator<HttpKafkaSnapshot> i = entries.values().iterator();
+             i.hasNext() && (entries.size() > capacity || size > sizeMax); )
+        {
+            HttpKafkaSnapshot eldest = i.next();
+            i.remove();
+            size -= eldest != null ? eldest.size() : 0L;
+        }
+    }
+}
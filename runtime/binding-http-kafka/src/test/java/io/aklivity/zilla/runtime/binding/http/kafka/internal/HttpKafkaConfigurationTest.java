@@ -0,0 +1,34 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal;
+
+import static io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfiguration.HTTP_KAFKA_SNAPSHOT_CAPACITY;
+import static io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfiguration.HTTP_KAFKA_SNAPSHOT_SIZE_MAX;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class HttpKafkaConfigurationTest
+{
+    public static final String HTTP_KAFKA_SNAPSHOT_CAPACITY_NAME = "zilla.binding.http.kafka.snapshot.capacity";
+    public static final String HTTP_KAFKA_SNAPSHOT_SIZE_MAX_NAME = "zilla.binding.http.kafka.snapshot.size.max";
+
+    @Test
+    public void shouldVerifyConstants() throws Exception
+    {
+        assertEquals(HTTP_KAFKA_SNAPSHOT_CAPACITY.name(), HTTP_KAFKA_SNAPSHOT_CAPACITY_NAME);
+        assertEquals(HTTP_KAFKA_SNAPSHOT_SIZE_MAX.name(), HTTP_KAFKA_SNAPSHOT_SIZE_MAX_NAME);
+    }
+}
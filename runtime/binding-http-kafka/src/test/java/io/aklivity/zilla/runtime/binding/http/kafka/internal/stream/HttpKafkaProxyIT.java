@@ -26,8 +26,10 @@ import org.junit.rules.Timeout;
 
 import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.HttpKafkaConfigurationTest;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class HttpKafkaProxyIT
 {
@@ -528,6 +530,50 @@ public class HttpKafkaProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("proxy.get.items.snapshot.yaml")
+    @Specification({
+        "${http}/get.items.snapshot/client",
+        "${kafka}/get.items.snapshot/server"})
+    @Configure(name = HttpKafkaConfigurationTest.HTTP_KAFKA_SNAPSHOT_CAPACITY_NAME, value = "1")
+    public void shouldGetItemsSnapshot() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.get.items.snapshot.yaml")
+    @Specification({
+        "${http}/get.items.snapshot.replayed/client",
+        "${kafka}/get.items.snapshot.unchanged/server"})
+    @Configure(name = HttpKafkaConfigurationTest.HTTP_KAFKA_SNAPSHOT_CAPACITY_NAME, value = "1")
+    public void shouldGetItemsSnapshotReplayed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.get.items.snapshot.yaml")
+    @Specification({
+        "${http}/get.items.snapshot.if.none.match.not.modified/client",
+        "${kafka}/get.items.snapshot.unchanged/server"})
+    @Configure(name = HttpKafkaConfigurationTest.HTTP_KAFKA_SNAPSHOT_CAPACITY_NAME, value = "1")
+    public void shouldNotGetItemsSnapshotIfNoneMatchNotModified() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.get.items.snapshot.yaml")
+    @Specification({
+        "${http}/get.items.snapshot.deleted/client",
+        "${kafka}/get.items.snapshot.deleted/server"})
+    @Configure(name = HttpKafkaConfigurationTest.HTTP_KAFKA_SNAPSHOT_CAPACITY_NAME, value = "1")
+    public void shouldGetItemsSnapshotDeleted() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("proxy.patch.item.yaml")
     @Specification({
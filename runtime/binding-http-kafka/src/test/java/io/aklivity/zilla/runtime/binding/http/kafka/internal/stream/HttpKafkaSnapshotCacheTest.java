@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class HttpKafkaSnapshotCacheTest
+{
+    @Test
+    public void shouldNotSupplyWhenDisabled()
+    {
+        HttpKafkaSnapshotCache cache = new HttpKafkaSnapshotCache(0, 1024L);
+
+        assertThat(cache.supply("1:items"), nullValue());
+        assertThat(cache.entries(), equalTo(0));
+    }
+
+    @Test
+    public void shouldSupplySameSnapshotPerKey()
+    {
+        HttpKafkaSnapshotCache cache = new HttpKafkaSnapshotCache(2, 1024L);
+
+        HttpKafkaSnapshot snapshot = cache.supply("1:items");
+
+        assertThat(cache.supply("1:items"), sameInstance(snapshot));
+        assertThat(cache.supply("2:items"), not(sameInstance(snapshot)));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed()
+    {
+        HttpKafkaSnapshotCache cache = new HttpKafkaSnapshotCache(2, 1024L);
+
+        HttpKafkaSnapshot items = cache.supply("1:items");
+        cache.supply("1:orders");
+        cache.supply("1:items");
+        cache.supply("1:events");
+
+        assertThat(cache.entries(), equalTo(2));
+        assertThat(cache.supply("1:items"), sameInstance(items));
+    }
+
+    @Test
+    public void shouldStopSupplyingOversizedSnapshot()
+    {
+        HttpKafkaSnapshotCache cache = new HttpKafkaSnapshotCache(2, 8L);
+
+        HttpKafkaSnapshot snapshot = cache.supply("1:items");
+        snapshot.apply(0, 0L, new UnsafeBuffer("key".getBytes(UTF_8)), new UnsafeBuffer("value".getBytes(UTF_8)));
+        snapshot.apply(0, 1L, new UnsafeBuffer("other".getBytes(UTF_8)), new UnsafeBuffer("value".getBytes(UTF_8)));
+        cache.update("1:items", snapshot);
+
+        assertThat(cache.supply("1:items"), nullValue());
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.kafka.internal.stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.kafka.internal.types.OctetsFW;
+
+public class HttpKafkaSnapshotTest
+{
+    private static final OctetsFW HEADER = octets("[");
+    private static final OctetsFW SEPARATOR = octets(",");
+    private static final OctetsFW TRAILER = octets("]");
+
+    @Test
+    public void shouldEncodeEmptySnapshot()
+    {
+        HttpKafkaSnapshot snapshot = new HttpKafkaSnapshot();
+
+        assertThat(encode(snapshot), equalTo("[]"));
+    }
+
+    @Test
+    public void shouldEncodeLatestValuePerKey()
+    {
+        HttpKafkaSnapshot snapshot = new HttpKafkaSnapshot();
+
+        snapshot.apply(0, 0L, buffer("a"), buffer("{\"id\":\"a\",\"v\":1}"));
+        snapshot.apply(1, 0L, buffer("b"), buffer("{\"id\":\"b\",\"v\":1}"));
+        snapshot.apply(0, 1L, buffer("a"), buffer("{\"id\":\"a\",\"v\":2}"));
+
+        assertThat(snapshot.entries(), equalTo(2));
+        assertThat(encode(snapshot), equalTo("[{\"id\":\"b\",\"v\":1},{\"id\":\"a\",\"v\":2}]"));
+    }
+
+    @Test
+    public void shouldRemoveKeyOnTombstone()
+    {
+        HttpKafkaSnapshot snapshot = new HttpKafkaSnapshot();
+
+        snapshot.apply(0, 0L, buffer("a"), buffer("{\"id\":\"a\"}"));
+        snapshot.apply(0, 1L, buffer("b"), buffer("{\"id\":\"b\"}"));
+        snapshot.apply(0, 2L, buffer("a"), null);
+
+        assertThat(snapshot.entries(), equalTo(1));
+        assertThat(encode(snapshot), equalTo("[{\"id\":\"b\"}]"));
+    }
+
+    @Test
+    public void shouldIgnoreMessagesBeforeProgress()
+    {
+        HttpKafkaSnapshot snapshot = new HttpKafkaSnapshot();
+
+        snapshot.apply(0, 0L, buffer("a"), buffer("1"));
+        snapshot.apply(0, 1L, buffer("a"), buffer("2"));
+        snapshot.apply(0, 0L, buffer("a"), buffer("1"));
+
+        assertThat(encode(snapshot), equalTo("[2]"));
+    }
+
+    @Test
+    public void shouldRetainMessagesWithoutKey()
+    {
+        HttpKafkaSnapshot snapshot = new HttpKafkaSnapshot();
+
+        snapshot.apply(0, 0L, null, buffer("1"));
+        snapshot.apply(0, 1L, buffer("a"), buffer("2"));
+        snapshot.apply(0, 2L, null, buffer("3"));
+
+        assertThat(encode(snapshot), equalTo("[2,1,3]"));
+    }
+
+    @Test
+    public void shouldReuseEncodedUntilChanged()
+    {
+        HttpKafkaSnapshot snapshot = new HttpKafkaSnapshot();
+        snapshot.apply(0, 0L, buffer("a"), buffer("1"));
+
+        DirectBuffer encoded = snapshot.encode(HEADER, SEPARATOR, TRAILER);
+        assertThat(snapshot.encode(HEADER, SEPARATOR, TRAILER), sameInstance(encoded));
+        assertThat(snapshot.size(), equalTo(2L + encoded.capacity()));
+
+        snapshot.apply(0, 1L, buffer("b"), buffer("2"));
+        assertThat(encode(snapshot), equalTo("[1,2]"));
+    }
+
+    @Test
+    public void shouldMatchCompletedEtag()
+    {
+        HttpKafkaSnapshot snapshot = new HttpKafkaSnapshot();
+
+        assertThat(snapshot.matches("AQAAAAA="), equalTo(false));
+
+        snapshot.complete("AQAAAAA=");
+
+        assertThat(snapshot.matches("AQAAAAA="), equalTo(true));
+        assertThat(snapshot.matches("AQAAAAB="), equalTo(false));
+    }
+
+    private static String encode(
+        HttpKafkaSnapshot snapshot)
+    {
+        final DirectBuffer encoded = snapshot.encode(HEADER, SEPARATOR, TRAILER);
+        return encoded.getStringWithoutLengthUtf8(0, encoded.capacity());
+    }
+
+    private static DirectBuffer buffer(
+        String value)
+    {
+        return new UnsafeBuffer(value.getBytes(UTF_8));
+    }
+
+    private static OctetsFW octets(
+        String value)
+    {
+        final DirectBuffer buffer = buffer(value);
+        return new OctetsFW().wrap(buffer, 0, buffer.capacity());
+    }
+}
@@ -25,10 +25,10 @@ import static java.util.regex.Pattern.CASE_INSENSITIVE;
 import java.net.URI;
 import java.time.Duration;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -64,21 +64,21 @@ public final class HttpAccessControlConfig
                 .value("true")
                 .build();
 
-    private static final Set<String> EXPOSED_RESPONSE_HEADERS;
+    private static final Set<String8FW> EXPOSED_RESPONSE_HEADERS;
 
     static
     {
-        Set<String> headers = new LinkedHashSet<>();
-        headers.add("cache-control");
-        headers.add("content-language");
-        headers.add("content-length");
-        headers.add("content-type");
-        headers.add("expires");
-        headers.add("last-modified");
-        headers.add("pragma");
-
-        headers.add("server");
-        headers.add("date");
+        Set<String8FW> headers = new LinkedHashSet<>();
+        headers.add(new String8FW("cache-control"));
+        headers.add(new String8FW("content-language"));
+        headers.add(new String8FW("content-length"));
+        headers.add(new String8FW("content-type"));
+        headers.add(new String8FW("expires"));
+        headers.add(new String8FW("last-modified"));
+        headers.add(new String8FW("pragma"));
+
+        headers.add(new String8FW("server"));
+        headers.add(new String8FW("date"));
 
         EXPOSED_RESPONSE_HEADERS = unmodifiableSet(headers);
     }
@@ -106,9 +106,9 @@ public final class HttpAccessControlConfig
     }
 
     public HttpPolicyConfig effectivePolicy(
-        Map<String, String> headers)
+        Function<String, String> headerByName)
     {
-        return policy == SAME_ORIGIN || isSameOrigin(headers) ? SAME_ORIGIN : policy;
+        return policy == SAME_ORIGIN || isSameOrigin(headerByName) ? SAME_ORIGIN : policy;
     }
 
     public HttpHeaderFW allowOriginHeader(
@@ -148,11 +148,11 @@ public final class HttpAccessControlConfig
     }
 
     public boolean allowPreflight(
-        Map<String, String> headers)
+        Function<String, String> headerByName)
     {
-        final String origin = headers.get("origin");
-        final String requestMethod = headers.get("access-control-request-method");
-        final String requestHeaders = headers.get("access-control-request-headers");
+        final String origin = headerByName.apply("origin");
+        final String requestMethod = headerByName.apply("access-control-request-method");
+        final String requestHeaders = headerByName.apply("access-control-request-headers");
 
         return origin != null && allowOrigin(origin) &&
             (requestMethod == null || allowMethod(requestMethod)) &&
@@ -160,17 +160,18 @@ public final class HttpAccessControlConfig
     }
 
     public boolean allowRequest(
-        Map<String, String> headers)
+        Function<String, String> headerByName)
     {
-        return policy == CROSS_ORIGIN && allowCrossOrigin(headers) ||
-               isSameOrigin(headers);
+        return policy == CROSS_ORIGIN && allowCrossOrigin(headerByName) ||
+               isSameOrigin(headerByName);
     }
 
     public boolean exposeHeader(
-        String header)
+        String8FW header)
     {
         return policy == SAME_ORIGIN ||
-                header.charAt(0) != ':' &&
+                header.length() > 0 &&
+                header.value().getByte(0) != ':' &&
                 (expose == null || expose.header(header)) &&
                 !EXPOSED_RESPONSE_HEADERS.contains(header);
     }
@@ -226,19 +227,19 @@ public final class HttpAccessControlConfig
     }
 
     private boolean allowCrossOrigin(
-        Map<String, String> headers)
+        Function<String, String> headerByName)
     {
-        String origin = headers.get("origin");
+        String origin = headerByName.apply("origin");
 
         return allowOrigin(origin);
     }
 
     private boolean isSameOrigin(
-        Map<String, String> headers)
+        Function<String, String> headerByName)
     {
-        String origin = headers.get("origin");
-        String scheme = headers.get(":scheme");
-        String authority = headers.get(":authority");
+        String origin = headerByName.apply("origin");
+        String scheme = origin != null ? headerByName.apply(":scheme") : null;
+        String authority = origin != null ? headerByName.apply(":authority") : null;
 
         return origin != null && matchesSameOrigin(origin, scheme, authority);
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.config;
+
+import static java.util.function.Function.identity;
+
+import java.util.List;
+
+public final class HttpCompressionConfig
+{
+    public static final String ENCODING_GZIP = "gzip";
+    public static final String ENCODING_DEFLATE = "deflate";
+    public static final int DEFAULT_MIN_LENGTH = 1024;
+
+    private static final List<String> DEFAULT_ENCODINGS = List.of(ENCODING_GZIP, ENCODING_DEFLATE);
+    private static final String WILDCARD = "*";
+    private static final String QUALITY_PARAM = "q=";
+
+    public final List<String> encodings;
+    public final List<String> contentTypes;
+    public final int minLength;
+
+    public static HttpCompressionConfigBuilder<HttpCompressionConfig> builder()
+    {
+        return new HttpCompressionConfigBuilder<>(identity());
+    }
+
+    HttpCompressionConfig(
+        List<String> encodings,
+        List<String> contentTypes,
+        int minLength)
+    {
+        this.encodings = encodings;
+        this.contentTypes = contentTypes;
+        this.minLength = minLength;
+    }
+
+    public String encoding(
+        String acceptEncoding)
+    {
+        String encoding = null;
+
+        if (acceptEncoding != null)
+        {
+            float preferred = 0.0f;
+            for (String candidate : encodings != null ? encodings : DEFAULT_ENCODINGS)
+            {
+                final float quality = quality(acceptEncoding, candidate);
+                if (quality > preferred)
+                {
+                    preferred = quality;
+                    encoding = candidate;
+                }
+            }
+        }
+
+        return encoding;
+    }
+
+    public boolean compressible(
+        String contentType,
+        long contentLength)
+    {
+        return (contentLength == -1L || contentLength >= minLength) &&
+            (contentTypes == null || contentType != null && matchesContentType(contentType));
+    }
+
+    private boolean matchesContentType(
+        String contentType)
+    {
+        final int semicolon = contentType.indexOf(';');
+        final String mediaType = (semicolon != -1 ? contentType.substring(0, semicolon) : contentType).trim().toLowerCase();
+        final int slash = mediaType.indexOf('/');
+
+        boolean matches = false;
+        for (int i = 0; !matches && i < contentTypes.size(); i++)
+        {
+            final String pattern = contentTypes.get(i).toLowerCase();
+            matches = pattern.equals(mediaType) ||
+                pattern.equals("*/*") ||
+                slash != -1 && pattern.endsWith("/*") && pattern.regionMatches(0, mediaType, 0, slash + 1);
+        }
+
+        return matches;
+    }
+
+    private static float quality(
+        String acceptEncoding,
+        String encoding)
+    {
+        float quality = 0.0f;
+        float wildcard = 0.0f;
+        boolean matched = false;
+
+        for (String coding : acceptEncoding.split(","))
+        {
+            final String[] params = coding.split(";");
+            final String name = params[0].trim();
+
+            float value = 1.0f;
+            for (int i = 1; i < params.length; i++)
+            {
+                final String param = params[i].trim();
+                if (param.startsWith(QUALITY_PARAM))
+                {
+                    try
+                    {
+                        value = Float.parseFloat(param.substring(QUALITY_PARAM.length()));
+                    }
+                    catch (NumberFormatException ex)
+                    {
+                        value = 0.0f;
+                    }
+                }
+            }
+
+            if (name.equalsIgnoreCase(encoding))
+            {
+                quality = value;
+                matched = true;
+            }
+            else if (WILDCARD.equals(name))
+            {
+                wildcard = value;
+            }
+        }
+
+        return matched ? quality : wildcard;
+    }
+}
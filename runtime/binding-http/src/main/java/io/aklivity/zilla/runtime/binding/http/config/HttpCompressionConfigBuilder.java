@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.config;
+
+import static io.aklivity.zilla.runtime.binding.http.config.HttpCompressionConfig.DEFAULT_MIN_LENGTH;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.aklivity.zilla.runtime.engine.config.ConfigBuilder;
+
+public final class HttpCompressionConfigBuilder<T> extends ConfigBuilder<T, HttpCompressionConfigBuilder<T>>
+{
+    private final Function<HttpCompressionConfig, T> mapper;
+
+    private List<String> encodings;
+    private List<String> contentTypes;
+    private int minLength = DEFAULT_MIN_LENGTH;
+
+    HttpCompressionConfigBuilder(
+        Function<HttpCompressionConfig, T> mapper)
+    {
+        this.mapper = mapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Class<HttpCompressionConfigBuilder<T>> thisType()
+    {
+        return (Class<HttpCompressionConfigBuilder<T>>) getClass();
+    }
+
+    public HttpCompressionConfigBuilder<T> encoding(
+        String encoding)
+    {
+        if (encodings == null)
+        {
+            encodings = new LinkedList<>();
+        }
+        encodings.add(encoding);
+        return this;
+    }
+
+    public HttpCompressionConfigBuilder<T> contentType(
+        String contentType)
+    {
+        if (contentTypes == null)
+        {
+            contentTypes = new LinkedList<>();
+        }
+        contentTypes.add(contentType);
+        return this;
+    }
+
+    public HttpCompressionConfigBuilder<T> minLength(
+        int minLength)
+    {
+        this.minLength = minLength;
+        return this;
+    }
+
+    @Override
+    public T build()
+    {
+        return mapper.apply(new HttpCompressionConfig(encodings, contentTypes, minLength));
+    }
+}
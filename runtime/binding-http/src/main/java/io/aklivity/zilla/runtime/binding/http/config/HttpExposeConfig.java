@@ -16,13 +16,18 @@
 package io.aklivity.zilla.runtime.binding.http.config;
 
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toSet;
 
 import java.util.Set;
 
+import io.aklivity.zilla.runtime.binding.http.internal.types.String8FW;
+
 public final class HttpExposeConfig
 {
     public final Set<String> headers;
 
+    private final Set<String8FW> headerNames;
+
     public HttpExposeConfigBuilder<HttpExposeConfig> builder()
     {
         return new HttpExposeConfigBuilder<>(identity());
@@ -32,13 +37,14 @@ public final class HttpExposeConfig
         Set<String> headers)
     {
         this.headers = headers;
+        this.headerNames = headers != null ? headers.stream().map(String8FW::new).collect(toSet()) : null;
     }
 
     boolean header(
-        String header)
+        String8FW header)
     {
-        return headers == null ||
-                headers.contains(header);
+        return headerNames == null ||
+                headerNames.contains(header);
     }
 
     boolean headersExplicit()
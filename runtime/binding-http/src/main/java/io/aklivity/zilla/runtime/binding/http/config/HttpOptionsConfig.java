@@ -37,6 +37,7 @@ public final class HttpOptionsConfig extends OptionsConfig
     public final HttpAccessControlConfig access;
     public final HttpAuthorizationConfig authorization;
     public final List<HttpRequestConfig> requests;
+    public final HttpCompressionConfig compression;
 
     public static HttpOptionsConfigBuilder<HttpOptionsConfig> builder()
     {
@@ -54,7 +55,8 @@ public final class HttpOptionsConfig extends OptionsConfig
         Map<String8FW, String16FW> overrides,
         HttpAccessControlConfig access,
         HttpAuthorizationConfig authorization,
-        List<HttpRequestConfig> requests)
+        List<HttpRequestConfig> requests,
+        HttpCompressionConfig compression)
     {
         super(resolveModels(requests), List.of());
         this.versions = versions;
@@ -62,6 +64,7 @@ public final class HttpOptionsConfig extends OptionsConfig
         this.access = access;
         this.authorization = authorization;
         this.requests = requests;
+        this.compression = compression;
     }
 
     private static List<ModelConfig> resolveModels(
@@ -34,6 +34,7 @@ import java.util.regex.Pattern;
 import org.agrona.collections.Object2ObjectHashMap;
 
 import io.aklivity.zilla.runtime.binding.http.config.HttpAccessControlConfig;
+import io.aklivity.zilla.runtime.binding.http.config.HttpCompressionConfig;
 import io.aklivity.zilla.runtime.binding.http.config.HttpCredentialsConfig;
 import io.aklivity.zilla.runtime.binding.http.config.HttpOptionsConfig;
 import io.aklivity.zilla.runtime.binding.http.config.HttpParamConfig;
@@ -106,6 +107,11 @@ public final class HttpBindingConfig
         return options != null && options.access != null ? options.access : DEFAULT_ACCESS_CONTROL;
     }
 
+    public HttpCompressionConfig compression()
+    {
+        return options != null ? options.compression : null;
+    }
+
     public Function<Function<String, String>, String> credentials()
     {
         return credentials;
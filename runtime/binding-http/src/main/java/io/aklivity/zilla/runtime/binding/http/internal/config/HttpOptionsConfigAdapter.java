@@ -35,6 +35,8 @@ import io.aklivity.zilla.runtime.binding.http.config.HttpAllowConfig;
 import io.aklivity.zilla.runtime.binding.http.config.HttpAllowConfigBuilder;
 import io.aklivity.zilla.runtime.binding.http.config.HttpAuthorizationConfig;
 import io.aklivity.zilla.runtime.binding.http.config.HttpAuthorizationConfigBuilder;
+import io.aklivity.zilla.runtime.binding.http.config.HttpCompressionConfig;
+import io.aklivity.zilla.runtime.binding.http.config.HttpCompressionConfigBuilder;
 import io.aklivity.zilla.runtime.binding.http.config.HttpCredentialsConfig;
 import io.aklivity.zilla.runtime.binding.http.config.HttpCredentialsConfigBuilder;
 import io.aklivity.zilla.runtime.binding.http.config.HttpExposeConfig;
@@ -71,6 +73,10 @@ public final class HttpOptionsConfigAdapter implements OptionsConfigAdapterSpi,
     private static final String EXPOSE_NAME = "expose";
     private static final String EXPOSE_HEADERS_NAME = "headers";
     private static final String REQUESTS_NAME = "requests";
+    private static final String COMPRESSION_NAME = "compression";
+    private static final String COMPRESSION_ENCODINGS_NAME = "encodings";
+    private static final String COMPRESSION_CONTENT_TYPES_NAME = "content-types";
+    private static final String COMPRESSION_MIN_LENGTH_NAME = "min-length";
 
     private final HttpRequestConfigAdapter httpRequest = new HttpRequestConfigAdapter();
 
@@ -241,6 +247,33 @@ public final class HttpOptionsConfigAdapter implements OptionsConfigAdapterSpi,
             object.add(REQUESTS_NAME, requests);
         }
 
+        HttpCompressionConfig httpCompression = httpOptions.compression;
+        if (httpCompression != null)
+        {
+            JsonObjectBuilder compression = Json.createObjectBuilder();
+
+            if (httpCompression.encodings != null)
+            {
+                JsonArrayBuilder encodings = Json.createArrayBuilder();
+                httpCompression.encodings.forEach(encodings::add);
+                compression.add(COMPRESSION_ENCODINGS_NAME, encodings);
+            }
+
+            if (httpCompression.contentTypes != null)
+            {
+                JsonArrayBuilder contentTypes = Json.createArrayBuilder();
+                httpCompression.contentTypes.forEach(contentTypes::add);
+                compression.add(COMPRESSION_CONTENT_TYPES_NAME, contentTypes);
+            }
+
+            if (httpCompression.minLength != HttpCompressionConfig.DEFAULT_MIN_LENGTH)
+            {
+                compression.add(COMPRESSION_MIN_LENGTH_NAME, httpCompression.minLength);
+            }
+
+            object.add(COMPRESSION_NAME, compression);
+        }
+
         return object.build();
     }
 
@@ -394,6 +427,31 @@ public final class HttpOptionsConfigAdapter implements OptionsConfigAdapterSpi,
             httpOptions.requests(requests);
         }
 
+        if (object.containsKey(COMPRESSION_NAME))
+        {
+            HttpCompressionConfigBuilder<?> httpCompression = httpOptions.compression();
+            JsonObject compression = object.getJsonObject(COMPRESSION_NAME);
+
+            if (compression.containsKey(COMPRESSION_ENCODINGS_NAME))
+            {
+                compression.getJsonArray(COMPRESSION_ENCODINGS_NAME)
+                    .forEach(v -> httpCompression.encoding(JsonString.class.cast(v).getString()));
+            }
+
+            if (compression.containsKey(COMPRESSION_CONTENT_TYPES_NAME))
+            {
+                compression.getJsonArray(COMPRESSION_CONTENT_TYPES_NAME)
+                    .forEach(v -> httpCompression.contentType(JsonString.class.cast(v).getString()));
+            }
+
+            if (compression.containsKey(COMPRESSION_MIN_LENGTH_NAME))
+            {
+                httpCompression.minLength(compression.getInt(COMPRESSION_MIN_LENGTH_NAME));
+            }
+
+            httpCompression.build();
+        }
+
         return httpOptions.build();
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.hpack;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Pools the off-heap dynamic table buffers of {@link HpackContext}s owned by the same engine worker,
+ * and shares one staging buffer between them.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class HpackBufferPool
+{
+    private final int capacity;
+    private final Deque<MutableDirectBuffer> buffers;
+
+    private MutableDirectBuffer stagingBuffer;
+
+    public HpackBufferPool(
+        int capacity)
+    {
+        this.capacity = capacity;
+        this.buffers = new ArrayDeque<>();
+        this.stagingBuffer = allocate(capacity);
+    }
+
+    MutableDirectBuffer acquire(
+        int minCapacity)
+    {
+        final MutableDirectBuffer buffer = minCapacity <= capacity ? buffers.poll() : null;
+        return buffer != null ? buffer : allocate(Math.max(minCapacity, capacity));
+    }
+
+    void release(
+        MutableDirectBuffer buffer)
+    {
+        // only pool buffers of the common capacity, larger tables are rare
+        if (buffer.capacity() == capacity)
+        {
+            buffers.push(buffer);
+        }
+    }
+
+    MutableDirectBuffer staging(
+        int minCapacity)
+    {
+        if (stagingBuffer.capacity() < minCapacity)
+        {
+            stagingBuffer = allocate(minCapacity);
+        }
+        return stagingBuffer;
+    }
+
+    private static MutableDirectBuffer allocate(
+        int capacity)
+    {
+        return new UnsafeBuffer(ByteBuffer.allocateDirect(capacity));
+    }
+}
@@ -16,24 +16,23 @@
 package io.aklivity.zilla.runtime.binding.http.internal.hpack;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Objects.requireNonNull;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import static java.util.Arrays.fill;
+import static org.agrona.BitUtil.findNextPositivePowerOfTwo;
 
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Hashing;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class HpackContext
 {
     private static final DirectBuffer EMPTY_VALUE = new UnsafeBuffer(new byte[0]);
+    private static final int ENTRY_OVERHEAD = 32;
 
     private static final HeaderField[] STATIC_TABLE =
     {
-        /* 0  */ new HeaderField((String) null, null),
+        /* 0  */ new HeaderField(null, null),
         /* 1  */ new HeaderField(":authority", null),
         /* 2  */ new HeaderField(":method", "GET"),
         /* 3  */ new HeaderField(":method", "POST"),
@@ -109,20 +108,44 @@ public class HpackContext
     public static final DirectBuffer DEFAULT_ACCESS_CONTROL_ALLOW_ORIGIN = new UnsafeBuffer("*".getBytes(UTF_8));
 
     // Dynamic table. Entries are added at the end (since it is in reverse order,
-    // need to calculate the index accordingly)
-    /* private */ final List<HeaderField> table = new ArrayList<>();
+    // need to calculate the index accordingly). Entry bytes are appended to an
+    // off-heap buffer, compacted when the tail reaches capacity, and described
+    // by a ring of entry slots addressed by unique id (stable across evictions).
+    // The table buffer is acquired from the worker pool on first add
+    private final HpackBufferPool buffers;
+    private MutableDirectBuffer tableBuffer;
+    private int tableCapacity;
+    private int tableHead;
+    private int tableTail;
+
+    private int[] entryOffsets;
+    private int[] entryNameLengths;
+    private int[] entryValueLengths;
+    private int[] entryNameHashes;
+    private int[] entryNameValueHashes;
+    private int entryMask;
+
+    /* private */ int tableEntries;
     /* private */ int tableSize;
 
     // No need to update the following index maps for decoding context
     private final boolean encoding;
 
-    // name --> uniquie id (stable across evictions) for dynamic entries.
+    // name hash --> unique id for dynamic entries (open addressing, linear probing).
     // Used during encoding
-    private final Map<DirectBuffer, Long> name2Index = new HashMap<>();
+    private long[] nameIndex;
 
-    // (name, value) --> uniquie id (stable across evictions) for dynamic entries.
+    // (name, value) hash --> unique id for dynamic entries (open addressing, linear probing).
     // Used during encoding
-    private final Map<NameValue, Long> namevalue2Index = new HashMap<>();
+    private long[] nameValueIndex;
+    private int indexMask;
+
+    private final UnsafeBuffer nameRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer valueRO = new UnsafeBuffer(0L, 0);
+    private final ExpandableArrayBuffer nameRW = new ExpandableArrayBuffer(64);
+    private final ExpandableArrayBuffer valueRW = new ExpandableArrayBuffer(64);
+    private final UnsafeBuffer nameStringRO = new UnsafeBuffer(0L, 0);
+    private final UnsafeBuffer valueStringRO = new UnsafeBuffer(0L, 0);
 
     private int maxTableSize;
 
@@ -134,18 +157,11 @@ public class HpackContext
     {
         private final DirectBuffer name;
         private final DirectBuffer value;
-        private int size;
 
         HeaderField(String name, String value)
         {
-            this(buffer(name), buffer(value));
-        }
-
-        HeaderField(DirectBuffer name, DirectBuffer value)
-        {
-            this.name = requireNonNull(name);
-            this.value = requireNonNull(value);
-            this.size = name.capacity() + value.capacity() + 32;
+            this.name = buffer(name);
+            this.value = buffer(value);
         }
 
         private static DirectBuffer buffer(String str)
@@ -160,112 +176,146 @@ public class HpackContext
     }
 
     public HpackContext(int maxTableSize, boolean encoding)
+    {
+        this(maxTableSize, encoding, new HpackBufferPool(maxTableSize));
+    }
+
+    public HpackContext(int maxTableSize, boolean encoding, HpackBufferPool buffers)
     {
         this.maxTableSize = maxTableSize;
         this.encoding = encoding;
+        this.buffers = buffers;
+        allocate(maxTableSize);
     }
 
     void add(String name, String value)
     {
-        DirectBuffer nameBuffer = new UnsafeBuffer(name.getBytes(UTF_8));
-        DirectBuffer valueBuffer = new UnsafeBuffer(value.getBytes(UTF_8));
-
-        add(nameBuffer, valueBuffer);
+        add(string(nameRW, nameStringRO, name), string(valueRW, valueStringRO, value));
     }
 
     public void add(DirectBuffer nameBuffer, DirectBuffer valueBuffer)
     {
-        HeaderField header = new HeaderField(nameBuffer, valueBuffer);
+        final int nameLength = nameBuffer.capacity();
+        final int valueLength = valueBuffer.capacity();
+        final int size = nameLength + valueLength + ENTRY_OVERHEAD;
 
-        // See if the header can be added to dynamic table. Calculate the
-        // number of entries to be evicted to make space in the table.
-        int noEntries = 0;
-        int wouldbeSize = tableSize + header.size;
-        while (noEntries < table.size() && wouldbeSize > maxTableSize)
+        // See if the header can be added to dynamic table. Evict older
+        // entries to make space in the table.
+        if (size > maxTableSize)
         {
-            wouldbeSize -= table.get(noEntries).size;
-            noEntries++;
+            evict(tableEntries);
+            return;
         }
-        if (noEntries > 0)
+
+        while (tableEntries > 0 && tableSize + size > maxTableSize)
         {
-            evict(noEntries);
+            evict(1);
         }
 
-        // After evicting older entries, add the current one if space available
-        boolean spaceAvailable = wouldbeSize <= maxTableSize;
-        if (spaceAvailable)
+        if (tableBuffer == null)
         {
-            if (encoding)
-            {
-                long id = noEvictions + table.size();
+            tableBuffer = buffers.acquire(tableCapacity);
+        }
 
-                name2Index.putIfAbsent(header.name, id);
+        final int length = nameLength + valueLength;
+        if (tableTail + length > tableBuffer.capacity())
+        {
+            // name or value may refer to an entry evicted above,
+            // so stage them before compaction moves the live entries
+            final MutableDirectBuffer stagingBuffer = buffers.staging(length);
+            stagingBuffer.putBytes(0, nameBuffer, 0, nameLength);
+            stagingBuffer.putBytes(nameLength, valueBuffer, 0, valueLength);
+            compact();
+            tableBuffer.putBytes(tableTail, stagingBuffer, 0, length);
+        }
+        else
+        {
+            tableBuffer.putBytes(tableTail, nameBuffer, 0, nameLength);
+            tableBuffer.putBytes(tableTail + nameLength, valueBuffer, 0, valueLength);
+        }
 
-                NameValue nameValue = new NameValue(header.name, header.value);
-                namevalue2Index.putIfAbsent(nameValue, id);
-            }
-            table.add(header);
-            tableSize += header.size;
+        final long id = noEvictions + tableEntries;
+        final int entry = (int) (id & entryMask);
+        final int nameHash = hash(tableBuffer, tableTail, nameLength);
+        final int valueHash = hash(tableBuffer, tableTail + nameLength, valueLength);
+
+        entryOffsets[entry] = tableTail;
+        entryNameLengths[entry] = nameLength;
+        entryValueLengths[entry] = valueLength;
+        entryNameHashes[entry] = nameHash;
+        entryNameValueHashes[entry] = 31 * nameHash + valueHash;
+
+        if (encoding)
+        {
+            indexPut(nameIndex, entryNameHashes[entry], id);
+            indexPut(nameValueIndex, entryNameValueHashes[entry], id);
         }
+
+        tableTail += length;
+        tableEntries++;
+        tableSize += size;
     }
 
     public void updateSize(int newMaxTableSize)
     {
-        if (newMaxTableSize < maxTableSize)
+        // Evict entries so that table size is under new max table size
+        while (tableEntries > 0 && tableSize > newMaxTableSize)
         {
-            // Calculate the number of entries to be evicted so that table size is
-            // under new max table size
-            int wouldbeSize = maxTableSize;
-            int noEntries = 0;
-
-            while (noEntries < table.size() && wouldbeSize > newMaxTableSize)
-            {
-                wouldbeSize -= table.get(noEntries).size;
-                noEntries++;
-            }
-            if (noEntries > 0)
-            {
-                evict(noEntries);
-            }
+            evict(1);
+        }
 
+        if (newMaxTableSize > tableCapacity)
+        {
+            reallocate(newMaxTableSize);
         }
 
         this.maxTableSize = newMaxTableSize;
     }
 
+    // Evicts all entries and returns the table buffer to the worker pool
+    public void release()
+    {
+        evict(tableEntries);
+
+        if (tableBuffer != null)
+        {
+            buffers.release(tableBuffer);
+            tableBuffer = null;
+        }
+    }
+
     // Evicts older entries from dynamic table
     private void evict(int noEntries)
     {
         for (int i = 0; i < noEntries; i++)
         {
-            HeaderField header = table.get(i);
-            tableSize -= header.size;
+            final long id = noEvictions;
+            final int entry = (int) (id & entryMask);
 
             if (encoding)
             {
-                Long id = noEvictions + i;
-                if (id.equals(name2Index.get(header.name)))
-                {
-                    name2Index.remove(header.name, id);
-
-                }
-                NameValue nameValue = new NameValue(header.name, header.value);
-                if (id.equals(namevalue2Index.get(nameValue)))
-                {
-                    namevalue2Index.remove(nameValue, id);
-                }
+                indexRemove(nameIndex, entryNameHashes, id);
+                indexRemove(nameValueIndex, entryNameValueHashes, id);
             }
+
+            tableSize -= entryNameLengths[entry] + entryValueLengths[entry] + ENTRY_OVERHEAD;
+            tableEntries--;
+            noEvictions++;
+            tableHead = entryOffsets[(int) (noEvictions & entryMask)];
         }
 
-        table.subList(0, noEntries).clear();
-        noEvictions += noEntries;
+        if (tableEntries == 0)
+        {
+            tableHead = 0;
+            tableTail = 0;
+        }
     }
 
     // @return true if the index is valid
     //         false otherwise
     public boolean valid(int index)
     {
-        return index != 0 && index < STATIC_TABLE.length + table.size();
+        return index != 0 && index < STATIC_TABLE_LENGTH + tableEntries;
     }
 
     String name(int index)
@@ -280,9 +330,19 @@ public class HpackContext
         {
             throw new IllegalArgumentException("Invalid index = " + index + " in HPACK context");
         }
-        return index < STATIC_TABLE.length
-                ? STATIC_TABLE[index].name
-                : table.get(table.size() - (index - STATIC_TABLE_LENGTH) - 1).name;
+
+        DirectBuffer name;
+        if (index < STATIC_TABLE_LENGTH)
+        {
+            name = STATIC_TABLE[index].name;
+        }
+        else
+        {
+            final int entry = indexToEntry(index);
+            nameRO.wrap(tableBuffer, entryOffsets[entry], entryNameLengths[entry]);
+            name = nameRO;
+        }
+        return name;
     }
 
     String value(int index)
@@ -297,84 +357,248 @@ public class HpackContext
         {
             throw new IllegalArgumentException("Invalid index = " + index + " in HPACK context");
         }
-        return index < STATIC_TABLE.length
-                ? STATIC_TABLE[index].value
-                : table.get(table.size() - (index - STATIC_TABLE_LENGTH) - 1).value;
+
+        DirectBuffer value;
+        if (index < STATIC_TABLE_LENGTH)
+        {
+            value = STATIC_TABLE[index].value;
+        }
+        else
+        {
+            final int entry = indexToEntry(index);
+            valueRO.wrap(tableBuffer, entryOffsets[entry] + entryNameLengths[entry], entryValueLengths[entry]);
+            value = valueRO;
+        }
+        return value;
     }
 
     int index(String name)
     {
-        DirectBuffer nameBuffer = new UnsafeBuffer(name.getBytes(UTF_8));
-        return index(nameBuffer);
+        return index(string(nameRW, nameStringRO, name));
     }
 
     public int index(DirectBuffer name)
     {
         int index = staticIndex(name);
         // If there is no entry in static table, look in dynamic table
-        if (index == -1)
+        if (index == -1 && encoding && tableEntries > 0)
         {
-            Long id = name2Index.get(name);
-            index = (id != null) ? idToIndex(id) : -1;
+            final int nameHash = hash(name, 0, name.capacity());
+
+            long match = -1L;
+            for (int slot = Hashing.hash(nameHash, indexMask); nameIndex[slot] != -1L; slot = (slot + 1) & indexMask)
+            {
+                final long id = nameIndex[slot];
+                final int entry = (int) (id & entryMask);
+                if (id > match &&
+                    entryNameHashes[entry] == nameHash &&
+                    equals(name, entryOffsets[entry], entryNameLengths[entry]))
+                {
+                    match = id;
+                }
+            }
+
+            index = match != -1L ? idToIndex(match) : -1;
         }
         return index;
     }
 
     int index(String name, String value)
     {
-        DirectBuffer nameBuffer = new UnsafeBuffer(name.getBytes(UTF_8));
-        DirectBuffer valueBuffer = new UnsafeBuffer(value.getBytes(UTF_8));
-
-        return index(nameBuffer, valueBuffer);
+        return index(string(nameRW, nameStringRO, name), string(valueRW, valueStringRO, value));
     }
 
     public int index(DirectBuffer name, DirectBuffer value)
     {
         int index = staticIndex(name, value);
         // If there is no entry in static table, look in dynamic table
-        if (index == -1)
+        if (index == -1 && encoding && tableEntries > 0)
         {
-            Long id = namevalue2Index.get(new NameValue(name, value));
-            return (id != null) ? idToIndex(id) : -1;
+            final int nameLength = name.capacity();
+            final int nameHash = hash(name, 0, nameLength);
+            final int nameValueHash = 31 * nameHash + hash(value, 0, value.capacity());
+
+            long match = -1L;
+            for (int slot = Hashing.hash(nameValueHash, indexMask);
+                 nameValueIndex[slot] != -1L;
+                 slot = (slot + 1) & indexMask)
+            {
+                final long id = nameValueIndex[slot];
+                final int entry = (int) (id & entryMask);
+                if (id > match &&
+                    entryNameValueHashes[entry] == nameValueHash &&
+                    equals(name, entryOffsets[entry], entryNameLengths[entry]) &&
+                    equals(value, entryOffsets[entry] + entryNameLengths[entry], entryValueLengths[entry]))
+                {
+                    match = id;
+                }
+            }
+
+            index = match != -1L ? idToIndex(match) : -1;
         }
         return index;
     }
 
     private int idToIndex(long id)
     {
-        return (int) (STATIC_TABLE_LENGTH + table.size() - (id - noEvictions) - 1);
+        return (int) (STATIC_TABLE_LENGTH + tableEntries - (id - noEvictions) - 1);
+    }
 
+    private int indexToEntry(int index)
+    {
+        final long id = noEvictions + tableEntries - (index - STATIC_TABLE_LENGTH) - 1;
+        return (int) (id & entryMask);
     }
 
-    private static final class NameValue
+    private void allocate(
+        int capacity)
     {
-        private final DirectBuffer name;
-        private final DirectBuffer value;
-        private final int hash;
+        // every entry has at least 32 bytes of overhead, bounding the number of entries
+        final int entryCapacity = findNextPositivePowerOfTwo(capacity / ENTRY_OVERHEAD + 1);
+        final int indexCapacity = entryCapacity << 1;
+
+        this.tableCapacity = capacity;
+        this.entryOffsets = new int[entryCapacity];
+        this.entryNameLengths = new int[entryCapacity];
+        this.entryValueLengths = new int[entryCapacity];
+        this.entryNameHashes = new int[entryCapacity];
+        this.entryNameValueHashes = new int[entryCapacity];
+        this.entryMask = entryCapacity - 1;
+
+        if (encoding)
+        {
+            this.nameIndex = new long[indexCapacity];
+            this.nameValueIndex = new long[indexCapacity];
+            fill(nameIndex, -1L);
+            fill(nameValueIndex, -1L);
+            this.indexMask = indexCapacity - 1;
+        }
+    }
 
-        NameValue(DirectBuffer name, DirectBuffer value)
+    private void reallocate(
+        int newMaxTableSize)
+    {
+        final MutableDirectBuffer oldTableBuffer = tableBuffer;
+        final int[] oldEntryOffsets = entryOffsets;
+        final int[] oldEntryNameLengths = entryNameLengths;
+        final int[] oldEntryValueLengths = entryValueLengths;
+        final int oldEntryMask = entryMask;
+        final int oldTableEntries = tableEntries;
+
+        allocate(newMaxTableSize);
+
+        tableBuffer = null;
+        tableHead = 0;
+        tableTail = 0;
+        tableEntries = 0;
+        tableSize = 0;
+
+        for (int i = 0; i < oldTableEntries; i++)
+        {
+            final int entry = (int) ((noEvictions + i) & oldEntryMask);
+            final int offset = oldEntryOffsets[entry];
+            nameRO.wrap(oldTableBuffer, offset, oldEntryNameLengths[entry]);
+            valueRO.wrap(oldTableBuffer, offset + oldEntryNameLengths[entry], oldEntryValueLengths[entry]);
+            add(nameRO, valueRO);
+        }
+
+        if (oldTableBuffer != null)
         {
-            this.name = name;
-            this.value = value;
-            this.hash = Objects.hash(name, value);
+            buffers.release(oldTableBuffer);
         }
+    }
 
-        @Override
-        public boolean equals(Object obj)
+    // Moves the live entry bytes to the start of the table buffer
+    private void compact()
+    {
+        final int length = tableTail - tableHead;
+        if (tableHead != 0)
         {
-            if (obj instanceof NameValue)
+            tableBuffer.putBytes(0, tableBuffer, tableHead, length);
+            for (int i = 0; i < tableEntries; i++)
             {
-                NameValue other = (NameValue) obj;
-                return Objects.equals(name, other.name) && Objects.equals(value, other.value);
+                entryOffsets[(int) ((noEvictions + i) & entryMask)] -= tableHead;
             }
-            return false;
         }
+        tableHead = 0;
+        tableTail = length;
+    }
 
-        @Override
-        public int hashCode()
+    private void indexPut(
+        long[] index,
+        int hash,
+        long id)
+    {
+        int slot = Hashing.hash(hash, indexMask);
+        while (index[slot] != -1L)
+        {
+            slot = (slot + 1) & indexMask;
+        }
+        index[slot] = id;
+    }
+
+    private void indexRemove(
+        long[] index,
+        int[] hashes,
+        long id)
+    {
+        int slot = Hashing.hash(hashes[(int) (id & entryMask)], indexMask);
+        while (index[slot] != id)
         {
-            return hash;
+            slot = (slot + 1) & indexMask;
         }
+
+        // backward shift deletion keeps probe sequences intact without tombstones
+        int hole = slot;
+        int next = (hole + 1) & indexMask;
+        while (index[next] != -1L)
+        {
+            final long candidate = index[next];
+            final int home = Hashing.hash(hashes[(int) (candidate & entryMask)], indexMask);
+            if (((next - home) & indexMask) >= ((next - hole) & indexMask))
+            {
+                index[hole] = candidate;
+                hole = next;
+            }
+            next = (next + 1) & indexMask;
+        }
+        index[hole] = -1L;
+    }
+
+    private boolean equals(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        boolean equals = buffer.capacity() == length;
+        for (int i = 0; equals && i < length; i++)
+        {
+            equals = buffer.getByte(i) == tableBuffer.getByte(offset + i);
+        }
+        return equals;
+    }
+
+    private static int hash(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        int hash = 0;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31 * hash + buffer.getByte(offset + i);
+        }
+        return hash;
+    }
+
+    private static DirectBuffer string(
+        MutableDirectBuffer buffer,
+        UnsafeBuffer bufferRO,
+        String value)
+    {
+        final int length = buffer.putStringWithoutLengthUtf8(0, value);
+        bufferRO.wrap(buffer, 0, length);
+        return bufferRO;
     }
 
     /*
@@ -21,7 +21,7 @@ import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 
 public class Http2Settings
 {
-    private static final int DEFAULT_HEADER_TABLE_SIZE = 4096;
+    static final int DEFAULT_HEADER_TABLE_SIZE = 4096;
     private static final int DEFAULT_ENABLE_PUSH = 1;
     private static final int DEFAULT_MAX_CONCURRENT_STREAMS = Integer.MAX_VALUE;
     private static final int DEFAULT_INITIAL_WINDOW_SIZE = 65_535;
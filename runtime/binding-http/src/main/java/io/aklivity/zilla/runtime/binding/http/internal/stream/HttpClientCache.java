@@ -0,0 +1,255 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.stream;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.agrona.DirectBuffer;
+
+final class HttpClientCache
+{
+    private final Map<String, Entry> entries;
+    private final int capacity;
+    private final long sizeMax;
+
+    private long size;
+
+    HttpClientCache(
+        int capacity,
+        long sizeMax)
+    {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.capacity = capacity;
+        this.sizeMax = sizeMax;
+    }
+
+    Entry get(
+        String key)
+    {
+        return entries.get(key);
+    }
+
+    void put(
+        String key,
+        Entry entry)
+    {
+        if (capacity > 0 && entry.size() <= sizeMax)
+        {
+            final Entry previous = entries.put(key, entry);
+            size += entry.size() - (previous != null ? previous.size() : 0);
+
+            for (Iterator<Entry> i = entries.values().iterator();
+                 i.hasNext() && (entries.size() > capacity || size > sizeMax); )
+            {
+                Entry eldest = i.next();
+                i.remove();
+                size -= eldest.size();
+            }
+        }
+    }
+
+    void remove(
+        String key)
+    {
+        final Entry entry = entries.remove(key);
+        if (entry != null)
+        {
+            size -= entry.size();
+        }
+    }
+
+    boolean cacheable(
+        long length)
+    {
+        return capacity > 0 && length <= sizeMax;
+    }
+
+    int entries()
+    {
+        return entries.size();
+    }
+
+    static final class Entry
+    {
+        final DirectBuffer headers;
+        final DirectBuffer content;
+        final Map<String, String> varying;
+        final String etag;
+
+        private long storedAt;
+        private long freshUntil;
+        private long staleUntil;
+
+        Entry(
+            DirectBuffer headers,
+            DirectBuffer content,
+            Map<String, String> varying,
+            String etag,
+            Control control,
+            long now)
+        {
+            this.headers = headers;
+            this.content = content;
+            this.varying = varying;
+            this.etag = etag;
+            refresh(control, now);
+        }
+
+        boolean fresh(
+            long now)
+        {
+            return now < freshUntil;
+        }
+
+        boolean usable(
+            long now)
+        {
+            return now < staleUntil;
+        }
+
+        long age(
+            long now)
+        {
+            return Math.max(now - storedAt, 0L) / 1000L;
+        }
+
+        boolean matches(
+            Function<String, String> request)
+        {
+            boolean matches = true;
+            for (Map.Entry<String, String> vary : varying.entrySet())
+            {
+                matches &= Objects.equals(vary.getValue(), request.apply(vary.getKey()));
+            }
+            return matches;
+        }
+
+        void refresh(
+            Control control,
+            long now)
+        {
+            final long lifetime = Math.max(control.lifetime() - control.age, 0L) * 1000L;
+            this.storedAt = now - control.age * 1000L;
+            this.freshUntil = now + lifetime;
+            this.staleUntil = freshUntil + Math.max(control.staleWhileRevalidate, 0L) * 1000L;
+        }
+
+        int size()
+        {
+            return headers.capacity() + content.capacity();
+        }
+    }
+
+    static final class Control
+    {
+        long maxAge;
+        long sharedMaxAge;
+        long staleWhileRevalidate;
+        long age;
+        boolean noStore;
+        boolean noCache;
+        boolean restricted;
+
+        Control reset()
+        {
+            maxAge = -1L;
+            sharedMaxAge = -1L;
+            staleWhileRevalidate = -1L;
+            age = 0L;
+            noStore = false;
+            noCache = false;
+            restricted = false;
+            return this;
+        }
+
+        Control cacheControl(
+            String value)
+        {
+            if (value != null)
+            {
+                for (String directive : value.split(","))
+                {
+                    final String trimmed = directive.trim().toLowerCase();
+                    final int equals = trimmed.indexOf('=');
+                    final String name = equals != -1 ? trimmed.substring(0, equals).trim() : trimmed;
+                    final long seconds = equals != -1 ? seconds(trimmed.substring(equals + 1)) : -1L;
+
+                    switch (name)
+                    {
+                    case "max-age":
+                        maxAge = seconds;
+                        break;
+                    case "s-maxage":
+                        sharedMaxAge = seconds;
+                        break;
+                    case "stale-while-revalidate":
+                        staleWhileRevalidate = seconds;
+                        break;
+                    case "no-store":
+                        noStore = true;
+                        break;
+                    case "no-cache":
+                        noCache = true;
+                        break;
+                    case "private":
+                        restricted = true;
+                        break;
+                    default:
+                        break;
+                    }
+                }
+            }
+            return this;
+        }
+
+        Control age(
+            String value)
+        {
+            age = value != null ? Math.max(seconds(value), 0L) : 0L;
+            return this;
+        }
+
+        long lifetime()
+        {
+            return sharedMaxAge != -1L ? sharedMaxAge : maxAge;
+        }
+
+        boolean storable()
+        {
+            return !noStore && !noCache && !restricted &&
+                (lifetime() > age || lifetime() != -1L && staleWhileRevalidate > 0L);
+        }
+
+        private static long seconds(
+            String value)
+        {
+            long seconds = -1L;
+            try
+            {
+                seconds = Long.parseLong(value.trim().replace("\"", ""));
+            }
+            catch (NumberFormatException ex)
+            {
+                // invalid delta-seconds
+            }
+            return seconds;
+        }
+    }
+}
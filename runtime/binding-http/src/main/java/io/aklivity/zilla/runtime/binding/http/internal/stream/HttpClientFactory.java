@@ -32,10 +32,12 @@ import static java.lang.Integer.parseInt;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.util.Collections.emptyMap;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -85,6 +87,7 @@ import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2WindowUpdateFW
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpBindingConfig;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpRequestType;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpRouteConfig;
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackBufferPool;
 import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackContext;
 import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackHeaderBlockFW;
 import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackHeaderFieldFW;
@@ -143,6 +146,7 @@ public final class HttpClientFactory implements HttpStreamFactory
 
     private static final int NO_CONTENT_LENGTH = -1;
     private static final int CLIENT_INITIATED = 1;
+    private static final int HUFFMAN_DECODE_CAPACITY = 4096;
     private static final long MAX_REMOTE_BUDGET = Integer.MAX_VALUE;
 
     private static final byte[] HTTP_1_1_BYTES = "HTTP/1.1".getBytes(US_ASCII);
@@ -172,6 +176,17 @@ public final class HttpClientFactory implements HttpStreamFactory
     private static final String AUTHORITY = ":authority";
     private static final String SCHEME = ":scheme";
     private static final String CACHE_CONTROL = "cache-control";
+    private static final String STATUS = ":status";
+    private static final String AUTHORIZATION = "authorization";
+    private static final String RANGE = "range";
+    private static final String AGE = "age";
+    private static final String ETAG = "etag";
+    private static final String VARY = "vary";
+    private static final String SET_COOKIE = "set-cookie";
+    private static final String IF_NONE_MATCH = "if-none-match";
+    private static final String STATUS_200 = "200";
+    private static final String STATUS_304 = "304";
+    private static final String8FW HEADER_AGE = new String8FW("age");
     private static final String8FW HEADER_AUTHORITY = new String8FW(":authority");
     private static final String8FW HEADER_USER_AGENT = new String8FW("user-agent");
     private static final String8FW HEADER_CONNECTION = new String8FW("connection");
@@ -214,6 +229,7 @@ public final class HttpClientFactory implements HttpStreamFactory
 
     private final HttpBeginExFW beginExRO = new HttpBeginExFW();
     private final HttpEndExFW endExRO = new HttpEndExFW();
+    private final Array32FW<HttpHeaderFW> cacheHeadersRO = new Array32FW<>(new HttpHeaderFW());
 
     private final WindowFW windowRO = new WindowFW();
     private final ResetFW resetRO = new ResetFW();
@@ -317,6 +333,7 @@ public final class HttpClientFactory implements HttpStreamFactory
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer codecBuffer;
     private final BufferPool bufferPool;
+    private final HpackBufferPool hpackBuffers;
     private final BufferPool headersPool;
     private final BudgetCreditor creditor;
     private final MutableDirectBuffer extBuffer;
@@ -330,6 +347,10 @@ public final class HttpClientFactory implements HttpStreamFactory
     private final LongSupplier supplyBudgetId;
     private final Long2ObjectHashMap<HttpClientPool> clientPools;
     private final Long2ObjectHashMap<HttpBindingConfig> bindings;
+    private final HttpClientCache cache;
+    private final Clock clock;
+    private final Map<String, HttpCacheFetch> cacheFetches;
+    private final MutableDirectBuffer cacheBuffer;
     private final Matcher responseLine;
     private final Matcher versionPart;
     private final Matcher headerLine;
@@ -354,6 +375,7 @@ public final class HttpClientFactory implements HttpStreamFactory
         this.frameBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.extBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.bufferPool = context.bufferPool();
+        this.hpackBuffers = new HpackBufferPool(Http2Settings.DEFAULT_HEADER_TABLE_SIZE);
         this.headersPool = bufferPool.duplicate();
         this.creditor = context.creditor();
         this.initialSettings = new Http2Settings(config, headersPool);
@@ -381,6 +403,12 @@ public final class HttpClientFactory implements HttpStreamFactory
         this.encodeMax = bufferPool.slotCapacity();
         this.supplyValidator = context::supplyValidator;
         this.verbose = config.verbose();
+        this.cache = config.clientCacheCapacity() > 0
+            ? new HttpClientCache(config.clientCacheCapacity(), config.clientCacheSizeMax())
+            : null;
+        this.clock = context.clock();
+        this.cacheFetches = new HashMap<>();
+        this.cacheBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
 
         final byte[] settingsPayload = new byte[12];
         http2SettingsRW.wrap(frameBuffer, 0, frameBuffer.capacity())
@@ -428,12 +456,14 @@ public final class HttpClientFactory implements HttpStreamFactory
         final HttpBindingConfig binding = bindings.get(bindingId);
 
         HttpRouteConfig route = null;
+        Map<String, String> requestHeaders = EMPTY_HEADERS;
 
         if (binding != null)
         {
             // TODO: avoid object creation
             final Map<String, String> headers = beginEx != null ? asHeadersMap(beginEx.headers()) : EMPTY_HEADERS;
             route = binding.resolve(authorization, headers::get);
+            requestHeaders = headers;
         }
 
         MessageConsumer newStream = null;
@@ -447,12 +477,136 @@ public final class HttpClientFactory implements HttpStreamFactory
             // TODO: store client pools on HttpBindingConfig ?
             final HttpClientPool clientPool =
                     clientPools.computeIfAbsent(resolvedId, r -> new HttpClientPool(bindingId, r));
-            newStream = clientPool.newStream(begin, application, overrides, binding.versions());
+            final String cacheKey = cache != null ? cacheKey(resolvedId, requestHeaders) : null;
+
+            newStream = cacheKey != null
+                ? newCacheStream(clientPool, begin, application, overrides, binding.versions(), requestHeaders, cacheKey)
+                : clientPool.newStream(begin, application, overrides, binding.versions());
         }
 
         return newStream;
     }
 
+    private String cacheKey(
+        long resolvedId,
+        Map<String, String> headers)
+    {
+        String key = null;
+
+        if (GET_METHOD.equals(headers.get(METHOD)) &&
+            !headers.containsKey(AUTHORIZATION) &&
+            !headers.containsKey(RANGE))
+        {
+            final String cacheControl = headers.get(CACHE_CONTROL);
+            if (cacheControl == null ||
+                !cacheControl.contains("no-store") && !cacheControl.contains("no-cache"))
+            {
+                key = resolvedId + " " + headers.get(SCHEME) + " " + headers.get(AUTHORITY) + " " + headers.get(PATH);
+            }
+        }
+
+        return key;
+    }
+
+    private MessageConsumer newCacheStream(
+        HttpClientPool pool,
+        BeginFW begin,
+        MessageConsumer application,
+        Map<String8FW, String16FW> overrides,
+        SortedSet<HttpVersion> versions,
+        Map<String, String> request,
+        String key)
+    {
+        final long now = clock.millis();
+        final HttpClientCache.Entry entry = cache.get(key);
+        final HttpCacheFetch fetch = cacheFetches.get(key);
+
+        MessageConsumer newStream;
+
+        if (entry != null && entry.usable(now) && entry.matches(request::get))
+        {
+            final boolean revalidate = !entry.fresh(now) && fetch == null;
+            final HttpCacheStream stream =
+                new HttpCacheStream(pool, application, begin, overrides, versions, request, key, revalidate);
+            stream.entry = entry;
+            newStream = stream::onAppMessage;
+        }
+        else if (fetch != null)
+        {
+            final HttpCacheStream waiter =
+                new HttpCacheStream(pool, application, begin, overrides, versions, request, key, false);
+            fetch.waiters.add(waiter);
+            newStream = waiter::onAppMessage;
+        }
+        else
+        {
+            final HttpCacheFetch newFetch = new HttpCacheFetch(key, request, null, application);
+            cacheFetches.put(key, newFetch);
+            newStream = newFetch.attach(pool.newStream(begin, newFetch::onReply, overrides, versions));
+        }
+
+        return newStream;
+    }
+
+    private void doCacheRevalidate(
+        HttpClientPool pool,
+        long originId,
+        long routedId,
+        long authorization,
+        Map<String8FW, String16FW> overrides,
+        SortedSet<HttpVersion> versions,
+        Map<String, String> request,
+        String key,
+        HttpClientCache.Entry entry)
+    {
+        final long initialId = supplyInitialId.applyAsLong(routedId);
+        final long replyId = supplyReplyId.applyAsLong(initialId);
+        final long traceId = supplyTraceId.getAsLong();
+
+        final HttpBeginExFW beginEx = beginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                .typeId(httpTypeId)
+                .headers(hs ->
+                {
+                    request.forEach((n, v) ->
+                    {
+                        if (!IF_NONE_MATCH.equals(n))
+                        {
+                            hs.item(h -> h.name(n).value(v));
+                        }
+                    });
+
+                    if (entry.etag != null)
+                    {
+                        hs.item(h -> h.name(IF_NONE_MATCH).value(entry.etag));
+                    }
+                })
+                .build();
+
+        final BeginFW begin = beginRW.wrap(cacheBuffer, 0, cacheBuffer.capacity())
+                .originId(originId)
+                .routedId(routedId)
+                .streamId(initialId)
+                .sequence(0L)
+                .acknowledge(0L)
+                .maximum(0)
+                .traceId(traceId)
+                .authorization(authorization)
+                .affinity(0L)
+                .extension(beginEx.buffer(), beginEx.offset(), beginEx.sizeof())
+                .build();
+
+        final HttpCacheRevalidator revalidator = new HttpCacheRevalidator(originId, routedId, replyId);
+        final HttpCacheFetch fetch = new HttpCacheFetch(key, request, entry, revalidator::onExchangeMessage);
+        cacheFetches.put(key, fetch);
+
+        final int beginSize = begin.sizeof();
+        final MessageConsumer exchange = pool.newStream(begin, fetch::onReply, overrides, versions);
+        revalidator.exchange = exchange;
+
+        exchange.accept(BeginFW.TYPE_ID, cacheBuffer, 0, beginSize);
+        doEnd(exchange, originId, routedId, initialId, 0L, 0L, 0, traceId, authorization, EMPTY_OCTETS);
+    }
+
     private MessageConsumer newStream(
         MessageConsumer sender,
         long originId,
@@ -2316,8 +2470,8 @@ public final class HttpClientFactory implements HttpStreamFactory
             this.remoteSettings = new Http2Settings();
             this.applicationHeadersProcessed = new LongHashSet();
             this.promises = new ArrayList<>(maximumPushPromiseListSize);
-            this.decodeContext = new HpackContext(localSettings.headerTableSize, false);
-            this.encodeContext = new HpackContext(remoteSettings.headerTableSize, true);
+            this.decodeContext = new HpackContext(localSettings.headerTableSize, false, hpackBuffers);
+            this.encodeContext = new HpackContext(remoteSettings.headerTableSize, true, hpackBuffers);
             this.encodeHeadersBuffer = new ExpandableArrayBuffer();
             this.encodeReservedBuffer = new ExpandableArrayBuffer();
             this.decodeSlot = NO_SLOT;
@@ -2520,6 +2674,7 @@ public final class HttpClientFactory implements HttpStreamFactory
             if (decodeSlot == NO_SLOT)
             {
                 state = HttpState.closeReply(state);
+                decodeContext.release();
                 doNetworkEnd(traceId, authorization);
             }
         }
@@ -2533,6 +2688,7 @@ public final class HttpClientFactory implements HttpStreamFactory
             state = HttpState.closeReply(state);
 
             cleanupDecodeSlotIfNecessary();
+            decodeContext.release();
 
             pool.exchanges.forEach((id, exchange) -> exchange.cleanup(traceId, authorization));
 
@@ -2553,6 +2709,7 @@ public final class HttpClientFactory implements HttpStreamFactory
 
             cleanupBudgetCreditorIfNecessary();
             cleanupEncodeSlotIfNecessary();
+            encodeContext.release();
 
             pool.exchanges.forEach((id, exchange) -> exchange.cleanup(traceId, authorization));
 
@@ -2719,6 +2876,7 @@ public final class HttpClientFactory implements HttpStreamFactory
 
                 cleanupBudgetCreditorIfNecessary();
                 cleanupEncodeSlotIfNecessary();
+                encodeContext.release();
 
                 doEnd(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
                         traceId, authorization, EMPTY_OCTETS);
@@ -2740,6 +2898,7 @@ public final class HttpClientFactory implements HttpStreamFactory
 
                 cleanupBudgetCreditorIfNecessary();
                 cleanupEncodeSlotIfNecessary();
+                encodeContext.release();
 
                 doAbort(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
                         traceId, authorization, EMPTY_OCTETS);
@@ -2759,6 +2918,7 @@ public final class HttpClientFactory implements HttpStreamFactory
             {
                 state = HttpState.closeReply(state);
                 cleanupDecodeSlotIfNecessary();
+                decodeContext.release();
                 bindings.remove(replyId);
                 doReset(network, originId, routedId, replyId, replySeq, replyAck, initialMax,
                         traceId, authorization);
@@ -5184,41 +5344,616 @@ public final class HttpClientFactory implements HttpStreamFactory
         }
     }
 
-    private final class Http2HeadersEncoder
+    private final class HttpCacheFetch
     {
-        private HpackContext context;
+        private final String key;
+        private final Map<String, String> request;
+        private final HttpClientCache.Entry revalidating;
+        private final MessageConsumer downstream;
+        private final List<HttpCacheStream> waiters;
+
+        private MessageConsumer exchange;
+        private HttpClientCache.Control control;
+        private HttpClientCache.Entry refreshed;
+        private DirectBuffer headers;
+        private MutableDirectBuffer content;
+        private int contentLength;
+        private Map<String, String> varying;
+        private String etag;
+        private boolean storing;
+        private boolean completed;
+
+        private HttpCacheFetch(
+            String key,
+            Map<String, String> request,
+            HttpClientCache.Entry revalidating,
+            MessageConsumer downstream)
+        {
+            this.key = key;
+            this.request = request;
+            this.revalidating = revalidating;
+            this.downstream = downstream;
+            this.waiters = new ArrayList<>();
+        }
+
+        private MessageConsumer attach(
+            MessageConsumer exchange)
+        {
+            this.exchange = exchange;
+            return this::onRequest;
+        }
+
+        private void onRequest(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            exchange.accept(msgTypeId, buffer, index, length);
 
-        void encodeHeaders(
-            HpackContext encodeContext,
-            Array32FW<HttpHeaderFW> headers,
+            switch (msgTypeId)
+            {
+            case AbortFW.TYPE_ID:
+            case ResetFW.TYPE_ID:
+                complete(null);
+                break;
+            default:
+                break;
+            }
+        }
+
+        private void onReply(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                onReplyBegin(begin);
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                onReplyData(data);
+                break;
+            default:
+                break;
+            }
+
+            downstream.accept(msgTypeId, buffer, index, length);
+
+            switch (msgTypeId)
+            {
+            case EndFW.TYPE_ID:
+                onReplyEnd();
+                break;
+            case AbortFW.TYPE_ID:
+            case ResetFW.TYPE_ID:
+                complete(null);
+                break;
+            default:
+                break;
+            }
+        }
+
+        private void onReplyBegin(
+            BeginFW begin)
+        {
+            final HttpBeginExFW beginEx = begin.extension().get(beginExRO::tryWrap);
+
+            if (beginEx != null)
+            {
+                final Array32FW<HttpHeaderFW> responseHeaders = beginEx.headers();
+                final Map<String, String> response = asHeadersMap(responseHeaders);
+                final String status = response.get(STATUS);
+
+                control = new HttpClientCache.Control().reset()
+                    .cacheControl(response.get(CACHE_CONTROL))
+                    .age(response.get(AGE));
+
+                if (revalidating != null && STATUS_304.equals(status))
+                {
+                    if (control.lifetime() == -1L)
+                    {
+                        final DirectBuffer stored = revalidating.headers;
+                        final Map<String, String> storedHeaders = asHeadersMap(cacheHeadersRO.wrap(stored, 0, stored.capacity()));
+                        control.cacheControl(storedHeaders.get(CACHE_CONTROL));
+                    }
+
+                    revalidating.refresh(control, clock.millis());
+                    refreshed = revalidating;
+                }
+                else
+                {
+                    if (revalidating != null)
+                    {
+                        cache.remove(key);
+                    }
+
+                    final String vary = response.get(VARY);
+
+                    storing = STATUS_200.equals(status) &&
+                        control.storable() &&
+                        !"*".equals(vary) &&
+                        !response.containsKey(SET_COOKIE) &&
+                        cache.cacheable(responseHeaders.sizeof());
+
+                    if (storing)
+                    {
+                        varying = EMPTY_HEADERS;
+                        if (vary != null)
+                        {
+                            varying = new LinkedHashMap<>();
+                            for (String name : vary.split(","))
+                            {
+                                final String varyName = name.trim().toLowerCase();
+                                varying.put(varyName, request.get(varyName));
+                            }
+                        }
+
+                        final MutableDirectBuffer storedHeaders = new UnsafeBuffer(new byte[responseHeaders.sizeof()]);
+                        storedHeaders.putBytes(0, responseHeaders.buffer(), responseHeaders.offset(), responseHeaders.sizeof());
+                        headers = storedHeaders;
+                        content = new ExpandableArrayBuffer();
+                        etag = response.get(ETAG);
+                    }
+                }
+            }
+        }
+
+        private void onReplyData(
+            DataFW data)
+        {
+            final OctetsFW payload = data.payload();
+
+            if (storing && payload != null)
+            {
+                final int size = payload.sizeof();
+
+                storing = cache.cacheable(headers.capacity() + contentLength + size);
+
+                if (storing)
+                {
+                    content.putBytes(contentLength, payload.buffer(), payload.offset(), size);
+                    contentLength += size;
+                }
+                else
+                {
+                    content = null;
+                }
+            }
+        }
+
+        private void onReplyEnd()
+        {
+            HttpClientCache.Entry entry = refreshed;
+
+            if (storing)
+            {
+                final byte[] stored = new byte[contentLength];
+                content.getBytes(0, stored);
+                entry = new HttpClientCache.Entry(headers, new UnsafeBuffer(stored), varying, etag, control,
+                    clock.millis());
+                cache.put(key, entry);
+            }
+
+            complete(entry);
+        }
+
+        private void complete(
+            HttpClientCache.Entry entry)
+        {
+            if (!completed)
+            {
+                completed = true;
+                cacheFetches.remove(key, this);
+
+                final long now = clock.millis();
+                for (HttpCacheStream waiter : waiters)
+                {
+                    if (entry != null && entry.usable(now) && entry.matches(waiter.request::get))
+                    {
+                        waiter.onCacheHit(entry);
+                    }
+                    else
+                    {
+                        waiter.onCacheMiss();
+                    }
+                }
+                waiters.clear();
+            }
+        }
+    }
+
+    private final class HttpCacheStream
+    {
+        private final HttpClientPool pool;
+        private final MessageConsumer application;
+        private final Map<String8FW, String16FW> overrides;
+        private final SortedSet<HttpVersion> versions;
+        private final Map<String, String> request;
+        private final String key;
+        private final long originId;
+        private final long routedId;
+        private final long initialId;
+        private final long replyId;
+        private final long affinity;
+        private final boolean revalidate;
+
+        private HttpClientCache.Entry entry;
+        private MessageConsumer delegate;
+        private MutableDirectBuffer deferredBegin;
+        private int state;
+        private long authorization;
+
+        private long initialSeq;
+        private long initialAck;
+
+        private long replySeq;
+        private long replyAck;
+        private int replyMax;
+        private int replyPad;
+        private long replyBud;
+        private BudgetDebitor replyDeb;
+        private long replyDebIndex = NO_DEBITOR_INDEX;
+
+        private int contentOffset;
+
+        private HttpCacheStream(
+            HttpClientPool pool,
+            MessageConsumer application,
+            BeginFW begin,
             Map<String8FW, String16FW> overrides,
-            HpackHeaderBlockFW.Builder headerBlock)
+            SortedSet<HttpVersion> versions,
+            Map<String, String> request,
+            String key,
+            boolean revalidate)
         {
-            reset(encodeContext);
+            this.pool = pool;
+            this.application = application;
+            this.overrides = overrides;
+            this.versions = versions;
+            this.request = request;
+            this.key = key;
+            this.originId = begin.originId();
+            this.routedId = begin.routedId();
+            this.initialId = begin.streamId();
+            this.replyId = supplyReplyId.applyAsLong(initialId);
+            this.affinity = begin.affinity();
+            this.revalidate = revalidate;
+        }
 
-            Map<String8FW, String16FW> headersMap = new LinkedHashMap<>();
-            headers.forEach(h -> headersMap.put(newString8FW(h.name()), newString16FW(h.value())));
-            headersMap.putAll(overrides);
+        private void onAppMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            if (delegate != null)
+            {
+                delegate.accept(msgTypeId, buffer, index, length);
+            }
+            else
+            {
+                switch (msgTypeId)
+                {
+                case BeginFW.TYPE_ID:
+                    final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                    onAppBegin(begin);
+                    break;
+                case EndFW.TYPE_ID:
+                    final EndFW end = endRO.wrap(buffer, index, index + length);
+                    onAppEnd(end);
+                    break;
+                case AbortFW.TYPE_ID:
+                    final AbortFW abort = abortRO.wrap(buffer, index, index + length);
+                    onAppAbort(abort);
+                    break;
+                case WindowFW.TYPE_ID:
+                    final WindowFW window = windowRO.wrap(buffer, index, index + length);
+                    onAppWindow(window);
+                    break;
+                case ResetFW.TYPE_ID:
+                    final ResetFW reset = resetRO.wrap(buffer, index, index + length);
+                    onAppReset(reset);
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
 
-            final String16FW authority = headersMap.get(HEADER_AUTHORITY);
-            if (authority != null)
+        private void onAppBegin(
+            BeginFW begin)
+        {
+            final long traceId = begin.traceId();
+
+            initialSeq = begin.sequence();
+            initialAck = begin.acknowledge();
+            authorization = begin.authorization();
+            state = HttpState.openingInitial(state);
+
+            if (entry == null)
+            {
+                deferredBegin = new UnsafeBuffer(new byte[begin.sizeof()]);
+                deferredBegin.putBytes(0, begin.buffer(), begin.offset(), begin.sizeof());
+            }
+            else
+            {
+                if (revalidate && !cacheFetches.containsKey(key))
+                {
+                    doCacheRevalidate(pool, originId, routedId, authorization, overrides, versions, request, key, entry);
+                }
+
+                doAppReplyCached(traceId);
+            }
+        }
+
+        private void onAppEnd(
+            EndFW end)
+        {
+            initialSeq = end.sequence();
+            state = HttpState.closeInitial(state);
+        }
+
+        private void onAppAbort(
+            AbortFW abort)
+        {
+            final long traceId = abort.traceId();
+
+            state = HttpState.closeInitial(state);
+
+            if (HttpState.replyOpening(state) && !HttpState.replyClosed(state))
+            {
+                doAbort(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, EMPTY_OCTETS);
+            }
+
+            state = HttpState.closeReply(state);
+            cleanupDebitorIfNecessary();
+        }
+
+        private void onAppWindow(
+            WindowFW window)
+        {
+            final long traceId = window.traceId();
+
+            replyAck = window.acknowledge();
+            replyMax = window.maximum();
+            replyPad = window.padding();
+            replyBud = window.budgetId();
+            state = HttpState.openReply(state);
+
+            if (replyBud != 0L && replyDebIndex == NO_DEBITOR_INDEX)
+            {
+                replyDeb = supplyDebitor.apply(replyBud);
+                replyDebIndex = replyDeb.acquire(replyBud, replyId, this::doAppReplyDataIfNecessary);
+            }
+
+            doAppReplyDataIfNecessary(traceId);
+        }
+
+        private void onAppReset(
+            ResetFW reset)
+        {
+            final long traceId = reset.traceId();
+
+            state = HttpState.closeReply(state);
+            cleanupDebitorIfNecessary();
+
+            if (!HttpState.initialClosed(state))
+            {
+                doReset(application, originId, routedId, initialId, initialSeq, initialAck, 0,
+                    traceId, authorization);
+                state = HttpState.closeInitial(state);
+            }
+        }
+
+        private void onCacheHit(
+            HttpClientCache.Entry cached)
+        {
+            if (!HttpState.replyClosed(state))
+            {
+                this.entry = cached;
+                doAppReplyCached(supplyTraceId.getAsLong());
+            }
+        }
+
+        private void onCacheMiss()
+        {
+            if (!HttpState.replyClosed(state))
             {
-                final String authorityValue = authority.asString();
-                int columnIndex = authorityValue.indexOf(":");
-                final String port = authorityValue.substring(columnIndex);
-                if (":80".equals(port) || ":443".equals(port))
+                final BeginFW begin = beginRO.wrap(deferredBegin, 0, deferredBegin.capacity());
+                delegate = pool.newStream(begin, application, overrides, versions);
+                delegate.accept(BeginFW.TYPE_ID, deferredBegin, 0, deferredBegin.capacity());
+
+                if (HttpState.initialClosed(state))
                 {
-                    headersMap.put(HEADER_AUTHORITY,  new String16FW(authorityValue.substring(0, columnIndex)));
+                    doEnd(delegate, originId, routedId, initialId, initialSeq, initialAck, 0,
+                        supplyTraceId.getAsLong(), authorization, EMPTY_OCTETS);
                 }
             }
+        }
+
+        private void doAppReplyCached(
+            long traceId)
+        {
+            doWindow(application, originId, routedId, initialId, initialSeq, initialSeq, 0,
+                traceId, authorization, 0L, 0);
 
-            final String16FW userAgentHeader = config.userAgentHeader();
-            if (userAgentHeader != null)
+            final DirectBuffer headers = entry.headers;
+            final Array32FW<HttpHeaderFW> cachedHeaders = cacheHeadersRO.wrap(headers, 0, headers.capacity());
+            final String age = Long.toString(entry.age(clock.millis()));
+
+            final HttpBeginExFW beginEx = beginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                    .typeId(httpTypeId)
+                    .headers(hs ->
+                    {
+                        cachedHeaders.forEach(h ->
+                        {
+                            if (!HEADER_AGE.equals(h.name()))
+                            {
+                                hs.item(i -> i.name(h.name()).value(h.value()));
+                            }
+                        });
+                        hs.item(i -> i.name(HEADER_AGE).value(age));
+                    })
+                    .build();
+
+            doBegin(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                traceId, authorization, affinity, beginEx);
+            state = HttpState.openingReply(state);
+
+            doAppReplyDataIfNecessary(traceId);
+        }
+
+        private void doAppReplyDataIfNecessary(
+            long traceId)
+        {
+            if (entry != null && HttpState.replyOpening(state) && !HttpState.replyClosed(state))
             {
-                headersMap.put(HEADER_USER_AGENT, userAgentHeader);
+                final DirectBuffer content = entry.content;
+
+                while (contentOffset < content.capacity())
+                {
+                    final int replyWin = replyMax - (int)(replySeq - replyAck) - replyPad;
+                    final int length = Math.min(Math.min(replyWin, encodeMax), content.capacity() - contentOffset);
+
+                    if (length <= 0)
+                    {
+                        break;
+                    }
+
+                    int reserved = length + replyPad;
+                    if (replyDebIndex != NO_DEBITOR_INDEX)
+                    {
+                        reserved = replyDeb.claim(traceId, replyDebIndex, replyId, reserved, reserved, 0);
+                    }
+
+                    if (reserved == 0)
+                    {
+                        break;
+                    }
+
+                    doData(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, replyBud, reserved, content, contentOffset, length, EMPTY_OCTETS);
+
+                    replySeq += reserved;
+                    contentOffset += length;
+                }
+
+                if (contentOffset == content.capacity())
+                {
+                    doEnd(application, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                        traceId, authorization, EMPTY_OCTETS);
+                    state = HttpState.closeReply(state);
+                    cleanupDebitorIfNecessary();
+                }
             }
+        }
 
-            headersMap.forEach((n, v) -> headerBlock.header(b -> encodeHeader(n, v, b)));
+        private void cleanupDebitorIfNecessary()
+        {
+            if (replyDebIndex != NO_DEBITOR_INDEX)
+            {
+                replyDeb.release(replyDebIndex, replyId);
+                replyDebIndex = NO_DEBITOR_INDEX;
+                replyDeb = null;
+            }
+        }
+    }
+
+    private final class HttpCacheRevalidator
+    {
+        private final long originId;
+        private final long routedId;
+        private final long replyId;
+
+        private MessageConsumer exchange;
+        private long replySeq;
+
+        private HttpCacheRevalidator(
+            long originId,
+            long routedId,
+            long replyId)
+        {
+            this.originId = originId;
+            this.routedId = routedId;
+            this.replyId = replyId;
+        }
+
+        private void onExchangeMessage(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            switch (msgTypeId)
+            {
+            case BeginFW.TYPE_ID:
+                final BeginFW begin = beginRO.wrap(buffer, index, index + length);
+                replySeq = begin.sequence();
+                doExchangeWindow(begin.traceId(), begin.authorization());
+                break;
+            case DataFW.TYPE_ID:
+                final DataFW data = dataRO.wrap(buffer, index, index + length);
+                replySeq = data.sequence() + data.reserved();
+                doExchangeWindow(data.traceId(), data.authorization());
+                break;
+            default:
+                break;
+            }
+        }
+
+        private void doExchangeWindow(
+            long traceId,
+            long authorization)
+        {
+            if (exchange != null)
+            {
+                doWindow(exchange, originId, routedId, replyId, replySeq, replySeq, encodeMax,
+                    traceId, authorization, 0L, 0);
+            }
+        }
+    }
+
+    private final class Http2HeadersEncoder
+    {
+        private HpackContext context;
+        private HpackHeaderBlockFW.Builder headerBlock;
+        private Map<String8FW, String16FW> overrides;
+        private String16FW userAgent;
+        private DirectBuffer name;
+        private DirectBuffer value;
+
+        private final List<String16FW> encodedOverrides = new ArrayList<>();
+        private final UnsafeBuffer authorityRO = new UnsafeBuffer(0L, 0);
+        private final Consumer<HttpHeaderFW> encodeHeader = this::encodeHeader;
+        private final Consumer<HttpHeaderFW> encodeOverridableHeader = this::encodeOverridableHeader;
+        private final BiConsumer<String8FW, String16FW> encodeOverride = (n, v) -> encodeOverride(n);
+        private final Consumer<HpackHeaderFieldFW.Builder> encodeHeaderField = this::encodeHeaderField;
+        private final Consumer<HpackLiteralHeaderFieldFW.Builder> encodeLiteral = this::encodeLiteral;
+
+        void encodeHeaders(
+            HpackContext encodeContext,
+            Array32FW<HttpHeaderFW> headers,
+            Map<String8FW, String16FW> overrides,
+            HpackHeaderBlockFW.Builder headerBlock)
+        {
+            reset(encodeContext, headerBlock);
+            this.overrides = overrides;
+            this.userAgent = config.userAgentHeader();
+            encodedOverrides.clear();
+
+            headers.forEach(encodeOverridableHeader);
+            overrides.forEach(encodeOverride);
+
+            if (userAgent != null)
+            {
+                encodeOverride(HEADER_USER_AGENT);
+            }
         }
 
         void encodeTrailers(
@@ -5226,50 +5961,140 @@ public final class HttpClientFactory implements HttpStreamFactory
             Array32FW<HttpHeaderFW> headers,
             HpackHeaderBlockFW.Builder headerBlock)
         {
-            reset(encodeContext);
-            headers.forEach(h -> headerBlock.header(b -> encodeHeader(h.name(), h.value(), b)));
+            reset(encodeContext, headerBlock);
+            headers.forEach(encodeHeader);
         }
 
         private void reset(
-            HpackContext encodeContext)
+            HpackContext encodeContext,
+            HpackHeaderBlockFW.Builder headerBlock)
         {
-            context = encodeContext;
+            this.context = encodeContext;
+            this.headerBlock = headerBlock;
         }
 
-        private void encodeHeader(
+        private void encodeOverridableHeader(
+            HttpHeaderFW header)
+        {
+            final String8FW name = header.name();
+
+            if (override(name) != null)
+            {
+                encodeOverride(name);
+            }
+            else
+            {
+                encodeRequestHeader(name, header.value());
+            }
+        }
+
+        // overridden header is encoded once, at its first occurrence
+        private void encodeOverride(
+            String8FW name)
+        {
+            final String16FW override = override(name);
+
+            boolean encoded = false;
+            for (int i = 0; !encoded && i < encodedOverrides.size(); i++)
+            {
+                encoded = encodedOverrides.get(i) == override;
+            }
+
+            if (!encoded)
+            {
+                encodedOverrides.add(override);
+                encodeRequestHeader(name, override);
+            }
+        }
+
+        private String16FW override(
+            String8FW name)
+        {
+            return userAgent != null && HEADER_USER_AGENT.equals(name) ? userAgent : overrides.get(name);
+        }
+
+        private void encodeRequestHeader(
             String8FW name,
-            String16FW value,
+            String16FW value)
+        {
+            if (HEADER_AUTHORITY.equals(name))
+            {
+                encodeAuthority(name.value(), value.value());
+            }
+            else
+            {
+                encodeHeader(name.value(), value.value());
+            }
+        }
+
+        // omit default port from :authority
+        private void encodeAuthority(
+            DirectBuffer name,
+            DirectBuffer value)
+        {
+            int colonAt = value.capacity() - 1;
+            while (colonAt >= 0 && value.getByte(colonAt) != ':')
+            {
+                colonAt--;
+            }
+
+            final int portLength = value.capacity() - colonAt;
+            if (colonAt >= 0 &&
+                (portLength == 3 && value.getByte(colonAt + 1) == '8' && value.getByte(colonAt + 2) == '0' ||
+                 portLength == 4 && value.getByte(colonAt + 1) == '4' && value.getByte(colonAt + 2) == '4' &&
+                                    value.getByte(colonAt + 3) == '3'))
+            {
+                authorityRO.wrap(value, 0, colonAt);
+                value = authorityRO;
+            }
+
+            encodeHeader(name, value);
+        }
+
+        private void encodeHeader(
+            HttpHeaderFW header)
+        {
+            encodeHeader(header.name().value(), header.value().value());
+        }
+
+        private void encodeHeader(
+            DirectBuffer name,
+            DirectBuffer value)
+        {
+            this.name = name;
+            this.value = value;
+            headerBlock.header(encodeHeaderField);
+        }
+
+        private void encodeHeaderField(
             HpackHeaderFieldFW.Builder builder)
         {
-            final int index = context.index(name.value(), value.value());
+            final int index = context.index(name, value);
             if (index != -1)
             {
                 builder.indexed(index);
             }
             else
             {
-                builder.literal(literal -> encodeLiteral(literal, context, name.value(), value.value()));
+                builder.literal(encodeLiteral);
             }
         }
 
         // TODO dynamic table, Huffman, never indexed
         private void encodeLiteral(
-            HpackLiteralHeaderFieldFW.Builder builder,
-            HpackContext hpackContext,
-            DirectBuffer nameBuffer,
-            DirectBuffer valueBuffer)
+            HpackLiteralHeaderFieldFW.Builder builder)
         {
             builder.type(WITHOUT_INDEXING);
-            final int nameIndex = hpackContext.index(nameBuffer);
+            final int nameIndex = context.index(name);
             if (nameIndex != -1)
             {
                 builder.name(nameIndex);
             }
             else
             {
-                builder.name(nameBuffer, 0, nameBuffer.capacity());
+                builder.name(name, 0, name.capacity());
             }
-            builder.value(valueBuffer, 0, valueBuffer.capacity());
+            builder.value(value, 0, value.capacity());
         }
     }
 
@@ -5281,6 +6106,10 @@ public final class HttpClientFactory implements HttpStreamFactory
 
         private final Consumer<HpackHeaderFieldFW> decodeHeader;
         private final Consumer<HpackHeaderFieldFW> decodeTrailer;
+        private final MutableDirectBuffer huffmanNameRW = new UnsafeBuffer(new byte[HUFFMAN_DECODE_CAPACITY]);
+        private final MutableDirectBuffer huffmanValueRW = new UnsafeBuffer(new byte[HUFFMAN_DECODE_CAPACITY]);
+        private final UnsafeBuffer huffmanNameRO = new UnsafeBuffer(0L, 0);
+        private final UnsafeBuffer huffmanValueRO = new UnsafeBuffer(0L, 0);
 
 
         Http2ErrorCode connectionError;
@@ -5526,14 +6355,14 @@ public final class HttpClientFactory implements HttpStreamFactory
                     value = hpackValue.payload();
                     if (hpackValue.huffman())
                     {
-                        MutableDirectBuffer dst = new UnsafeBuffer(new byte[4096]); // TODO
-                        int length = HpackHuffman.decode(value, dst);
+                        int length = HpackHuffman.decode(value, huffmanValueRW);
                         if (length == -1)
                         {
                             connectionError = Http2ErrorCode.COMPRESSION_ERROR;
                             return;
                         }
-                        value = new UnsafeBuffer(dst, 0, length);
+                        huffmanValueRO.wrap(huffmanValueRW, 0, length);
+                        value = huffmanValueRO;
                     }
                     nameValue.accept(name, value);
                     break;
@@ -5542,39 +6371,35 @@ public final class HttpClientFactory implements HttpStreamFactory
                     name = hpackName.payload();
                     if (hpackName.huffman())
                     {
-                        MutableDirectBuffer dst = new UnsafeBuffer(new byte[4096]); // TODO
-                        int length = HpackHuffman.decode(name, dst);
+                        int length = HpackHuffman.decode(name, huffmanNameRW);
                         if (length == -1)
                         {
                             connectionError = Http2ErrorCode.COMPRESSION_ERROR;
                             return;
                         }
-                        name = new UnsafeBuffer(dst, 0, length);
+                        huffmanNameRO.wrap(huffmanNameRW, 0, length);
+                        name = huffmanNameRO;
                     }
 
                     value = hpackValue.payload();
                     if (hpackValue.huffman())
                     {
-                        MutableDirectBuffer dst = new UnsafeBuffer(new byte[4096]); // TODO
-                        int length = HpackHuffman.decode(value, dst);
+                        int length = HpackHuffman.decode(value, huffmanValueRW);
                         if (length == -1)
                         {
                             connectionError = Http2ErrorCode.COMPRESSION_ERROR;
                             return;
                         }
-                        value = new UnsafeBuffer(dst, 0, length);
+                        huffmanValueRO.wrap(huffmanValueRW, 0, length);
+                        value = huffmanValueRO;
                     }
                     nameValue.accept(name, value);
                     break;
                 }
                 if (hpackLiteral.literalType() == INCREMENTAL_INDEXING)
                 {
-                    // make a copy for name and value as they go into dynamic table (outlives current frame)
-                    MutableDirectBuffer nameCopy = new UnsafeBuffer(new byte[name.capacity()]);
-                    nameCopy.putBytes(0, name, 0, name.capacity());
-                    MutableDirectBuffer valueCopy = new UnsafeBuffer(new byte[value.capacity()]);
-                    valueCopy.putBytes(0, value, 0, value.capacity());
-                    context.add(nameCopy, valueCopy);
+                    // name and value are copied into dynamic table (outlives current frame)
+                    context.add(name, value);
                 }
                 break;
             default:
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.stream;
+
+import static java.lang.Character.toLowerCase;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.agrona.DirectBuffer;
+
+import io.aklivity.zilla.runtime.binding.http.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.http.internal.types.HttpHeaderFW;
+import io.aklivity.zilla.runtime.binding.http.internal.types.String16FW;
+import io.aklivity.zilla.runtime.binding.http.internal.types.String8FW;
+
+final class HttpHeaderLookup implements Function<String, String>
+{
+    private final String16FW valueRO = new String16FW();
+    private final Consumer<HttpHeaderFW> matchHeader = this::matchHeader;
+
+    private Array32FW<HttpHeaderFW> headers;
+    private String name;
+    private int valueOffset;
+    private int valueLimit;
+
+    HttpHeaderLookup wrap(
+        Array32FW<HttpHeaderFW> headers)
+    {
+        this.headers = headers;
+        return this;
+    }
+
+    @Override
+    public String apply(
+        String name)
+    {
+        this.name = name;
+        this.valueOffset = -1;
+        headers.forEach(matchHeader);
+        this.name = null;
+
+        return valueOffset != -1
+            ? valueRO.wrap(headers.buffer(), valueOffset, valueLimit).asString()
+            : null;
+    }
+
+    private void matchHeader(
+        HttpHeaderFW header)
+    {
+        final String8FW headerName = header.name();
+        final int length = headerName.length();
+
+        if (length == name.length())
+        {
+            final DirectBuffer bytes = headerName.value();
+
+            boolean matches = true;
+            for (int i = 0; matches && i < length; i++)
+            {
+                final byte b = bytes.getByte(i);
+                matches = toLowerCase((char) b) == name.charAt(i);
+            }
+
+            if (matches)
+            {
+                final String16FW value = header.value();
+                valueOffset = value.offset();
+                valueLimit = value.limit();
+            }
+        }
+    }
+}
@@ -80,6 +80,7 @@ import org.agrona.concurrent.AtomicBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.http.config.HttpAccessControlConfig;
+import io.aklivity.zilla.runtime.binding.http.config.HttpCompressionConfig;
 import io.aklivity.zilla.runtime.binding.http.config.HttpPolicyConfig;
 import io.aklivity.zilla.runtime.binding.http.config.HttpVersion;
 import io.aklivity.zilla.runtime.binding.http.internal.HttpBinding;
@@ -103,6 +104,7 @@ import io.aklivity.zilla.runtime.binding.http.internal.codec.Http2WindowUpdateFW
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpBindingConfig;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpRequestType;
 import io.aklivity.zilla.runtime.binding.http.internal.config.HttpRouteConfig;
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackBufferPool;
 import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackContext;
 import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackHeaderBlockFW;
 import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackHeaderFieldFW;
@@ -132,6 +134,7 @@ import io.aklivity.zilla.runtime.binding.http.internal.types.stream.ProxyBeginEx
 import io.aklivity.zilla.runtime.binding.http.internal.types.stream.ResetFW;
 import io.aklivity.zilla.runtime.binding.http.internal.types.stream.SignalFW;
 import io.aklivity.zilla.runtime.binding.http.internal.types.stream.WindowFW;
+import io.aklivity.zilla.runtime.binding.http.internal.util.DeflateEncoder;
 import io.aklivity.zilla.runtime.binding.http.internal.util.HttpUtil;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
@@ -156,6 +159,7 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final int EXPIRING_SIGNAL = 2;
 
     private static final int PADDING_CHUNKED = 10;
+    private static final int HUFFMAN_DECODE_CAPACITY = 4096;
     private static final long MAX_REMOTE_BUDGET = Integer.MAX_VALUE;
     private static final long NO_REQUEST_ID = -1;
 
@@ -173,11 +177,11 @@ public final class HttpServerFactory implements HttpStreamFactory
             Pattern.compile("(?<method>[A-Z]+)\\s+(?<target>[^\\s]+)\\s+(?<version>HTTP/\\d\\.\\d)\r\n");
     private static final Pattern VERSION_PATTERN = Pattern.compile("HTTP/1\\.\\d");
     private static final Pattern HEADER_LINE_PATTERN = Pattern.compile("(?<name>[^\\s:]+):\\s*(?<value>[^\r\n]*)\r\n");
-    private static final Pattern CONNECTION_CLOSE_PATTERN = Pattern.compile("(^|\\s*,\\s*)close(\\s*,\\s*|$)");
 
     private static final byte[] COLON_SPACE_BYTES = ": ".getBytes(US_ASCII);
     private static final byte[] CRLFCRLF_BYTES = "\r\n\r\n".getBytes(US_ASCII);
     private static final byte[] CRLF_BYTES = "\r\n".getBytes(US_ASCII);
+    private static final byte[] CONNECTION_CLOSE_BYTES = "close".getBytes(US_ASCII);
     private static final byte[] SEMICOLON_BYTES = ";".getBytes(US_ASCII);
 
     private static final byte COLON_BYTE = ':';
@@ -217,7 +221,13 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final String HEADER_NAME_AUTHORITY = ":authority";
     private static final String HEADER_NAME_CONTENT_TYPE = "content-type";
     private static final String HEADER_NAME_CONTENT_LENGTH = "content-length";
+    private static final String HEADER_NAME_ACCEPT_ENCODING = "accept-encoding";
+    private static final String HEADER_NAME_CACHE_CONTROL = "cache-control";
+    private static final String HEADER_NAME_CONTENT_ENCODING = "content-encoding";
+    private static final String HEADER_NAME_CONTENT_RANGE = "content-range";
+    private static final String HEADER_NAME_STATUS = ":status";
 
+    private static final String METHOD_NAME_HEAD = "HEAD";
     private static final String METHOD_NAME_OPTIONS = "OPTIONS";
     private static final String METHOD_NAME_POST = "POST";
 
@@ -231,7 +241,9 @@ public final class HttpServerFactory implements HttpStreamFactory
     private static final String8FW HEADER_ACCESS_CONTROL_EXPOSE_HEADERS = new String8FW("access-control-expose-headers");
     private static final String8FW HEADER_AUTHORITY = new String8FW(":authority");
     private static final String8FW HEADER_CONNECTION = new String8FW("connection");
+    private static final String8FW HEADER_CONTENT_ENCODING = new String8FW("content-encoding");
     private static final String8FW HEADER_CONTENT_LENGTH = new String8FW("content-length");
+    private static final String8FW HEADER_ETAG = new String8FW("etag");
     private static final String8FW HEADER_METHOD = new String8FW(":method");
     private static final String8FW HEADER_PATH = new String8FW(":path");
     private static final String8FW HEADER_SCHEME = new String8FW(":scheme");
@@ -289,6 +301,13 @@ public final class HttpServerFactory implements HttpStreamFactory
                 .value(HEADER_NAME_ORIGIN)
                 .build();
 
+    private static final HttpHeaderFW HEADER_VARY_ACCEPT_ENCODING =
+            new HttpHeaderFW.Builder()
+                .wrap(new UnsafeBuffer(new byte[64]), 0, 64)
+                .name(HEADER_VARY)
+                .value(HEADER_NAME_ACCEPT_ENCODING)
+                .build();
+
     private static final Array32FW<HttpHeaderFW> DEFAULT_HEADERS =
             new Array32FW.Builder<>(new HttpHeaderFW.Builder(), new HttpHeaderFW())
                     .wrap(new UnsafeBuffer(new byte[64]), 0, 64)
@@ -461,6 +480,9 @@ public final class HttpServerFactory implements HttpStreamFactory
     private final MutableInteger codecOffset = new MutableInteger();
     private final MutableBoolean hasAuthority = new MutableBoolean();
     private final MutableReference<String> connectionRef = new MutableReference<>();
+    private final HttpHeaderLookup headersRO = new HttpHeaderLookup();
+    private final OctetsFW encodedRO = new OctetsFW();
+    private final AsciiSequenceView asciiRO = new AsciiSequenceView();
 
     private final Http2PrefaceFW http2PrefaceRO = new Http2PrefaceFW();
     private final Http2FrameInfoFW http2FrameInfoRO = new Http2FrameInfoFW();
@@ -527,6 +549,7 @@ public final class HttpServerFactory implements HttpStreamFactory
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer frameBuffer;
     private final BufferPool bufferPool;
+    private final HpackBufferPool hpackBuffers;
     private final BudgetCreditor creditor;
     private final BindingHandler streamFactory;
     private final LongFunction<BudgetDebitor> supplyDebitor;
@@ -545,10 +568,13 @@ public final class HttpServerFactory implements HttpStreamFactory
     private final Matcher requestLine;
     private final Matcher versionPart;
     private final Matcher headerLine;
-    private final Matcher connectionClose;
     private final int maximumHeadersSize;
     private final Long2ObjectHashMap<HttpBindingConfig> bindings;
     private final HttpEventContext event;
+    private final int contentPadding;
+
+    private DeflateEncoder contentEncoder;
+    private MutableDirectBuffer contentBuffer;
 
     public HttpServerFactory(
         HttpConfiguration config,
@@ -557,6 +583,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         this.config = config;
         this.writeBuffer = context.writeBuffer();
         this.bufferPool = context.bufferPool();
+        this.hpackBuffers = new HpackBufferPool(Http2Settings.DEFAULT_HEADER_TABLE_SIZE);
         this.creditor = context.creditor();
         this.streamFactory = context.streamFactory();
         this.supplyDebitor = context::supplyDebitor;
@@ -575,13 +602,13 @@ public final class HttpServerFactory implements HttpStreamFactory
         this.requestLine = REQUEST_LINE_PATTERN.matcher("");
         this.headerLine = HEADER_LINE_PATTERN.matcher("");
         this.versionPart = VERSION_PATTERN.matcher("");
-        this.connectionClose = CONNECTION_CLOSE_PATTERN.matcher("");
         this.maximumHeadersSize = bufferPool.slotCapacity();
         this.decodeMax = bufferPool.slotCapacity();
         this.supplyValidator = context::supplyValidator;
         this.encodeMax = bufferPool.slotCapacity();
         this.bindings = new Long2ObjectHashMap<>();
         this.event = new HttpEventContext(context);
+        this.contentPadding = DeflateEncoder.padding(writeBuffer.capacity());
 
         this.headers200 = initHeaders(config, STATUS_200);
         this.headers204 = initHeaders(config, STATUS_204);
@@ -968,7 +995,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             if (server.upgrade &&
                 endOfStartAt >= offset + 16 &&
-                CharSequence.compare("PRI * HTTP/2.0\r\n", new AsciiSequenceView(buffer, offset, 16)) == 0)
+                CharSequence.compare("PRI * HTTP/2.0\r\n", asciiRO.wrap(buffer, offset, 16)) == 0)
             {
                 server.delegate = new Http2Server(server);
                 signaler.signalNow(server.originId, server.routedId, server.replyId, traceId, DELEGATE_SIGNAL, 0);
@@ -988,7 +1015,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             final int endOfMethodAt = indexOfByte(buffer, offset, endOfMethodLimit, SPACE_BYTE);
             if (endOfMethodAt != -1)
             {
-                final CharSequence method = new AsciiSequenceView(buffer, offset, endOfMethodAt - offset);
+                final CharSequence method = asciiRO.wrap(buffer, offset, endOfMethodAt - offset);
                 if (!SUPPORTED_METHODS.contains(method))
                 {
                     error = ERROR_501_METHOD_NOT_IMPLEMENTED;
@@ -1026,8 +1053,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             {
                 HttpBeginExFW beginEx = httpBeginEx.build();
 
-                final Map<String, String> headers = new LinkedHashMap<>();
-                beginEx.headers().forEach(h -> headers.put(h.name().asString().toLowerCase(), h.value().asString()));
+                Function<String, String> headers = headersRO.wrap(beginEx.headers());
 
                 if (isCorsPreflightRequest(headers))
                 {
@@ -1044,11 +1070,11 @@ public final class HttpServerFactory implements HttpStreamFactory
                     HttpBindingConfig binding = server.binding;
                     GuardHandler guard = server.guard;
 
-                    if (CHALLENGE_RESPONSE_METHOD.equals(headers.get(HEADER_NAME_METHOD)) &&
-                        CHALLENGE_RESPONSE_CONTENT_TYPE.equals(headers.get(HEADER_NAME_CONTENT_TYPE)) &&
-                        CHALLENGE_RESPONSE_CONTENT_LENGTH.equals(headers.get(HEADER_NAME_CONTENT_LENGTH)))
+                    if (CHALLENGE_RESPONSE_METHOD.equals(headers.apply(HEADER_NAME_METHOD)) &&
+                        CHALLENGE_RESPONSE_CONTENT_TYPE.equals(headers.apply(HEADER_NAME_CONTENT_TYPE)) &&
+                        CHALLENGE_RESPONSE_CONTENT_LENGTH.equals(headers.apply(HEADER_NAME_CONTENT_LENGTH)))
                     {
-                        final String credentialsMatch = server.credentials.apply(headers::get);
+                        final String credentialsMatch = server.credentials.apply(headers);
                         if (credentialsMatch != null)
                         {
                             guard.reauthorize(traceId, server.routedId, server.initialId, credentialsMatch);
@@ -1062,32 +1088,28 @@ public final class HttpServerFactory implements HttpStreamFactory
 
                         if (guard != null)
                         {
-                            credentialsMatch = server.credentials.apply(headers::get);
+                            credentialsMatch = server.credentials.apply(headers);
                             if (credentialsMatch != null)
                             {
                                 exchangeAuth = guard.reauthorize(traceId, server.routedId, server.initialId, credentialsMatch);
                             }
                         }
 
-                        HttpRouteConfig route = binding.resolve(exchangeAuth, headers::get);
+                        HttpRouteConfig route = binding.resolve(exchangeAuth, headers);
                         if (route != null)
                         {
                             Map<String8FW, String16FW> overrides = route.overrides();
                             if (overrides != null)
                             {
-                                overrides.forEach((k, v) -> headers.put(k.asString(), v.asString()));
-
-                                final HttpBeginExFW.Builder newBeginEx = newBeginExRW.wrap(codecBuffer, 0, codecBuffer.capacity())
-                                                                                     .typeId(httpTypeId);
-                                headers.forEach((k, v) -> newBeginEx.headersItem(i -> i.name(k).value(v)));
-                                beginEx = newBeginEx.build();
+                                beginEx = overrideHeaders(beginEx, overrides, newBeginExRW, beginExRO, codecBuffer);
+                                headers = headersRO.wrap(beginEx.headers());
                             }
 
                             // route discovered after HttpBeginEx construction started
                             codecBuffer.putLong(beginEx.offset() + HttpBeginExFW.FIELD_OFFSET_COMPOSITE_ID, route.compositeId());
 
                             HttpPolicyConfig policy = binding.access().effectivePolicy(headers);
-                            final String origin = policy == CROSS_ORIGIN ? headers.get(HEADER_NAME_ORIGIN) : null;
+                            final String origin = policy == CROSS_ORIGIN ? headers.apply(HEADER_NAME_ORIGIN) : null;
 
                             HttpRequestType requestType = binding.resolveRequestType(beginEx);
                             boolean headersValid = server.onDecodeHeaders(server.routedId, route.id, traceId, exchangeAuth,
@@ -1123,10 +1145,42 @@ public final class HttpServerFactory implements HttpStreamFactory
 
     private boolean isCorsRequestAllowed(
         HttpBindingConfig binding,
-        Map<String, String> headers)
+        Function<String, String> headerByName)
     {
-        return !headers.containsKey(HEADER_NAME_ORIGIN) ||
-               binding.access().allowRequest(headers);
+        return headerByName.apply(HEADER_NAME_ORIGIN) == null ||
+               binding.access().allowRequest(headerByName);
+    }
+
+    static HttpBeginExFW overrideHeaders(
+        HttpBeginExFW beginEx,
+        Map<String8FW, String16FW> overrides,
+        HttpBeginExFW.Builder builder,
+        HttpBeginExFW flyweight,
+        MutableDirectBuffer buffer)
+    {
+        final Array32FW<HttpHeaderFW> headers = beginEx.headers();
+        final int newOffset = beginEx.limit();
+        final HttpBeginExFW.Builder newBeginEx = builder.wrap(buffer, newOffset, buffer.capacity())
+                                                        .typeId(beginEx.typeId());
+
+        headers.forEach(h ->
+        {
+            final String16FW override = overrides.get(h.name());
+            newBeginEx.headersItem(i -> i.name(h.name()).value(override != null ? override : h.value()));
+        });
+
+        overrides.forEach((n, v) ->
+        {
+            if (!headers.anyMatch(h -> n.equals(h.name())))
+            {
+                newBeginEx.headersItem(i -> i.name(n).value(v));
+            }
+        });
+
+        final int newSize = newBeginEx.build().sizeof();
+        buffer.putBytes(0, buffer, newOffset, newSize);
+
+        return flyweight.wrap(buffer, 0, newSize);
     }
 
     private DirectBuffer decodeStartLine(
@@ -1138,7 +1192,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         String16FW scheme)
     {
         DirectBuffer error = null;
-        final CharSequence startLine = new AsciiSequenceView(buffer, offset, limit - offset);
+        final CharSequence startLine = asciiRO.wrap(buffer, offset, limit - offset);
         if (startLine.length() >= maximumHeadersSize)
         {
             error = ERROR_414_REQUEST_URI_TOO_LONG;
@@ -1210,7 +1264,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             error = ERROR_431_HEADERS_TOO_LARGE;
         }
-        else if (headerLine.reset(new AsciiSequenceView(buffer, startOfLineAt, endOfLineAt - startOfLineAt)).matches())
+        else if (headerLine.reset(asciiRO.wrap(buffer, startOfLineAt, endOfLineAt - startOfLineAt)).matches())
         {
             final String name = headerLine.group("name").toLowerCase();
             final String value = headerLine.group("value");
@@ -1349,7 +1403,7 @@ public final class HttpServerFactory implements HttpStreamFactory
 
             try
             {
-                final CharSequence chunkSizeHex = new AsciiSequenceView(buffer, offset, chunkSizeLength);
+                final CharSequence chunkSizeHex = asciiRO.wrap(buffer, offset, chunkSizeLength);
                 server.decodableChunkSize = Integer.parseInt(chunkSizeHex, 0, chunkSizeLength, 16);
                 server.decoder = server.decodableChunkSize != 0 ? decodeChunkBody : decodeTrailers;
                 progress = chunkHeaderLimit;
@@ -2197,19 +2251,19 @@ public final class HttpServerFactory implements HttpStreamFactory
         private void onDecodeCorsPreflight(
             long traceId,
             long authorization,
-            Map<String, String> headers)
+            Function<String, String> headerByName)
         {
             final HttpAccessControlConfig access = binding.access();
 
-            if (!access.allowPreflight(headers))
+            if (!access.allowPreflight(headerByName))
             {
                 onDecodeHeadersError(traceId, authorization, response403);
             }
             else
             {
-                final String origin = headers.get(HEADER_NAME_ORIGIN);
-                final String requestMethod = headers.get(HEADER_NAME_ACCESS_CONTROL_REQUEST_METHOD);
-                final String requestHeaders = headers.get(HEADER_NAME_ACCESS_CONTROL_REQUEST_HEADERS);
+                final String origin = headerByName.apply(HEADER_NAME_ORIGIN);
+                final String requestMethod = headerByName.apply(HEADER_NAME_ACCESS_CONTROL_REQUEST_METHOD);
+                final String requestHeaders = headerByName.apply(HEADER_NAME_ACCESS_CONTROL_REQUEST_HEADERS);
 
                 Array32FW.Builder<HttpHeaderFW.Builder, HttpHeaderFW> responseHeaders = headersRW
                         .wrap(extBuffer, 0, extBuffer.capacity())
@@ -2275,8 +2329,9 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             event.requestAccepted(traceId, originId, guard, authorization, beginEx.headers());
 
+            final String contentEncoding = negotiateContentEncoding(binding, headersRO.wrap(beginEx.headers()));
             final HttpExchange exchange = new HttpExchange(originId, routedId, authorization,
-                traceId, policy, origin, requestType);
+                traceId, policy, origin, requestType, contentEncoding);
             boolean headersValid = exchange.validateHeaders(beginEx);
             if (headersValid)
             {
@@ -2284,7 +2339,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 exchange.doResponseWindow(traceId);
 
                 final HttpHeaderFW connection = beginEx.headers().matchFirst(h -> HEADER_CONNECTION.equals(h.name()));
-                exchange.responseClosing = connection != null && connectionClose.reset(connection.value().asString()).matches();
+                exchange.responseClosing = connection != null && isConnectionClose(connection.value());
 
                 this.exchange = exchange;
             }
@@ -2374,14 +2429,14 @@ public final class HttpServerFactory implements HttpStreamFactory
             exchange.responseChunked = transferEncoding != null && TRANSFER_ENCODING_CHUNKED.equals(transferEncoding.value());
 
             final HttpHeaderFW connection = headers.matchFirst(h -> HEADER_CONNECTION.equals(h.name()));
-            exchange.responseClosing |= connection != null && connectionClose.reset(connection.value().asString()).matches();
+            exchange.responseClosing |= connection != null && isConnectionClose(connection.value());
 
             final HttpHeaderFW upgrade = headers.matchFirst(h -> HEADER_UPGRADE.equals(h.name()));
             exchange.responseClosing |= upgrade != null;
 
             final HttpHeaderFW contentLength = headers.matchFirst(h -> HEADER_CONTENT_LENGTH.equals(h.name()));
             exchange.responseRemaining = contentLength != null
-                    ? parseInt(contentLength.value().asString())
+                    ? parseContentLength(contentLength.value())
                     : Integer.MAX_VALUE - encodeMax; // avoids responseRemaining overflow
 
             final HttpHeaderFW server = headers.matchFirst(h -> HEADER_SERVER.equals(h.name()));
@@ -2432,7 +2487,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 headers.forEach(h ->
                 {
                     final String8FW name = h.name();
-                    if (access.exposeHeader(name.asString()))
+                    if (access.exposeHeader(name))
                     {
                         String8FW expose = HEADER_ACCESS_CONTROL_EXPOSE_HEADERS;
                         codecOffset.value = doEncodeHeader(codecBuffer, codecOffset.value, expose.value(), name.value(), true);
@@ -2441,7 +2496,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             }
             else if (access.exposeHeaders())
             {
-                if (headers.anyMatch(h -> access.exposeHeader(h.name().asString())))
+                if (headers.anyMatch(h -> access.exposeHeader(h.name())))
                 {
                     codecOffset.value = doEncodeHeader(codecBuffer, codecOffset.value,
                             HEADER_ACCESS_CONTROL_EXPOSE_HEADERS_WILDCARD);
@@ -2770,6 +2825,9 @@ public final class HttpServerFactory implements HttpStreamFactory
             private boolean responseClosing;
             private int responseRemaining;
 
+            private String contentEncoding;
+            private DeflateEncoder.Encoding responseEncoding;
+
             private HttpExchange(
                 long originId,
                 long routedId,
@@ -2777,7 +2835,8 @@ public final class HttpServerFactory implements HttpStreamFactory
                 long traceId,
                 HttpPolicyConfig policy,
                 String origin,
-                HttpRequestType requestType)
+                HttpRequestType requestType,
+                String contentEncoding)
             {
                 this.originId = originId;
                 this.routedId = routedId;
@@ -2791,7 +2850,8 @@ public final class HttpServerFactory implements HttpStreamFactory
                 this.requestState = HttpExchangeState.PENDING;
                 this.responseState = HttpExchangeState.PENDING;
                 this.responseChunked = true;
-                this.responsePad = PADDING_CHUNKED;
+                this.contentEncoding = contentEncoding;
+                this.responsePad = PADDING_CHUNKED + (contentEncoding != null ? contentPadding : 0);
                 this.responseRemaining = Integer.MAX_VALUE - encodeMax;
 
                 this.expiringId = expireIfNecessary(guard, sessionId, originId, routedId, replyId, traceId, 0);
@@ -3015,8 +3075,15 @@ public final class HttpServerFactory implements HttpStreamFactory
                 final HttpBeginExFW beginEx = begin.extension().get(beginExRO::tryWrap);
                 final Array32FW<HttpHeaderFW> headers = beginEx != null ? beginEx.headers() : DEFAULT_HEADERS;
 
+                if (contentEncoding != null)
+                {
+                    responseEncoding = supplyContentEncoding(binding, contentEncoding, headers);
+                    contentEncoding = responseEncoding != null ? contentEncoding : null;
+                }
+
                 responseState = HttpExchangeState.OPEN;
-                doEncodeHeaders(this, traceId, sessionId, 0L, headers);
+                doEncodeHeaders(this, traceId, sessionId, 0L,
+                    responseEncoding != null ? encodeContentHeaders(headers, responseEncoding) : headers);
             }
 
             private void onResponseData(
@@ -3050,7 +3117,18 @@ public final class HttpServerFactory implements HttpStreamFactory
                     responseRemaining -= data.length();
                     assert responseRemaining >= 0;
 
-                    doEncodeBody(this, traceId, authorization, flags, budgetId, reserved, payload);
+                    if (responseEncoding == null)
+                    {
+                        doEncodeBody(this, traceId, authorization, flags, budgetId, reserved, payload);
+                    }
+                    else
+                    {
+                        final OctetsFW encoded = encodeContent(responseEncoding, payload);
+                        if (encoded.sizeof() > 0)
+                        {
+                            doEncodeBody(this, traceId, authorization, flags, budgetId, reserved, encoded);
+                        }
+                    }
                 }
             }
 
@@ -3072,6 +3150,15 @@ public final class HttpServerFactory implements HttpStreamFactory
                 final HttpEndExFW endEx = end.extension().get(endExRO::tryWrap);
                 final Array32FW<HttpHeaderFW> trailers = endEx != null ? endEx.trailers() : DEFAULT_TRAILERS;
 
+                if (responseEncoding != null)
+                {
+                    final OctetsFW encoded = encodeContentEnd(responseEncoding);
+                    responseEncoding = null;
+
+                    final int reserved = encoded.sizeof() + replyPad + responsePad;
+                    doEncodeBody(this, traceId, authorization, 0x03, budgetId, reserved, encoded);
+                }
+
                 responseState = HttpExchangeState.CLOSED;
                 doEncodeTrailers(this, traceId, authorization, budgetId, trailers);
 
@@ -3088,6 +3175,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 doNetworkAbort(traceId, authorization);
 
                 cleanupExpiringIfNecessary();
+                cleanupResponseEncodingIfNecessary();
             }
 
             private void onResponseExpiring(
@@ -3120,6 +3208,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 doReset(application, originId, routedId, responseId, responseSeq, responseAck, responseMax, traceId, sessionId);
 
                 cleanupExpiringIfNecessary();
+                cleanupResponseEncodingIfNecessary();
             }
 
             private void doResponseWindow(
@@ -3129,7 +3218,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 int responseNoAckMin = (int)(responseSeq - responseAckMax);
                 int minResponseMax =
                         Math.max(Math.min(responseRemaining - responseNoAckMin + replyPad + responsePad, replyMax), 0);
-                int responsePadMax = responseChunked ? responsePad : 0;
+                int responsePadMax = (responseChunked ? PADDING_CHUNKED : 0) + (contentEncoding != null ? contentPadding : 0);
 
                 if (responseAckMax > responseAck ||
                     minResponseMax > responseMax && encodeSlotOffset == 0 ||
@@ -3165,11 +3254,15 @@ public final class HttpServerFactory implements HttpStreamFactory
             private boolean validateHeaders(
                 HttpBeginExFW beginEx)
             {
-                String path = beginEx.headers().matchFirst(h -> h.name().equals(HEADER_PATH)).value().asString();
-                return requestType == null ||
-                    validateHeaderValues(beginEx) &&
-                    validatePathParams(path) &&
-                    validateQueryParams(path);
+                boolean valid = requestType == null;
+                if (!valid)
+                {
+                    String path = beginEx.headers().matchFirst(h -> h.name().equals(HEADER_PATH)).value().asString();
+                    valid = validateHeaderValues(beginEx) &&
+                        validatePathParams(path) &&
+                        validateQueryParams(path);
+                }
+                return valid;
             }
 
             private boolean validateHeaderValues(
@@ -3258,6 +3351,15 @@ public final class HttpServerFactory implements HttpStreamFactory
                     expiringId = NO_CANCEL_ID;
                 }
             }
+
+            private void cleanupResponseEncodingIfNecessary()
+            {
+                if (responseEncoding != null)
+                {
+                    cleanupContentEncoding(responseEncoding);
+                    responseEncoding = null;
+                }
+            }
         }
     }
 
@@ -3830,6 +3932,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         private final Int2ObjectHashMap<Http2Exchange> streams;
         private final LongHashSet applicationHeadersProcessed;
         private final int[] streamsActive = new int[2];
+        private final List<Http2Exchange> deferredEnds = new ArrayList<>();
 
         private final MutableBoolean expectDynamicTableSizeUpdate = new MutableBoolean(true);
 
@@ -3917,8 +4020,8 @@ public final class HttpServerFactory implements HttpStreamFactory
             this.streams = new Int2ObjectHashMap<>();
             this.applicationHeadersProcessed = new LongHashSet();
             this.decoder = decodeHttp2Preface;
-            this.decodeContext = new HpackContext(localSettings.headerTableSize, false);
-            this.encodeContext = new HpackContext(remoteSettings.headerTableSize, true);
+            this.decodeContext = new HpackContext(localSettings.headerTableSize, false, hpackBuffers);
+            this.encodeContext = new HpackContext(remoteSettings.headerTableSize, true, hpackBuffers);
             this.encodeHeadersBuffer = new ExpandableArrayBuffer();
             this.encodeReservedBuffer = new ExpandableArrayBuffer();
             this.remoteSharedBudget = remoteSettings.initialWindowSize;
@@ -4066,6 +4169,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 state = HttpState.closeInitial(state);
 
                 cleanupDecodeSlotIfNecessary();
+                decodeContext.release();
 
                 if (!HttpState.replyClosing(state))
                 {
@@ -4138,6 +4242,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             assert initialAck <= initialSeq;
 
             cleanupDecodeSlotIfNecessary();
+            decodeContext.release();
 
             if (!HttpState.replyClosing(state))
             {
@@ -4155,6 +4260,7 @@ public final class HttpServerFactory implements HttpStreamFactory
 
             cleanupBudgetCreditorIfNecessary();
             cleanupEncodeSlotIfNecessary();
+            encodeContext.release();
 
             if (!HttpState.initialClosing(state))
             {
@@ -4349,6 +4455,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             cleanupBudgetCreditorIfNecessary();
             cleanupEncodeSlotIfNecessary();
+            encodeContext.release();
             doEnd(network, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, authorization, EMPTY_OCTETS);
             state = HttpState.closeReply(state);
         }
@@ -4359,6 +4466,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             cleanupBudgetCreditorIfNecessary();
             cleanupEncodeSlotIfNecessary();
+            encodeContext.release();
             doAbort(network, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, authorization, EMPTY_OCTETS);
             state = HttpState.closeReply(state);
         }
@@ -4368,6 +4476,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             long authorization)
         {
             cleanupDecodeSlotIfNecessary();
+            decodeContext.release();
             cleanupHeadersSlotIfNecessary();
             doReset(network, originId, routedId, initialId, initialSeq, initialAck, initialMax, traceId, authorization);
             state = HttpState.closeInitial(state);
@@ -4805,6 +4914,11 @@ public final class HttpServerFactory implements HttpStreamFactory
 
                 remoteSharedBudget += credit;
 
+                if (!deferredEnds.isEmpty())
+                {
+                    deferredEnds.removeIf(ex -> ex.flushDeferredEnd(traceId));
+                }
+
                 // TODO: instead use HttpState.replyClosed(state)
                 if (responseSharedBudgetIndex != NO_CREDITOR_INDEX)
                 {
@@ -4947,7 +5061,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             {
                 final Map<String, String> headers = headersDecoder.headers;
                 event.requestAccepted(traceId, routedId, guard, authorization, headers);
-                if (isCorsPreflightRequest(headers))
+                if (isCorsPreflightRequest(headers::get))
                 {
                     if (!endRequest)
                     {
@@ -4958,7 +5072,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                         onDecodeCorsPreflight(traceId, authorization, streamId, headers);
                     }
                 }
-                else if (!isCorsRequestAllowed(binding, headers))
+                else if (!isCorsRequestAllowed(binding, headers::get))
                 {
                     doEncodeHeaders(traceId, authorization, streamId, headers403, true);
                 }
@@ -5012,7 +5126,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                             final long routedId = route.id;
                             final long contentLength = headersDecoder.contentLength;
 
-                            HttpPolicyConfig policy = binding.access().effectivePolicy(headers);
+                            HttpPolicyConfig policy = binding.access().effectivePolicy(headers::get);
                             final String origin = policy == CROSS_ORIGIN ? headers.get(HEADER_NAME_ORIGIN) : null;
 
                             Map<String8FW, String16FW> overrides = route.overrides();
@@ -5029,8 +5143,9 @@ public final class HttpServerFactory implements HttpStreamFactory
 
                             HttpRequestType requestType = binding.resolveRequestType(beginEx);
 
+                            final String contentEncoding = negotiateContentEncoding(binding, headers::get);
                             final Http2Exchange exchange = new Http2Exchange(originId, routedId, NO_REQUEST_ID, streamId,
-                                exchangeAuth, traceId, policy, origin, contentLength, requestType);
+                                exchangeAuth, traceId, policy, origin, contentLength, requestType, contentEncoding);
 
                             boolean headersValid = exchange.validateHeaders(beginEx);
                             if (headersValid)
@@ -5059,7 +5174,7 @@ public final class HttpServerFactory implements HttpStreamFactory
         {
             final HttpAccessControlConfig access = binding.access();
 
-            if (!access.allowPreflight(headers))
+            if (!access.allowPreflight(headers::get))
             {
                 doEncodeHeaders(traceId, authorization, streamId, headers403, true);
             }
@@ -5408,13 +5523,14 @@ public final class HttpServerFactory implements HttpStreamFactory
                     final long contentLength = -1;
                     final int promiseId = ++maxServerStreamId << 1;
 
-                    final HttpPolicyConfig policy = binding.access().effectivePolicy(headers);
+                    final HttpPolicyConfig policy = binding.access().effectivePolicy(headers::get);
                     final String origin = headers.get(HEADER_NAME_ORIGIN);
 
                     doEncodePushPromise(traceId, authorization, pushId, promiseId, promise);
 
+                    final String contentEncoding = negotiateContentEncoding(binding, headers::get);
                     final Http2Exchange exchange = new Http2Exchange(originId, routedId, requestId, promiseId,
-                                exchangeAuth, traceId, policy, origin, contentLength, null);
+                                exchangeAuth, traceId, policy, origin, contentLength, null, contentEncoding);
 
                     final HttpBeginExFW beginEx = beginExRW.wrap(extBuffer, 0, extBuffer.capacity())
                             .compositeId(route.compositeId())
@@ -5553,6 +5669,20 @@ public final class HttpServerFactory implements HttpStreamFactory
             doNetworkData(traceId, authorization, 0L, reserved, frameBuffer, 0, frameOffset);
         }
 
+        private void doEncodeReservedData(
+            long traceId,
+            long authorization,
+            int streamId,
+            OctetsFW payload)
+        {
+            final Http2DataFW http2Data = http2DataRW.wrap(frameBuffer, 0, frameBuffer.capacity())
+                    .streamId(streamId)
+                    .payload(payload.buffer(), payload.offset(), payload.sizeof())
+                    .build();
+
+            doNetworkReservedData(traceId, authorization, 0L, http2Data);
+        }
+
         private void doEncodeTrailers(
             long traceId,
             long authorization,
@@ -5712,6 +5842,11 @@ public final class HttpServerFactory implements HttpStreamFactory
             private long responseContentLength;
             private long responseContentObserved;
 
+            private String contentEncoding;
+            private DeflateEncoder.Encoding responseEncoding;
+            private MutableDirectBuffer deferredTail;
+            private MutableDirectBuffer deferredEnd;
+
             private long expiringId;
 
             private int state;
@@ -5744,7 +5879,8 @@ public final class HttpServerFactory implements HttpStreamFactory
                 HttpPolicyConfig policy,
                 String origin,
                 long requestContentLength,
-                HttpRequestType requestType)
+                HttpRequestType requestType,
+                String contentEncoding)
             {
                 this.originId = originId;
                 this.routedId = routedId;
@@ -5761,6 +5897,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 this.contentType = requestType != null && requestType.content != null
                     ? supplyValidator.apply(requestType.content)
                     : null;
+                this.contentEncoding = contentEncoding;
             }
 
             private int initialWindow()
@@ -6044,11 +6181,21 @@ public final class HttpServerFactory implements HttpStreamFactory
                 responseAck = acknowledge;
 
                 final HttpBeginExFW beginEx = begin.extension().get(beginExRO::tryWrap);
-                final Array32FW<HttpHeaderFW> headers = beginEx != null ? beginEx.headers() : headers200;
+                final Array32FW<HttpHeaderFW> beginHeaders = beginEx != null ? beginEx.headers() : headers200;
+
+                if (contentEncoding != null)
+                {
+                    responseEncoding = supplyContentEncoding(binding, contentEncoding, beginHeaders);
+                    contentEncoding = responseEncoding != null ? contentEncoding : null;
+                }
+
+                final Array32FW<HttpHeaderFW> headers = responseEncoding != null
+                    ? encodeContentHeaders(beginHeaders, responseEncoding)
+                    : beginHeaders;
 
                 final HttpHeaderFW contentLengthHeader = headers.matchFirst(header ->
                         header.name().equals(HEADER_CONTENT_LENGTH));
-                responseContentLength = contentLengthHeader != null ? parseInt(contentLengthHeader.value().asString()) : -1;
+                responseContentLength = contentLengthHeader != null ? parseContentLength(contentLengthHeader.value()) : -1;
 
                 doEncodeHeaders(traceId, authorization, streamId, policy, origin, headers, responseContentLength == 0);
             }
@@ -6094,7 +6241,8 @@ public final class HttpServerFactory implements HttpStreamFactory
                     if (payload != null)
                     {
                         final int flags = data.flags();
-                        final int length = data.length();
+                        final OctetsFW content = responseEncoding != null ? encodeContent(responseEncoding, payload) : payload;
+                        final int length = content.sizeof();
 
                         if (HttpConfiguration.DEBUG_HTTP2_BUDGETS)
                         {
@@ -6110,7 +6258,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                         responseContentObserved += length;
 
                         final boolean endResponse = responseContentLength == responseContentObserved;
-                        doEncodeData(traceId, authorization, flags, budgetId, reserved, streamId, payload, endResponse);
+                        doEncodeData(traceId, authorization, flags, budgetId, reserved, streamId, content, endResponse);
 
                         final int remotePaddableMax = Math.min(remoteBudget, bufferPool.slotCapacity());
                         final int remotePadding = http2FramePadding(remotePaddableMax, remoteSettings.maxFrameSize);
@@ -6160,13 +6308,79 @@ public final class HttpServerFactory implements HttpStreamFactory
             private void onResponseEnd(
                 EndFW end)
             {
+                final long traceId = end.traceId();
+
+                if (responseEncoding != null)
+                {
+                    final OctetsFW encoded = encodeContentEnd(responseEncoding);
+                    responseEncoding = null;
+
+                    final int length = encoded.sizeof();
+                    if (length > remoteBudget || length > remoteSharedBudget)
+                    {
+                        // final block is not covered by application credit, so wait for the peer window
+                        deferredTail = new UnsafeBuffer(new byte[length]);
+                        deferredTail.putBytes(0, encoded.buffer(), encoded.offset(), length);
+                        deferredEnd = new UnsafeBuffer(new byte[end.sizeof()]);
+                        deferredEnd.putBytes(0, end.buffer(), end.offset(), end.sizeof());
+                        deferredEnds.add(this);
+                    }
+                    else
+                    {
+                        doEncodeResponseTail(traceId, encoded);
+                    }
+                }
+
+                if (deferredEnd == null)
+                {
+                    doEncodeResponseEnd(end);
+                }
+            }
+
+            private boolean flushDeferredEnd(
+                long traceId)
+            {
+                boolean flushed = false;
+
+                if (deferredEnd != null)
+                {
+                    final int length = deferredTail.capacity();
+                    if (length <= remoteBudget && length <= remoteSharedBudget)
+                    {
+                        final EndFW end = endRO.wrap(deferredEnd, 0, deferredEnd.capacity());
+                        doEncodeResponseTail(traceId, encodedRO.wrap(deferredTail, 0, length));
+
+                        deferredTail = null;
+                        deferredEnd = null;
+
+                        doEncodeResponseEnd(end);
+                        flushed = true;
+                    }
+                }
+
+                return flushed;
+            }
+
+            private void doEncodeResponseTail(
+                long traceId,
+                OctetsFW encoded)
+            {
+                remoteBudget -= encoded.sizeof();
+                remoteSharedBudget -= encoded.sizeof();
+                doEncodeReservedData(traceId, authorization, streamId, encoded);
+            }
+
+            private void doEncodeResponseEnd(
+                EndFW end)
+            {
+                final long traceId = end.traceId();
+
                 setResponseClosed();
 
                 if (responseContentLength != responseContentObserved)
                 {
                     final HttpEndExFW endEx = end.extension().get(endExRO::tryWrap);
                     final Array32FW<HttpHeaderFW> trailers = endEx != null ? endEx.trailers() : TRAILERS_EMPTY;
-                    final long traceId = end.traceId();
 
                     doEncodeTrailers(traceId, authorization, streamId, trailers);
                 }
@@ -6218,7 +6432,14 @@ public final class HttpServerFactory implements HttpStreamFactory
             private void doResponseResetIfNecessary(
                 long traceId)
             {
-                if (!HttpState.replyClosed(state))
+                if (deferredEnd != null)
+                {
+                    deferredEnds.remove(this);
+                    deferredTail = null;
+                    deferredEnd = null;
+                    setResponseClosed();
+                }
+                else if (!HttpState.replyClosed(state))
                 {
                     doResponseReset(traceId);
                 }
@@ -6240,7 +6461,17 @@ public final class HttpServerFactory implements HttpStreamFactory
                 {
                     remoteBudget = (int) newRemoteBudget;
 
-                    flushResponseWindow(traceId, 0);
+                    if (deferredEnd != null)
+                    {
+                        if (flushDeferredEnd(traceId))
+                        {
+                            deferredEnds.remove(this);
+                        }
+                    }
+                    else
+                    {
+                        flushResponseWindow(traceId, 0);
+                    }
                 }
             }
 
@@ -6252,8 +6483,10 @@ public final class HttpServerFactory implements HttpStreamFactory
                 {
                     final int remotePaddableMax = Math.min(remoteBudget, bufferPool.slotCapacity());
                     final int remotePad = http2FramePadding(remotePaddableMax, remoteSettings.maxFrameSize);
-                    final int responsePad = replyPad + remotePad;
-                    final int newResponseWin = remoteBudget;
+                    final int contentPad = contentEncoding != null ? contentPadding : 0;
+                    final int responsePad = replyPad + remotePad + contentPad;
+                    final int contentTail = contentEncoding != null ? DeflateEncoder.TAIL_MAX : 0;
+                    final int newResponseWin = remoteBudget - contentTail;
                     final int responseWin = responseMax - (int)(responseSeq - responseAck);
                     final int responseCredit = newResponseWin - responseWin;
 
@@ -6295,6 +6528,7 @@ public final class HttpServerFactory implements HttpStreamFactory
                 removeStreamIfNecessary();
                 deauthorizeIfNecessary();
                 cleanupExpiringIfNecessary();
+                cleanupResponseEncodingIfNecessary();
             }
 
             private boolean validateHeaders(
@@ -6403,6 +6637,15 @@ public final class HttpServerFactory implements HttpStreamFactory
                 }
             }
 
+            private void cleanupResponseEncodingIfNecessary()
+            {
+                if (responseEncoding != null)
+                {
+                    cleanupContentEncoding(responseEncoding);
+                    responseEncoding = null;
+                }
+            }
+
             private void cleanup(
                 long traceId)
             {
@@ -6421,6 +6664,10 @@ public final class HttpServerFactory implements HttpStreamFactory
 
         private final Consumer<HpackHeaderFieldFW> decodeHeader;
         private final Consumer<HpackHeaderFieldFW> decodeTrailer;
+        private final MutableDirectBuffer huffmanNameRW = new UnsafeBuffer(new byte[HUFFMAN_DECODE_CAPACITY]);
+        private final MutableDirectBuffer huffmanValueRW = new UnsafeBuffer(new byte[HUFFMAN_DECODE_CAPACITY]);
+        private final UnsafeBuffer huffmanNameRO = new UnsafeBuffer(0L, 0);
+        private final UnsafeBuffer huffmanValueRO = new UnsafeBuffer(0L, 0);
         private int method;
         private int scheme;
         private int path;
@@ -6728,14 +6975,14 @@ public final class HttpServerFactory implements HttpStreamFactory
                     value = hpackValue.payload();
                     if (hpackValue.huffman())
                     {
-                        MutableDirectBuffer dst = new UnsafeBuffer(new byte[4096]); // TODO
-                        int length = HpackHuffman.decode(value, dst);
+                        int length = HpackHuffman.decode(value, huffmanValueRW);
                         if (length == -1)
                         {
                             connectionError = Http2ErrorCode.COMPRESSION_ERROR;
                             return;
                         }
-                        value = new UnsafeBuffer(dst, 0, length);
+                        huffmanValueRO.wrap(huffmanValueRW, 0, length);
+                        value = huffmanValueRO;
                     }
                     nameValue.accept(name, value);
                     break;
@@ -6744,39 +6991,35 @@ public final class HttpServerFactory implements HttpStreamFactory
                     name = hpackName.payload();
                     if (hpackName.huffman())
                     {
-                        MutableDirectBuffer dst = new UnsafeBuffer(new byte[4096]); // TODO
-                        int length = HpackHuffman.decode(name, dst);
+                        int length = HpackHuffman.decode(name, huffmanNameRW);
                         if (length == -1)
                         {
                             connectionError = Http2ErrorCode.COMPRESSION_ERROR;
                             return;
                         }
-                        name = new UnsafeBuffer(dst, 0, length);
+                        huffmanNameRO.wrap(huffmanNameRW, 0, length);
+                        name = huffmanNameRO;
                     }
 
                     value = hpackValue.payload();
                     if (hpackValue.huffman())
                     {
-                        MutableDirectBuffer dst = new UnsafeBuffer(new byte[4096]); // TODO
-                        int length = HpackHuffman.decode(value, dst);
+                        int length = HpackHuffman.decode(value, huffmanValueRW);
                         if (length == -1)
                         {
                             connectionError = Http2ErrorCode.COMPRESSION_ERROR;
                             return;
                         }
-                        value = new UnsafeBuffer(dst, 0, length);
+                        huffmanValueRO.wrap(huffmanValueRW, 0, length);
+                        value = huffmanValueRO;
                     }
                     nameValue.accept(name, value);
                     break;
                 }
                 if (hpackLiteral.literalType() == INCREMENTAL_INDEXING)
                 {
-                    // make a copy for name and value as they go into dynamic table (outlives current frame)
-                    MutableDirectBuffer nameCopy = new UnsafeBuffer(new byte[name.capacity()]);
-                    nameCopy.putBytes(0, name, 0, name.capacity());
-                    MutableDirectBuffer valueCopy = new UnsafeBuffer(new byte[value.capacity()]);
-                    valueCopy.putBytes(0, value, 0, value.capacity());
-                    context.add(nameCopy, valueCopy);
+                    // name and value are copied into dynamic table (outlives current frame)
+                    context.add(name, value);
                 }
                 break;
             default:
@@ -6788,6 +7031,9 @@ public final class HttpServerFactory implements HttpStreamFactory
     private final class Http2HeadersEncoder
     {
         private HpackContext context;
+        private HpackHeaderBlockFW.Builder headerBlock;
+        private DirectBuffer name;
+        private DirectBuffer value;
 
         private boolean status;
         private boolean serverHeader;
@@ -6796,14 +7042,18 @@ public final class HttpServerFactory implements HttpStreamFactory
         private final Consumer<HttpHeaderFW> search = ((Consumer<HttpHeaderFW>) this::status)
                 .andThen(this::serverHeader)
                 .andThen(this::connectionHeaders);
+        private final Consumer<HttpHeaderFW> encodeHeader = this::encodeHeader;
+        private final Consumer<HttpHeaderFW> encodeIncludedHeader = this::encodeIncludedHeader;
+        private final Consumer<HpackHeaderFieldFW.Builder> encodeHeaderField = this::encodeHeaderField;
+        private final Consumer<HpackLiteralHeaderFieldFW.Builder> encodeLiteral = this::encodeLiteral;
 
         void encodePromise(
             HpackContext encodeContext,
             Array32FW<HttpHeaderFW> headers,
             HpackHeaderBlockFW.Builder headerBlock)
         {
-            reset(encodeContext);
-            headers.forEach(h -> headerBlock.header(b -> encodeHeader(h, b)));
+            reset(encodeContext, headerBlock);
+            headers.forEach(encodeHeader);
         }
 
         void encodeHeaders(
@@ -6814,7 +7064,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             Array32FW<HttpHeaderFW> headers,
             HpackHeaderBlockFW.Builder headerBlock)
         {
-            reset(encodeContext);
+            reset(encodeContext, headerBlock);
 
             headers.forEach(search);
 
@@ -6823,19 +7073,12 @@ public final class HttpServerFactory implements HttpStreamFactory
                 headerBlock.header(b -> b.indexed(8));
             }
 
-            headers.forEach(h ->
-            {
-                if (includeHeader(h))
-                {
-                    headerBlock.header(b -> encodeHeader(h, b));
-                }
-            });
+            headers.forEach(encodeIncludedHeader);
 
             // add configured Server header if there is no Server header in response
             if (config.serverHeader() != null && !serverHeader)
             {
-                String16FW server = config.serverHeader();
-                headerBlock.header(b -> b.literal(l -> l.type(WITHOUT_INDEXING).name(54).value(server.value())));
+                encodeHeader(context.nameBuffer(54), config.serverHeader().value());
             }
 
             if (access != null)
@@ -6843,39 +7086,39 @@ public final class HttpServerFactory implements HttpStreamFactory
                 HttpHeaderFW allowOrigin = access.allowOriginHeader(policy, origin);
                 if (allowOrigin != null)
                 {
-                    headerBlock.header(b -> encodeHeader(allowOrigin, b));
+                    encodeHeader(allowOrigin);
                 }
 
                 HttpHeaderFW allowCredentials = access.allowCredentialsHeader();
                 if (allowCredentials != null)
                 {
-                    headerBlock.header(b -> encodeHeader(allowCredentials, b));
+                    encodeHeader(allowCredentials);
                 }
 
                 if (access.exposeHeadersExplicit())
                 {
                     headers.forEach(h ->
                     {
-                        final String name = h.name().asString();
+                        final String8FW name = h.name();
                         if (includeHeader(h) && access.exposeHeader(name))
                         {
                             // TODO: combine header name list into single comma-separated value
-                            headerBlock.header(b -> b.literal(HEADER_NAME_ACCESS_CONTROL_EXPOSE_HEADERS, name));
+                            encodeHeader(HEADER_ACCESS_CONTROL_EXPOSE_HEADERS.value(), name.value());
                         }
                     });
                 }
                 else if (access.exposeHeaders())
                 {
-                    if (headers.anyMatch(h -> access.exposeHeader(h.name().asString())))
+                    if (headers.anyMatch(h -> access.exposeHeader(h.name())))
                     {
-                        headerBlock.header(b -> encodeHeader(HEADER_ACCESS_CONTROL_EXPOSE_HEADERS_WILDCARD, b));
+                        encodeHeader(HEADER_ACCESS_CONTROL_EXPOSE_HEADERS_WILDCARD);
                     }
                 }
 
                 if (allowOrigin != null &&
                     !allowOrigin.equals(HEADER_ACCESS_CONTROL_ALLOW_ORIGIN_WILDCARD))
                 {
-                    headerBlock.header(b -> encodeHeader(HEADER_VARY_ORIGIN, b));
+                    encodeHeader(HEADER_VARY_ORIGIN);
                 }
             }
         }
@@ -6885,13 +7128,16 @@ public final class HttpServerFactory implements HttpStreamFactory
             Array32FW<HttpHeaderFW> headers,
             HpackHeaderBlockFW.Builder headerBlock)
         {
-            reset(encodeContext);
-            headers.forEach(h -> headerBlock.header(b -> encodeHeader(h, b)));
+            reset(encodeContext, headerBlock);
+            headers.forEach(encodeHeader);
         }
 
-        private void reset(HpackContext encodeContext)
+        private void reset(
+            HpackContext encodeContext,
+            HpackHeaderBlockFW.Builder headerBlock)
         {
-            context = encodeContext;
+            this.context = encodeContext;
+            this.headerBlock = headerBlock;
             status = false;
             serverHeader = false;
             connectionHeaders.clear();
@@ -6952,7 +7198,7 @@ public final class HttpServerFactory implements HttpStreamFactory
             }
 
             // Excluding header if nominated by connection header field
-            if (connectionHeaders.contains(name.asString()))
+            if (!connectionHeaders.isEmpty() && connectionHeaders.contains(name.asString()))
             {
                 return false;
             }
@@ -6960,42 +7206,59 @@ public final class HttpServerFactory implements HttpStreamFactory
             return true;
         }
 
+        private void encodeIncludedHeader(
+            HttpHeaderFW header)
+        {
+            if (includeHeader(header))
+            {
+                encodeHeader(header);
+            }
+        }
+
         private void encodeHeader(
-            HttpHeaderFW header,
-            HpackHeaderFieldFW.Builder builder)
+            HttpHeaderFW header)
         {
-            final String8FW name = header.name();
-            final String16FW value = header.value();
+            encodeHeader(header.name().value(), header.value().value());
+        }
+
+        private void encodeHeader(
+            DirectBuffer name,
+            DirectBuffer value)
+        {
+            this.name = name;
+            this.value = value;
+            headerBlock.header(encodeHeaderField);
+        }
 
-            final int index = context.index(name.value(), value.value());
+        private void encodeHeaderField(
+            HpackHeaderFieldFW.Builder builder)
+        {
+            final int index = context.index(name, value);
             if (index != -1)
             {
                 builder.indexed(index);
             }
             else
             {
-                builder.literal(literal -> encodeLiteral(literal, context, name.value(), value.value()));
+                builder.literal(encodeLiteral);
             }
         }
 
         // TODO dynamic table, Huffman, never indexed
         private void encodeLiteral(
-            HpackLiteralHeaderFieldFW.Builder builder,
-            HpackContext hpackContext,
-            DirectBuffer nameBuffer,
-            DirectBuffer valueBuffer)
+            HpackLiteralHeaderFieldFW.Builder builder)
         {
             builder.type(WITHOUT_INDEXING);
-            final int nameIndex = hpackContext.index(nameBuffer);
+            final int nameIndex = context.index(name);
             if (nameIndex != -1)
             {
                 builder.name(nameIndex);
             }
             else
             {
-                builder.name(nameBuffer, 0, nameBuffer.capacity());
+                builder.name(name, 0, name.capacity());
             }
-            builder.value(valueBuffer, 0, valueBuffer.capacity());
+            builder.value(value, 0, value.capacity());
         }
     }
 
@@ -7069,13 +7332,178 @@ public final class HttpServerFactory implements HttpStreamFactory
                                               status, reason, server).getBytes(UTF_8));
     }
 
+    static boolean isConnectionClose(
+        String16FW connection)
+    {
+        final DirectBuffer value = connection.value();
+        final int length = connection.length();
+
+        boolean close = false;
+        for (int start = 0; !close && start < length; )
+        {
+            int end = indexOfByte(value, start, length, COMMA_BYTE);
+            final int next = end != -1 ? end + 1 : length;
+            end = end != -1 ? end : length;
+
+            while (start < end && isWhitespace(value.getByte(start)))
+            {
+                start++;
+            }
+
+            while (end > start && isWhitespace(value.getByte(end - 1)))
+            {
+                end--;
+            }
+
+            close = end - start == CONNECTION_CLOSE_BYTES.length && equalsIgnoreCase(value, start, CONNECTION_CLOSE_BYTES);
+            start = next;
+        }
+
+        return close;
+    }
+
+    private String negotiateContentEncoding(
+        HttpBindingConfig binding,
+        Function<String, String> headerByName)
+    {
+        final HttpCompressionConfig compression = binding.compression();
+
+        return compression != null && !METHOD_NAME_HEAD.equals(headerByName.apply(HEADER_NAME_METHOD))
+            ? compression.encoding(headerByName.apply(HEADER_NAME_ACCEPT_ENCODING))
+            : null;
+    }
+
+    private DeflateEncoder.Encoding supplyContentEncoding(
+        HttpBindingConfig binding,
+        String encoding,
+        Array32FW<HttpHeaderFW> headers)
+    {
+        final Function<String, String> headerByName = headersRO.wrap(headers);
+        final String status = headerByName.apply(HEADER_NAME_STATUS);
+        final HttpHeaderFW contentLength = headers.matchFirst(h -> HEADER_CONTENT_LENGTH.equals(h.name()));
+        final String cacheControl = headerByName.apply(HEADER_NAME_CACHE_CONTROL);
+
+        final boolean encodable =
+            (status == null || status.startsWith("2") && !"204".equals(status) && !"206".equals(status)) &&
+            headerByName.apply(HEADER_NAME_CONTENT_ENCODING) == null &&
+            headerByName.apply(HEADER_NAME_CONTENT_RANGE) == null &&
+            (cacheControl == null || !cacheControl.toLowerCase().contains("no-transform")) &&
+            binding.compression().compressible(headerByName.apply(HEADER_NAME_CONTENT_TYPE),
+                contentLength != null ? parseContentLength(contentLength.value()) : -1L);
+
+        if (encodable && contentEncoder == null)
+        {
+            contentEncoder = new DeflateEncoder(writeBuffer.capacity());
+            contentBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity() + contentPadding]);
+        }
+
+        return encodable ? contentEncoder.acquire(encoding) : null;
+    }
+
+    private Array32FW<HttpHeaderFW> encodeContentHeaders(
+        Array32FW<HttpHeaderFW> headers,
+        DeflateEncoder.Encoding encoding)
+    {
+        final Array32FW.Builder<HttpHeaderFW.Builder, HttpHeaderFW> encodedHeaders =
+            headersRW.wrap(extBuffer, 0, extBuffer.capacity());
+
+        final HttpHeaderFW vary = headers.matchFirst(h -> HEADER_VARY.equals(h.name()));
+        final int varyOffset = vary != null ? vary.offset() : -1;
+        final boolean varied = headers.anyMatch(h -> HEADER_VARY.equals(h.name()) && variesByEncoding(h.value()));
+
+        headers.forEach(h ->
+        {
+            final String8FW name = h.name();
+            if (HEADER_ETAG.equals(name))
+            {
+                // compressed representation is only semantically equivalent
+                final String etag = h.value().asString();
+                encodedHeaders.item(i -> i.name(HEADER_ETAG).value(etag.startsWith("W/") ? etag : "W/" + etag));
+            }
+            else if (h.offset() == varyOffset && !varied)
+            {
+                // merge into the first vary header rather than adding another
+                final String merged = h.value().asString() + ", " + HEADER_NAME_ACCEPT_ENCODING;
+                encodedHeaders.item(i -> i.name(HEADER_VARY).value(merged));
+            }
+            else if (!HEADER_CONTENT_LENGTH.equals(name))
+            {
+                encodedHeaders.item(i -> i.set(h));
+            }
+        });
+
+        encodedHeaders.item(h -> h.name(HEADER_CONTENT_ENCODING).value(encoding.name()));
+
+        if (vary == null)
+        {
+            encodedHeaders.item(h -> h.set(HEADER_VARY_ACCEPT_ENCODING));
+        }
+
+        return encodedHeaders.build();
+    }
+
+    private static boolean variesByEncoding(
+        String16FW vary)
+    {
+        final String value = vary.asString().toLowerCase();
+        return value.contains(HEADER_NAME_ACCEPT_ENCODING) || value.contains("*");
+    }
+
+    private OctetsFW encodeContent(
+        DeflateEncoder.Encoding encoding,
+        OctetsFW payload)
+    {
+        final int length = contentEncoder.encode(encoding, payload.buffer(), payload.offset(), payload.sizeof(),
+            contentBuffer, 0);
+        return encodedRO.wrap(contentBuffer, 0, length);
+    }
+
+    private OctetsFW encodeContentEnd(
+        DeflateEncoder.Encoding encoding)
+    {
+        final int length = contentEncoder.finish(encoding, contentBuffer, 0);
+        return encodedRO.wrap(contentBuffer, 0, length);
+    }
+
+    private void cleanupContentEncoding(
+        DeflateEncoder.Encoding encoding)
+    {
+        contentEncoder.release(encoding);
+    }
+
+    static int parseContentLength(
+        String16FW contentLength)
+    {
+        return contentLength.value().parseIntAscii(0, contentLength.length());
+    }
+
+    private static boolean isWhitespace(
+        byte b)
+    {
+        return b == SPACE_BYTE || b == '\t';
+    }
+
+    private static boolean equalsIgnoreCase(
+        DirectBuffer buffer,
+        int offset,
+        byte[] lowercase)
+    {
+        boolean equals = true;
+        for (int i = 0; equals && i < lowercase.length; i++)
+        {
+            final byte b = buffer.getByte(offset + i);
+            equals = (b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b) == lowercase[i];
+        }
+        return equals;
+    }
+
     private boolean isCorsPreflightRequest(
-        Map<String, String> headers)
+        Function<String, String> headerByName)
     {
-        return Objects.equals(headers.get(HEADER_NAME_METHOD), METHOD_NAME_OPTIONS) &&
-               headers.containsKey(HEADER_NAME_ORIGIN) &&
-               (headers.containsKey(HEADER_NAME_ACCESS_CONTROL_REQUEST_METHOD) ||
-                headers.containsKey(HEADER_NAME_ACCESS_CONTROL_REQUEST_HEADERS));
+        return Objects.equals(headerByName.apply(HEADER_NAME_METHOD), METHOD_NAME_OPTIONS) &&
+               headerByName.apply(HEADER_NAME_ORIGIN) != null &&
+               (headerByName.apply(HEADER_NAME_ACCESS_CONTROL_REQUEST_METHOD) != null ||
+                headerByName.apply(HEADER_NAME_ACCESS_CONTROL_REQUEST_HEADERS) != null);
     }
 
     private URI createTargetURI(
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.config;
+
+import static io.aklivity.zilla.runtime.binding.http.config.HttpPolicyConfig.CROSS_ORIGIN;
+import static io.aklivity.zilla.runtime.binding.http.config.HttpPolicyConfig.SAME_ORIGIN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Map;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.internal.types.HttpHeaderFW;
+import io.aklivity.zilla.runtime.binding.http.internal.types.String8FW;
+
+public class HttpAccessControlConfigTest
+{
+    @Test
+    public void shouldResolveEffectivePolicy()
+    {
+        HttpAccessControlConfig access = HttpAccessControlConfig.builder()
+            .policy(CROSS_ORIGIN)
+            .build();
+
+        assertThat(access.effectivePolicy(Map.of(
+            "origin", "https://example.com:9090",
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(SAME_ORIGIN));
+        assertThat(access.effectivePolicy(Map.of(
+            "origin", "https://example.com",
+            ":scheme", "https",
+            ":authority", "example.com:443")::get), equalTo(SAME_ORIGIN));
+        assertThat(access.effectivePolicy(Map.of(
+            "origin", "https://example.net",
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(CROSS_ORIGIN));
+        assertThat(access.effectivePolicy(Map.of(
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(CROSS_ORIGIN));
+    }
+
+    @Test
+    public void shouldResolveSameOriginPolicy()
+    {
+        HttpAccessControlConfig access = HttpAccessControlConfig.builder()
+            .policy(SAME_ORIGIN)
+            .build();
+
+        assertThat(access.effectivePolicy(Map.of(
+            "origin", "https://example.net",
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(SAME_ORIGIN));
+    }
+
+    @Test
+    public void shouldAllowPreflight()
+    {
+        HttpAccessControlConfig access = HttpAccessControlConfig.builder()
+            .policy(CROSS_ORIGIN)
+            .allow()
+                .origin("https://example.net")
+                .method("GET")
+                .header("x-custom")
+                .build()
+            .build();
+
+        assertThat(access.allowPreflight(Map.of(
+            "origin", "https://example.net",
+            "access-control-request-method", "GET",
+            "access-control-request-headers", "X-Custom")::get), equalTo(true));
+        assertThat(access.allowPreflight(Map.of(
+            "origin", "https://example.net")::get), equalTo(true));
+        assertThat(access.allowPreflight(Map.of(
+            "origin", "https://example.net",
+            "access-control-request-method", "DELETE")::get), equalTo(false));
+        assertThat(access.allowPreflight(Map.of(
+            "origin", "https://example.net",
+            "access-control-request-headers", "x-other")::get), equalTo(false));
+        assertThat(access.allowPreflight(Map.of(
+            "origin", "https://example.org",
+            "access-control-request-method", "GET")::get), equalTo(false));
+        assertThat(access.allowPreflight(Map.of(
+            "access-control-request-method", "GET")::get), equalTo(false));
+    }
+
+    @Test
+    public void shouldAllowRequest()
+    {
+        HttpAccessControlConfig access = HttpAccessControlConfig.builder()
+            .policy(CROSS_ORIGIN)
+            .allow()
+                .origin("https://example.net")
+                .build()
+            .build();
+
+        assertThat(access.allowRequest(Map.of(
+            "origin", "https://example.net",
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(true));
+        assertThat(access.allowRequest(Map.of(
+            "origin", "https://example.org",
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(false));
+        assertThat(access.allowRequest(Map.of(
+            "origin", "https://example.com:9090",
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(true));
+    }
+
+    @Test
+    public void shouldNotAllowCrossOriginRequestWithSameOriginPolicy()
+    {
+        HttpAccessControlConfig access = HttpAccessControlConfig.builder()
+            .policy(SAME_ORIGIN)
+            .build();
+
+        assertThat(access.allowRequest(Map.of(
+            "origin", "https://example.net",
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(false));
+        assertThat(access.allowRequest(Map.of(
+            "origin", "https://example.com:9090",
+            ":scheme", "https",
+            ":authority", "example.com:9090")::get), equalTo(true));
+    }
+
+    @Test
+    public void shouldExposeHeaders()
+    {
+        HttpAccessControlConfig access = HttpAccessControlConfig.builder()
+            .policy(CROSS_ORIGIN)
+            .build();
+
+        assertThat(access.exposeHeader(new String8FW("x-custom")), equalTo(true));
+        assertThat(access.exposeHeader(new String8FW(":status")), equalTo(false));
+        assertThat(access.exposeHeader(new String8FW("content-type")), equalTo(false));
+        assertThat(access.exposeHeader(new String8FW("")), equalTo(false));
+    }
+
+    @Test
+    public void shouldExposeExplicitHeaders()
+    {
+        HttpAccessControlConfig access = HttpAccessControlConfig.builder()
+            .policy(CROSS_ORIGIN)
+            .expose()
+                .header("x-custom")
+                .build()
+            .build();
+
+        HttpHeaderFW header = new HttpHeaderFW.Builder()
+            .wrap(new UnsafeBuffer(new byte[64]), 0, 64)
+            .name("x-custom")
+            .value("value")
+            .build();
+
+        assertThat(access.exposeHeader(header.name()), equalTo(true));
+        assertThat(access.exposeHeader(new String8FW("x-other")), equalTo(false));
+    }
+
+    @Test
+    public void shouldExposeAllHeadersWithSameOriginPolicy()
+    {
+        HttpAccessControlConfig access = HttpAccessControlConfig.builder()
+            .policy(SAME_ORIGIN)
+            .expose()
+                .header("x-custom")
+                .build()
+            .build();
+
+        assertThat(access.exposeHeader(new String8FW("x-other")), equalTo(true));
+        assertThat(access.exposeHeader(new String8FW(":status")), equalTo(true));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Test;
+
+public class HttpCompressionConfigTest
+{
+    @Test
+    public void shouldNegotiatePreferredEncoding()
+    {
+        HttpCompressionConfig compression = HttpCompressionConfig.builder().build();
+
+        assertThat(compression.encoding("gzip, deflate, br"), equalTo("gzip"));
+        assertThat(compression.encoding("deflate, gzip;q=0.5"), equalTo("deflate"));
+        assertThat(compression.encoding("br, *;q=0.1"), equalTo("gzip"));
+    }
+
+    @Test
+    public void shouldNotNegotiateUnacceptableEncoding()
+    {
+        HttpCompressionConfig compression = HttpCompressionConfig.builder()
+            .encoding("deflate")
+            .build();
+
+        assertThat(compression.encoding("gzip"), nullValue());
+        assertThat(compression.encoding("deflate;q=0"), nullValue());
+        assertThat(compression.encoding("*;q=0"), nullValue());
+        assertThat(compression.encoding("identity"), nullValue());
+        assertThat(compression.encoding(null), nullValue());
+    }
+
+    @Test
+    public void shouldMatchContentTypes()
+    {
+        HttpCompressionConfig compression = HttpCompressionConfig.builder()
+            .contentType("application/json")
+            .contentType("text/*")
+            .build();
+
+        assertThat(compression.compressible("application/json", -1L), equalTo(true));
+        assertThat(compression.compressible("Application/JSON; charset=utf-8", -1L), equalTo(true));
+        assertThat(compression.compressible("text/plain", -1L), equalTo(true));
+        assertThat(compression.compressible("image/png", -1L), equalTo(false));
+        assertThat(compression.compressible(null, -1L), equalTo(false));
+    }
+
+    @Test
+    public void shouldRequireMinimumLength()
+    {
+        HttpCompressionConfig compression = HttpCompressionConfig.builder()
+            .minLength(256)
+            .build();
+
+        assertThat(compression.compressible("image/png", 256L), equalTo(true));
+        assertThat(compression.compressible(null, -1L), equalTo(true));
+        assertThat(compression.compressible("application/json", 255L), equalTo(false));
+    }
+}
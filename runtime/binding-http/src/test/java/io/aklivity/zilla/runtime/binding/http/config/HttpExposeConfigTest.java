@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Set;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.internal.types.HttpHeaderFW;
+import io.aklivity.zilla.runtime.binding.http.internal.types.String8FW;
+
+public class HttpExposeConfigTest
+{
+    @Test
+    public void shouldMatchHeaderFlyweight()
+    {
+        HttpExposeConfig expose = new HttpExposeConfig(Set.of("x-custom"));
+
+        HttpHeaderFW header = new HttpHeaderFW.Builder()
+            .wrap(new UnsafeBuffer(new byte[64]), 8, 64)
+            .name("x-custom")
+            .value("value")
+            .build();
+
+        assertThat(expose.header(header.name()), equalTo(true));
+        assertThat(expose.header(new String8FW("x-other")), equalTo(false));
+        assertThat(expose.headersExplicit(), equalTo(true));
+    }
+
+    @Test
+    public void shouldMatchAnyHeader()
+    {
+        HttpExposeConfig expose = new HttpExposeConfig(null);
+
+        assertThat(expose.header(new String8FW("x-other")), equalTo(true));
+        assertThat(expose.headersExplicit(), equalTo(false));
+    }
+}
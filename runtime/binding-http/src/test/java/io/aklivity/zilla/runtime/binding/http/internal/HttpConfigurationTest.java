@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.binding.http.internal;
 
+import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_CLIENT_CACHE_CAPACITY;
+import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_CLIENT_CACHE_SIZE_MAX;
 import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_CONCURRENT_STREAMS;
 import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_MAX_CONCURRENT_STREAMS_CLEANUP;
 import static io.aklivity.zilla.runtime.binding.http.internal.HttpConfiguration.HTTP_MAX_FRAME_SIZE;
@@ -38,6 +40,8 @@ public class HttpConfigurationTest
     public static final String HTTP_MAX_FRAME_SIZE_NAME = "zilla.binding.http.max.frame.size";
     public static final String HTTP_MAX_CONCURRENT_STREAMS_CLEANUP_NAME = "zilla.binding.http.max.concurrent.streams.cleanup";
     public static final String HTTP_STREAMS_CLEANUP_DELAY_NAME = "zilla.binding.http.streams.cleanup.delay";
+    public static final String HTTP_CLIENT_CACHE_CAPACITY_NAME = "zilla.binding.http.client.cache.capacity";
+    public static final String HTTP_CLIENT_CACHE_SIZE_MAX_NAME = "zilla.binding.http.client.cache.size.max";
 
     @Test
     public void shouldVerifyConstants() throws Exception
@@ -50,5 +54,7 @@ public class HttpConfigurationTest
         assertEquals(HTTP_MAX_FRAME_SIZE.name(), HTTP_MAX_FRAME_SIZE_NAME);
         assertEquals(HTTP_MAX_CONCURRENT_STREAMS_CLEANUP.name(), HTTP_MAX_CONCURRENT_STREAMS_CLEANUP_NAME);
         assertEquals(HTTP_STREAMS_CLEANUP_DELAY.name(), HTTP_STREAMS_CLEANUP_DELAY_NAME);
+        assertEquals(HTTP_CLIENT_CACHE_CAPACITY.name(), HTTP_CLIENT_CACHE_CAPACITY_NAME);
+        assertEquals(HTTP_CLIENT_CACHE_SIZE_MAX.name(), HTTP_CLIENT_CACHE_SIZE_MAX_NAME);
     }
 }
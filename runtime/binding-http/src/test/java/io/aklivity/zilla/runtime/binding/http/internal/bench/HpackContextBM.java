@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackBufferPool;
+import io.aklivity.zilla.runtime.binding.http.internal.hpack.HpackContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 10, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class HpackContextBM
+{
+    private static final String[][] HEADERS =
+    {
+        {":authority", "www.example.com"},
+        {"user-agent", "Mozilla/5.0 (X11; Linux x86_64; rv:109.0) Gecko/20100101 Firefox/119.0"},
+        {"accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"},
+        {"accept-language", "en-US,en;q=0.5"},
+        {"cookie", "session=0123456789abcdef0123456789abcdef"},
+        {"x-request-id", "f058ebd6-02f7-4d3f-942e-904344e8cde5"},
+        {"x-forwarded-for", "203.0.113.195"},
+        {"cache-control", "no-cache"},
+    };
+
+    private final DirectBuffer[] names = new DirectBuffer[HEADERS.length];
+    private final DirectBuffer[] values = new DirectBuffer[HEADERS.length];
+    private final DirectBuffer missName = new UnsafeBuffer("x-not-indexed".getBytes(UTF_8));
+    private final DirectBuffer missValue = new UnsafeBuffer("not-indexed".getBytes(UTF_8));
+
+    private HpackContext encodeContext;
+    private HpackContext decodeContext;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        for (int i = 0; i < HEADERS.length; i++)
+        {
+            names[i] = new UnsafeBuffer(HEADERS[i][0].getBytes(UTF_8));
+            values[i] = new UnsafeBuffer(HEADERS[i][1].getBytes(UTF_8));
+        }
+
+        final HpackBufferPool buffers = new HpackBufferPool(4096);
+        this.encodeContext = new HpackContext(4096, true, buffers);
+        this.decodeContext = new HpackContext(4096, false, buffers);
+
+        for (int i = 0; i < HEADERS.length; i++)
+        {
+            encodeContext.add(names[i], values[i]);
+            decodeContext.add(names[i], values[i]);
+        }
+    }
+
+    @Benchmark
+    public void indexNameValue(
+        final Blackhole blackhole)
+    {
+        final int i = next++ & 0x07;
+        blackhole.consume(encodeContext.index(names[i], values[i]));
+    }
+
+    @Benchmark
+    public void indexName(
+        final Blackhole blackhole)
+    {
+        final int i = next++ & 0x07;
+        blackhole.consume(encodeContext.index(names[i]));
+    }
+
+    @Benchmark
+    public void indexMiss(
+        final Blackhole blackhole)
+    {
+        blackhole.consume(encodeContext.index(missName, missValue));
+    }
+
+    @Benchmark
+    public void addEvict()
+    {
+        final int i = next++ & 0x07;
+        encodeContext.add(names[i], values[i]);
+    }
+
+    @Benchmark
+    public void decodeIndexed(
+        final Blackhole blackhole)
+    {
+        final int index = 62 + (next++ & 0x07);
+        blackhole.consume(decodeContext.nameBuffer(index));
+        blackhole.consume(decodeContext.valueBuffer(index));
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(HpackContextBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -29,6 +29,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.time.Duration;
 import java.util.EnumSet;
+import java.util.List;
 
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
@@ -305,4 +306,60 @@ public class HttpOptionsConfigAdapterTest
         assertThat(json, not(nullValue()));
         assertThat(json, equalTo(expectedJson));
     }
+
+    @Test
+    public void shouldReadOptionsWithCompression()
+    {
+        // GIVEN
+        String json =
+            "{" +
+                "\"compression\":" +
+                "{" +
+                    "\"encodings\": [ \"gzip\" ]," +
+                    "\"content-types\": [ \"application/json\", \"text/*\" ]," +
+                    "\"min-length\": 256" +
+                "}" +
+            "}";
+
+        // WHEN
+        HttpOptionsConfig options = jsonb.fromJson(json, HttpOptionsConfig.class);
+
+        // THEN
+        assertThat(options, not(nullValue()));
+        assertThat(options.compression, not(nullValue()));
+        assertThat(options.compression.encodings, equalTo(List.of("gzip")));
+        assertThat(options.compression.contentTypes, equalTo(List.of("application/json", "text/*")));
+        assertThat(options.compression.minLength, equalTo(256));
+    }
+
+    @Test
+    public void shouldWriteOptionsWithCompression()
+    {
+        // GIVEN
+        String expectedJson =
+            "{" +
+                "\"compression\":" +
+                "{" +
+                    "\"encodings\":[\"gzip\",\"deflate\"]," +
+                    "\"content-types\":[\"application/json\"]," +
+                    "\"min-length\":256" +
+                "}" +
+            "}";
+        HttpOptionsConfig options = HttpOptionsConfig.builder()
+            .inject(identity())
+            .compression()
+                .encoding("gzip")
+                .encoding("deflate")
+                .contentType("application/json")
+                .minLength(256)
+                .build()
+            .build();
+
+        // WHEN
+        String json = jsonb.toJson(options);
+
+        // THEN
+        assertThat(json, not(nullValue()));
+        assertThat(json, equalTo(expectedJson));
+    }
 }
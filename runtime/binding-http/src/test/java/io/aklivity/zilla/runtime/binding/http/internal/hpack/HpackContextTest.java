@@ -169,4 +169,85 @@ public class HpackContextTest
 
     }
 
+    @Test
+    public void encodeDynamicNewestDuplicate()
+    {
+        HpackContext context = new HpackContext(150, true);
+        context.add("name", "value1");
+        context.add("name", "value2");
+        assertEquals(62, context.index("name"));
+        assertEquals(62, context.index("name", "value2"));
+        assertEquals(63, context.index("name", "value1"));
+
+        context.add("other", "value3");
+        context.add("name", "value4");
+        assertEquals(62, context.index("name"));
+        assertEquals(62, context.index("name", "value4"));
+        assertEquals(-1, context.index("name", "value1"));
+        assertEquals(64, context.index("name", "value2"));
+    }
+
+    @Test
+    public void encodeDynamicCompacted()
+    {
+        HpackContext context = new HpackContext(150, true);
+        for (int i = 0; i < 100; i++)
+        {
+            context.add("name" + i, "value" + i);
+            assertEquals(62, context.index("name" + i));
+            assertEquals(62, context.index("name" + i, "value" + i));
+            assertEquals("name" + i, context.name(62));
+            assertEquals("value" + i, context.value(62));
+            if (i > 0)
+            {
+                assertEquals("name" + (i - 1), context.name(63));
+                assertEquals("value" + (i - 1), context.value(63));
+            }
+        }
+        assertEquals(3, context.tableEntries);
+        assertEquals(-1, context.index("name96"));
+    }
+
+    @Test
+    public void updateSize()
+    {
+        HpackContext context = new HpackContext(100, true);
+        context.add("name1", "value1");
+        context.add("name2", "value2");
+        assertEquals(86, context.tableSize);
+
+        context.updateSize(50);
+        assertEquals(1, context.tableEntries);
+        assertEquals(62, context.index("name2", "value2"));
+        assertEquals(-1, context.index("name1"));
+
+        context.updateSize(200);
+        context.add("name3", "value3");
+        context.add("name4", "value4");
+        context.add("name5", "value5");
+        assertEquals(4, context.tableEntries);
+        assertEquals(65, context.index("name2", "value2"));
+        assertEquals(62, context.index("name5", "value5"));
+    }
+
+    @Test
+    public void releaseSharedTable()
+    {
+        HpackBufferPool buffers = new HpackBufferPool(100);
+        HpackContext context1 = new HpackContext(100, true, buffers);
+        HpackContext context2 = new HpackContext(100, true, buffers);
+        context1.add("name1", "value1");
+        context1.release();
+        assertEquals(0, context1.tableEntries);
+        assertEquals(0, context1.tableSize);
+        assertEquals(-1, context1.index("name1"));
+
+        context2.add("name2", "value2");
+        context1.add("name3", "value3");
+        assertEquals(62, context2.index("name2", "value2"));
+        assertEquals(62, context1.index("name3", "value3"));
+        assertEquals("value2", context2.value(62));
+        assertEquals("value3", context1.value(62));
+    }
+
 }
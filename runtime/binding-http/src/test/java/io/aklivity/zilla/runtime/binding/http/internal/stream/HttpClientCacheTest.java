@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.stream;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class HttpClientCacheTest
+{
+    @Test
+    public void shouldGetCachedEntry()
+    {
+        HttpClientCache cache = new HttpClientCache(16, 1024L);
+        HttpClientCache.Entry entry = newEntry(8, "max-age=60", 0L);
+
+        cache.put("one", entry);
+
+        assertSame(entry, cache.get("one"));
+        assertNull(cache.get("two"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntry()
+    {
+        HttpClientCache cache = new HttpClientCache(2, 1024L);
+
+        cache.put("one", newEntry(8, "max-age=60", 0L));
+        cache.put("two", newEntry(8, "max-age=60", 0L));
+        cache.get("one");
+        cache.put("three", newEntry(8, "max-age=60", 0L));
+
+        assertEquals(2, cache.entries());
+        assertNotNull(cache.get("one"));
+        assertNull(cache.get("two"));
+        assertNotNull(cache.get("three"));
+    }
+
+    @Test
+    public void shouldEvictEntryExceedingSizeMax()
+    {
+        HttpClientCache cache = new HttpClientCache(16, 24L);
+
+        cache.put("one", newEntry(16, "max-age=60", 0L));
+        cache.put("two", newEntry(16, "max-age=60", 0L));
+
+        assertEquals(1, cache.entries());
+        assertNull(cache.get("one"));
+        assertNotNull(cache.get("two"));
+    }
+
+    @Test
+    public void shouldRemoveEntry()
+    {
+        HttpClientCache cache = new HttpClientCache(16, 1024L);
+
+        cache.put("one", newEntry(8, "max-age=60", 0L));
+        cache.remove("one");
+
+        assertEquals(0, cache.entries());
+        assertNull(cache.get("one"));
+    }
+
+    @Test
+    public void shouldNotCacheEntryWhenDisabled()
+    {
+        HttpClientCache cache = new HttpClientCache(0, 1024L);
+
+        cache.put("one", newEntry(8, "max-age=60", 0L));
+
+        assertEquals(0, cache.entries());
+        assertFalse(cache.cacheable(8L));
+        assertTrue(new HttpClientCache(16, 1024L).cacheable(8L));
+    }
+
+    @Test
+    public void shouldParseCacheControl()
+    {
+        HttpClientCache.Control control = new HttpClientCache.Control().reset()
+            .cacheControl("public, max-age=60, s-maxage=\"120\", stale-while-revalidate=30")
+            .age("10");
+
+        assertEquals(60L, control.maxAge);
+        assertEquals(120L, control.sharedMaxAge);
+        assertEquals(30L, control.staleWhileRevalidate);
+        assertEquals(10L, control.age);
+        assertEquals(120L, control.lifetime());
+        assertTrue(control.storable());
+    }
+
+    @Test
+    public void shouldNotStoreRestrictedResponses()
+    {
+        HttpClientCache.Control control = new HttpClientCache.Control();
+
+        assertFalse(control.reset().cacheControl("no-store, max-age=60").storable());
+        assertFalse(control.reset().cacheControl("no-cache, max-age=60").storable());
+        assertFalse(control.reset().cacheControl("private, max-age=60").storable());
+        assertFalse(control.reset().cacheControl("max-age=60").age("60").storable());
+        assertFalse(control.reset().cacheControl("max-age=invalid").storable());
+        assertFalse(control.reset().cacheControl(null).storable());
+    }
+
+    @Test
+    public void shouldServeStaleWhileRevalidate()
+    {
+        HttpClientCache.Entry entry = newEntry(8, "max-age=60, stale-while-revalidate=30", 0L);
+
+        assertTrue(entry.fresh(59_999L));
+        assertFalse(entry.fresh(60_000L));
+        assertTrue(entry.usable(89_999L));
+        assertFalse(entry.usable(90_000L));
+        assertEquals(45L, entry.age(45_000L));
+    }
+
+    @Test
+    public void shouldStoreStaleWhileRevalidate()
+    {
+        HttpClientCache.Control control = new HttpClientCache.Control();
+
+        assertTrue(control.reset().cacheControl("max-age=0, stale-while-revalidate=60").storable());
+        assertFalse(control.reset().cacheControl("max-age=0").storable());
+        assertFalse(control.reset().cacheControl("stale-while-revalidate=60").storable());
+
+        HttpClientCache.Entry entry = newEntry(8, "max-age=0, stale-while-revalidate=60", 0L);
+
+        assertFalse(entry.fresh(0L));
+        assertTrue(entry.usable(59_999L));
+    }
+
+    @Test
+    public void shouldRefreshEntry()
+    {
+        HttpClientCache.Entry entry = newEntry(8, "max-age=60", 0L);
+        HttpClientCache.Control control = new HttpClientCache.Control().reset().cacheControl("max-age=60");
+
+        entry.refresh(control, 100_000L);
+
+        assertTrue(entry.fresh(100_000L));
+        assertEquals(0L, entry.age(100_000L));
+    }
+
+    @Test
+    public void shouldMatchVaryingHeaders()
+    {
+        Map<String, String> varying = singletonMap("accept-encoding", "gzip");
+        HttpClientCache.Control control = new HttpClientCache.Control().reset().cacheControl("max-age=60");
+        HttpClientCache.Entry entry = new HttpClientCache.Entry(
+            new UnsafeBuffer(new byte[0]), new UnsafeBuffer(new byte[8]), varying, null, control, 0L);
+
+        assertTrue(entry.matches(singletonMap("accept-encoding", "gzip")::get));
+        assertFalse(entry.matches(singletonMap("accept-encoding", "br")::get));
+        assertFalse(entry.matches(Collections.<String, String>emptyMap()::get));
+    }
+
+    private static HttpClientCache.Entry newEntry(
+        int size,
+        String cacheControl,
+        long now)
+    {
+        HttpClientCache.Control control = new HttpClientCache.Control().reset().cacheControl(cacheControl);
+        return new HttpClientCache.Entry(new UnsafeBuffer(new byte[0]), new UnsafeBuffer(new byte[size]),
+            emptyMap(), null, control, now);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.internal.types.stream.HttpBeginExFW;
+
+public class HttpHeaderLookupTest
+{
+    @Test
+    public void shouldLookupHeaderByName()
+    {
+        HttpBeginExFW beginEx = new HttpBeginExFW.Builder()
+            .wrap(new UnsafeBuffer(new byte[256]), 0, 256)
+            .typeId(1)
+            .headersItem(h -> h.name(":method").value("GET"))
+            .headersItem(h -> h.name(":path").value("/items"))
+            .headersItem(h -> h.name("origin").value("https://example.com"))
+            .build();
+
+        HttpHeaderLookup lookup = new HttpHeaderLookup().wrap(beginEx.headers());
+
+        assertEquals("GET", lookup.apply(":method"));
+        assertEquals("/items", lookup.apply(":path"));
+        assertEquals("https://example.com", lookup.apply("origin"));
+        assertNull(lookup.apply("authorization"));
+    }
+
+    @Test
+    public void shouldLookupHeaderByNameIgnoringCase()
+    {
+        HttpBeginExFW beginEx = new HttpBeginExFW.Builder()
+            .wrap(new UnsafeBuffer(new byte[256]), 0, 256)
+            .typeId(1)
+            .headersItem(h -> h.name("Content-Type").value("text/plain"))
+            .build();
+
+        HttpHeaderLookup lookup = new HttpHeaderLookup().wrap(beginEx.headers());
+
+        assertEquals("text/plain", lookup.apply("content-type"));
+        assertNull(lookup.apply("content"));
+    }
+
+    @Test
+    public void shouldLookupLastRepeatedHeader()
+    {
+        HttpBeginExFW beginEx = new HttpBeginExFW.Builder()
+            .wrap(new UnsafeBuffer(new byte[256]), 0, 256)
+            .typeId(1)
+            .headersItem(h -> h.name("accept").value("text/plain"))
+            .headersItem(h -> h.name(":path").value("/items"))
+            .headersItem(h -> h.name("accept").value("application/json"))
+            .build();
+
+        HttpHeaderLookup lookup = new HttpHeaderLookup().wrap(beginEx.headers());
+
+        assertEquals("application/json", lookup.apply("accept"));
+        assertEquals("/items", lookup.apply(":path"));
+    }
+}
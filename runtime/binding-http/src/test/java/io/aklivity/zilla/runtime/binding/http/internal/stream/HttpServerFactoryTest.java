@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.internal.types.String16FW;
+import io.aklivity.zilla.runtime.binding.http.internal.types.String8FW;
+import io.aklivity.zilla.runtime.binding.http.internal.types.stream.HttpBeginExFW;
+
+public class HttpServerFactoryTest
+{
+    @Test
+    public void shouldOverrideHeaders()
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(new byte[1024]);
+        HttpBeginExFW beginEx = new HttpBeginExFW.Builder()
+            .wrap(buffer, 0, buffer.capacity())
+            .typeId(1)
+            .headersItem(h -> h.name(":method").value("GET"))
+            .headersItem(h -> h.name(":path").value("/items"))
+            .build();
+
+        Map<String8FW, String16FW> overrides = new LinkedHashMap<>();
+        overrides.put(new String8FW(":path"), new String16FW("/items/1"));
+        overrides.put(new String8FW("x-custom"), new String16FW("value"));
+
+        HttpBeginExFW newBeginEx = HttpServerFactory.overrideHeaders(beginEx, overrides,
+            new HttpBeginExFW.Builder(), new HttpBeginExFW(), buffer);
+
+        HttpHeaderLookup lookup = new HttpHeaderLookup().wrap(newBeginEx.headers());
+
+        assertEquals(0, newBeginEx.offset());
+        assertEquals(1, newBeginEx.typeId());
+        assertEquals(3, newBeginEx.headers().fieldCount());
+        assertEquals("GET", lookup.apply(":method"));
+        assertEquals("/items/1", lookup.apply(":path"));
+        assertEquals("value", lookup.apply("x-custom"));
+    }
+
+    @Test
+    public void shouldParseContentLength()
+    {
+        assertEquals(0, HttpServerFactory.parseContentLength(new String16FW("0")));
+        assertEquals(1234, HttpServerFactory.parseContentLength(new String16FW("1234")));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldNotParseInvalidContentLength()
+    {
+        HttpServerFactory.parseContentLength(new String16FW("12a"));
+    }
+
+    @Test
+    public void shouldDetectConnectionClose()
+    {
+        assertTrue(HttpServerFactory.isConnectionClose(new String16FW("close")));
+        assertTrue(HttpServerFactory.isConnectionClose(new String16FW("Close")));
+        assertTrue(HttpServerFactory.isConnectionClose(new String16FW("keep-alive, close")));
+        assertTrue(HttpServerFactory.isConnectionClose(new String16FW(" upgrade ,\tclose ")));
+        assertFalse(HttpServerFactory.isConnectionClose(new String16FW("keep-alive")));
+        assertFalse(HttpServerFactory.isConnectionClose(new String16FW("closed")));
+        assertFalse(HttpServerFactory.isConnectionClose(new String16FW("")));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class DeflateEncoderTest
+{
+    private static final int CAPACITY = 1024;
+
+    @Test
+    public void shouldEncodeGzipAcrossFrames() throws IOException
+    {
+        DeflateEncoder encoder = new DeflateEncoder(CAPACITY);
+        DeflateEncoder.Encoding encoding = encoder.acquire("gzip");
+
+        byte[] content = encode(encoder, encoding, "{\"id\":1}", "{\"id\":2}", "{\"id\":3}");
+
+        assertThat(gunzip(content), equalTo("{\"id\":1}{\"id\":2}{\"id\":3}"));
+    }
+
+    @Test
+    public void shouldEncodeDeflate() throws IOException
+    {
+        DeflateEncoder encoder = new DeflateEncoder(CAPACITY);
+        DeflateEncoder.Encoding encoding = encoder.acquire("deflate");
+
+        byte[] content = encode(encoder, encoding, "hello, hello, hello, hello");
+
+        assertThat(inflate(content), equalTo("hello, hello, hello, hello"));
+    }
+
+    @Test
+    public void shouldEncodeEmptyContent() throws IOException
+    {
+        DeflateEncoder encoder = new DeflateEncoder(CAPACITY);
+        DeflateEncoder.Encoding encoding = encoder.acquire("gzip");
+
+        byte[] content = encode(encoder, encoding);
+
+        assertThat(gunzip(content), equalTo(""));
+    }
+
+    @Test
+    public void shouldEncodeWithinPadding()
+    {
+        DeflateEncoder encoder = new DeflateEncoder(CAPACITY);
+        DeflateEncoder.Encoding encoding = encoder.acquire("gzip");
+
+        byte[] random = new byte[CAPACITY];
+        new Random(0L).nextBytes(random);
+
+        MutableDirectBuffer target = new UnsafeBuffer(new byte[CAPACITY + DeflateEncoder.padding(CAPACITY)]);
+        int encoded = encoder.encode(encoding, new UnsafeBuffer(random), 0, random.length, target, 0);
+        int finished = encoder.finish(encoding, target, 0);
+
+        assertThat(encoded, lessThan(CAPACITY + DeflateEncoder.padding(CAPACITY) + 1));
+        assertThat(finished, lessThan(DeflateEncoder.TAIL_MAX + 1));
+    }
+
+    @Test
+    public void shouldEncodeContentLongerThanCapacity() throws IOException
+    {
+        DeflateEncoder encoder = new DeflateEncoder(CAPACITY);
+        DeflateEncoder.Encoding encoding = encoder.acquire("gzip");
+
+        String text = "{\"id\":1}".repeat(CAPACITY);
+        byte[] content = text.getBytes(UTF_8);
+
+        MutableDirectBuffer target = new ExpandableArrayBuffer(CAPACITY);
+        int progress = encoder.encode(encoding, new UnsafeBuffer(content), 0, content.length, target, 0);
+        progress += encoder.finish(encoding, target, progress);
+
+        byte[] encoded = new byte[progress];
+        target.getBytes(0, encoded);
+
+        assertThat(gunzip(encoded), equalTo(text));
+    }
+
+    @Test
+    public void shouldEncodeWithPooledDeflater() throws IOException
+    {
+        DeflateEncoder encoder = new DeflateEncoder(CAPACITY);
+        DeflateEncoder.Encoding first = encoder.acquire("gzip");
+        assertThat(gunzip(encode(encoder, first, "first")), equalTo("first"));
+
+        DeflateEncoder.Encoding second = encoder.acquire("deflate");
+        assertThat(inflate(encode(encoder, second, "second")), equalTo("second"));
+
+        DeflateEncoder.Encoding aborted = encoder.acquire("gzip");
+        encoder.encode(aborted, new UnsafeBuffer("aborted".getBytes(UTF_8)), 0, 7, new UnsafeBuffer(new byte[CAPACITY]), 0);
+        encoder.release(aborted);
+
+        DeflateEncoder.Encoding third = encoder.acquire("gzip");
+        assertThat(gunzip(encode(encoder, third, "third")), equalTo("third"));
+    }
+
+    @Test
+    public void shouldPoolEncodingsUpToMax() throws IOException
+    {
+        DeflateEncoder encoder = new DeflateEncoder(CAPACITY, 1);
+        DeflateEncoder.Encoding first = encoder.acquire("gzip");
+        DeflateEncoder.Encoding second = encoder.acquire("gzip");
+        encoder.release(first);
+        encoder.release(second);
+
+        DeflateEncoder.Encoding pooled = encoder.acquire("deflate");
+        DeflateEncoder.Encoding created = encoder.acquire("gzip");
+
+        assertThat(pooled, sameInstance(first));
+        assertThat(created, not(sameInstance(second)));
+        assertThat(pooled.name(), equalTo("deflate"));
+        assertThat(inflate(encode(encoder, pooled, "pooled")), equalTo("pooled"));
+        assertThat(gunzip(encode(encoder, created, "created")), equalTo("created"));
+    }
+
+    private static byte[] encode(
+        DeflateEncoder encoder,
+        DeflateEncoder.Encoding encoding,
+        String... frames)
+    {
+        MutableDirectBuffer target = new UnsafeBuffer(new byte[CAPACITY * 4]);
+        int progress = 0;
+
+        for (String frame : frames)
+        {
+            DirectBuffer payload = new UnsafeBuffer(frame.getBytes(UTF_8));
+            progress += encoder.encode(encoding, payload, 0, payload.capacity(), target, progress);
+        }
+
+        progress += encoder.finish(encoding, target, progress);
+
+        byte[] content = new byte[progress];
+        target.getBytes(0, content);
+        return content;
+    }
+
+    private static String gunzip(
+        byte[] content) throws IOException
+    {
+        return read(new GZIPInputStream(new ByteArrayInputStream(content)));
+    }
+
+    private static String inflate(
+        byte[] content) throws IOException
+    {
+        return read(new InflaterInputStream(new ByteArrayInputStream(content)));
+    }
+
+    private static String read(
+        InputStream input) throws IOException
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        input.transferTo(output);
+        return output.toString(UTF_8);
+    }
+}
@@ -22,14 +22,25 @@ public final class KafkaGrpcOptionsConfig extends OptionsConfig
     public final KafkaAckMode acks;
     public final KafkaGrpcIdempotencyConfig idempotency;
     public final KafkaGrpcCorrelationConfig correlation;
+    public final int inflight;
 
     public KafkaGrpcOptionsConfig(
         KafkaAckMode acks,
         KafkaGrpcIdempotencyConfig idempotency,
         KafkaGrpcCorrelationConfig correlation)
+    {
+        this(acks, idempotency, correlation, 0);
+    }
+
+    public KafkaGrpcOptionsConfig(
+        KafkaAckMode acks,
+        KafkaGrpcIdempotencyConfig idempotency,
+        KafkaGrpcCorrelationConfig correlation,
+        int inflight)
     {
         this.acks = acks;
         this.idempotency = idempotency;
         this.correlation = correlation;
+        this.inflight = inflight;
     }
 }
@@ -43,6 +43,8 @@ public class KafkaGrpcOptionsConfigAdapter implements OptionsConfigAdapterSpi, J
     private static final String CORRELATION_HEADERS_SERVICE_NAME = "service";
     private static final String CORRELATION_HEADERS_METHOD_NAME = "method";
     private static final String CORRELATION_HEADERS_REPLY_TO_NAME = "reply-to";
+    private static final String INFLIGHT_NAME = "inflight";
+    private static final int INFLIGHT_DEFAULT = 0;
 
     private static final String8FW IDEMPOTENCY_METADATA_DEFAULT = new String8FW("idempotency-key");
     private static final String16FW CORRELATION_HEADERS_CORRELATION_ID_DEFAULT = new String16FW("zilla:correlation-id");
@@ -57,7 +59,7 @@ public class KafkaGrpcOptionsConfigAdapter implements OptionsConfigAdapterSpi, J
             CORRELATION_HEADERS_SERVICE_DEFAULT, CORRELATION_HEADERS_METHOD_DEFAULT,
             CORRELATION_HEADERS_REPLY_TO_DEFAULT);
     public static final KafkaGrpcOptionsConfig DEFAULT =
-        new KafkaGrpcOptionsConfig(ACKS_DEFAULT, IDEMPOTENCY_DEFAULT, CORRELATION_DEFAULT);
+        new KafkaGrpcOptionsConfig(ACKS_DEFAULT, IDEMPOTENCY_DEFAULT, CORRELATION_DEFAULT, INFLIGHT_DEFAULT);
 
     @Override
     public OptionsConfigAdapterSpi.Kind kind()
@@ -130,6 +132,11 @@ public class KafkaGrpcOptionsConfigAdapter implements OptionsConfigAdapterSpi, J
             object.add(CORRELATION_NAME, newCorrelation);
         }
 
+        if (kafkaGrpcOptions.inflight != INFLIGHT_DEFAULT)
+        {
+            object.add(INFLIGHT_NAME, kafkaGrpcOptions.inflight);
+        }
+
         return object.build();
     }
 
@@ -191,6 +198,10 @@ public class KafkaGrpcOptionsConfigAdapter implements OptionsConfigAdapterSpi, J
             }
         }
 
-        return new KafkaGrpcOptionsConfig(newProduceAcks, newIdempotency, newCorrelation);
+        int newInflight = object.containsKey(INFLIGHT_NAME)
+            ? object.getInt(INFLIGHT_NAME)
+            : INFLIGHT_DEFAULT;
+
+        return new KafkaGrpcOptionsConfig(newProduceAcks, newIdempotency, newCorrelation, newInflight);
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.grpc.internal.stream;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.LongArrayQueue;
+import org.agrona.collections.LongHashSet;
+
+final class KafkaGrpcOffsetTracker
+{
+    static final long NO_OFFSET = -1L;
+
+    private final Int2ObjectHashMap<Partition> partitions;
+
+    KafkaGrpcOffsetTracker()
+    {
+        this.partitions = new Int2ObjectHashMap<>();
+    }
+
+    void dispatch(
+        int partitionId,
+        long partitionOffset)
+    {
+        partitions.computeIfAbsent(partitionId, id -> new Partition()).dispatch(partitionOffset);
+    }
+
+    long complete(
+        int partitionId,
+        long partitionOffset)
+    {
+        final Partition partition = partitions.get(partitionId);
+        return partition != null ? partition.complete(partitionOffset) : NO_OFFSET;
+    }
+
+    int pending(
+        int partitionId)
+    {
+        final Partition partition = partitions.get(partitionId);
+        return partition != null ? partition.pending.size() : 0;
+    }
+
+    private static final class Partition
+    {
+        private final LongArrayQueue pending;
+        private final LongHashSet completed;
+
+        private Partition()
+        {
+            this.pending = new LongArrayQueue(NO_OFFSET);
+            this.completed = new LongHashSet();
+        }
+
+        private void dispatch(
+            long partitionOffset)
+        {
+            pending.addLong(partitionOffset);
+        }
+
+        private long complete(
+            long partitionOffset)
+        {
+            long progress = NO_OFFSET;
+
+            final long oldest = pending.peekLong();
+            if (oldest == partitionOffset)
+            {
+                progress = pending.pollLong();
+
+                while (!pending.isEmpty() && completed.remove(pending.peekLong()))
+                {
+                    progress = pending.pollLong();
+                }
+            }
+            else if (oldest != NO_OFFSET && partitionOffset > oldest)
+            {
+                completed.add(partitionOffset);
+            }
+
+            return progress;
+        }
+    }
+}
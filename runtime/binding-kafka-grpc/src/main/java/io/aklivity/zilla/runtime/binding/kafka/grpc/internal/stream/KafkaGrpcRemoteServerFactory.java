@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.grpc.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.kafka.grpc.internal.stream.KafkaGrpcOffsetTracker.NO_OFFSET;
 import static io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.KafkaCapabilities.FETCH_ONLY;
 import static io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.KafkaCapabilities.PRODUCE_ONLY;
 import static io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.stream.GrpcType.BASE64;
@@ -23,7 +24,9 @@ import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.lang.System.currentTimeMillis;
 import static java.time.Instant.now;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -36,7 +39,10 @@ import java.util.function.LongUnaryOperator;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.IntHashSet;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2IntHashMap;
 import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -46,6 +52,7 @@ import io.aklivity.zilla.runtime.binding.kafka.grpc.internal.config.KafkaGrpcCon
 import io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.Array32FW;
 import io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.KafkaKeyFW;
 import io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.String16FW;
 import io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.queue.GrpcQueueMessageFW;
@@ -85,6 +92,8 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
 
     private static final int SIGNAL_INITIATE_KAFKA_STREAM = 1;
     private static final int GRPC_QUEUE_MESSAGE_PADDING = 3 * 256 + 33;
+    private static final int GRPC_QUEUE_MESSAGE_FIXED_SIZE = 9 * Integer.BYTES + 3 * Long.BYTES + Byte.BYTES;
+    private static final int NO_KEY_HASH = 0;
 
     private static final int DATA_FLAG_COMPLETE = 0x03;
     private static final int DATA_FLAG_INIT = 0x02;
@@ -211,7 +220,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                     KafkaGrpcConditionResult condition = c.resolve();
                     servers.add(
                         new KafkaRemoteServer(newBinding.id, newBinding.entryId, r.id, condition,
-                            newBinding.helper, groupId));
+                            newBinding.helper, groupId, newBinding.options.inflight));
                 }));
 
             this.reconnectAt = signaler.signalAt(
@@ -250,7 +259,15 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
         private final KafkaErrorProducer errorProducer;
         private final Map<OctetsFW, GrpcClient> grpcClients;
         private final KafkaGrpcFetchHeaderHelper helper;
+        private final KafkaGrpcOffsetTracker offsets;
+        private final IntHashSet blockedKeys;
+        private final Int2IntHashMap inflightKeys;
+        private final Int2IntHashMap deferredKeys;
+        private final Object2IntHashMap<OctetsFW> deferredKeyHashes;
+        private final ArrayDeque<OctetsFW> deferredIds;
+        private final Object2IntHashMap<OctetsFW> queuedIds;
         private final String groupId;
+        private final int inflight;
         private final long originId;
         private final long routedId;
         private final long entryId;
@@ -258,6 +275,8 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
         private final long replyId;
 
         private OctetsFW lastCorrelationId;
+        private int lastKeyHash;
+        private boolean lastDeferred;
         private int state;
 
         private long initialSeq;
@@ -273,6 +292,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
         private int replyCap;
         private int grpcQueueSlot = NO_SLOT;
         private int grpcQueueSlotOffset;
+        private int grpcQueueOverhead;
 
         private KafkaRemoteServer(
             long originId,
@@ -280,7 +300,8 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             long entryId,
             KafkaGrpcConditionResult condition,
             KafkaGrpcFetchHeaderHelper helper,
-            String groupId)
+            String groupId,
+            int inflight)
         {
             this.entryId = entryId;
             this.originId = originId;
@@ -297,7 +318,16 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             this.condition = condition;
             this.helper = helper;
             this.groupId = groupId;
+            this.inflight = inflight;
+            this.offsets = new KafkaGrpcOffsetTracker();
+            this.blockedKeys = new IntHashSet();
+            this.inflightKeys = new Int2IntHashMap(0);
+            this.deferredKeys = new Int2IntHashMap(0);
+            this.deferredKeyHashes = new Object2IntHashMap<>(NO_KEY_HASH);
+            this.deferredIds = new ArrayDeque<>();
+            this.queuedIds = new Object2IntHashMap<>(0);
         }
+
         private void initiate(
             long traceId)
         {
@@ -305,6 +335,8 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
         }
 
         private void removeIfClosed(
+            long traceId,
+            long authorization,
             OctetsFW correlationId)
         {
             GrpcClient grpcClient = grpcClients.get(correlationId);
@@ -312,6 +344,20 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             {
                 grpcClient.cleanupBudgetIfNecessary();
                 grpcClients.remove(correlationId);
+
+                if (inflight != 0)
+                {
+                    decrement(inflightKeys, grpcClient.keyHash);
+
+                    final int partitionId = grpcClient.dispatchPartitionId;
+                    final long partitionOffset = offsets.complete(partitionId, grpcClient.dispatchPartitionOffset);
+                    if (partitionOffset != NO_OFFSET)
+                    {
+                        doKafkaCommitOffset(traceId, authorization, partitionId, partitionOffset);
+                    }
+
+                    dispatchQueuedIfNecessary(traceId, authorization);
+                }
             }
         }
 
@@ -421,6 +467,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             assert replyAck <= replySeq;
 
             int deferred = 0;
+            int keyHash = NO_KEY_HASH;
 
             if ((flags & DATA_FLAG_INIT) != 0x00)
             {
@@ -430,6 +477,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
 
                 helper.visit(kafkaDataEx);
                 deferred = kafkaDataEx.merged().fetch().deferred();
+                keyHash = inflight != 0 ? hashKey(kafkaDataEx.merged().fetch().key()) : NO_KEY_HASH;
             }
 
             Array32FW<GrpcMetadataFW> metadata = helper.metadata;
@@ -441,18 +489,45 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                     GrpcClient grpcClient = grpcClients.get(helper.correlationId);
                     if (grpcClient == null)
                     {
-                        final int correlationLength = helper.correlationId.sizeof();
-                        OctetsFW newCorrelationId = new OctetsFW.Builder()
-                            .wrap(new UnsafeBuffer(new byte[correlationLength]), 0, correlationLength)
-                            .set(helper.correlationId)
-                            .build();
+                        OctetsFW newCorrelationId = newCorrelationId(helper.correlationId);
                         lastCorrelationId = newCorrelationId;
-                        grpcClient = newGrpcClient(traceId, authorization, helper.service, helper.method, metadata,
-                            helper.replyTo, newCorrelationId);
+                        lastKeyHash = keyHash;
+                        lastDeferred = false;
+
+                        if (inflight != 0)
+                        {
+                            final boolean queued = queuedIds.containsKey(newCorrelationId);
+                            if (!queued)
+                            {
+                                offsets.dispatch(helper.partitionId, helper.partitionOffset);
+                            }
+
+                            lastDeferred = !admits(newCorrelationId, keyHash);
+
+                            if (lastDeferred && !queued)
+                            {
+                                defer(newCorrelationId, keyHash);
+                            }
+                        }
+
+                        if (!lastDeferred)
+                        {
+                            grpcClient = newGrpcClient(traceId, authorization, helper.service, helper.method, metadata,
+                                helper.replyTo, newCorrelationId, helper.partitionId, helper.partitionOffset, keyHash);
+                        }
                     }
 
-                    flushGrpcClientData(grpcClient, traceId, authorization, helper.service, helper.method, metadata,
-                        helper.partitionId, helper.partitionOffset, deferred, flags, reserved, payload);
+                    if (grpcClient != null)
+                    {
+                        flushGrpcClientData(grpcClient, traceId, authorization, helper.service, helper.method, metadata,
+                            helper.partitionId, helper.partitionOffset, deferred, flags, reserved, payload);
+                    }
+                    else
+                    {
+                        queueGrpcMessage(traceId, authorization, helper.partitionId, helper.partitionOffset, keyHash,
+                            lastCorrelationId, helper.service, helper.method, metadata, deferred, flags, reserved,
+                            payload, payload.sizeof());
+                    }
                 }
                 else if (helper.correlationId != null)
                 {
@@ -463,15 +538,21 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             {
                 GrpcClient grpcClient = lastCorrelationId == null ? null : grpcClients.get(lastCorrelationId);
 
-                if (grpcClient == null)
-                {
-                    doKafkaCommitOffset(traceId, authorization, helper.partitionId, helper.partitionOffset);
-                }
-                else
+                if (grpcClient != null)
                 {
                     flushGrpcClientData(grpcClient, traceId, authorization, helper.service, helper.method, metadata,
                         helper.partitionId, helper.partitionOffset, deferred, flags, reserved, payload);
                 }
+                else if (lastDeferred)
+                {
+                    queueGrpcMessage(traceId, authorization, helper.partitionId, helper.partitionOffset, lastKeyHash,
+                        lastCorrelationId, helper.service, helper.method, metadata, deferred, flags, reserved,
+                        payload, payload != null ? payload.sizeof() : 0);
+                }
+                else if (inflight == 0)
+                {
+                    doKafkaCommitOffset(traceId, authorization, helper.partitionId, helper.partitionOffset);
+                }
             }
 
             doKafkaWindow(traceId, authorization);
@@ -484,11 +565,21 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             OctetsFW method,
             Array32FW<GrpcMetadataFW> metadata,
             OctetsFW replyTo,
-            OctetsFW correlationId)
+            OctetsFW correlationId,
+            int partitionId,
+            long partitionOffset,
+            int keyHash)
         {
-            final GrpcClient grpcClient = new GrpcClient(originId, entryId, routedId, correlationId, replyTo, this);
+            final GrpcClient grpcClient = new GrpcClient(originId, entryId, routedId, correlationId, replyTo, this,
+                partitionId, partitionOffset, keyHash);
             grpcClients.put(correlationId, grpcClient);
 
+            if (inflight != 0)
+            {
+                undefer(correlationId);
+                increment(inflightKeys, keyHash);
+            }
+
             grpcClient.doGrpcBegin(traceId, authorization, 0L, service, method, metadata);
 
             return grpcClient;
@@ -516,6 +607,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                 final long messageAuthorization = queueMessage.authorization();
                 final int partitionId = queueMessage.partitionId();
                 final long partitionOffset = queueMessage.partitionOffset();
+                final int keyHash = queueMessage.keyHash();
                 final int deferred = queueMessage.deferred();
                 final int flags = queueMessage.flags();
                 final int reserved = queueMessage.reserved();
@@ -531,7 +623,8 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                     Array32FW<GrpcMetadataFW> meta = metadataRO.wrap(metadata.buffer(), metadata.offset(), metadata.limit());
                     GrpcClient grpcClient = grpcClients.get(messageCorrelationId);
                     grpcClient = grpcClient != null ? grpcClient :
-                        newGrpcClient(traceId, authorization, service, method, meta, helper.replyTo, messageCorrelationId);
+                        newGrpcClient(traceId, authorization, service, method, meta, helper.replyTo, correlationId,
+                            partitionId, partitionOffset, keyHash);
 
                     final int progress = grpcClient.onKafkaData(messageTraceId, messageAuthorization,
                         partitionId, partitionOffset, deferred, flags, payload);
@@ -539,6 +632,9 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                     if (payload == null || progress == valueLength)
                     {
                         replyReserved -= reserved;
+                        grpcQueueOverhead -= Math.max(queuedMessageSize - reserved, 0);
+                        decrement(queuedIds, messageCorrelationId);
+
                         final int remaining = grpcQueueSlotOffset - progressOffset;
                         grpcQueueBuffer.putBytes(oldProgressOffset, grpcQueueBuffer, progressOffset, remaining);
 
@@ -547,12 +643,35 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                     }
                     else if (progress > 0)
                     {
-                        final int remainingPayload = queuedMessageSize - progress;
-                        queueGrpcMessage(traceId, authorization, partitionId, partitionOffset, messageCorrelationId,
-                            service, method, meta, deferred, flags, reserved, payload, remainingPayload);
+                        final int remainingPayload = valueLength - progress;
+                        final int valueOffset = payload.offset();
+                        grpcQueueBuffer.putBytes(valueOffset, grpcQueueBuffer, valueOffset + progress, remainingPayload);
+
+                        final GrpcQueueMessageFW remainingMessage = queueMessageRW
+                            .wrap(grpcQueueBuffer, oldProgressOffset, grpcQueueBuffer.capacity())
+                            .correlationId(messageCorrelationId)
+                            .service(service)
+                            .method(method)
+                            .metadata(metadata)
+                            .traceId(messageTraceId)
+                            .authorization(messageAuthorization)
+                            .partitionId(partitionId)
+                            .partitionOffset(partitionOffset)
+                            .keyHash(keyHash)
+                            .deferred(deferred)
+                            .flags(flags & ~DATA_FLAG_INIT)
+                            .reserved(reserved)
+                            .value(grpcQueueBuffer, valueOffset, remainingPayload)
+                            .build();
+
+                        final int remainingMessageSize = remainingMessage.sizeof();
+                        grpcQueueOverhead -= Math.max(queuedMessageSize - reserved, 0);
+                        grpcQueueOverhead += Math.max(remainingMessageSize - reserved, 0);
+
                         final int remainingMessageOffset = grpcQueueSlotOffset - progressOffset;
-                        grpcQueueBuffer.putBytes(oldProgressOffset, grpcQueueBuffer, progressOffset, remainingMessageOffset);
-                        grpcQueueSlotOffset -= queuedMessageSize;
+                        grpcQueueBuffer.putBytes(remainingMessage.limit(), grpcQueueBuffer, progressOffset,
+                            remainingMessageOffset);
+                        grpcQueueSlotOffset -= progress;
                         break flush;
                     }
                     else
@@ -596,7 +715,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                 payload == null && !KafkaGrpcState.initialClosing(grpcClient.state))
             {
                 flags = progress == 0 ? flags : DATA_FLAG_CON;
-                queueGrpcMessage(traceId, authorization, partitionId, partitionOffset,
+                queueGrpcMessage(traceId, authorization, partitionId, partitionOffset, grpcClient.keyHash,
                     grpcClient.correlationId, service, method, metadata, deferred, flags, reserved, payload, remaining);
             }
         }
@@ -606,6 +725,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             long authorization,
             int partitionId,
             long partitionOffset,
+            int keyHash,
             OctetsFW correlationId,
             OctetsFW service,
             OctetsFW method,
@@ -621,33 +741,135 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                 grpcQueueSlot = bufferPool.acquire(initialId);
             }
 
-            final MutableDirectBuffer grpcQueueBuffer = bufferPool.buffer(grpcQueueSlot);
-            GrpcQueueMessageFW.Builder queueMessageBuilder = queueMessageRW
-                .wrap(grpcQueueBuffer, grpcQueueSlotOffset, grpcQueueBuffer.capacity())
-                .correlationId(correlationId)
-                .service(service)
-                .method(method)
-                .metadata(metadata.buffer(), metadata.offset(), metadata.sizeof())
-                .traceId(traceId)
-                .authorization(authorization)
-                .partitionId(partitionId)
-                .partitionOffset(partitionOffset)
-                .deferred(deferred)
-                .flags(flags)
-                .reserved(reserved);
+            final int queueMessageSize = GRPC_QUEUE_MESSAGE_FIXED_SIZE + correlationId.sizeof() +
+                service.sizeof() + method.sizeof() + metadata.sizeof() + length;
 
-            if (payload == null)
+            if (grpcQueueSlot == NO_SLOT ||
+                grpcQueueSlotOffset + queueMessageSize > bufferPool.slotCapacity())
             {
-                queueMessageBuilder.value(payload);
+                grpcQueueSlotOffset = 0;
+                cleanupQueueSlotIfNecessary();
+                queuedIds.clear();
+                deferredIds.clear();
+                deferredKeyHashes.clear();
+                deferredKeys.clear();
+                doKafkaReset(traceId, authorization);
+                doKafkaAbort(traceId, authorization);
             }
             else
             {
-                queueMessageBuilder.value(payload.value(), payload.sizeof() - length, length);
+                final MutableDirectBuffer grpcQueueBuffer = bufferPool.buffer(grpcQueueSlot);
+                GrpcQueueMessageFW.Builder queueMessageBuilder = queueMessageRW
+                    .wrap(grpcQueueBuffer, grpcQueueSlotOffset, grpcQueueBuffer.capacity())
+                    .correlationId(correlationId)
+                    .service(service)
+                    .method(method)
+                    .metadata(metadata.buffer(), metadata.offset(), metadata.sizeof())
+                    .traceId(traceId)
+                    .authorization(authorization)
+                    .partitionId(partitionId)
+                    .partitionOffset(partitionOffset)
+                    .keyHash(keyHash)
+                    .deferred(deferred)
+                    .flags(flags)
+                    .reserved(reserved);
+
+                if (payload == null)
+                {
+                    queueMessageBuilder.value(payload);
+                }
+                else
+                {
+                    queueMessageBuilder.value(payload.value(), payload.sizeof() - length, length);
+                }
+
+                final GrpcQueueMessageFW queueMessage = queueMessageBuilder.build();
+
+                grpcQueueSlotOffset = queueMessage.limit();
+                grpcQueueOverhead += Math.max(queueMessage.sizeof() - reserved, 0);
+                increment(queuedIds, correlationId);
+            }
+        }
+
+        private void dispatchQueuedIfNecessary(
+            long traceId,
+            long authorization)
+        {
+            OctetsFW correlationId = nextAdmissible();
+            for (int admitted = 0; correlationId != null && admitted < inflight; admitted++)
+            {
+                flushGrpcMessagesIfBuffered(traceId, authorization, correlationId);
+                correlationId = nextAdmissible();
             }
+        }
 
-            final GrpcQueueMessageFW queueMessage = queueMessageBuilder.build();
+        private OctetsFW nextAdmissible()
+        {
+            OctetsFW admissible = null;
+
+            if (grpcClients.size() < inflight)
+            {
+                blockedKeys.clear();
 
-            grpcQueueSlotOffset = queueMessage.limit();
+                for (Iterator<OctetsFW> i = deferredIds.iterator(); admissible == null && i.hasNext(); )
+                {
+                    final OctetsFW correlationId = i.next();
+                    final int keyHash = deferredKeyHashes.getValue(correlationId);
+
+                    if (keyHash == NO_KEY_HASH ||
+                        !blockedKeys.contains(keyHash) && inflightKeys.get(keyHash) == 0)
+                    {
+                        admissible = correlationId;
+                    }
+                    else
+                    {
+                        blockedKeys.add(keyHash);
+                    }
+                }
+            }
+
+            return admissible;
+        }
+
+        private boolean admits(
+            OctetsFW correlationId,
+            int keyHash)
+        {
+            return grpcClients.size() < inflight &&
+                !queuedIds.containsKey(correlationId) &&
+                (keyHash == NO_KEY_HASH || inflightKeys.get(keyHash) == 0 && deferredKeys.get(keyHash) == 0);
+        }
+
+        private void defer(
+            OctetsFW correlationId,
+            int keyHash)
+        {
+            deferredIds.add(correlationId);
+
+            if (keyHash != NO_KEY_HASH)
+            {
+                deferredKeyHashes.put(correlationId, keyHash);
+                increment(deferredKeys, keyHash);
+            }
+        }
+
+        private void undefer(
+            OctetsFW correlationId)
+        {
+            if (deferredIds.remove(correlationId))
+            {
+                decrement(deferredKeys, deferredKeyHashes.removeKey(correlationId));
+            }
+        }
+
+        private OctetsFW newCorrelationId(
+            OctetsFW correlationId)
+        {
+            final int correlationLength = correlationId.sizeof();
+            return new OctetsFW.Builder()
+                .wrap(new UnsafeBuffer(new byte[correlationLength]), 0, correlationLength)
+                .set(correlationId)
+                .build();
         }
 
         private void doKafkaCommitOffset(
@@ -677,6 +899,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
                 bufferPool.release(grpcQueueSlot);
                 grpcQueueSlot = NO_SLOT;
                 grpcQueueSlotOffset = 0;
+                grpcQueueOverhead = 0;
             }
         }
 
@@ -760,13 +983,16 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             long traceId,
             long authorization)
         {
-            long replyAckMax = Math.max(replySeq - replyReserved, replyAck);
+            if (!KafkaGrpcState.replyClosed(state))
+            {
+                long replyAckMax = Math.max(replySeq - replyReserved - grpcQueueOverhead, replyAck);
 
-            replyAck = replyAckMax;
-            assert replyAck <= replySeq;
+                replyAck = replyAckMax;
+                assert replyAck <= replySeq;
 
-            doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
-                traceId, authorization, replyBud, replyPad, replyCap);
+                doWindow(kafka, originId, routedId, replyId, replySeq, replyAck, replyMax,
+                    traceId, authorization, replyBud, replyPad, replyCap);
+            }
         }
 
         private void doKafkaFlush(
@@ -1343,6 +1569,9 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
         private final long routedId;
         private final long initialId;
         private final long replyId;
+        private final int dispatchPartitionId;
+        private final long dispatchPartitionOffset;
+        private final int keyHash;
 
         private long initialSeq;
         private long initialAck;
@@ -1367,12 +1596,18 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             long resolveId,
             OctetsFW correlationId,
             OctetsFW replyTo,
-            KafkaRemoteServer server)
+            KafkaRemoteServer server,
+            int dispatchPartitionId,
+            long dispatchPartitionOffset,
+            int keyHash)
         {
             this.originId = originId;
             this.routedId = routedId;
             this.correlationId = correlationId;
             this.server = server;
+            this.dispatchPartitionId = dispatchPartitionId;
+            this.dispatchPartitionOffset = dispatchPartitionOffset;
+            this.keyHash = keyHash;
             this.initialId = supplyInitialId.applyAsLong(routedId);
             this.replyId = supplyReplyId.applyAsLong(initialId);
             this.correlater = new KafkaCorrelateProxy(originId, resolveId, replyTo, server.condition, this);
@@ -1522,7 +1757,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
 
             correlater.doKafkaEnd(traceId, authorization);
 
-            server.removeIfClosed(correlationId);
+            server.removeIfClosed(traceId, authorization, correlationId);
         }
 
         private void onGrpcAbort(
@@ -1663,14 +1898,20 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
 
                 if ((newFlags & DATA_FLAG_FIN) != 0x00) // FIN
                 {
-                    server.doKafkaCommitOffset(traceId, authorization, partitionId, partitionOffset);
+                    if (server.inflight == 0)
+                    {
+                        server.doKafkaCommitOffset(traceId, authorization, partitionId, partitionOffset);
+                    }
                     state = KafkaGrpcState.closingInitial(state);
                 }
             }
 
             if (payload == null && KafkaGrpcState.initialClosing(state))
             {
-                server.doKafkaCommitOffset(traceId, authorization, partitionId, partitionOffset);
+                if (server.inflight == 0)
+                {
+                    server.doKafkaCommitOffset(traceId, authorization, partitionId, partitionOffset);
+                }
 
                 doGrpcEnd(traceId, authorization);
             }
@@ -1708,7 +1949,7 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
             correlater.doKafkaAbort(traceId, authorization, HEADER_VALUE_GRPC_INTERNAL_ERROR);
             correlater.doKafkaReset(traceId, authorization);
 
-            server.removeIfClosed(correlationId);
+            server.removeIfClosed(traceId, authorization, correlationId);
         }
 
         private void cleanupBudgetIfNecessary()
@@ -2213,4 +2454,74 @@ public final class KafkaGrpcRemoteServerFactory implements KafkaGrpcStreamFactor
 
         sender.accept(reset.typeId(), reset.buffer(), reset.offset(), reset.sizeof());
     }
+
+    private static void increment(
+        Int2IntHashMap counts,
+        int keyHash)
+    {
+        if (keyHash != NO_KEY_HASH)
+        {
+            counts.put(keyHash, counts.get(keyHash) + 1);
+        }
+    }
+
+    private static void decrement(
+        Int2IntHashMap counts,
+        int keyHash)
+    {
+        if (keyHash != NO_KEY_HASH)
+        {
+            final int count = counts.get(keyHash) - 1;
+            if (count > 0)
+            {
+                counts.put(keyHash, count);
+            }
+            else
+            {
+                counts.remove(keyHash);
+            }
+        }
+    }
+
+    private static void increment(
+        Object2IntHashMap<OctetsFW> counts,
+        OctetsFW correlationId)
+    {
+        counts.put(correlationId, counts.getValue(correlationId) + 1);
+    }
+
+    private static void decrement(
+        Object2IntHashMap<OctetsFW> counts,
+        OctetsFW correlationId)
+    {
+        final int count = counts.getValue(correlationId) - 1;
+        if (count > 0)
+        {
+            counts.put(correlationId, count);
+        }
+        else
+        {
+            counts.removeKey(correlationId);
+        }
+    }
+
+    private static int hashKey(
+        KafkaKeyFW key)
+    {
+        final OctetsFW value = key.value();
+
+        int hash = NO_KEY_HASH;
+        if (value != null)
+        {
+            final DirectBuffer buffer = value.buffer();
+            hash = 1;
+            for (int index = value.offset(); index < value.limit(); index++)
+            {
+                hash = 31 * hash + buffer.getByte(index);
+            }
+            hash = hash != NO_KEY_HASH ? hash : 1;
+        }
+
+        return hash;
+    }
 }
@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.grpc.internal.config;
 
+import static io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.KafkaAckMode.IN_SYNC_REPLICAS;
 import static io.aklivity.zilla.runtime.binding.kafka.grpc.internal.types.KafkaAckMode.LEADER_ONLY;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -108,4 +109,36 @@ public class KafkaGrpcOptionsConfigAdapterTest
                     "}" +
                 "}"));
     }
+
+    @Test
+    public void shouldReadInflightOptions()
+    {
+        String text =
+                "{" +
+                    "\"inflight\":16" +
+                "}";
+
+        KafkaGrpcOptionsConfig options = jsonb.fromJson(text, KafkaGrpcOptionsConfig.class);
+
+        assertThat(options, not(nullValue()));
+        assertThat(options.inflight, equalTo(16));
+    }
+
+    @Test
+    public void shouldWriteInflightOptions()
+    {
+        KafkaGrpcOptionsConfig options = new KafkaGrpcOptionsConfig(
+                IN_SYNC_REPLICAS,
+                null,
+                null,
+                16);
+
+        String text = jsonb.toJson(options);
+
+        assertThat(text, not(nullValue()));
+        assertThat(text, equalTo(
+                "{" +
+                    "\"inflight\":16" +
+                "}"));
+    }
 }
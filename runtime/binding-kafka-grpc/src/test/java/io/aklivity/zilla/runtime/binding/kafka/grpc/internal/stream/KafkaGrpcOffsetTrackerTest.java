@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.grpc.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.kafka.grpc.internal.stream.KafkaGrpcOffsetTracker.NO_OFFSET;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class KafkaGrpcOffsetTrackerTest
+{
+    @Test
+    public void shouldCompleteInOrder()
+    {
+        KafkaGrpcOffsetTracker offsets = new KafkaGrpcOffsetTracker();
+
+        offsets.dispatch(0, 10L);
+        offsets.dispatch(0, 11L);
+
+        assertEquals(10L, offsets.complete(0, 10L));
+        assertEquals(11L, offsets.complete(0, 11L));
+        assertEquals(0, offsets.pending(0));
+    }
+
+    @Test
+    public void shouldCompleteContiguouslyOutOfOrder()
+    {
+        KafkaGrpcOffsetTracker offsets = new KafkaGrpcOffsetTracker();
+
+        offsets.dispatch(0, 10L);
+        offsets.dispatch(0, 12L);
+        offsets.dispatch(0, 13L);
+
+        assertEquals(NO_OFFSET, offsets.complete(0, 13L));
+        assertEquals(NO_OFFSET, offsets.complete(0, 12L));
+        assertEquals(3, offsets.pending(0));
+        assertEquals(13L, offsets.complete(0, 10L));
+        assertEquals(0, offsets.pending(0));
+    }
+
+    @Test
+    public void shouldTrackPartitionsIndependently()
+    {
+        KafkaGrpcOffsetTracker offsets = new KafkaGrpcOffsetTracker();
+
+        offsets.dispatch(0, 10L);
+        offsets.dispatch(1, 20L);
+
+        assertEquals(20L, offsets.complete(1, 20L));
+        assertEquals(1, offsets.pending(0));
+        assertEquals(10L, offsets.complete(0, 10L));
+    }
+
+    @Test
+    public void shouldIgnoreUntrackedOffsets()
+    {
+        KafkaGrpcOffsetTracker offsets = new KafkaGrpcOffsetTracker();
+
+        assertEquals(NO_OFFSET, offsets.complete(0, 10L));
+
+        offsets.dispatch(0, 10L);
+
+        assertEquals(NO_OFFSET, offsets.complete(0, 9L));
+        assertEquals(10L, offsets.complete(0, 10L));
+    }
+}
@@ -129,4 +129,24 @@ public class KafkaGrpcRemoteServerIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Configuration("remote.server.rpc.inflight.limit.yaml")
+    @Specification({
+        "${kafka}/unary.rpc.inflight.limit/server",
+        "${grpc}/unary.rpc.inflight.limit/server"})
+    public void shouldLimitInflightMessagesWithUnaryRpc() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("remote.server.rpc.ordered.by.key.yaml")
+    @Specification({
+        "${kafka}/unary.rpc.ordered.by.key/server",
+        "${grpc}/unary.rpc.ordered.by.key/server"})
+    public void shouldOrderMessagesByKeyWithUnaryRpc() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -27,6 +27,7 @@ public class KafkaTopicConfig
     public final String name;
     public final KafkaOffsetType defaultOffset;
     public final KafkaDeltaType deltaType;
+    public final boolean conflate;
     public final ModelConfig key;
     public final ModelConfig value;
     public final KafkaTopicTransformsConfig transforms;
@@ -46,6 +47,7 @@ public class KafkaTopicConfig
         String name,
         KafkaOffsetType defaultOffset,
         KafkaDeltaType deltaType,
+        boolean conflate,
         ModelConfig key,
         ModelConfig value,
         KafkaTopicTransformsConfig transforms)
@@ -53,6 +55,7 @@ public class KafkaTopicConfig
         this.name = name;
         this.defaultOffset = defaultOffset;
         this.deltaType = deltaType;
+        this.conflate = conflate;
         this.key = key;
         this.value = value;
         this.transforms = transforms;
@@ -81,7 +84,8 @@ public class KafkaTopicConfig
         KafkaTopicConfig that = (KafkaTopicConfig) other;
         return Objects.equals(this.name, that.name) &&
                 Objects.equals(this.defaultOffset, that.defaultOffset) &&
-                Objects.equals(this.deltaType, that.deltaType);
+                Objects.equals(this.deltaType, that.deltaType) &&
+                this.conflate == that.conflate;
     }
 
     @Override
@@ -28,6 +28,7 @@ public final class KafkaTopicConfigBuilder<T> extends ConfigBuilder<T, KafkaTopi
     private String name;
     private KafkaOffsetType defaultOffset;
     private KafkaDeltaType deltaType;
+    private boolean conflate;
     private KafkaTopicTransformsConfig transforms;
     private ModelConfig key;
     private ModelConfig value;
@@ -66,6 +67,13 @@ public final class KafkaTopicConfigBuilder<T> extends ConfigBuilder<T, KafkaTopi
         return this;
     }
 
+    public KafkaTopicConfigBuilder<T> conflate(
+        boolean conflate)
+    {
+        this.conflate = conflate;
+        return this;
+    }
+
     public KafkaTopicTransformsConfigBuilder<KafkaTopicConfigBuilder<T>> transforms()
     {
         return KafkaTopicTransformsConfig.builder(this::transforms);
@@ -108,6 +116,6 @@ public final class KafkaTopicConfigBuilder<T> extends ConfigBuilder<T, KafkaTopi
     @Override
     public T build()
     {
-        return mapper.apply(new KafkaTopicConfig(name, defaultOffset, deltaType, key, value, transforms));
+        return mapper.apply(new KafkaTopicConfig(name, defaultOffset, deltaType, conflate, key, value, transforms));
     }
 }
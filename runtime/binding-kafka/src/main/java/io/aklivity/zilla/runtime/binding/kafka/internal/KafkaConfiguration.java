@@ -26,6 +26,8 @@ import java.nio.file.Path;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
 import java.util.function.Supplier;
 
 import org.agrona.LangUtil;
@@ -52,6 +54,9 @@ public class KafkaConfiguration extends Configuration
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_MAX_RESPONSE_MILLIS;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_MAX_BYTES;
     public static final IntPropertyDef KAFKA_CLIENT_PRODUCE_RECORD_FRAMING_SIZE;
+    public static final LongPropertyDef KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS;
+    public static final IntPropertyDef KAFKA_MERGED_PRODUCE_STICKY_BATCH_BYTES;
+    public static final PropertyDef<StickyPartitionSupplier> KAFKA_MERGED_PRODUCE_STICKY_PARTITION;
     public static final PropertyDef<Path> KAFKA_CACHE_DIRECTORY;
     public static final LongPropertyDef KAFKA_CACHE_PRODUCE_CAPACITY;
     public static final PropertyDef<KafkaCacheCleanupPolicy> KAFKA_CACHE_CLEANUP_POLICY;
@@ -99,6 +104,10 @@ public class KafkaConfiguration extends Configuration
         KAFKA_CLIENT_PRODUCE_MAX_RESPONSE_MILLIS = config.property("client.produce.max.response.millis", 120000);
         KAFKA_CLIENT_PRODUCE_MAX_BYTES = config.property("client.produce.max.bytes", Integer.MAX_VALUE);
         KAFKA_CLIENT_PRODUCE_RECORD_FRAMING_SIZE = config.property("client.produce.record.framing.size", 512);
+        KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS = config.property("merged.produce.sticky.linger.ms", 10L);
+        KAFKA_MERGED_PRODUCE_STICKY_BATCH_BYTES = config.property("merged.produce.sticky.batch.bytes", 16384);
+        KAFKA_MERGED_PRODUCE_STICKY_PARTITION = config.property(StickyPartitionSupplier.class, "merged.produce.sticky.partition",
+            KafkaConfiguration::decodeStickyPartitionSupplier, KafkaConfiguration::defaultStickyPartition);
         KAFKA_CLIENT_SASL_SCRAM_NONCE = config.property(NonceSupplier.class, "client.sasl.scram.nonce",
             KafkaConfiguration::decodeNonceSupplier, KafkaConfiguration::defaultNonceSupplier);
         KAFKA_CLIENT_GROUP_REBALANCE_TIMEOUT = config.property(Duration.class, "client.group.rebalance.timeout",
@@ -200,6 +209,21 @@ public class KafkaConfiguration extends Configuration
         return KAFKA_CLIENT_PRODUCE_RECORD_FRAMING_SIZE.getAsInt(this);
     }
 
+    public long mergedProduceStickyLingerMillis()
+    {
+        return KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS.getAsLong(this);
+    }
+
+    public int mergedProduceStickyBatchBytes()
+    {
+        return KAFKA_MERGED_PRODUCE_STICKY_BATCH_BYTES.getAsInt(this);
+    }
+
+    public IntUnaryOperator mergedProduceStickyPartitionSupplier()
+    {
+        return KAFKA_MERGED_PRODUCE_STICKY_PARTITION.get(this);
+    }
+
     public Path cacheDirectory()
     {
         return KAFKA_CACHE_DIRECTORY.get(this);
@@ -400,6 +424,52 @@ public class KafkaConfiguration extends Configuration
         return new BigInteger(130, new SecureRandom()).toString(Character.MAX_RADIX);
     }
 
+    @FunctionalInterface
+    private interface StickyPartitionSupplier extends IntUnaryOperator
+    {
+    }
+
+    private static StickyPartitionSupplier decodeStickyPartitionSupplier(
+        String value)
+    {
+        StickyPartitionSupplier supplier = null;
+
+        try
+        {
+            MethodType signature = MethodType.methodType(int.class, int.class);
+            String[] parts = value.split("::");
+            Class<?> ownerClass = Class.forName(parts[0]);
+            String methodName = parts[1];
+            MethodHandle method = MethodHandles.publicLookup().findStatic(ownerClass, methodName, signature);
+            supplier = partitionCount ->
+            {
+                int partitionId = 0;
+                try
+                {
+                    partitionId = (int) method.invoke(partitionCount);
+                }
+                catch (Throwable ex)
+                {
+                    LangUtil.rethrowUnchecked(ex);
+                }
+
+                return partitionId;
+            };
+        }
+        catch (Throwable ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return supplier;
+    }
+
+    private static int defaultStickyPartition(
+        int partitionCount)
+    {
+        return ThreadLocalRandom.current().nextInt(partitionCount);
+    }
+
     @FunctionalInterface
     private interface InstanceIdSupplier extends Supplier<String>
     {
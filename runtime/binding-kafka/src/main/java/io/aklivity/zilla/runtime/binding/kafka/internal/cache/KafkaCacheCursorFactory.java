@@ -382,6 +382,36 @@ public final class KafkaCacheCursorFactory
             }
         }
 
+        public KafkaCacheEntryFW findMatchingEntry(
+            long matchOffset,
+            KafkaCacheEntryFW cacheEntry)
+        {
+            KafkaCacheEntryFW matchEntry = null;
+
+            if (segment != null)
+            {
+                final long offsetDelta = matchOffset - segment.baseOffset();
+                if (offsetDelta >= 0L && offsetDelta <= Integer.MAX_VALUE)
+                {
+                    final long cursor = segment.indexFile().first((int) offsetDelta);
+                    final int position = cursorValue(cursor);
+
+                    if (position != NEXT_SEGMENT_VALUE && position != RETRY_SEGMENT_VALUE)
+                    {
+                        final KafkaCacheEntryFW entry = segment.logFile().readBytes(position, cacheEntry::tryWrap);
+                        if (entry != null &&
+                            entry.offset$() == matchOffset &&
+                            condition.test(entry) != 0L)
+                        {
+                            matchEntry = entry;
+                        }
+                    }
+                }
+            }
+
+            return matchEntry;
+        }
+
         public void markEntryDirty(
             KafkaCacheEntryFW entry)
         {
@@ -113,6 +113,13 @@ public final class KafkaBindingConfig
         return config != null && config.defaultOffset != null ? config.defaultOffset : HISTORICAL;
     }
 
+    public boolean conflate(
+        String topic)
+    {
+        KafkaTopicConfig config = topic(topic);
+        return config != null && config.conflate;
+    }
+
     public KafkaTopicType resolveTopicType(
         String topic)
     {
@@ -34,6 +34,7 @@ public final class KafkaTopicConfigAdapter implements JsonbAdapter<KafkaTopicCon
     private static final String NAME_NAME = "name";
     private static final String DEFAULT_OFFSET_NAME = "defaultOffset";
     private static final String DELTA_TYPE_NAME = "deltaType";
+    private static final String CONFLATE_NAME = "conflate";
     private static final String EVENT_KEY = "key";
     private static final String EVENT_VALUE = "value";
     private static final String SUBJECT = "subject";
@@ -60,6 +61,10 @@ public final class KafkaTopicConfigAdapter implements JsonbAdapter<KafkaTopicCon
         {
             object.add(DELTA_TYPE_NAME, topic.deltaType.toString().toLowerCase());
         }
+        if (topic.conflate)
+        {
+            object.add(CONFLATE_NAME, topic.conflate);
+        }
 
         if (topic.key != null)
         {
@@ -101,6 +106,11 @@ public final class KafkaTopicConfigAdapter implements JsonbAdapter<KafkaTopicCon
                 ? KafkaDeltaType.valueOf(object.getString(DELTA_TYPE_NAME).toUpperCase())
                 : null);
 
+        if (object.containsKey(CONFLATE_NAME))
+        {
+            topicBuilder.conflate(object.getBoolean(CONFLATE_NAME));
+        }
+
         JsonObject key = object.containsKey(EVENT_KEY)
                 ? object.getJsonObject(EVENT_KEY)
                 : null;
@@ -130,6 +130,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
     private final OctetsFW valueFragmentRO = new OctetsFW();
     private final KafkaCacheEntryFW entryRO = new KafkaCacheEntryFW();
+    private final KafkaCacheEntryFW descendantRO = new KafkaCacheEntryFW();
 
     private final int kafkaTypeId;
     private final MutableDirectBuffer writeBuffer;
@@ -244,6 +245,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             final KafkaOffsetType maximumOffset = KafkaOffsetType.valueOf((byte) latestOffset);
             final Int2IntHashMap leadersByPartitionId = cacheRoute.supplyLeadersByPartitionId(topicName);
             final int leaderId = leadersByPartitionId.get(partitionId);
+            final boolean conflate = binding.conflate(topicName) && deltaType == KafkaDeltaType.NONE;
 
             newStream = new KafkaCacheClientFetchStream(
                     fanout,
@@ -257,7 +259,8 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
                     condition,
                     maximumOffset,
                     deltaType,
-                    isolation)::onClientMessage;
+                    isolation,
+                    conflate)::onClientMessage;
         }
 
         return newStream;
@@ -893,6 +896,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
         private final KafkaOffsetType maximumOffset;
         private final LongSupplier isolatedOffset;
         private final LongSupplier initialGroupIsolatedOffset;
+        private final boolean conflate;
 
         private KafkaCacheCursor cursor;
         private KafkaCacheCursor nextCursor;
@@ -932,7 +936,8 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             KafkaFilterCondition condition,
             KafkaOffsetType maximumOffset,
             KafkaDeltaType deltaType,
-            KafkaIsolation isolation)
+            KafkaIsolation isolation,
+            boolean conflate)
         {
             this.group = group;
             this.sender = sender;
@@ -950,6 +955,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             this.isolatedOffset = isolation == READ_COMMITTED ? () -> group.stableOffset : () -> group.latestOffset;
             this.initialGroupIsolatedOffset = isolation ==
                     READ_COMMITTED ? () -> initialGroupStableOffset : () -> initialGroupLatestOffset;
+            this.conflate = conflate;
         }
 
         private void onClientMessage(
@@ -1197,6 +1203,17 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
                     continue;
                 }
 
+                if (conflate &&
+                    messageOffset == 0 &&
+                    descendantOffset != -1L &&
+                    descendantOffset <= group.partitionOffset &&
+                    descendantOffset <= isolatedOffset.getAsLong() &&
+                    supersededBy(descendantOffset))
+                {
+                    cursor.advance(nextEntry.offset$() + 1);
+                    continue;
+                }
+
                 final int nextEntryFlags = nextEntry.flags();
                 switch (isolation)
                 {
@@ -1243,6 +1260,15 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             }
         }
 
+        private boolean supersededBy(
+            long descendantOffset)
+        {
+            final KafkaCacheEntryFW descendant = cursor.findMatchingEntry(descendantOffset, descendantRO);
+
+            return descendant != null &&
+                (descendant.flags() & (CACHE_ENTRY_FLAGS_ABORTED | CACHE_ENTRY_FLAGS_CONTROL)) == 0;
+        }
+
         private void doClientReplyData(
             long traceId,
             KafkaCacheEntryFW nextEntry)
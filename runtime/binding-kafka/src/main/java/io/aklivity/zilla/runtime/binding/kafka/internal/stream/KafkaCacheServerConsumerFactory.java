@@ -20,12 +20,14 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntHashSet;
 import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.collections.ObjectHashSet;
@@ -528,6 +530,59 @@ public final class KafkaCacheServerConsumerFactory implements BindingHandler
         sender.accept(reset.typeId(), reset.buffer(), reset.offset(), reset.sizeof());
     }
 
+    static Map<String, IntHashSet> doStickyAssignment(
+        Set<String> members,
+        IntHashSet partitions,
+        Int2ObjectHashMap<String> owners)
+    {
+        final Map<String, IntHashSet> partitionsByMember = new LinkedHashMap<>();
+        members.forEach(m -> partitionsByMember.put(m, new IntHashSet()));
+
+        final int memberSize = members.size();
+        final int numberOfPartitionsPerMember = partitions.size() / memberSize;
+        int extraPartitions = partitions.size() % memberSize;
+
+        final IntHashSet assigned = new IntHashSet();
+
+        // keep prior owners wherever balance allows
+        for (IntHashSet.IntIterator i = partitions.iterator(); i.hasNext(); )
+        {
+            final int partitionId = i.nextValue();
+            final String owner = owners.get(partitionId);
+            final IntHashSet owned = owner != null ? partitionsByMember.get(owner) : null;
+
+            if (owned != null &&
+                (owned.size() < numberOfPartitionsPerMember ||
+                 owned.size() == numberOfPartitionsPerMember && extraPartitions > 0))
+            {
+                extraPartitions -= owned.size() == numberOfPartitionsPerMember ? 1 : 0;
+                owned.add(partitionId);
+                assigned.add(partitionId);
+            }
+        }
+
+        for (IntHashSet.IntIterator i = partitions.iterator(); i.hasNext(); )
+        {
+            final int partitionId = i.nextValue();
+
+            if (!assigned.contains(partitionId))
+            {
+                for (IntHashSet candidate : partitionsByMember.values())
+                {
+                    if (candidate.size() < numberOfPartitionsPerMember ||
+                        candidate.size() == numberOfPartitionsPerMember && extraPartitions > 0)
+                    {
+                        extraPartitions -= candidate.size() == numberOfPartitionsPerMember ? 1 : 0;
+                        candidate.add(partitionId);
+                        break;
+                    }
+                }
+            }
+        }
+
+        return partitionsByMember;
+    }
+
     final class KafkaCacheServerConsumerFanout
     {
         private final String consumerId;
@@ -1055,40 +1110,76 @@ public final class KafkaCacheServerConsumerFactory implements BindingHandler
         {
             if (memberId.equals(leaderId))
             {
-                int memberSize = members.size();
+                final Map<String, List<TopicPartition>> previous = new Object2ObjectHashMap<>();
+                previous.putAll(consumers);
                 consumers.clear();
 
                 partitionsByTopic.forEach((t, p) ->
                 {
-                    final int partitionSize = p.size();
-                    final int numberOfPartitionsPerMember = partitionSize / memberSize;
-                    final int extraPartition = partitionSize % memberSize;
-
-                    int partitionIndex = 0;
-                    int newPartitionPerTopic = numberOfPartitionsPerMember + extraPartition;
+                    final Int2ObjectHashMap<String> owners = supplyOwners(previous, t);
+                    final Map<String, IntHashSet> partitionsByMember = doStickyAssignment(members.keySet(), p, owners);
 
-                    IntHashSet.IntIterator iterator = p.iterator();
-
-                    for (String member : members.keySet())
+                    partitionsByMember.forEach((member, partitions) ->
                     {
                         String consumerId = members.get(member);
                         List<TopicPartition> topicPartitions = consumers.computeIfAbsent(
                             member, tp -> new ArrayList<>());
-                        IntHashSet partitions = new IntHashSet();
-
-                        for (; partitionIndex < newPartitionPerTopic; partitionIndex++)
-                        {
-                            final int partitionId = iterator.nextValue();
-                            partitions.add(partitionId);
-                        }
                         topicPartitions.add(new TopicPartition(consumerId, t, partitions));
+                    });
+                });
+            }
+
+            doMemberAssigment(traceId, authorization);
+        }
+
+        private Int2ObjectHashMap<String> supplyOwners(
+            Map<String, List<TopicPartition>> previous,
+            String topic)
+        {
+            final Int2ObjectHashMap<String> owners = new Int2ObjectHashMap<>();
 
-                        newPartitionPerTopic += numberOfPartitionsPerMember;
+            previous.forEach((member, topicPartitions) ->
+            {
+                if (members.containsKey(member))
+                {
+                    topicPartitions.stream()
+                        .filter(tp -> tp.topic.equals(topic))
+                        .forEach(tp -> tp.partitions.forEach(p -> owners.putIfAbsent(p, member)));
+                }
+            });
+
+            final TopicConsumer topicConsumer = assignments.get(topic);
+            if (topicConsumer != null)
+            {
+                topicConsumer.consumers.forEach(c ->
+                {
+                    final String ownerId = supplyMemberId(c.consumerId);
+                    if (ownerId != null)
+                    {
+                        c.partitions.forEach(p -> owners.putIfAbsent(p, ownerId));
                     }
                 });
             }
 
-            doMemberAssigment(traceId, authorization);
+            return owners;
+        }
+
+        private String supplyMemberId(
+            String consumerId)
+        {
+            String ownerId = null;
+            int ownerCount = 0;
+
+            for (Map.Entry<String, String> member : members.entrySet())
+            {
+                if (member.getValue().equals(consumerId))
+                {
+                    ownerId = member.getKey();
+                    ownerCount++;
+                }
+            }
+
+            return ownerCount == 1 ? ownerId : null;
         }
 
         private void doMemberAssigment(
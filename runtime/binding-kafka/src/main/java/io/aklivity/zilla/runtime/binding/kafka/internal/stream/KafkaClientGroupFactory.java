@@ -38,6 +38,7 @@ import java.util.function.Supplier;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.IntHashSet;
 import org.agrona.collections.IntObjectToObjectFunction;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongLongConsumer;
@@ -1051,8 +1052,9 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
                         final MemberMetadataFW memberMetadata = memberMetadataRO.tryWrap(buffer, progress, limit);
                         if (memberMetadata != null)
                         {
+                            final OctetsFW metadata = memberMetadata.metadata();
                             client.members.add(new MemberProtocol(
-                                memberMetadata.memberId().asString(), memberMetadata.metadata()));
+                                memberMetadata.memberId().asString(), metadata, decodeOwnedPartitions(metadata)));
                             progress = memberMetadata.limit();
                         }
                         else
@@ -1076,6 +1078,79 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
         return progress;
     }
 
+    private Map<String, IntHashSet> decodeOwnedPartitions(
+        OctetsFW metadata)
+    {
+        final Map<String, IntHashSet> ownedPartitions = new Object2ObjectHashMap<>();
+
+        final DirectBuffer buffer = metadata.value();
+        final int limit = metadata.sizeof();
+
+        decode:
+        if (limit != 0)
+        {
+            final ConsumerSubscriptionMetadataFW subscription = subscriptionMetadataRO.tryWrap(buffer, 0, limit);
+            if (subscription == null)
+            {
+                break decode;
+            }
+
+            int progress = subscription.limit();
+
+            for (int i = 0; i < subscription.metadataTopicCount(); i++)
+            {
+                final ConsumerMetadataTopicFW topic = metadataTopicRO.tryWrap(buffer, progress, limit);
+                if (topic == null)
+                {
+                    break decode;
+                }
+
+                progress = topic.limit();
+            }
+
+            while (progress < limit)
+            {
+                final ConsumerSubscriptionUserdataFW userdata = subscriptionUserdataRO.tryWrap(buffer, progress, limit);
+                if (userdata == null)
+                {
+                    break decode;
+                }
+
+                progress = userdata.limit();
+
+                final int ownedTopics = userdata.ownedPartitions();
+                for (int i = 0; i < ownedTopics; i++)
+                {
+                    final ConsumerTopicPartitionFW topicPartition = topicPartitionRO.tryWrap(buffer, progress, limit);
+                    if (topicPartition == null)
+                    {
+                        break decode;
+                    }
+
+                    progress = topicPartition.limit();
+
+                    final IntHashSet partitions =
+                        ownedPartitions.computeIfAbsent(topicPartition.topic().asString(), t -> new IntHashSet());
+
+                    final int partitionCount = topicPartition.partitionCount();
+                    for (int p = 0; p < partitionCount; p++)
+                    {
+                        final ConsumerPartitionFW partition = partitionRO.tryWrap(buffer, progress, limit);
+                        if (partition == null)
+                        {
+                            break decode;
+                        }
+
+                        progress = partition.limit();
+                        partitions.add(partition.partitionId());
+                    }
+                }
+            }
+        }
+
+        return ownedPartitions;
+    }
+
     private int decodeSyncGroupResponse(
         CoordinatorClient client,
         long traceId,
@@ -1288,6 +1363,7 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
         private final String groupId;
         private final String protocol;
         private final IntFunction<KafkaSaslConfig> resolveSasl;
+        private final Map<String, IntHashSet> ownedPartitions;
 
         private KafkaGroupClient client;
         private MessageConsumer sender;
@@ -1343,6 +1419,7 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
             this.cluster = new ClusterClient(routedId, resolvedId, servers, this);
             this.client = cluster;
             this.metadataBuffer = new UnsafeBuffer(new byte[2048]);
+            this.ownedPartitions = new Object2ObjectHashMap<>();
         }
 
         private void onStream(
@@ -3873,13 +3950,37 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
 
             memberMetadata.topics().forEach(t ->
             {
+                final IntHashSet owned = delegate.ownedPartitions.get(t.topic().asString());
+                final int ownedTopics = owned != null && !owned.isEmpty() ? 1 : 0;
+
                 final ConsumerSubscriptionUserdataFW userdata = subscriptionUserdataRW
                     .wrap(encodeBuffer, encodeProgress.get(), encodeLimit)
                     .userdata(delegate.metadataBuffer, 0, delegate.topicMetadataLimit)
-                    .ownedPartitions(0)
+                    .ownedPartitions(ownedTopics)
                     .build();
 
                 encodeProgress.set(userdata.limit());
+
+                if (ownedTopics != 0)
+                {
+                    final ConsumerTopicPartitionFW topicPartition = topicPartitionRW
+                        .wrap(encodeBuffer, encodeProgress.get(), encodeLimit)
+                        .topic(t.topic())
+                        .partitionCount(owned.size())
+                        .build();
+
+                    encodeProgress.set(topicPartition.limit());
+
+                    owned.forEach(p ->
+                    {
+                        final ConsumerPartitionFW partition = partitionRW
+                            .wrap(encodeBuffer, encodeProgress.get(), encodeLimit)
+                            .partitionId(p)
+                            .build();
+
+                        encodeProgress.set(partition.limit());
+                    });
+                }
             });
 
             return encodeProgress.get();
@@ -4746,6 +4847,7 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
         }
 
         private int doGenerateAssignmentMetadata(
+            String memberId,
             Array32FW<TopicAssignmentFW> topicPartitions,
             ConsumerAssignmentTopicsUserdataFW.Builder assignmentTopicsUserdataRW,
             int progressOffset)
@@ -4766,21 +4868,28 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
 
             topicPartitions.forEach(t ->
             {
+                final String topic = t.topic().asString();
                 final Array32FW<TopicPartitionFW> partitions = t.partitions();
 
+                final MutableInteger partitionCount = new MutableInteger();
+                partitions.forEach(p -> partitionCount.value += transferring(memberId, topic, p.partitionId()) ? 0 : 1);
+
                 ConsumerTopicPartitionFW topicPartition = topicPartitionRW
                     .wrap(encodeBuffer, encodeProgress.get(), encodeLimit)
                     .topic(t.topic())
-                    .partitionCount(partitions.fieldCount())
+                    .partitionCount(partitionCount.value)
                     .build();
                 encodeProgress.set(topicPartition.limit());
 
                 partitions.forEach(p ->
                 {
-                    ConsumerPartitionFW partition = partitionRW.wrap(encodeBuffer, encodeProgress.get(), encodeLimit)
-                        .partitionId(p.partitionId())
-                        .build();
-                    encodeProgress.set(partition.limit());
+                    if (!transferring(memberId, topic, p.partitionId()))
+                    {
+                        ConsumerPartitionFW partition = partitionRW.wrap(encodeBuffer, encodeProgress.get(), encodeLimit)
+                            .partitionId(p.partitionId())
+                            .build();
+                        encodeProgress.set(partition.limit());
+                    }
                 });
 
                 Array32FW<ConsumerAssignmentFW> assignmentUserdata = t.userdata();
@@ -4800,6 +4909,20 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
             return encodeProgress.get();
         }
 
+        private boolean transferring(
+            String memberId,
+            String topic,
+            int partitionId)
+        {
+            // cooperative rebalance, partition is assigned only after the previous owner revokes it
+            boolean transferring = false;
+            for (MemberProtocol member : members)
+            {
+                transferring |= !member.memberId.equals(memberId) && member.owns(topic, partitionId);
+            }
+            return transferring;
+        }
+
         private void doEncodeSyncGroupRequest(
             long traceId,
             long budgetId)
@@ -4846,8 +4969,8 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
                     assignmentTopicsUserdataRW.wrap(userdataBuffer, assignmentTopicsUserdataRW.limit(),
                         userdataBuffer.capacity());
 
-                    int newProgressOffset = doGenerateAssignmentMetadata(topicPartitions, assignmentTopicsUserdataRW,
-                        progressOffset.get());
+                    int newProgressOffset = doGenerateAssignmentMetadata(a.memberId().asString(), topicPartitions,
+                        assignmentTopicsUserdataRW, progressOffset.get());
                     final AssignmentFW memberAssignment =
                         assignmentRW.wrap(encodeBuffer, encodeProgress.get(), encodeLimit)
                             .memberId(a.memberId())
@@ -5269,6 +5392,8 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
         {
             nextResponseId++;
 
+            final Map<String, IntHashSet> assignedPartitions = new Object2ObjectHashMap<>();
+
             if (newAssignment.sizeof() > 0)
             {
                 Array32FW.Builder<TopicAssignmentFW.Builder, TopicAssignmentFW> topicAssignmentBuilder =
@@ -5317,11 +5442,13 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
                     {
                         final String16FW topic = topicPartition.topic();
                         ta.topic(topic);
+                        final IntHashSet assigned = assignedPartitions.computeIfAbsent(topic.asString(), k -> new IntHashSet());
                         int partitionCount = topicPartition.partitionCount();
                         for (int t = 0; t < partitionCount; t++)
                         {
                             ConsumerPartitionFW partition = partitionRO.wrap(buffer, progress.get(), limit);
                             progress.set(partition.limit());
+                            assigned.add(partition.partitionId());
                             ta.partitionsItem(p -> p.partitionId(partition.partitionId()));
                         }
 
@@ -5345,15 +5472,41 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
                     EMPTY_OCTETS.sizeof());
             }
 
+            final boolean revoked = revokedPartitions(assignedPartitions);
+
+            delegate.ownedPartitions.clear();
+            delegate.ownedPartitions.putAll(assignedPartitions);
+
             cancelHeartbeat();
 
-            heartbeatRequestId = signaler.signalAt(currentTimeMillis() + delegate.timeout / 2,
-                originId, routedId, initialId, traceId, SIGNAL_HEARTBEAT_REQUEST, 0);
+            if (revoked)
+            {
+                // revoked partitions are assigned to their new owners in the next generation
+                delegate.client = joinGroup;
+                joinGroup.doJoinGroupRequest(traceId);
+            }
+            else
+            {
+                heartbeatRequestId = signaler.signalAt(currentTimeMillis() + delegate.timeout / 2,
+                    originId, routedId, initialId, traceId, SIGNAL_HEARTBEAT_REQUEST, 0);
 
-            if (!encoders.isEmpty())
+                if (!encoders.isEmpty())
+                {
+                    signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+                }
+            }
+        }
+
+        private boolean revokedPartitions(
+            Map<String, IntHashSet> assignedPartitions)
+        {
+            boolean revoked = false;
+            for (Map.Entry<String, IntHashSet> owned : delegate.ownedPartitions.entrySet())
             {
-                signaler.signalNow(originId, routedId, initialId, traceId, SIGNAL_NEXT_REQUEST, 0);
+                final IntHashSet assigned = assignedPartitions.get(owned.getKey());
+                revoked |= assigned != null ? !assigned.containsAll(owned.getValue()) : !owned.getValue().isEmpty();
             }
+            return revoked;
         }
 
         private void onHeartbeatResponse(
@@ -5479,14 +5632,25 @@ public final class KafkaClientGroupFactory extends KafkaClientSaslHandshaker imp
     {
         private final String memberId;
         private final OctetsFW metadata;
+        private final Map<String, IntHashSet> ownedPartitions;
 
         MemberProtocol(
             String memberId,
-            OctetsFW metadata)
+            OctetsFW metadata,
+            Map<String, IntHashSet> ownedPartitions)
         {
 
             this.memberId = memberId;
             this.metadata = metadata;
+            this.ownedPartitions = ownedPartitions;
+        }
+
+        private boolean owns(
+            String topic,
+            int partitionId)
+        {
+            final IntHashSet partitions = ownedPartitions.get(topic);
+            return partitions != null && partitions.contains(partitionId);
         }
     }
 }
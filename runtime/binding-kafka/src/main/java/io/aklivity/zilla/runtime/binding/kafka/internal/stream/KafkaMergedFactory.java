@@ -23,11 +23,13 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffset
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.stream.WindowFW.Builder.DEFAULT_MINIMUM;
 import static io.aklivity.zilla.runtime.engine.budget.BudgetCreditor.NO_BUDGET_ID;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
@@ -37,6 +39,7 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Int2IntHashMap;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.MutableLong;
 import org.agrona.collections.MutableReference;
@@ -176,6 +179,11 @@ public final class KafkaMergedFactory implements BindingHandler
     private final BindingHandler streamFactory;
     private final LongFunction<KafkaBindingConfig> supplyBinding;
     private final MergedBudgetCreditor creditor;
+    private final long stickyLingerMillis;
+    private final int stickyBatchBytes;
+    private final IntUnaryOperator supplyStickyPartitionId;
+    private final Long2ObjectHashMap<Object2ObjectHashMap<String, KafkaMergedStickyPartition>> stickyPartitions;
+    private final Clock clock;
 
     public KafkaMergedFactory(
         KafkaConfiguration config,
@@ -192,6 +200,11 @@ public final class KafkaMergedFactory implements BindingHandler
         this.streamFactory = context.streamFactory();
         this.supplyBinding = supplyBinding;
         this.creditor = creditor;
+        this.stickyLingerMillis = config.mergedProduceStickyLingerMillis();
+        this.stickyBatchBytes = config.mergedProduceStickyBatchBytes();
+        this.supplyStickyPartitionId = config.mergedProduceStickyPartitionSupplier();
+        this.stickyPartitions = new Long2ObjectHashMap<>();
+        this.clock = context.clock();
     }
 
     @Override
@@ -1057,6 +1070,7 @@ public final class KafkaMergedFactory implements BindingHandler
 
         private int nextNullKeyHashData;
         private int nextNullKeyHashFlush;
+        private KafkaMergedStickyPartition stickyPartition;
         private int fetchStreamIndex;
         private long mergedReplyBudgetId = NO_BUDGET_ID;
 
@@ -1243,7 +1257,10 @@ public final class KafkaMergedFactory implements BindingHandler
                     final KafkaKeyFW hashKey = kafkaMergedProduceDataEx.hashKey();
                     final KafkaOffsetFW partition = kafkaMergedProduceDataEx.partition();
                     final int partitionId = partition.partitionId();
-                    final int nextPartitionId = partitionId == DYNAMIC_PARTITION ? nextPartitionData(hashKey, key) : partitionId;
+                    final int length = (payload != null ? payload.sizeof() : 0) + kafkaMergedProduceDataEx.deferred();
+                    final int nextPartitionId = partitionId == DYNAMIC_PARTITION
+                        ? nextPartitionData(hashKey, key, length)
+                        : partitionId;
 
                     final KafkaUnmergedProduceStream newProducer = findProducePartitionLeader(nextPartitionId);
                     this.producer = newProducer;
@@ -1284,13 +1301,32 @@ public final class KafkaMergedFactory implements BindingHandler
 
         private int nextPartitionData(
             KafkaKeyFW hashKey,
-            KafkaKeyFW key)
+            KafkaKeyFW key,
+            int length)
         {
             final int partitionCount = leadersByPartitionId.size();
-            final int keyHash = hashKey.length() != -1 ? defaultKeyHash(hashKey) :
-                key.length() != -1 ? defaultKeyHash(key) :
-                    nextNullKeyHashData++;
-            final int partitionId = partitionCount > 0 ? (0x7fff_ffff & keyHash) % partitionCount : 0;
+
+            int partitionId;
+            if (hashKey.length() == -1 && key.length() == -1 && stickyLingerMillis > 0L)
+            {
+                // shared by all merged streams producing to the same resolved topic on this worker
+                if (stickyPartition == null)
+                {
+                    stickyPartition = stickyPartitions
+                        .computeIfAbsent(resolvedId, id -> new Object2ObjectHashMap<>())
+                        .computeIfAbsent(topic, t ->
+                            new KafkaMergedStickyPartition(stickyLingerMillis, stickyBatchBytes, supplyStickyPartitionId));
+                }
+
+                partitionId = stickyPartition.nextPartitionId(partitionCount, length, clock.millis());
+            }
+            else
+            {
+                final int keyHash = hashKey.length() != -1 ? defaultKeyHash(hashKey) :
+                    key.length() != -1 ? defaultKeyHash(key) :
+                        nextNullKeyHashData++;
+                partitionId = partitionCount > 0 ? (0x7fff_ffff & keyHash) % partitionCount : 0;
+            }
 
             return partitionId;
         }
@@ -1401,7 +1437,7 @@ public final class KafkaMergedFactory implements BindingHandler
             final KafkaMergedProduceFlushExFW produce = kafkaMergedFlushEx.produce();
             final KafkaKeyFW hashKey = produce.hashKey();
 
-            final int partitionId = nextPartitionData(hashKey, EMPTY_KEY);
+            final int partitionId = nextPartitionData(hashKey, EMPTY_KEY, 0);
 
             doMergedProduceReplyFlush(traceId, partitionId);
         }
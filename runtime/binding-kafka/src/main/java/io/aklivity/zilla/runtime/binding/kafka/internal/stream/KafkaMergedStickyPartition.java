@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import java.util.function.IntUnaryOperator;
+
+final class KafkaMergedStickyPartition
+{
+    private final long lingerMillis;
+    private final int batchBytes;
+    private final IntUnaryOperator supplyInitialPartitionId;
+
+    private int partitionId;
+    private int batched;
+    private long expiresAt;
+
+    KafkaMergedStickyPartition(
+        long lingerMillis,
+        int batchBytes,
+        IntUnaryOperator supplyInitialPartitionId)
+    {
+        this.lingerMillis = lingerMillis;
+        this.batchBytes = batchBytes;
+        this.supplyInitialPartitionId = supplyInitialPartitionId;
+        this.partitionId = -1;
+    }
+
+    int nextPartitionId(
+        int partitionCount,
+        int length,
+        long now)
+    {
+        if (partitionCount > 0)
+        {
+            if (partitionId == -1)
+            {
+                // start at a random partition so short-lived producers spread across partitions
+                partitionId = Math.floorMod(supplyInitialPartitionId.applyAsInt(partitionCount), partitionCount);
+                batched = 0;
+                expiresAt = now + lingerMillis;
+            }
+            else if (partitionId >= partitionCount ||
+                batched >= batchBytes ||
+                now >= expiresAt)
+            {
+                partitionId = (partitionId + 1) % partitionCount;
+                batched = 0;
+                expiresAt = now + lingerMillis;
+            }
+
+            batched += length;
+        }
+
+        return Math.max(partitionId, 0);
+    }
+}
@@ -22,6 +22,9 @@ import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguratio
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_BYTES;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_REQUEST_MILLIS;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_SASL_SCRAM_NONCE;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_MERGED_PRODUCE_STICKY_BATCH_BYTES;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_MERGED_PRODUCE_STICKY_PARTITION;
 import static org.junit.Assert.assertEquals;
 
 import org.junit.Test;
@@ -37,6 +40,12 @@ public class KafkaConfigurationTest
     public static final String KAFKA_CACHE_CLIENT_CLEANUP_DELAY_NAME = "zilla.binding.kafka.cache.client.cleanup.delay";
     public static final String KAFKA_CLIENT_SASL_SCRAM_NONCE_NAME = "zilla.binding.kafka.client.sasl.scram.nonce";
     public static final String KAFKA_CLIENT_INSTANCE_ID_NAME = "zilla.binding.kafka.client.instance.id";
+    public static final String KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS_NAME =
+        "zilla.binding.kafka.merged.produce.sticky.linger.ms";
+    public static final String KAFKA_MERGED_PRODUCE_STICKY_BATCH_BYTES_NAME =
+        "zilla.binding.kafka.merged.produce.sticky.batch.bytes";
+    public static final String KAFKA_MERGED_PRODUCE_STICKY_PARTITION_NAME =
+        "zilla.binding.kafka.merged.produce.sticky.partition";
 
     @Test
     public void shouldVerifyConstants() throws Exception
@@ -48,5 +57,8 @@ public class KafkaConfigurationTest
         assertEquals(KAFKA_CACHE_CLIENT_CLEANUP_DELAY.name(), KAFKA_CACHE_CLIENT_CLEANUP_DELAY_NAME);
         assertEquals(KAFKA_CLIENT_SASL_SCRAM_NONCE.name(), KAFKA_CLIENT_SASL_SCRAM_NONCE_NAME);
         assertEquals(KAFKA_CLIENT_INSTANCE_ID.name(), KAFKA_CLIENT_INSTANCE_ID_NAME);
+        assertEquals(KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS.name(), KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS_NAME);
+        assertEquals(KAFKA_MERGED_PRODUCE_STICKY_BATCH_BYTES.name(), KAFKA_MERGED_PRODUCE_STICKY_BATCH_BYTES_NAME);
+        assertEquals(KAFKA_MERGED_PRODUCE_STICKY_PARTITION.name(), KAFKA_MERGED_PRODUCE_STICKY_PARTITION_NAME);
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaCacheAppendBM
+{
+    @Param({ "64", "1024", "8192" })
+    public int entrySize;
+
+    @Param({ "0", "4", "16" })
+    public int headerCount;
+
+    @Param({ "1048576", "67108864" })
+    public int segmentBytes;
+
+    @Param({ "65536", "10485760" })
+    public int segmentIndexBytes;
+
+    private Path location;
+    private KafkaCachePartition partition;
+    private KafkaCacheEntryWriter writer;
+    private Node head;
+    private long offset;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        config.segmentBytes = segmentBytes;
+        config.segmentIndexBytes = segmentIndexBytes;
+
+        this.location = Files.createTempDirectory("zilla-kafka-cache-append");
+        this.partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+        this.writer = new KafkaCacheEntryWriter(partition, 1024, headerCount, entrySize, KafkaDeltaType.NONE);
+        this.head = partition.append(0L);
+        this.offset = 0L;
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy()
+    {
+        for (Node node = partition.sentinel().next(); !node.sentinel(); node = node.next())
+        {
+            node.remove();
+        }
+        IoUtil.delete(location.toFile(), false);
+    }
+
+    @Benchmark
+    public long append()
+    {
+        final Node newHead = writer.write(offset++, currentTimeMillis());
+
+        if (newHead != head)
+        {
+            retireTail(newHead);
+            this.head = newHead;
+        }
+
+        return offset;
+    }
+
+    private void retireTail(
+        Node newHead)
+    {
+        for (Node node = newHead.previous(); !node.sentinel(); node = node.previous())
+        {
+            node.remove();
+        }
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(KafkaCacheAppendBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
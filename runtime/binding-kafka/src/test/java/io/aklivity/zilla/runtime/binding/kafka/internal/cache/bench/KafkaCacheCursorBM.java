@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench.KafkaCacheEntryWriter.HEADER_KINDS;
+import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaCacheCursor;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaFilterCondition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaConditionFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaEvaluation;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaFilterFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaCacheCursorBM
+{
+    private static final int ENTRIES = 65536;
+    private static final int KEYS = 256;
+    private static final int HEADERS = 4;
+    private static final int ENTRY_SIZE = 128;
+    private static final int KEY_MATCH = 136;
+
+    @Param({ "none", "key", "header", "key-and-header", "key-or-header" })
+    public String filter;
+
+    @Param({ "NONE", "JSON_PATCH" })
+    public String deltaType;
+
+    @Param({ "1048576", "67108864" })
+    public int segmentBytes;
+
+    private final KafkaCacheEntryFW entryRO = new KafkaCacheEntryFW();
+
+    private Path location;
+    private KafkaCachePartition partition;
+    private KafkaCacheCursorFactory cursorFactory;
+    private KafkaFilterCondition condition;
+    private KafkaDeltaType delta;
+    private long latestOffset;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        this.delta = KafkaDeltaType.valueOf(deltaType);
+
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        config.segmentBytes = segmentBytes;
+
+        this.location = Files.createTempDirectory("zilla-kafka-cache-cursor");
+        this.partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+
+        KafkaCacheEntryWriter writer = new KafkaCacheEntryWriter(partition, KEYS, HEADERS, ENTRY_SIZE, delta);
+        partition.append(0L);
+        for (long offset = 0L; offset < ENTRIES; offset++)
+        {
+            writer.write(offset, currentTimeMillis());
+        }
+        this.latestOffset = ENTRIES - 1;
+
+        this.cursorFactory = new KafkaCacheCursorFactory(65536);
+        this.condition = cursorFactory.asCondition(filters(filter), KafkaEvaluation.LAZY);
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy()
+    {
+        for (Node node = partition.sentinel().next(); !node.sentinel(); node = node.next())
+        {
+            node.remove();
+        }
+        IoUtil.delete(location.toFile(), false);
+    }
+
+    @Benchmark
+    public int scan(
+        final Blackhole blackhole)
+    {
+        int entries = 0;
+
+        final KafkaCacheCursor cursor = cursorFactory.newCursor(condition, delta);
+        cursor.init(partition.sentinel().next(), 0L, latestOffset);
+
+        for (KafkaCacheEntryFW entry = cursor.next(entryRO); entry != null; entry = cursor.next(entryRO))
+        {
+            final long offset = entry.offset$();
+            blackhole.consume(entry.valueLen());
+            cursor.advance(offset + 1);
+            entries++;
+        }
+
+        cursor.close();
+
+        return entries;
+    }
+
+    private static Array32FW<KafkaFilterFW> filters(
+        String filter)
+    {
+        final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+        final Array32FW.Builder<KafkaFilterFW.Builder, KafkaFilterFW> builder =
+            new Array32FW.Builder<>(new KafkaFilterFW.Builder(), new KafkaFilterFW());
+        builder.wrap(buffer, 0, buffer.capacity());
+
+        switch (filter)
+        {
+        case "key":
+            builder.item(f -> f.conditionsItem(KafkaCacheCursorBM::key));
+            break;
+        case "header":
+            builder.item(f -> f.conditionsItem(KafkaCacheCursorBM::header));
+            break;
+        case "key-and-header":
+            builder.item(f -> f.conditionsItem(KafkaCacheCursorBM::key)
+                               .conditionsItem(KafkaCacheCursorBM::header));
+            break;
+        case "key-or-header":
+            builder.item(f -> f.conditionsItem(KafkaCacheCursorBM::key));
+            builder.item(f -> f.conditionsItem(KafkaCacheCursorBM::header));
+            break;
+        default:
+            break;
+        }
+
+        return builder.build();
+    }
+
+    private static void key(
+        KafkaConditionFW.Builder builder)
+    {
+        final KafkaKeyFW key = KafkaCacheEntryWriter.key(KEY_MATCH);
+        builder.key(k -> k.length(key.length()).value(key.value()));
+    }
+
+    private static void header(
+        KafkaConditionFW.Builder builder)
+    {
+        final byte[] name = "kind".getBytes(UTF_8);
+        final byte[] value = KafkaCacheEntryWriter.kind(KEY_MATCH % HEADER_KINDS).getBytes(UTF_8);
+        builder.header(h -> h.nameLen(name.length).name(n -> n.set(name))
+                             .valueLen(value.length).value(v -> v.set(value)));
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(KafkaCacheCursorBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
+
+final class KafkaCacheEntryWriter
+{
+    static final int HEADER_KINDS = 16;
+
+    private static final int FLAGS_COMPLETE = 0x03;
+    private static final String VALUE_PREFIX = "{\"seq\":\"";
+    private static final String VALUE_INFIX = "\",\"data\":\"";
+    private static final String VALUE_SUFFIX = "\"}";
+    private static final int VALUE_SEQ_LENGTH = 10;
+    private static final int VALUE_SIZE_MIN =
+        VALUE_PREFIX.length() + VALUE_SEQ_LENGTH + VALUE_INFIX.length() + VALUE_SUFFIX.length();
+
+    private final KafkaCacheEntryFW ancestorRO = new KafkaCacheEntryFW();
+    private final OctetsFW valueRO = new OctetsFW();
+    private final MutableInteger entryMark = new MutableInteger(0);
+    private final MutableInteger valueMark = new MutableInteger(0);
+
+    private final KafkaCachePartition partition;
+    private final KafkaDeltaType deltaType;
+    private final KafkaKeyFW[] keys;
+    private final List<Array32FW<KafkaHeaderFW>> headers;
+    private final MutableDirectBuffer value;
+    private final int headersSizeMax;
+
+    KafkaCacheEntryWriter(
+        KafkaCachePartition partition,
+        int keyCount,
+        int headerCount,
+        int valueSize,
+        KafkaDeltaType deltaType)
+    {
+        this.partition = partition;
+        this.deltaType = deltaType;
+        this.keys = new KafkaKeyFW[keyCount];
+        this.headers = new ArrayList<>(HEADER_KINDS);
+        this.value = new UnsafeBuffer(new byte[Math.max(valueSize, VALUE_SIZE_MIN)]);
+
+        for (int index = 0; index < keyCount; index++)
+        {
+            keys[index] = key(index);
+        }
+
+        int headersSizeMax = 0;
+        for (int kind = 0; kind < HEADER_KINDS; kind++)
+        {
+            final Array32FW<KafkaHeaderFW> kindHeaders = headers(kind, headerCount);
+            headers.add(kindHeaders);
+            headersSizeMax = Math.max(headersSizeMax, kindHeaders.sizeof());
+        }
+        this.headersSizeMax = headersSizeMax;
+
+        int progress = 0;
+        progress += value.putStringWithoutLengthAscii(progress, VALUE_PREFIX);
+        progress += VALUE_SEQ_LENGTH;
+        progress += value.putStringWithoutLengthAscii(progress, VALUE_INFIX);
+        while (progress < value.capacity() - VALUE_SUFFIX.length())
+        {
+            value.putByte(progress++, (byte) 'x');
+        }
+        value.putStringWithoutLengthAscii(progress, VALUE_SUFFIX);
+    }
+
+    Node write(
+        long offset,
+        long timestamp)
+    {
+        final KafkaKeyFW key = keys[(int) (offset % keys.length)];
+        final Array32FW<KafkaHeaderFW> entryHeaders = headers.get((int) (offset % HEADER_KINDS));
+
+        value.putNaturalPaddedIntAscii(VALUE_PREFIX.length(), VALUE_SEQ_LENGTH, (int) offset & Integer.MAX_VALUE);
+        final OctetsFW entryValue = valueRO.wrap(value, 0, value.capacity());
+
+        final Node head = partition.newHeadIfNecessary(offset, key, entryValue.sizeof(), headersSizeMax);
+        final IntFunction<KafkaCacheEntryFW> findAncestor =
+            keyHash -> head.findAndMarkAncestor(key, keyHash, offset, ancestorRO);
+
+        partition.writeEntryStart(null, 0L, 0L, offset, entryMark, valueMark, timestamp, -1L,
+            key, entryValue.sizeof(), findAncestor, 0x00, deltaType, entryValue, ConverterHandler.NONE,
+            ConverterHandler.NONE, null, false);
+        partition.writeEntryContinue(entryValue);
+        partition.writeEntryFinish(entryHeaders, deltaType, null, 0L, 0L, FLAGS_COMPLETE, offset, entryMark, valueMark,
+            ConverterHandler.NONE, ConverterHandler.NONE, false, null);
+
+        return head;
+    }
+
+    static KafkaKeyFW key(
+        int index)
+    {
+        final byte[] bytes = String.format("key-%08d", index).getBytes(UTF_8);
+        final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[bytes.length + 8]);
+
+        return new KafkaKeyFW.Builder()
+            .wrap(buffer, 0, buffer.capacity())
+            .length(bytes.length)
+            .value(k -> k.set(bytes))
+            .build();
+    }
+
+    static String kind(
+        int kind)
+    {
+        return String.format("kind-%02d", kind);
+    }
+
+    private static Array32FW<KafkaHeaderFW> headers(
+        int kind,
+        int headerCount)
+    {
+        final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(64 + headerCount * 64));
+        final Array32FW.Builder<KafkaHeaderFW.Builder, KafkaHeaderFW> builder =
+            new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                .wrap(buffer, 0, buffer.capacity());
+
+        for (int index = 0; index < headerCount; index++)
+        {
+            final byte[] name = (index == 0 ? "kind" : String.format("header-%02d", index)).getBytes(UTF_8);
+            final byte[] value = (index == 0 ? kind(kind) : "value").getBytes(UTF_8);
+            builder.item(h -> h.nameLen(name.length).name(n -> n.set(name))
+                               .valueLen(value.length).value(v -> v.set(value)));
+        }
+
+        return builder.build();
+    }
+}
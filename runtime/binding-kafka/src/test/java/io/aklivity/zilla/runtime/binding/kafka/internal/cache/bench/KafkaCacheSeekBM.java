@@ -0,0 +1,167 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorRecord.cursorValue;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheSegment;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaCacheSeekBM
+{
+    private static final int ENTRIES = 262144;
+    private static final int ENTRY_SIZE = 64;
+    private static final int TARGETS = 1024;
+    private static final long TIMESTAMP_BASE = 1_700_000_000_000L;
+
+    @Param({ "1048576", "16777216" })
+    public int segmentBytes;
+
+    @Param({ "65536", "10485760" })
+    public int segmentIndexBytes;
+
+    private final KafkaCacheEntryFW entryRO = new KafkaCacheEntryFW();
+    private final long[] offsets = new long[TARGETS];
+    private final long[] timestamps = new long[TARGETS];
+
+    private Path location;
+    private KafkaCachePartition partition;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        config.segmentBytes = segmentBytes;
+        config.segmentIndexBytes = segmentIndexBytes;
+
+        this.location = Files.createTempDirectory("zilla-kafka-cache-seek");
+        this.partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+
+        KafkaCacheEntryWriter writer = new KafkaCacheEntryWriter(partition, 1024, 0, ENTRY_SIZE, KafkaDeltaType.NONE);
+        partition.append(0L);
+        for (long offset = 0L; offset < ENTRIES; offset++)
+        {
+            writer.write(offset, TIMESTAMP_BASE + offset);
+        }
+
+        final Random random = new Random(ENTRIES);
+        for (int index = 0; index < TARGETS; index++)
+        {
+            offsets[index] = random.nextInt(ENTRIES);
+            timestamps[index] = TIMESTAMP_BASE + random.nextInt(ENTRIES);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy()
+    {
+        for (Node node = partition.sentinel().next(); !node.sentinel(); node = node.next())
+        {
+            node.remove();
+        }
+        IoUtil.delete(location.toFile(), false);
+    }
+
+    @Benchmark
+    public long seekOffset()
+    {
+        final long offset = offsets[next++ & (TARGETS - 1)];
+
+        return entryAt(offset).offset$();
+    }
+
+    @Benchmark
+    public long seekTimestamp()
+    {
+        final long timestamp = timestamps[next++ & (TARGETS - 1)];
+
+        long lowOffset = partition.sentinel().next().segment().baseOffset();
+        long highOffset = partition.head().segment().lastOffset();
+
+        while (lowOffset < highOffset)
+        {
+            final long midOffset = (lowOffset + highOffset) >>> 1;
+            if (entryAt(midOffset).timestamp() < timestamp)
+            {
+                lowOffset = midOffset + 1;
+            }
+            else
+            {
+                highOffset = midOffset;
+            }
+        }
+
+        return lowOffset;
+    }
+
+    private KafkaCacheEntryFW entryAt(
+        long offset)
+    {
+        final Node node = partition.seekNotAfter(offset);
+        final KafkaCacheSegment segment = node.segment();
+        final long cursor = segment.indexFile().floor((int)(offset - segment.baseOffset()));
+
+        return segment.logFile().readBytes(cursorValue(cursor), entryRO::wrap);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(KafkaCacheSeekBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaCacheSegmentBM
+{
+    private static final int ENTRY_SIZE = 128;
+
+    @Param({ "1024", "16384" })
+    public int entries;
+
+    @Param({ "0", "4" })
+    public int headerCount;
+
+    @Param({ "16", "1024" })
+    public int keyCount;
+
+    private Path location;
+    private KafkaCachePartition partition;
+    private long offset;
+
+    @Setup(Level.Invocation)
+    public void init(
+        BenchmarkParams params) throws IOException
+    {
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        config.segmentBytes = 0x4000000;
+        config.segmentIndexBytes = 0xA00000;
+
+        this.location = Files.createTempDirectory("zilla-kafka-cache-segment");
+        this.partition = new KafkaCachePartition(location, config, "cache", "test", 0, 65536, long[]::new);
+
+        KafkaCacheEntryWriter writer = new KafkaCacheEntryWriter(partition, keyCount, headerCount, ENTRY_SIZE,
+            KafkaDeltaType.NONE);
+        partition.append(0L);
+        for (long offset = 0L; offset < entries; offset++)
+        {
+            writer.write(offset, currentTimeMillis());
+        }
+        this.offset = entries;
+
+        if (params.getBenchmark().endsWith("compact"))
+        {
+            final Node head = partition.append(offset);
+            head.previous().segment().cleanableAt(currentTimeMillis());
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void destroy()
+    {
+        for (Node node = partition.sentinel().next(); !node.sentinel(); node = node.next())
+        {
+            node.remove();
+        }
+        IoUtil.delete(location.toFile(), false);
+    }
+
+    @Benchmark
+    public Node freeze()
+    {
+        return partition.append(offset);
+    }
+
+    @Benchmark
+    public Node compact()
+    {
+        final Node tail = partition.head().previous();
+
+        tail.clean(currentTimeMillis());
+
+        return tail;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(KafkaCacheSegmentBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
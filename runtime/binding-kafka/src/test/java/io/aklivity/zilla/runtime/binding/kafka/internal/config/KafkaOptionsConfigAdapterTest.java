@@ -115,6 +115,43 @@ public class KafkaOptionsConfigAdapterTest
                 "\"sasl\":{\"mechanism\":\"plain\",\"username\":\"username\",\"password\":\"password\"}}"));
     }
 
+    @Test
+    public void shouldReadConflateOptions()
+    {
+        String text =
+                "{" +
+                    "\"topics\":" +
+                    "[" +
+                        "{" +
+                            "\"name\": \"test\"," +
+                            "\"conflate\": true" +
+                        "}" +
+                    "]" +
+                "}";
+
+        KafkaOptionsConfig options = jsonb.fromJson(text, KafkaOptionsConfig.class);
+
+        assertThat(options, not(nullValue()));
+        assertThat(options.topics, equalTo(singletonList(KafkaTopicConfig.builder()
+            .name("test").conflate(true).build())));
+    }
+
+    @Test
+    public void shouldWriteConflateOptions()
+    {
+        KafkaOptionsConfig options = KafkaOptionsConfig.builder()
+            .topic()
+                .name("test")
+                .conflate(true)
+                .build()
+            .build();
+
+        String text = jsonb.toJson(options);
+
+        assertThat(text, not(nullValue()));
+        assertThat(text, equalTo("{\"topics\":[{\"name\":\"test\",\"conflate\":true}]}"));
+    }
+
     @Test
     public void shouldReadSaslScramOptions()
     {
@@ -70,6 +70,17 @@ public class CacheConsumerIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("cache.when.topic.yaml")
+    @Specification({
+        "${app}/rebalance.sticky.assignment/client",
+        "${net}/rebalance.sticky.assignment/server"})
+    @ScriptProperty("serverAddress \"zilla://streams/app1\"")
+    public void shouldRebalanceStickyAssignment() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("cache.when.topic.yaml")
     @Specification({
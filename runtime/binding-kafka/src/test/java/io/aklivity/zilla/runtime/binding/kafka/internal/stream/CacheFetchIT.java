@@ -87,6 +87,39 @@ public class CacheFetchIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("cache.client.options.conflate.yaml")
+    @Specification({
+        "${app}/conflated.message.with.message/client",
+        "${app}/follow.message.with.message/server"})
+    public void shouldConflateMessageWithMessage() throws Exception
+    {
+        partition.append(1L);
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("cache.client.options.conflate.yaml")
+    @Specification({
+        "${app}/conflated.message.with.aborted.message/client",
+        "${app}/conflate.message.with.aborted.message/server"})
+    public void shouldNotConflateMessageWithAbortedMessage() throws Exception
+    {
+        partition.append(1L);
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("cache.client.options.conflate.yaml")
+    @Specification({
+        "${app}/conflated.message.with.filtered.message/client",
+        "${app}/conflate.message.with.filtered.message/server"})
+    public void shouldNotConflateMessageWithFilteredMessage() throws Exception
+    {
+        partition.append(1L);
+        k3po.finish();
+    }
+
     @Test
     @Configuration("cache.yaml")
     @Specification({
@@ -373,6 +373,7 @@ public class CacheMergedIT
 
     @Test
     @Configuration("cache.yaml")
+    @Configure(name = KafkaConfigurationTest.KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS_NAME, value = "0")
     @Specification({
         "${app}/merged.produce.flush.dynamic/client",
         "${app}/unmerged.produce.flush.dynamic/server"})
@@ -473,6 +474,7 @@ public class CacheMergedIT
 
     @Test
     @Configuration("cache.options.merged.yaml")
+    @Configure(name = KafkaConfigurationTest.KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS_NAME, value = "0")
     @Specification({
         "${app}/merged.produce.message.values.dynamic/client",
         "${app}/unmerged.produce.message.values.dynamic/server"})
@@ -481,6 +483,40 @@ public class CacheMergedIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("cache.options.merged.yaml")
+    @Configure(name = KafkaConfigurationTest.KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS_NAME, value = "60000")
+    @Configure(name = KafkaConfigurationTest.KAFKA_MERGED_PRODUCE_STICKY_BATCH_BYTES_NAME, value = "32")
+    @Configure(name = KafkaConfigurationTest.KAFKA_MERGED_PRODUCE_STICKY_PARTITION_NAME,
+        value = "io.aklivity.zilla.runtime.binding.kafka.internal.stream.CacheMergedIT::supplyStickyPartition")
+    @Specification({
+        "${app}/merged.produce.message.values.sticky/client",
+        "${app}/unmerged.produce.message.values.dynamic/server"})
+    public void shouldProduceMergedMessageValuesStickyUntilBatchIsFull() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("cache.options.merged.yaml")
+    @Configure(name = KafkaConfigurationTest.KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS_NAME, value = "500")
+    @Configure(name = KafkaConfigurationTest.KAFKA_MERGED_PRODUCE_STICKY_PARTITION_NAME,
+        value = "io.aklivity.zilla.runtime.binding.kafka.internal.stream.CacheMergedIT::supplyStickyPartition")
+    @Specification({
+        "${app}/merged.produce.message.values.sticky.linger/client",
+        "${app}/unmerged.produce.message.values.dynamic/server"})
+    public void shouldProduceMergedMessageValuesStickyUntilLingerExpires() throws Exception
+    {
+        k3po.start();
+        k3po.awaitBarrier("SENT_MESSAGE_B2");
+        Thread.sleep(1000); // allow linger to expire
+        k3po.notifyBarrier("LINGER_EXPIRED_B");
+        k3po.awaitBarrier("SENT_MESSAGE_C2");
+        Thread.sleep(1000); // allow linger to expire
+        k3po.notifyBarrier("LINGER_EXPIRED_C");
+        k3po.finish();
+    }
+
     @Test
     @Configuration("cache.options.merged.yaml")
     @Specification({
@@ -743,4 +779,10 @@ public class CacheMergedIT
     {
         k3po.finish();
     }
+
+    public static int supplyStickyPartition(
+        int partitionCount)
+    {
+        return 1;
+    }
 }
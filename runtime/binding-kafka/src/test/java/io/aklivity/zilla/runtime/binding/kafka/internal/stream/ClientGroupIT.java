@@ -237,6 +237,16 @@ public class ClientGroupIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("client.yaml")
+    @Specification({
+        "${app}/rebalance.protocol.cooperative/client",
+        "${net}/rebalance.protocol.cooperative/server"})
+    public void shouldRebalanceProtocolCooperative() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("client.yaml")
     @Specification({
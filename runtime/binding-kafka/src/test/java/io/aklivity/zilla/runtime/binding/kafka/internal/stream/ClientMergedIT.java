@@ -18,6 +18,7 @@ package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_META_MAX_AGE_MILLIS;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration.KAFKA_CLIENT_PRODUCE_MAX_BYTES;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfigurationTest.KAFKA_CLIENT_PRODUCE_MAX_BYTES_NAME;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfigurationTest.KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS_NAME;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_BUFFER_SLOT_CAPACITY;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
@@ -266,6 +267,7 @@ public class ClientMergedIT
 
     @Test
     @Configuration("client.options.merged.yaml")
+    @Configure(name = KAFKA_MERGED_PRODUCE_STICKY_LINGER_MILLIS_NAME, value = "0")
     @Specification({
         "${app}/merged.produce.message.values.dynamic/client",
         "${net}/unmerged.produce.message.values.dynamic/server"})
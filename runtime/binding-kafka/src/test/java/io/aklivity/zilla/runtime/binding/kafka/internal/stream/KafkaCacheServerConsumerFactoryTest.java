@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaCacheServerConsumerFactory.doStickyAssignment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntHashSet;
+import org.junit.Test;
+
+public class KafkaCacheServerConsumerFactoryTest
+{
+    @Test
+    public void shouldAssignFreshGroupEvenly()
+    {
+        Map<String, IntHashSet> assignment = doStickyAssignment(
+            members("member-1", "member-2"), partitions(0, 1, 2, 3, 4), new Int2ObjectHashMap<>());
+
+        assertBalanced(assignment, 5);
+    }
+
+    @Test
+    public void shouldKeepPriorOwnersWhenMemberJoins()
+    {
+        Int2ObjectHashMap<String> owners = new Int2ObjectHashMap<>();
+        owners.put(0, "member-1");
+        owners.put(1, "member-1");
+        owners.put(2, "member-2");
+        owners.put(3, "member-2");
+
+        Map<String, IntHashSet> assignment = doStickyAssignment(
+            members("member-1", "member-2", "member-3"), partitions(0, 1, 2, 3), owners);
+
+        assertBalanced(assignment, 4);
+        assertKeptByPriorOwner(assignment, owners, "member-1");
+        assertKeptByPriorOwner(assignment, owners, "member-2");
+        assertEquals(1, assignment.get("member-3").size());
+    }
+
+    @Test
+    public void shouldKeepPriorOwnersWhenMemberLeaves()
+    {
+        Int2ObjectHashMap<String> owners = new Int2ObjectHashMap<>();
+        owners.put(0, "member-1");
+        owners.put(1, "member-2");
+        owners.put(2, "member-3");
+
+        Map<String, IntHashSet> assignment = doStickyAssignment(
+            members("member-1", "member-3"), partitions(0, 1, 2), owners);
+
+        assertBalanced(assignment, 3);
+        assertTrue(assignment.get("member-1").contains(0));
+        assertTrue(assignment.get("member-3").contains(2));
+    }
+
+    @Test
+    public void shouldStayBalancedWhenFewerPartitionsThanMembers()
+    {
+        Int2ObjectHashMap<String> owners = new Int2ObjectHashMap<>();
+        owners.put(0, "member-1");
+        owners.put(1, "member-1");
+
+        Map<String, IntHashSet> assignment = doStickyAssignment(
+            members("member-1", "member-2", "member-3"), partitions(0, 1), owners);
+
+        assertBalanced(assignment, 2);
+        assertEquals(1, assignment.get("member-1").size());
+        assertKeptByPriorOwner(assignment, owners, "member-1");
+    }
+
+    private static Set<String> members(
+        String... memberIds)
+    {
+        return new LinkedHashSet<>(List.of(memberIds));
+    }
+
+    private static IntHashSet partitions(
+        int... partitionIds)
+    {
+        IntHashSet partitions = new IntHashSet();
+        for (int partitionId : partitionIds)
+        {
+            partitions.add(partitionId);
+        }
+        return partitions;
+    }
+
+    private static void assertBalanced(
+        Map<String, IntHashSet> assignment,
+        int partitionCount)
+    {
+        IntHashSet assigned = new IntHashSet();
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+
+        for (IntHashSet partitions : assignment.values())
+        {
+            partitions.forEach(p -> assertTrue(assigned.add(p)));
+            min = Math.min(min, partitions.size());
+            max = Math.max(max, partitions.size());
+        }
+
+        assertEquals(partitionCount, assigned.size());
+        assertTrue(max - min <= 1);
+    }
+
+    private static void assertKeptByPriorOwner(
+        Map<String, IntHashSet> assignment,
+        Int2ObjectHashMap<String> owners,
+        String memberId)
+    {
+        IntHashSet partitions = assignment.get(memberId);
+
+        assertFalse(partitions.isEmpty());
+        partitions.forEach(p -> assertEquals(memberId, owners.get(p)));
+    }
+}
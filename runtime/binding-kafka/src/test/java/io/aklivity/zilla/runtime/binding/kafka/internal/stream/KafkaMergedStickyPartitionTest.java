@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class KafkaMergedStickyPartitionTest
+{
+    @Test
+    public void shouldStickToPartitionUntilLingerExpires()
+    {
+        KafkaMergedStickyPartition sticky = new KafkaMergedStickyPartition(10L, 1024, c -> 0);
+
+        assertEquals(0, sticky.nextPartitionId(3, 16, 0L));
+        assertEquals(0, sticky.nextPartitionId(3, 16, 5L));
+        assertEquals(0, sticky.nextPartitionId(3, 16, 9L));
+        assertEquals(1, sticky.nextPartitionId(3, 16, 10L));
+        assertEquals(1, sticky.nextPartitionId(3, 16, 19L));
+        assertEquals(2, sticky.nextPartitionId(3, 16, 20L));
+        assertEquals(0, sticky.nextPartitionId(3, 16, 30L));
+    }
+
+    @Test
+    public void shouldStartAtSuppliedPartition()
+    {
+        KafkaMergedStickyPartition sticky = new KafkaMergedStickyPartition(10L, 1024, c -> c - 1);
+
+        assertEquals(0, sticky.nextPartitionId(0, 16, 0L));
+        assertEquals(2, sticky.nextPartitionId(3, 16, 0L));
+        assertEquals(2, sticky.nextPartitionId(3, 16, 5L));
+        assertEquals(0, sticky.nextPartitionId(3, 16, 10L));
+    }
+
+    @Test
+    public void shouldSwitchPartitionWhenBatchIsFull()
+    {
+        KafkaMergedStickyPartition sticky = new KafkaMergedStickyPartition(1000L, 32, c -> 0);
+
+        assertEquals(0, sticky.nextPartitionId(2, 16, 0L));
+        assertEquals(0, sticky.nextPartitionId(2, 16, 0L));
+        assertEquals(1, sticky.nextPartitionId(2, 16, 0L));
+        assertEquals(1, sticky.nextPartitionId(2, 16, 0L));
+        assertEquals(0, sticky.nextPartitionId(2, 16, 0L));
+    }
+
+    @Test
+    public void shouldSwitchPartitionWhenPartitionCountShrinks()
+    {
+        KafkaMergedStickyPartition sticky = new KafkaMergedStickyPartition(1000L, 1024, c -> 0);
+
+        assertEquals(0, sticky.nextPartitionId(4, 1024, 0L));
+        assertEquals(1, sticky.nextPartitionId(4, 1024, 0L));
+        assertEquals(2, sticky.nextPartitionId(4, 16, 0L));
+        assertEquals(1, sticky.nextPartitionId(2, 16, 0L));
+    }
+}
@@ -78,4 +78,17 @@ public class MqttKafkaRouteConfig
             .filter(m -> m.kind == kind)
             .anyMatch(m -> m.matches(topic));
     }
+
+    public boolean matches(
+        String16FW topic,
+        MqttKafkaConditionKind kind)
+    {
+        boolean matches = when.isEmpty();
+        for (int index = 0; !matches && index < when.size(); index++)
+        {
+            final MqttKafkaConditionMatcher condition = when.get(index);
+            matches = condition.kind == kind && condition.matches(topic);
+        }
+        return matches;
+    }
 }
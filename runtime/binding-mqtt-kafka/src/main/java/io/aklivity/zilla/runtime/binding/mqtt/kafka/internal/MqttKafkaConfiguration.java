@@ -42,6 +42,10 @@ public class MqttKafkaConfiguration extends Configuration
     public static final IntPropertyDef BOOTSTRAP_STREAM_RECONNECT_DELAY;
     public static final IntPropertyDef PUBLISH_QOS_MAX;
     public static final PropertyDef<String> KAFKA_GROUP_ID_PREFIX;
+    public static final IntPropertyDef SESSION_ADMISSION_LIMIT_INITIAL;
+    public static final IntPropertyDef SESSION_ADMISSION_LIMIT_MAX;
+    public static final LongPropertyDef SESSION_ADMISSION_LATENCY_TARGET;
+    public static final LongPropertyDef SESSION_PARTITIONS_TTL;
 
     static
     {
@@ -62,6 +66,10 @@ public class MqttKafkaConfiguration extends Configuration
         BOOTSTRAP_STREAM_RECONNECT_DELAY = config.property("bootstrap.stream.reconnect", 2);
         PUBLISH_QOS_MAX = config.property("publish.qos.max", 2);
         KAFKA_GROUP_ID_PREFIX = config.property("group.id.prefix.format", "zilla:%s-%s");
+        SESSION_ADMISSION_LIMIT_INITIAL = config.property("session.admission.limit.initial", 64);
+        SESSION_ADMISSION_LIMIT_MAX = config.property("session.admission.limit.max", 1024);
+        SESSION_ADMISSION_LATENCY_TARGET = config.property("session.admission.latency.target", 5000L);
+        SESSION_PARTITIONS_TTL = config.property("session.partitions.ttl", 30000L);
         MQTT_KAFKA_CONFIG = config;
     }
 
@@ -131,6 +139,26 @@ public class MqttKafkaConfiguration extends Configuration
         return KAFKA_GROUP_ID_PREFIX.get(this);
     }
 
+    public int sessionAdmissionLimitInitial()
+    {
+        return SESSION_ADMISSION_LIMIT_INITIAL.getAsInt(this);
+    }
+
+    public int sessionAdmissionLimitMax()
+    {
+        return SESSION_ADMISSION_LIMIT_MAX.getAsInt(this);
+    }
+
+    public long sessionAdmissionLatencyTarget()
+    {
+        return SESSION_ADMISSION_LATENCY_TARGET.getAsLong(this);
+    }
+
+    public long sessionPartitionsTtl()
+    {
+        return SESSION_PARTITIONS_TTL.getAsLong(this);
+    }
+
 
     private static StringSupplier decodeStringSupplier(
         String fullyQualifiedMethodName)
@@ -18,12 +18,16 @@ import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.MqttQo
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.agrona.DirectBuffer;
+
+import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaConditionConfig;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaConditionKind;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaOptionsConfig;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaRouteConfig;
@@ -33,11 +37,16 @@ import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.MqttQoS;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.MqttTopicFilterFW;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.String16FW;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.config.ConditionConfig;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
 
 public class MqttKafkaBindingConfig
 {
     private final List<MqttKafkaRouteConfig> bootstrapRoutes;
+    private final MqttKafkaTopicTrie publishRoutes;
+    private final MqttKafkaTopicTrie subscribeRoutes;
+    private final BitSet matches;
 
     public final long id;
     public final KindConfig kind;
@@ -54,6 +63,9 @@ public class MqttKafkaBindingConfig
         this.kind = binding.kind;
         this.options = (MqttKafkaOptionsConfig) binding.options;
         this.routes = binding.routes.stream().map(r -> new MqttKafkaRouteConfig(options, r)).collect(toList());
+        this.publishRoutes = asRouteTrie(binding.routes, MqttKafkaConditionKind.PUBLISH);
+        this.subscribeRoutes = asRouteTrie(binding.routes, MqttKafkaConditionKind.SUBSCRIBE);
+        this.matches = new BitSet();
         this.clients = options != null && options.clients != null ?
             asAccessor(options.clients) : null;
         this.bootstrapRoutes = routes.stream()
@@ -74,21 +86,41 @@ public class MqttKafkaBindingConfig
 
     public MqttKafkaRouteConfig resolve(
         long authorization,
-        String topic)
+        String16FW topic)
     {
-        return routes.stream()
-            .filter(r -> r.authorized(authorization) && r.matches(topic, MqttKafkaConditionKind.PUBLISH))
-            .findFirst()
-            .orElse(null);
+        matches.clear();
+        publishRoutes.match(topic, matches);
+
+        MqttKafkaRouteConfig resolved = null;
+        for (int index = matches.nextSetBit(0); resolved == null && index != -1; index = matches.nextSetBit(index + 1))
+        {
+            final MqttKafkaRouteConfig route = routes.get(index);
+            if (route.authorized(authorization) && route.matches(topic, MqttKafkaConditionKind.PUBLISH))
+            {
+                resolved = route;
+            }
+        }
+
+        return resolved;
     }
 
     public List<MqttKafkaRouteConfig> resolveAll(
         long authorization,
         Array32FW<MqttTopicFilterFW> filters)
     {
-        return routes.stream()
+        matches.clear();
+        filters.forEach(f ->
+        {
+            final String16FW pattern = f.pattern();
+            final DirectBuffer value = pattern.value();
+            final int limit = Math.max(pattern.length(), 0);
+            subscribeRoutes.match(value, MqttKafkaSharedSubscription.filterOffset(value, 0, limit), limit, matches);
+        });
+
+        return matches.stream()
+            .mapToObj(routes::get)
             .filter(r -> r.authorized(authorization) &&
-                filters.anyMatch(f -> r.matches(f.pattern().asString(), MqttKafkaConditionKind.SUBSCRIBE)))
+                filters.anyMatch(f -> r.matches(f.pattern(), MqttKafkaConditionKind.SUBSCRIBE)))
             .collect(Collectors.toList());
     }
 
@@ -118,6 +150,45 @@ public class MqttKafkaBindingConfig
         return bootstrapRoutes;
     }
 
+    private static MqttKafkaTopicTrie asRouteTrie(
+        List<RouteConfig> routes,
+        MqttKafkaConditionKind kind)
+    {
+        final MqttKafkaTopicTrie trie = new MqttKafkaTopicTrie();
+
+        for (int index = 0; index < routes.size(); index++)
+        {
+            final RouteConfig route = routes.get(index);
+
+            if (route.when.isEmpty())
+            {
+                trie.addAll(index);
+            }
+
+            for (ConditionConfig when : route.when)
+            {
+                final MqttKafkaConditionConfig condition = (MqttKafkaConditionConfig) when;
+
+                if (condition.kind == kind)
+                {
+                    if (condition.topics == null)
+                    {
+                        trie.addAll(index);
+                    }
+                    else
+                    {
+                        for (String topic : condition.topics)
+                        {
+                            trie.add(topic, index);
+                        }
+                    }
+                }
+            }
+        }
+
+        return trie;
+    }
+
     private List<Function<String, String>> asAccessor(
         List<String> clients)
     {
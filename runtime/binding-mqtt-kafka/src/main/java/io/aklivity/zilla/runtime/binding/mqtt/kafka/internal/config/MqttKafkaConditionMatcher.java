@@ -14,38 +14,94 @@
  */
 package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaConditionConfig;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaConditionKind;
+import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.String16FW;
 
 public class MqttKafkaConditionMatcher
 {
-    private final Matcher matcher;
+    private final MqttKafkaTopicTrie trie;
+    private final String[][] parameters;
+    private final BitSet matches;
+    private final String[] parameterNames;
+    private final String[] parameterValues;
     public final MqttKafkaConditionKind kind;
     private Consumer<MqttKafkaConditionMatcher> observer;
+    private int parameterCount;
 
     public MqttKafkaConditionMatcher(
         MqttKafkaConditionConfig condition)
     {
-        this.matcher = asTopicMatcher(condition.topics);
+        this.trie = asTopicTrie(condition.topics);
+        this.parameters = asParameters(condition.topics);
+        this.matches = new BitSet();
+        final int parametersMax = maxParameters(parameters);
+        this.parameterNames = new String[parametersMax];
+        this.parameterValues = new String[parametersMax];
         this.kind = condition.kind;
     }
 
     public boolean matches(
         String topic)
     {
-        return this.matcher == null ||
-            this.matcher.reset(topic).matches() && observeMatched();
+        final byte[] bytes = topic.getBytes(UTF_8);
+        return matches(new UnsafeBuffer(bytes), 0, bytes.length);
+    }
+
+    public boolean matches(
+        String16FW topic)
+    {
+        final DirectBuffer value = topic.value();
+        final int limit = Math.max(topic.length(), 0);
+        final int offset = kind == MqttKafkaConditionKind.SUBSCRIBE
+            ? MqttKafkaSharedSubscription.filterOffset(value, 0, limit)
+            : 0;
+        return matches(value, offset, limit);
+    }
+
+    public boolean matches(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        boolean matched = this.trie == null;
+
+        if (!matched)
+        {
+            matches.clear();
+            trie.match(buffer, offset, limit, matches);
+            matched = !matches.isEmpty();
+
+            if (matched && parameterNames.length != 0)
+            {
+                captureParameters(parameters[matches.nextSetBit(0)], buffer, offset, limit);
+            }
+        }
+
+        return matched && observeMatched();
     }
 
     public String parameter(
         String name)
     {
-        return matcher.group(name);
+        String value = null;
+        for (int index = 0; value == null && index < parameterCount; index++)
+        {
+            if (parameterNames[index].equals(name))
+            {
+                value = parameterValues[index];
+            }
+        }
+        return value;
     }
 
     public void observe(
@@ -64,73 +120,84 @@ public class MqttKafkaConditionMatcher
         return true;
     }
 
-    private static Matcher asTopicMatcher(
-        List<String> wildcards)
+    private void captureParameters(
+        String[] levels,
+        DirectBuffer buffer,
+        int offset,
+        int limit)
     {
-        StringBuilder combinedRegex = new StringBuilder();
+        parameterCount = 0;
 
-        for (String wildcard : wildcards)
+        int levelOffset = offset;
+        for (int level = 0; level < levels.length && levelOffset <= limit; level++)
         {
-            String patternBegin = wildcard.startsWith("/") ? "(" : "^(?!\\/)(";
-            String fixedPattern = patternBegin + asRegexPattern(wildcard, 0, true) + ")?\\/?\\#?";
-            String nonFixedPattern = patternBegin + asRegexPattern(wildcard, 0, false) + ")?\\/?\\#";
-            fixedPattern = fixedPattern.replaceAll("\\{([a-zA-Z_]+)\\}", "(?<$1>.+)");
-            nonFixedPattern = nonFixedPattern.replaceAll("\\{([a-zA-Z_]+)\\}", "");
+            final int levelLimit = MqttKafkaTopicTrie.levelLimit(buffer, levelOffset, limit);
 
-            combinedRegex.append(nonFixedPattern).append("|").append(fixedPattern).append("|");
-        }
+            if (levels[level] != null)
+            {
+                parameterNames[parameterCount] = levels[level];
+                parameterValues[parameterCount] = buffer.getStringWithoutLengthUtf8(levelOffset, levelLimit - levelOffset);
+                parameterCount++;
+            }
 
-        if (combinedRegex.length() > 0)
-        {
-            combinedRegex.deleteCharAt(combinedRegex.length() - 1);
+            levelOffset = levelLimit + 1;
         }
-
-        return Pattern.compile(combinedRegex.toString()).matcher("");
     }
 
-    private static String asRegexPattern(
-        String wildcard,
-        int level,
-        boolean fixedLength)
+    private static MqttKafkaTopicTrie asTopicTrie(
+        List<String> wildcards)
     {
-        if (wildcard.isEmpty())
+        MqttKafkaTopicTrie trie = null;
+
+        if (wildcards != null)
         {
-            return "";
+            trie = new MqttKafkaTopicTrie();
+
+            for (int index = 0; index < wildcards.size(); index++)
+            {
+                trie.add(wildcards.get(index), index);
+            }
         }
 
-        String[] parts = wildcard.split("/", 2);
-        String currentPart = parts[0];
-        String remainingParts = (parts.length > 1) ? parts[1] : "";
+        return trie;
+    }
 
-        String pattern;
-        if ("".equals(currentPart))
-        {
-            pattern = "\\/";
-            level--;
-        }
-        else
-        {
-            currentPart = currentPart
-                .replace(".", "\\.")
-                .replace("$", "\\$")
-                .replace("+", "[^/]*")
-                .replace("\\{[^}]+\\}", "[^/]*")
-                .replace("#", ".*");
-            pattern = (level > 0) ? "(\\/\\+|\\/" + currentPart + ")" : "(\\+|" + currentPart + ")";
-        }
+    private static String[][] asParameters(
+        List<String> wildcards)
+    {
+        final int size = wildcards != null ? wildcards.size() : 0;
+        final String[][] parameters = new String[size][];
 
-        String nextPart = asRegexPattern(remainingParts, level + 1, fixedLength);
-        if (level > 0)
+        for (int index = 0; index < size; index++)
         {
-            pattern = "(" + pattern;
+            final String[] levels = wildcards.get(index).split("/", -1);
+            parameters[index] = new String[levels.length];
+
+            for (int level = 0; level < levels.length; level++)
+            {
+                if (MqttKafkaTopicTrie.isParameter(levels[level]))
+                {
+                    parameters[index][level] = levels[level].substring(1, levels[level].length() - 1);
+                }
+            }
         }
-        pattern += nextPart;
 
-        if ("".equals(nextPart))
+        return parameters;
+    }
+
+    private static int maxParameters(
+        String[][] parameters)
+    {
+        int max = 0;
+        for (String[] levels : parameters)
         {
-            String endParentheses = fixedLength ? ")" : ")?";
-            pattern += "(\\/\\#)?" + endParentheses.repeat(Math.max(0, level));
+            int count = 0;
+            for (String level : levels)
+            {
+                count += level != null ? 1 : 0;
+            }
+            max = Math.max(max, count);
         }
-        return pattern;
+        return max;
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.agrona.DirectBuffer;
+
+public final class MqttKafkaSharedSubscription
+{
+    public static final String SHARED_SUBSCRIPTION_PREFIX = "$share/";
+
+    private static final byte[] SHARED_SUBSCRIPTION_PREFIX_BYTES = SHARED_SUBSCRIPTION_PREFIX.getBytes(UTF_8);
+    private static final byte LEVEL_SEPARATOR = '/';
+
+    public static int filterOffset(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int filterOffset = offset;
+
+        if (buffer != null && startsWithPrefix(buffer, offset, limit))
+        {
+            final int groupOffset = offset + SHARED_SUBSCRIPTION_PREFIX_BYTES.length;
+            final int groupLimit = MqttKafkaTopicTrie.levelLimit(buffer, groupOffset, limit);
+
+            if (groupLimit > groupOffset && groupLimit < limit)
+            {
+                filterOffset = groupLimit + 1;
+            }
+        }
+
+        return filterOffset;
+    }
+
+    public static boolean isShared(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        return filterOffset(buffer, offset, limit) != offset;
+    }
+
+    public static boolean groupEquals(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        DirectBuffer group)
+    {
+        final int filterOffset = filterOffset(buffer, offset, limit);
+
+        boolean equals = group == null
+            ? filterOffset == offset
+            : filterOffset != offset;
+
+        if (equals && group != null)
+        {
+            final int groupOffset = offset + SHARED_SUBSCRIPTION_PREFIX_BYTES.length;
+            final int groupLength = filterOffset - 1 - groupOffset;
+
+            equals = groupLength == group.capacity();
+            for (int index = 0; equals && index < groupLength; index++)
+            {
+                equals = buffer.getByte(groupOffset + index) == group.getByte(index);
+            }
+        }
+
+        return equals;
+    }
+
+    public static String group(
+        String filter)
+    {
+        String group = null;
+
+        if (filter != null && filter.startsWith(SHARED_SUBSCRIPTION_PREFIX))
+        {
+            final int groupLimit = filter.indexOf(LEVEL_SEPARATOR, SHARED_SUBSCRIPTION_PREFIX.length());
+            if (groupLimit > SHARED_SUBSCRIPTION_PREFIX.length())
+            {
+                group = filter.substring(SHARED_SUBSCRIPTION_PREFIX.length(), groupLimit);
+            }
+        }
+
+        return group;
+    }
+
+    public static String filter(
+        String filter)
+    {
+        final String group = group(filter);
+        return group != null
+            ? filter.substring(SHARED_SUBSCRIPTION_PREFIX.length() + group.length() + 1)
+            : filter;
+    }
+
+    private static boolean startsWithPrefix(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        boolean matches = limit - offset > SHARED_SUBSCRIPTION_PREFIX_BYTES.length;
+        for (int index = 0; matches && index < SHARED_SUBSCRIPTION_PREFIX_BYTES.length; index++)
+        {
+            matches = buffer.getByte(offset + index) == SHARED_SUBSCRIPTION_PREFIX_BYTES[index];
+        }
+        return matches;
+    }
+
+    private MqttKafkaSharedSubscription()
+    {
+    }
+}
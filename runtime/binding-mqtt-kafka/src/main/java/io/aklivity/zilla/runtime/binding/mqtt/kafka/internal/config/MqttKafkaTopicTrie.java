@@ -0,0 +1,274 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+
+import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.String16FW;
+
+public final class MqttKafkaTopicTrie
+{
+    private static final byte LEVEL_SEPARATOR = '/';
+    private static final byte SINGLE_LEVEL_WILDCARD = '+';
+    private static final byte MULTI_LEVEL_WILDCARD = '#';
+
+    private final Node root = new Node(null);
+
+    public void add(
+        String pattern,
+        int id)
+    {
+        Node node = root;
+
+        for (String level : pattern.split("/", -1))
+        {
+            node.subtree.set(id);
+
+            if ("#".equals(level))
+            {
+                node.multi.set(id);
+                node = null;
+                break;
+            }
+
+            node = isSingleLevel(level)
+                ? node.single()
+                : node.literal(level.getBytes(UTF_8));
+        }
+
+        if (node != null)
+        {
+            node.subtree.set(id);
+            node.exact.set(id);
+        }
+    }
+
+    public void addAll(
+        int id)
+    {
+        root.subtree.set(id);
+        root.multi.set(id);
+    }
+
+    public void match(
+        String16FW topic,
+        BitSet matches)
+    {
+        match(root, topic.value(), 0, Math.max(topic.length(), 0), matches);
+    }
+
+    public void match(
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        BitSet matches)
+    {
+        match(root, buffer, offset, limit, matches);
+    }
+
+    static boolean isSingleLevel(
+        String level)
+    {
+        // {param} stands in for exactly one topic level, possibly empty, like +
+        return "+".equals(level) || isParameter(level);
+    }
+
+    static boolean isParameter(
+        String level)
+    {
+        return level.length() > 2 && level.charAt(0) == '{' && level.charAt(level.length() - 1) == '}';
+    }
+
+    static int levelLimit(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int index = offset;
+        while (index < limit && buffer.getByte(index) != LEVEL_SEPARATOR)
+        {
+            index++;
+        }
+        return index;
+    }
+
+    private static void match(
+        Node node,
+        DirectBuffer buffer,
+        int offset,
+        int limit,
+        BitSet matches)
+    {
+        matches.or(node.multi);
+
+        if (offset > limit)
+        {
+            matches.or(node.exact);
+        }
+        else
+        {
+            final int levelLimit = levelLimit(buffer, offset, limit);
+            final int levelLength = levelLimit - offset;
+            final byte levelFirst = levelLength == 1 ? buffer.getByte(offset) : 0;
+            final int next = levelLimit + 1;
+
+            if (levelFirst == MULTI_LEVEL_WILDCARD && levelLimit == limit)
+            {
+                matches.or(node.subtree);
+            }
+            else if (levelFirst == SINGLE_LEVEL_WILDCARD)
+            {
+                for (Node child : node.children)
+                {
+                    match(child, buffer, next, limit, matches);
+                }
+
+                if (node.single != null)
+                {
+                    match(node.single, buffer, next, limit, matches);
+                }
+            }
+            else
+            {
+                final Node child = node.literal(buffer, offset, levelLength);
+                if (child != null)
+                {
+                    match(child, buffer, next, limit, matches);
+                }
+
+                if (node.single != null)
+                {
+                    match(node.single, buffer, next, limit, matches);
+                }
+            }
+        }
+    }
+
+    private static int hash(
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        int hash = 0;
+        for (int index = offset; index < offset + length; index++)
+        {
+            hash = 31 * hash + buffer.getByte(index);
+        }
+        return hash;
+    }
+
+    private static int hash(
+        byte[] bytes)
+    {
+        int hash = 0;
+        for (byte b : bytes)
+        {
+            hash = 31 * hash + b;
+        }
+        return hash;
+    }
+
+    private static final class Node
+    {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final byte[] level;
+        private final BitSet exact;
+        private final BitSet multi;
+        private final BitSet subtree;
+
+        private Int2ObjectHashMap<Node> literals;
+        private Node[] children;
+        private Node single;
+        private Node collision;
+
+        private Node(
+            byte[] level)
+        {
+            this.level = level;
+            this.exact = new BitSet();
+            this.multi = new BitSet();
+            this.subtree = new BitSet();
+            this.children = NO_CHILDREN;
+        }
+
+        private Node single()
+        {
+            if (single == null)
+            {
+                single = new Node(null);
+            }
+            return single;
+        }
+
+        private Node literal(
+            byte[] bytes)
+        {
+            if (literals == null)
+            {
+                literals = new Int2ObjectHashMap<>();
+            }
+
+            final int key = hash(bytes);
+            Node node = literals.get(key);
+            while (node != null && !Arrays.equals(node.level, bytes))
+            {
+                node = node.collision;
+            }
+
+            if (node == null)
+            {
+                node = new Node(bytes);
+                node.collision = literals.put(key, node);
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = node;
+            }
+
+            return node;
+        }
+
+        private Node literal(
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            Node node = literals != null ? literals.get(hash(buffer, offset, length)) : null;
+            while (node != null && !node.matches(buffer, offset, length))
+            {
+                node = node.collision;
+            }
+            return node;
+        }
+
+        private boolean matches(
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            boolean matches = level.length == length;
+            for (int index = 0; matches && index < length; index++)
+            {
+                matches = level[index] == buffer.getByte(offset + index);
+            }
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.stream;
+
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.KafkaPartitionFW;
+import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.String16FW;
+
+final class MqttKafkaPartitionsCache
+{
+    private final Object2ObjectHashMap<String16FW, Partitions> partitionsByTopic;
+    private final long ttl;
+
+    MqttKafkaPartitionsCache(
+        long ttl)
+    {
+        this.partitionsByTopic = new Object2ObjectHashMap<>();
+        this.ttl = ttl;
+    }
+
+    Array32FW<KafkaPartitionFW> get(
+        String16FW topic,
+        long now)
+    {
+        final Partitions partitions = partitionsByTopic.get(topic);
+        return partitions != null && now < partitions.expiresAt ? partitions.partitions : null;
+    }
+
+    void put(
+        String16FW topic,
+        Array32FW<KafkaPartitionFW> partitions,
+        long now)
+    {
+        if (ttl > 0L)
+        {
+            final UnsafeBuffer buffer = new UnsafeBuffer(new byte[partitions.sizeof()]);
+            buffer.putBytes(0, partitions.buffer(), partitions.offset(), partitions.sizeof());
+
+            final Array32FW<KafkaPartitionFW> copy = new Array32FW<>(new KafkaPartitionFW())
+                .wrap(buffer, 0, buffer.capacity());
+
+            partitionsByTopic.put(new String16FW(topic.asString()), new Partitions(copy, now + ttl));
+        }
+    }
+
+    private static final class Partitions
+    {
+        private final Array32FW<KafkaPartitionFW> partitions;
+        private final long expiresAt;
+
+        private Partitions(
+            Array32FW<KafkaPartitionFW> partitions,
+            long expiresAt)
+        {
+            this.partitions = partitions;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
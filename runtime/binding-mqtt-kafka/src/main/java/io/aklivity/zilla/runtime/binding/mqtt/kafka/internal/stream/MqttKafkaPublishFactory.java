@@ -204,7 +204,7 @@ public class MqttKafkaPublishFactory implements MqttKafkaStreamFactory
         final MqttKafkaBindingConfig binding = supplyBinding.apply(routedId);
 
         final MqttKafkaRouteConfig resolved = binding != null ?
-            binding.resolve(authorization, mqttPublishBeginEx.topic().asString()) : null;
+            binding.resolve(authorization, mqttPublishBeginEx.topic()) : null;
         MessageConsumer newStream = null;
 
         final int qos = mqttPublishBeginEx.qos();
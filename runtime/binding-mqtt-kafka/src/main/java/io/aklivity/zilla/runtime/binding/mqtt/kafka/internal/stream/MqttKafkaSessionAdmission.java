@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.stream;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+final class MqttKafkaSessionAdmission
+{
+    private static final int LATENCY_TOLERANCE = 2;
+
+    private final Deque<Runnable> pending;
+    private final int limitMax;
+    private final long latencyTarget;
+
+    private int limit;
+    private int inflight;
+    private long latencyMin;
+    private long decreasedAt;
+
+    MqttKafkaSessionAdmission(
+        int limitInitial,
+        int limitMax,
+        long latencyTarget)
+    {
+        this.pending = new ArrayDeque<>();
+        this.limitMax = Math.max(limitMax, 1);
+        this.limit = Math.max(Math.min(limitInitial, this.limitMax), 1);
+        this.latencyTarget = latencyTarget;
+        this.latencyMin = Long.MAX_VALUE;
+        this.decreasedAt = -latencyTarget;
+    }
+
+    void acquire(
+        Runnable admit)
+    {
+        if (inflight < limit && pending.isEmpty())
+        {
+            inflight++;
+            admit.run();
+        }
+        else
+        {
+            pending.addLast(admit);
+        }
+    }
+
+    void cancel(
+        Runnable admit)
+    {
+        pending.remove(admit);
+    }
+
+    void release()
+    {
+        inflight--;
+        admitPending();
+    }
+
+    void joined(
+        long startedAt,
+        long now)
+    {
+        final long latency = Math.max(now - startedAt, 0L);
+        latencyMin = Math.min(latencyMin, latency);
+
+        if (latency > Math.max(latencyMin * LATENCY_TOLERANCE, latencyTarget))
+        {
+            decrease(now);
+        }
+        else
+        {
+            limit = Math.min(limit + 1, limitMax);
+        }
+
+        release();
+    }
+
+    void failed(
+        long now)
+    {
+        decrease(now);
+        release();
+    }
+
+    int limit()
+    {
+        return limit;
+    }
+
+    int inflight()
+    {
+        return inflight;
+    }
+
+    int pending()
+    {
+        return pending.size();
+    }
+
+    private void decrease(
+        long now)
+    {
+        if (now - decreasedAt >= latencyTarget)
+        {
+            limit = Math.max(limit >> 1, 1);
+            decreasedAt = now;
+        }
+    }
+
+    private void admitPending()
+    {
+        while (inflight < limit && !pending.isEmpty())
+        {
+            inflight++;
+            pending.pollFirst().run();
+        }
+    }
+}
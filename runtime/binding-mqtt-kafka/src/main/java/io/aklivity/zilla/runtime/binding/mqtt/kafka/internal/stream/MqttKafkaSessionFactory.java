@@ -152,6 +152,9 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
     private static final int SIGNAL_DELIVER_WILL_MESSAGE = 1;
     private static final int SIGNAL_CONNECT_WILL_STREAM = 2;
     private static final int SIGNAL_EXPIRE_SESSION = 3;
+    private static final int GROUP_ADMISSION_QUEUED = 1;
+    private static final int GROUP_ADMISSION_JOINING = 2;
+    private static final int GROUP_ADMISSION_RELEASED = 3;
     private static final int SIZE_OF_UUID = 36;
     private static final int RETAIN_AVAILABLE_MASK = 1 << MqttServerCapabilities.RETAIN.value();
     private static final int WILDCARD_AVAILABLE_MASK = 1 << MqttServerCapabilities.WILDCARD.value();
@@ -160,7 +163,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
     private static final int REDIRECT_AVAILABLE_MASK = 1 << MqttServerCapabilities.REDIRECT.value();
     private static final byte MQTT_KAFKA_MAX_QOS = 2;
     private static final int MQTT_KAFKA_CAPABILITIES = RETAIN_AVAILABLE_MASK | WILDCARD_AVAILABLE_MASK |
-        SUBSCRIPTION_IDS_AVAILABLE_MASK;
+        SUBSCRIPTION_IDS_AVAILABLE_MASK | SHARED_SUBSCRIPTIONS_AVAILABLE_MASK;
 
     public static final String GROUPID_SESSION_SUFFIX = "session";
     public static final Int2IntHashMap MQTT_REASON_CODES;
@@ -278,6 +281,8 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
     private final Function<Long, String> supplyNamespace;
     private final Function<Long, String> supplyLocalName;
     private final MqttKafkaEventContext events;
+    private final MqttKafkaSessionAdmission admission;
+    private final MqttKafkaPartitionsCache partitionsCache;
 
     private String serverRef;
     private int reconnectAttempt;
@@ -331,6 +336,9 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
         this.supplyNamespace = context::supplyNamespace;
         this.supplyLocalName = context::supplyLocalName;
         this.events = new MqttKafkaEventContext(context);
+        this.admission = new MqttKafkaSessionAdmission(config.sessionAdmissionLimitInitial(),
+            config.sessionAdmissionLimitMax(), config.sessionAdmissionLatencyTarget());
+        this.partitionsCache = new MqttKafkaPartitionsCache(config.sessionPartitionsTtl());
     }
 
     @Override
@@ -459,6 +467,10 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
         private long producerId;
         private short producerEpoch;
 
+        private Runnable groupAdmit;
+        private int groupAdmission;
+        private long groupBeginAt;
+
         private MqttSessionProxy(
             MessageConsumer mqtt,
             long originId,
@@ -874,6 +886,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
             sessionPadding += expirySignal.sizeof();
             session.sendExpirySignal(authorization, traceId, expirySignal); // expire at expireAt
 
+            cancelGroupAdmission();
             session.doKafkaEnd(traceId, authorization);
             if (group != null)
             {
@@ -924,6 +937,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
             sessionPadding += expirySignal.sizeof();
             session.sendExpirySignal(authorization, traceId, expirySignal); // expire at expireAt
 
+            cancelGroupAdmission();
             session.doKafkaAbort(traceId, authorization);
             if (group != null)
             {
@@ -960,6 +974,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
 
             assert replyAck <= replySeq;
 
+            cancelGroupAdmission();
             session.doKafkaReset(traceId);
             if (group != null)
             {
@@ -1097,6 +1112,8 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
 
                 doAbort(mqtt, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, authorization);
             }
+
+            cancelGroupAdmission();
         }
 
         private void doMqttEnd(
@@ -1110,6 +1127,8 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
 
                 doEnd(mqtt, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, authorization);
             }
+
+            cancelGroupAdmission();
         }
 
         private void doMqttReset(
@@ -1122,6 +1141,8 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
 
                 doReset(mqtt, originId, routedId, initialId, initialSeq, initialAck, initialMax, traceId, extension);
             }
+
+            cancelGroupAdmission();
         }
 
         private void doMqttWindow(
@@ -1142,18 +1163,28 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
             long traceId,
             long authorization)
         {
-            messagesTopics.forEach(t ->
+            messagesTopics.forEach(t -> openMetaStream(traceId, authorization, t, false));
+            openMetaStream(traceId, authorization, retainedTopic, true);
+        }
+
+        private void openMetaStream(
+            long traceId,
+            long authorization,
+            String16FW topic,
+            boolean retained)
+        {
+            final Array32FW<KafkaPartitionFW> partitions = partitionsCache.get(topic, supplyTime.getAsLong());
+
+            if (partitions != null)
+            {
+                onPartitionsFetched(traceId, authorization, topic, partitions, null);
+            }
+            else
             {
-                final KafkaMetaStream meta =
-                    new KafkaMetaStream(originId, resolvedId, this, t, false);
+                final KafkaMetaStream meta = new KafkaMetaStream(originId, resolvedId, this, topic, retained);
                 metas.add(meta);
                 meta.doKafkaBegin(traceId, authorization, 0);
-            });
-
-            final KafkaMetaStream retainedMeta =
-                new KafkaMetaStream(originId, resolvedId, this, retainedTopic, true);
-            metas.add(retainedMeta);
-            retainedMeta.doKafkaBegin(traceId, authorization, 0);
+            }
         }
 
         private void onSessionBegin(
@@ -1277,6 +1308,62 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
             offsetFetches.remove(kafkaOffsetFetchStream);
         }
 
+        private void doGroupBegin(
+            long traceId,
+            long authorization)
+        {
+            groupAdmission = GROUP_ADMISSION_QUEUED;
+            groupAdmit = () -> doGroupBeginAdmitted(traceId, authorization);
+            admission.acquire(groupAdmit);
+        }
+
+        private void doGroupBeginAdmitted(
+            long traceId,
+            long authorization)
+        {
+            groupAdmission = GROUP_ADMISSION_JOINING;
+            groupBeginAt = supplyTime.getAsLong();
+
+            final long routedId = session.routedId;
+            group = new KafkaGroupStream(originId, routedId, this);
+            group.doKafkaBegin(traceId, authorization, 0);
+        }
+
+        private void onGroupAdmissionJoined()
+        {
+            if (groupAdmission == GROUP_ADMISSION_JOINING)
+            {
+                groupAdmission = GROUP_ADMISSION_RELEASED;
+                admission.joined(groupBeginAt, supplyTime.getAsLong());
+            }
+        }
+
+        private void onGroupAdmissionFailed()
+        {
+            if (groupAdmission == GROUP_ADMISSION_JOINING)
+            {
+                groupAdmission = GROUP_ADMISSION_RELEASED;
+                admission.failed(supplyTime.getAsLong());
+            }
+        }
+
+        private void cancelGroupAdmission()
+        {
+            switch (groupAdmission)
+            {
+            case GROUP_ADMISSION_QUEUED:
+                groupAdmission = GROUP_ADMISSION_RELEASED;
+                admission.cancel(groupAdmit);
+                break;
+            case GROUP_ADMISSION_JOINING:
+                groupAdmission = GROUP_ADMISSION_RELEASED;
+                admission.release();
+                break;
+            default:
+                break;
+            }
+        }
+
         private void onGroupJoined(
             String instanceId,
             String host,
@@ -3365,10 +3452,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
 
             if (!wasOpen)
             {
-                final long routedId = delegate.session.routedId;
-
-                delegate.group = new KafkaGroupStream(originId, routedId, delegate);
-                delegate.group.doKafkaBegin(traceId, authorization, 0);
+                delegate.doGroupBegin(traceId, authorization);
 
                 sendMigrateSignal(traceId, authorization);
             }
@@ -3903,6 +3987,8 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
                 kafkaFlushEx != null && kafkaFlushEx.kind() == KafkaFlushExFW.KIND_GROUP ? kafkaFlushEx.group() : null;
             final String16FW leaderId = kafkaGroupFlushEx != null ? kafkaGroupFlushEx.leaderId() : null;
             final String16FW memberId  = kafkaGroupFlushEx != null ? kafkaGroupFlushEx.memberId() : null;
+
+            delegate.onGroupAdmissionJoined();
             final int members  = kafkaGroupFlushEx != null ? kafkaGroupFlushEx.members().fieldCount() : 0;
             final int generationId  = kafkaGroupFlushEx != null ? kafkaGroupFlushEx.generationId() : 0;
 
@@ -3933,6 +4019,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
 
             assert replyAck <= replySeq;
 
+            delegate.onGroupAdmissionFailed();
             delegate.doMqttEnd(traceId, authorization);
         }
 
@@ -3952,6 +4039,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
 
             assert replyAck <= replySeq;
 
+            delegate.onGroupAdmissionFailed();
             delegate.doMqttAbort(traceId, authorization);
         }
 
@@ -3979,6 +4067,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
                     .reason(MQTT_REASONS.getOrDefault(error, DEFAULT_REASON))
                     .build();
             }
+            delegate.onGroupAdmissionFailed();
             delegate.doMqttReset(traceId, mqttResetEx);
         }
 
@@ -4199,6 +4288,7 @@ public class MqttKafkaSessionFactory implements MqttKafkaStreamFactory
 
             if (!MqttKafkaState.initialClosed(state))
             {
+                partitionsCache.put(topic, partitions, supplyTime.getAsLong());
                 delegate.onPartitionsFetched(traceId, authorization, topic, partitions, this);
                 doKafkaEnd(traceId, authorization);
             }
@@ -22,10 +22,12 @@ import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.MqttSu
 import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.Instant.now;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -50,6 +52,7 @@ import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaRouteConfig;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config.MqttKafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config.MqttKafkaHeaderHelper;
+import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config.MqttKafkaSharedSubscription;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.Array32FW;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.KafkaCapabilities;
@@ -296,6 +299,8 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         private final long replyId;
         private final Long2ObjectHashMap<KafkaMessagesProxy> messages;
         private final Long2LongHashMap messagesPerTopicKey;
+        private final Long2ObjectHashMap<KafkaMessagesProxy> resolvedMessages;
+        private final List<MqttKafkaRouteConfig> subscribeRoutes;
         private final KafkaRetainedProxy retained;
 
         private int state;
@@ -317,6 +322,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         private String16FW clientId;
         private int qos;
         private boolean retainAvailable;
+        private long sharedMessagesKey = -2L;
 
         private MqttSubscribeProxy(
             MessageConsumer mqtt,
@@ -334,13 +340,9 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             this.retainedSubscriptions = new ArrayList<>();
             this.retainAsPublished = new Long2ObjectHashMap<>();
             this.messagesPerTopicKey = new Long2LongHashMap(-1);
+            this.resolvedMessages = new Long2ObjectHashMap<>();
             this.messages = new Long2ObjectHashMap<>();
-            routes.forEach(r ->
-            {
-                KafkaMessagesProxy messagesProxy = new KafkaMessagesProxy(originId, r, this);
-                messages.put(r.order, messagesProxy);
-                messagesPerTopicKey.put(messagesProxy.topicKey, r.order);
-            });
+            this.subscribeRoutes = routes;
             final MqttKafkaRouteConfig retainedRoute = routes.get(0);
             this.retained = new KafkaRetainedProxy(originId, retainedRoute.id, retainedRoute.retained, this);
         }
@@ -420,7 +422,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             {
                 filters.forEach(filter ->
                 {
-                    final boolean sendRetained = (filter.flags() & SEND_RETAIN_FLAG) != 0;
+                    final boolean sendRetained = (filter.flags() & SEND_RETAIN_FLAG) != 0 && !isShared(filter);
                     if (sendRetained)
                     {
                         retainedFilters.add(new Subscription(
@@ -432,7 +434,58 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
             {
                 retained.doKafkaBegin(traceId, authorization, affinity, retainedFilters);
             }
-            messages.values().forEach(m -> m.doKafkaBegin(traceId, authorization, affinity, filters));
+            resolveMessages(subscribeRoutes, filters).values()
+                .forEach(m -> m.doKafkaBegin(traceId, authorization, affinity, filters));
+        }
+
+        private Long2ObjectHashMap<KafkaMessagesProxy> resolveMessages(
+            List<MqttKafkaRouteConfig> routes,
+            Array32FW<MqttTopicFilterFW> filters)
+        {
+            resolvedMessages.clear();
+
+            routes.forEach(r -> filters.forEach(f ->
+            {
+                final String16FW pattern = f.pattern();
+                if (r.matches(pattern, MqttKafkaConditionKind.SUBSCRIBE))
+                {
+                    KafkaMessagesProxy messagesProxy = isShared(pattern)
+                        ? findSharedMessages(r, pattern)
+                        : messages.get(r.order);
+
+                    if (messagesProxy == null)
+                    {
+                        final String shareGroup = MqttKafkaSharedSubscription.group(pattern.asString());
+                        final long messagesKey = shareGroup != null ? sharedMessagesKey-- : r.order;
+                        messagesProxy = new KafkaMessagesProxy(originId, r, shareGroup, messagesKey, this);
+                        messages.put(messagesKey, messagesProxy);
+                        messagesPerTopicKey.put(messagesProxy.topicKey, messagesKey);
+                    }
+                    resolvedMessages.put(messagesProxy.messagesKey, messagesProxy);
+                }
+            }));
+
+            return resolvedMessages;
+        }
+
+        private KafkaMessagesProxy findSharedMessages(
+            MqttKafkaRouteConfig route,
+            String16FW pattern)
+        {
+            KafkaMessagesProxy shared = null;
+
+            for (KafkaMessagesProxy messagesProxy : messages.values())
+            {
+                if (messagesProxy.shareGroup != null &&
+                    messagesProxy.routeConfig.order == route.order &&
+                    messagesProxy.matchesShareGroup(pattern))
+                {
+                    shared = messagesProxy;
+                    break;
+                }
+            }
+
+            return shared;
         }
 
         private void onMqttFlush(
@@ -528,21 +581,30 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         {
             if (routes != null)
             {
-                routes.forEach(r ->
+                final Long2ObjectHashMap<KafkaMessagesProxy> resolved = resolveMessages(routes, filters);
+
+                resolved.values().forEach(m ->
                 {
-                    final long routeOrder = r.order;
-                    if (!messages.containsKey(routeOrder))
+                    if (MqttKafkaState.initialOpening(m.state))
                     {
-                        KafkaMessagesProxy messagesProxy = new KafkaMessagesProxy(originId, r, this);
-                        messages.put(routeOrder, messagesProxy);
-                        messagesPerTopicKey.put(messagesProxy.topicKey, r.order);
-                        messagesProxy.doKafkaBegin(traceId, authorization, 0, filters);
+                        m.doKafkaFlush(traceId, authorization, budgetId, reserved, qos, filters);
                     }
                     else
                     {
-                        messages.get(routeOrder).doKafkaFlush(traceId, authorization, budgetId, reserved, qos, filters);
+                        m.doKafkaBegin(traceId, authorization, 0, filters);
                     }
                 });
+
+                for (Iterator<KafkaMessagesProxy> i = messages.values().iterator(); i.hasNext(); )
+                {
+                    final KafkaMessagesProxy m = i.next();
+                    if (m.shareGroup != null && !resolved.containsKey(m.messagesKey))
+                    {
+                        m.doKafkaEnd(traceId, authorization);
+                        messagesPerTopicKey.remove(m.topicKey);
+                        i.remove();
+                    }
+                }
             }
 
             if (retainAvailable)
@@ -550,7 +612,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                 final List<Subscription> retainedFilters = new ArrayList<>();
                 filters.forEach(filter ->
                 {
-                    final boolean sendRetained = (filter.flags() & SEND_RETAIN_FLAG) != 0;
+                    final boolean sendRetained = (filter.flags() & SEND_RETAIN_FLAG) != 0 && !isShared(filter);
                     if (sendRetained)
                     {
                         retainedFilters.add(new Subscription((int) filter.subscriptionId(),
@@ -1119,6 +1181,9 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
     {
         private final String16FW topic;
         private final long topicKey;
+        private final String shareGroup;
+        private final DirectBuffer shareGroupBytes;
+        private final long messagesKey;
         private MessageConsumer kafka;
         private final long originId;
         private final long routedId;
@@ -1150,12 +1215,20 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         private KafkaMessagesProxy(
             long originId,
             MqttKafkaRouteConfig route,
+            String shareGroup,
+            long messagesKey,
             MqttSubscribeProxy mqtt)
         {
             this.originId = originId;
             this.routedId = route.id;
             this.topic = route.with.resolveMessages();
-            this.topicKey = System.identityHashCode(topic.asString().intern());
+            this.shareGroup = shareGroup;
+            this.shareGroupBytes = shareGroup != null ? new UnsafeBuffer(shareGroup.getBytes(UTF_8)) : null;
+            this.messagesKey = messagesKey;
+            this.topicKey = shareGroup != null
+                ? System.identityHashCode(String.format("%s/%s%s", topic.asString(),
+                    MqttKafkaSharedSubscription.SHARED_SUBSCRIPTION_PREFIX, shareGroup).intern())
+                : System.identityHashCode(topic.asString().intern());
             this.routeConfig = route;
             this.mqtt = mqtt;
             this.initialId = supplyInitialId.applyAsLong(routedId);
@@ -1584,7 +1657,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
 
                 filters.forEach(f ->
                 {
-                    if (matchesTopicFilter(f.pattern().asString()))
+                    if (matchesTopicFilter(f.pattern()))
                     {
                         int subscriptionId = (int) f.subscriptionId();
                         if (!messagesSubscriptionIds.contains(subscriptionId))
@@ -1602,7 +1675,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                 state = MqttKafkaState.openingInitial(state);
 
                 kafka = newKafkaStream(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, authorization, affinity, mqtt.clientId, topic, filterBuilder.build(), mqtt.qos,
+                    traceId, authorization, affinity, mqtt.clientId, shareGroup, topic, filterBuilder.build(), mqtt.qos,
                     KafkaOffsetType.LIVE);
             }
         }
@@ -1673,7 +1746,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                         f.capabilities(c -> c.set(KafkaCapabilities.FETCH_ONLY));
                         filters.forEach(filter ->
                         {
-                            if (matchesTopicFilter(filter.pattern().asString()))
+                            if (matchesTopicFilter(filter.pattern()))
                             {
                                 final int subscriptionId = (int) filter.subscriptionId();
                                 if (!messagesSubscriptionIds.contains(subscriptionId))
@@ -1686,7 +1759,8 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                                 }
                                 f.filtersItem(fi ->
                                 {
-                                    fi.conditionsItem(ci -> buildHeaders(ci, filter.pattern().asString()));
+                                    fi.conditionsItem(ci -> buildHeaders(ci,
+                                        MqttKafkaSharedSubscription.filter(filter.pattern().asString())));
 
                                     final boolean noLocal = (filter.flags() & NO_LOCAL_FLAG) != 0;
                                     if (noLocal)
@@ -1851,9 +1925,17 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         }
 
         private boolean matchesTopicFilter(
-            String topicFilter)
+            String16FW topicFilter)
         {
-            return routeConfig.matches(topicFilter, MqttKafkaConditionKind.SUBSCRIBE);
+            return matchesShareGroup(topicFilter) &&
+                routeConfig.matches(topicFilter, MqttKafkaConditionKind.SUBSCRIBE);
+        }
+
+        private boolean matchesShareGroup(
+            String16FW topicFilter)
+        {
+            final int limit = Math.max(topicFilter.length(), 0);
+            return MqttKafkaSharedSubscription.groupEquals(topicFilter.value(), 0, limit, shareGroupBytes);
         }
 
         private void cleanup(
@@ -2355,7 +2437,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
 
             kafka =
                 newKafkaStream(this::onKafkaMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                    traceId, authorization, affinity, mqtt.clientId, topic, retainedFilters, mqtt.qos,
+                    traceId, authorization, affinity, mqtt.clientId, null, topic, retainedFilters, mqtt.qos,
                     KafkaOffsetType.HISTORICAL);
         }
 
@@ -2684,6 +2766,7 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         long authorization,
         long affinity,
         String16FW clientId,
+        String shareGroup,
         String16FW topic,
         Array32FW<MqttTopicFilterFW> filters,
         int qos,
@@ -2696,7 +2779,13 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                 {
                     m.capabilities(c -> c.set(KafkaCapabilities.FETCH_ONLY));
                     m.topic(topic);
-                    if (qos >= MqttQoS.AT_LEAST_ONCE.value())
+                    if (shareGroup != null)
+                    {
+                        m.groupId(String.format("%s-%s%s", groupIdPrefix, MqttKafkaSharedSubscription.SHARED_SUBSCRIPTION_PREFIX,
+                            shareGroup));
+                        m.consumerId(clientId);
+                    }
+                    else if (qos >= MqttQoS.AT_LEAST_ONCE.value())
                     {
                         m.groupId(String.format("%s-%s", groupIdPrefix, clientId.asString()));
                     }
@@ -2706,7 +2795,8 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
                     filters.forEach(filter ->
                         m.filtersItem(f ->
                         {
-                            f.conditionsItem(ci -> buildHeaders(ci, filter.pattern().asString()));
+                            f.conditionsItem(ci -> buildHeaders(ci,
+                                MqttKafkaSharedSubscription.filter(filter.pattern().asString())));
                             boolean noLocal = (filter.flags() & NO_LOCAL_FLAG) != 0;
                             if (noLocal)
                             {
@@ -2818,6 +2908,19 @@ public class MqttKafkaSubscribeFactory implements MqttKafkaStreamFactory
         return receiver;
     }
 
+    private static boolean isShared(
+        MqttTopicFilterFW filter)
+    {
+        return isShared(filter.pattern());
+    }
+
+    private static boolean isShared(
+        String16FW pattern)
+    {
+        final int limit = Math.max(pattern.length(), 0);
+        return MqttKafkaSharedSubscription.isShared(pattern.value(), 0, limit);
+    }
+
     private void buildHeaders(
         KafkaConditionFW.Builder conditionBuilder,
         String pattern)
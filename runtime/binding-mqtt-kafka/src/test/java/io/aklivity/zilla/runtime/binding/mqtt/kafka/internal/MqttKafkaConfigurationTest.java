@@ -20,7 +20,11 @@ import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaCon
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.INSTANCE_ID;
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.LIFETIME_ID;
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.PUBLISH_QOS_MAX;
+import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.SESSION_ADMISSION_LATENCY_TARGET;
+import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.SESSION_ADMISSION_LIMIT_INITIAL;
+import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.SESSION_ADMISSION_LIMIT_MAX;
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.SESSION_ID;
+import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.SESSION_PARTITIONS_TTL;
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.TIME;
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.WILL_AVAILABLE;
 import static io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.MqttKafkaConfiguration.WILL_ID;
@@ -41,6 +45,11 @@ public class MqttKafkaConfigurationTest
     public static final String WILL_ID_NAME = "zilla.binding.mqtt.kafka.will.id";
     public static final String LIFETIME_ID_NAME = "zilla.binding.mqtt.kafka.lifetime.id";
     public static final String INSTANCE_ID_NAME = "zilla.binding.mqtt.kafka.instance.id";
+    public static final String SESSION_ADMISSION_LIMIT_INITIAL_NAME = "zilla.binding.mqtt.kafka.session.admission.limit.initial";
+    public static final String SESSION_ADMISSION_LIMIT_MAX_NAME = "zilla.binding.mqtt.kafka.session.admission.limit.max";
+    public static final String SESSION_ADMISSION_LATENCY_TARGET_NAME =
+        "zilla.binding.mqtt.kafka.session.admission.latency.target";
+    public static final String SESSION_PARTITIONS_TTL_NAME = "zilla.binding.mqtt.kafka.session.partitions.ttl";
 
     @Test
     public void shouldVerifyConstants()
@@ -55,5 +64,9 @@ public class MqttKafkaConfigurationTest
         assertEquals(LIFETIME_ID.name(), LIFETIME_ID_NAME);
         assertEquals(INSTANCE_ID.name(), INSTANCE_ID_NAME);
         assertEquals(PUBLISH_QOS_MAX.name(), PUBLISH_MAX_QOS_NAME);
+        assertEquals(SESSION_ADMISSION_LIMIT_INITIAL.name(), SESSION_ADMISSION_LIMIT_INITIAL_NAME);
+        assertEquals(SESSION_ADMISSION_LIMIT_MAX.name(), SESSION_ADMISSION_LIMIT_MAX_NAME);
+        assertEquals(SESSION_ADMISSION_LATENCY_TARGET.name(), SESSION_ADMISSION_LATENCY_TARGET_NAME);
+        assertEquals(SESSION_PARTITIONS_TTL.name(), SESSION_PARTITIONS_TTL_NAME);
     }
 }
@@ -14,13 +14,18 @@
  */
 package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaConditionConfig;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaConditionKind;
+import io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.types.String16FW;
 
 public class MqttKafkaConditionMatcherTest
 {
@@ -124,4 +129,126 @@ public class MqttKafkaConditionMatcherTest
         assertFalse(matcher.matches("devices/one"));
         assertFalse(matcher.matches("/#"));
     }
+
+    @Test
+    public void shouldMatchParameterConditions()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/{sensorId}")
+            .topic("device/{deviceId}/{sensorId}/#")
+            .kind(MqttKafkaConditionKind.PUBLISH)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertTrue(matcher.matches(new String16FW("sensor/one")));
+        assertEquals("one", matcher.parameter("sensorId"));
+        assertNull(matcher.parameter("deviceId"));
+
+        assertTrue(matcher.matches(new String16FW("device/two/three/temperature")));
+        assertEquals("two", matcher.parameter("deviceId"));
+        assertEquals("three", matcher.parameter("sensorId"));
+
+        assertFalse(matcher.matches(new String16FW("sensor/one/two")));
+        assertFalse(matcher.matches(new String16FW("device/two")));
+    }
+
+    @Test
+    public void shouldMatchParameterSingleLevel()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/{sensorId}/temperature")
+            .kind(MqttKafkaConditionKind.PUBLISH)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertTrue(matcher.matches(new String16FW("sensor/one/temperature")));
+        assertEquals("one", matcher.parameter("sensorId"));
+
+        assertTrue(matcher.matches(new String16FW("sensor//temperature")));
+        assertEquals("", matcher.parameter("sensorId"));
+    }
+
+    @Test
+    public void shouldNotMatchParameterAcrossLevels()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/{sensorId}/temperature")
+            .kind(MqttKafkaConditionKind.PUBLISH)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertFalse(matcher.matches(new String16FW("sensor/one/two/temperature")));
+        assertFalse(matcher.matches(new String16FW("sensor/temperature")));
+    }
+
+    @Test
+    public void shouldMatchParameterSubscribeConditions()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/{sensorId}/temperature")
+            .kind(MqttKafkaConditionKind.SUBSCRIBE)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertTrue(matcher.matches(new String16FW("sensor/+/temperature")));
+        assertTrue(matcher.matches(new String16FW("sensor/#")));
+        assertFalse(matcher.matches(new String16FW("sensor/+/+/temperature")));
+    }
+
+    @Test
+    public void shouldMatchMultipleTopicConditions()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/+/temperature")
+            .topic("sensor/one/#")
+            .topic("/device/+")
+            .kind(MqttKafkaConditionKind.SUBSCRIBE)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertTrue(matcher.matches("sensor/two/temperature"));
+        assertTrue(matcher.matches("sensor/one"));
+        assertTrue(matcher.matches("sensor/one/humidity/max"));
+        assertTrue(matcher.matches("sensor/+/temperature"));
+        assertTrue(matcher.matches("/device/one"));
+        assertFalse(matcher.matches("sensor/two/humidity"));
+        assertFalse(matcher.matches("device/one"));
+        assertFalse(matcher.matches("/device/one/two"));
+    }
+
+    @Test
+    public void shouldMatchSharedSubscriptionConditions()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/+/temperature")
+            .kind(MqttKafkaConditionKind.SUBSCRIBE)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertTrue(matcher.matches(new String16FW("$share/group/sensor/one/temperature")));
+        assertTrue(matcher.matches(new String16FW("$share/group/sensor/#")));
+        assertFalse(matcher.matches(new String16FW("$share/group/sensor/one/humidity")));
+        assertFalse(matcher.matches(new String16FW("$share/sensor/one/temperature")));
+
+        assertEquals("group", MqttKafkaSharedSubscription.group("$share/group/sensor/one/temperature"));
+        assertEquals("sensor/#", MqttKafkaSharedSubscription.filter("$share/group/sensor/#"));
+        assertNull(MqttKafkaSharedSubscription.group("sensor/one/temperature"));
+    }
+
+    @Test
+    public void shouldMatchSharedSubscriptionGroup()
+    {
+        final UnsafeBuffer group = new UnsafeBuffer("group".getBytes(UTF_8));
+        final String16FW shared = new String16FW("$share/group/sensor/#");
+        final String16FW other = new String16FW("$share/groups/sensor/#");
+        final String16FW unshared = new String16FW("sensor/#");
+
+        assertTrue(MqttKafkaSharedSubscription.isShared(shared.value(), 0, shared.length()));
+        assertFalse(MqttKafkaSharedSubscription.isShared(unshared.value(), 0, unshared.length()));
+        assertTrue(MqttKafkaSharedSubscription.groupEquals(shared.value(), 0, shared.length(), group));
+        assertFalse(MqttKafkaSharedSubscription.groupEquals(other.value(), 0, other.length(), group));
+        assertFalse(MqttKafkaSharedSubscription.groupEquals(unshared.value(), 0, unshared.length(), group));
+        assertFalse(MqttKafkaSharedSubscription.groupEquals(shared.value(), 0, shared.length(), null));
+        assertTrue(MqttKafkaSharedSubscription.groupEquals(unshared.value(), 0, unshared.length(), null));
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.stream;
+
+import static org.junit.Assert.assertEquals;
+
+import org.agrona.collections.MutableInteger;
+import org.junit.Test;
+
+public class MqttKafkaSessionAdmissionTest
+{
+    @Test
+    public void shouldQueueSessionsBeyondLimit()
+    {
+        MqttKafkaSessionAdmission admission = new MqttKafkaSessionAdmission(2, 8, 1000L);
+        MutableInteger admitted = new MutableInteger();
+
+        admission.acquire(admitted::increment);
+        admission.acquire(admitted::increment);
+        admission.acquire(admitted::increment);
+
+        assertEquals(2, admitted.value);
+        assertEquals(2, admission.inflight());
+        assertEquals(1, admission.pending());
+
+        admission.joined(0L, 10L);
+
+        assertEquals(3, admitted.value);
+        assertEquals(3, admission.limit());
+        assertEquals(0, admission.pending());
+    }
+
+    @Test
+    public void shouldDecreaseLimitWhenJoinLatencyExceedsTarget()
+    {
+        MqttKafkaSessionAdmission admission = new MqttKafkaSessionAdmission(8, 16, 1000L);
+        MutableInteger admitted = new MutableInteger();
+
+        for (int i = 0; i < 4; i++)
+        {
+            admission.acquire(admitted::increment);
+        }
+
+        admission.joined(0L, 100L);
+        admission.joined(100L, 2100L);
+        admission.joined(100L, 2200L);
+
+        assertEquals(4, admission.limit());
+
+        admission.failed(3200L);
+
+        assertEquals(2, admission.limit());
+        assertEquals(0, admission.inflight());
+    }
+
+    @Test
+    public void shouldCancelQueuedSession()
+    {
+        MqttKafkaSessionAdmission admission = new MqttKafkaSessionAdmission(1, 1, 1000L);
+        MutableInteger admitted = new MutableInteger();
+        Runnable queued = admitted::increment;
+
+        admission.acquire(admitted::increment);
+        admission.acquire(queued);
+        admission.cancel(queued);
+        admission.release();
+
+        assertEquals(1, admitted.value);
+        assertEquals(0, admission.inflight());
+        assertEquals(0, admission.pending());
+    }
+}
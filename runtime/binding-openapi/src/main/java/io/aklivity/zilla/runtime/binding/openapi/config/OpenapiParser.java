@@ -17,8 +17,11 @@ package io.aklivity.zilla.runtime.binding.openapi.config;
 import static java.util.Collections.unmodifiableMap;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -44,17 +47,32 @@ public class OpenapiParser
 {
     private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d\\.\\d)\\.\\d+");
     private final Map<String, JsonSchema> schemas;
+    private final String schemaDigest;
 
     public OpenapiParser()
     {
+        MessageDigest digest = newDigest();
         Map<String, JsonSchema> schemas = new Object2ObjectHashMap<>();
-        schemas.put("3.0", schema("3.0.3"));
-        schemas.put("3.1", schema("3.1.0"));
+        schemas.put("3.0", schema("3.0.3", digest));
+        schemas.put("3.1", schema("3.1.0", digest));
         this.schemas = unmodifiableMap(schemas);
+        this.schemaDigest = HexFormat.of().formatHex(digest.digest());
+    }
+
+    public String schemaDigest()
+    {
+        return schemaDigest;
     }
 
     public Openapi parse(
         String openapiText)
+    {
+        return parse(openapiText, true);
+    }
+
+    public Openapi parse(
+        String openapiText,
+        boolean validate)
     {
         Openapi openapi = null;
 
@@ -62,13 +80,16 @@ public class OpenapiParser
 
         try
         {
-            String openApiVersion = detectOpenApiVersion(openapiText);
+            if (validate)
+            {
+                String openApiVersion = detectOpenApiVersion(openapiText);
 
-            JsonValidationService service = JsonValidationService.newInstance();
-            ProblemHandler handler = service.createProblemPrinter(msg -> errors.add(new ConfigException(msg)));
-            JsonSchema schema = schemas.get(openApiVersion);
+                JsonValidationService service = JsonValidationService.newInstance();
+                ProblemHandler handler = service.createProblemPrinter(msg -> errors.add(new ConfigException(msg)));
+                JsonSchema schema = schemas.get(openApiVersion);
 
-            service.createReader(new StringReader(openapiText), schema, handler).read();
+                service.createReader(new StringReader(openapiText), schema, handler).read();
+            }
 
             Jsonb jsonb = JsonbBuilder.create();
 
@@ -90,20 +111,55 @@ public class OpenapiParser
     }
 
     private JsonSchema schema(
-        String version)
+        String version,
+        MessageDigest digest)
     {
         final String schemaName = String.format("schema/openapi.%s.schema.json", version);
-        final InputStream schemaInput = OpenapiBinding.class.getResourceAsStream(schemaName);
+        final byte[] schemaBytes = readSchema(schemaName);
         final boolean detect = !version.startsWith("3.1");
+        digest.update(schemaBytes);
 
         return JsonValidationService.newInstance()
                 .createSchemaReaderFactoryBuilder()
                 .withSpecVersionDetection(detect)
                 .build()
-                .createSchemaReader(schemaInput)
+                .createSchemaReader(new ByteArrayInputStream(schemaBytes))
                 .read();
     }
 
+    private static byte[] readSchema(
+        String schemaName)
+    {
+        byte[] schemaBytes = null;
+
+        try (InputStream schemaInput = OpenapiBinding.class.getResourceAsStream(schemaName))
+        {
+            schemaBytes = schemaInput.readAllBytes();
+        }
+        catch (Exception ex)
+        {
+            rethrowUnchecked(ex);
+        }
+
+        return schemaBytes;
+    }
+
+    private static MessageDigest newDigest()
+    {
+        MessageDigest digest = null;
+
+        try
+        {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (Exception ex)
+        {
+            rethrowUnchecked(ex);
+        }
+
+        return digest;
+    }
+
     private String detectOpenApiVersion(
         String openapiText)
     {
@@ -16,6 +16,7 @@ package io.aklivity.zilla.runtime.binding.openapi.internal;
 
 import java.net.URL;
 
+import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiParserCache;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.Binding;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
@@ -25,11 +26,13 @@ public final class OpenapiBinding implements Binding
     public static final String NAME = "openapi";
 
     private final OpenapiConfiguration config;
+    private final OpenapiParserCache parsers;
 
     OpenapiBinding(
         OpenapiConfiguration config)
     {
         this.config = config;
+        this.parsers = new OpenapiParserCache(config.cacheDirectory(), config.cacheCapacity());
     }
 
     @Override
@@ -62,6 +65,6 @@ public final class OpenapiBinding implements Binding
     public OpenapiBindingContext supply(
         EngineContext context)
     {
-        return new OpenapiBindingContext(config, context);
+        return new OpenapiBindingContext(config, context, parsers);
     }
 }
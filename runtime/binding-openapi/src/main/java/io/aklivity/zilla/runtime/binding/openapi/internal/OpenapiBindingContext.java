@@ -20,6 +20,7 @@ import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
 import java.util.EnumMap;
 import java.util.Map;
 
+import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiParserCache;
 import io.aklivity.zilla.runtime.binding.openapi.internal.streams.OpenapiClientFactory;
 import io.aklivity.zilla.runtime.binding.openapi.internal.streams.OpenapiServerFactory;
 import io.aklivity.zilla.runtime.binding.openapi.internal.streams.OpenapiStreamFactory;
@@ -35,11 +36,12 @@ final class OpenapiBindingContext implements BindingContext
 
     OpenapiBindingContext(
         OpenapiConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        OpenapiParserCache parsers)
     {
         Map<KindConfig, OpenapiStreamFactory> factories = new EnumMap<>(KindConfig.class);
-        factories.put(SERVER, new OpenapiServerFactory(config, context));
-        factories.put(CLIENT, new OpenapiClientFactory(config, context));
+        factories.put(SERVER, new OpenapiServerFactory(config, context, parsers));
+        factories.put(CLIENT, new OpenapiClientFactory(config, context, parsers));
         this.factories = factories;
     }
 
@@ -14,17 +14,26 @@
  */
 package io.aklivity.zilla.runtime.binding.openapi.internal;
 
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_CACHE_DIRECTORY;
+
+import java.nio.file.Path;
+
 import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class OpenapiConfiguration extends Configuration
 {
     public static final LongPropertyDef OPENAPI_TARGET_ROUTE_ID;
+    public static final PropertyDef<Path> OPENAPI_CACHE_DIRECTORY;
+    public static final IntPropertyDef OPENAPI_CACHE_CAPACITY;
     private static final ConfigurationDef OPENAPI_CONFIG;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.openapi");
         OPENAPI_TARGET_ROUTE_ID = config.property("target.route.id", -1L);
+        OPENAPI_CACHE_DIRECTORY = config.property(Path.class, "cache.directory",
+            OpenapiConfiguration::cacheDirectory, OpenapiBinding.NAME);
+        OPENAPI_CACHE_CAPACITY = config.property("cache.capacity", 64);
         OPENAPI_CONFIG = config;
     }
 
@@ -38,4 +47,21 @@ public class OpenapiConfiguration extends Configuration
     {
         return OPENAPI_TARGET_ROUTE_ID.getAsLong(this);
     }
+
+    public Path cacheDirectory()
+    {
+        return OPENAPI_CACHE_DIRECTORY.get(this);
+    }
+
+    public int cacheCapacity()
+    {
+        return OPENAPI_CACHE_CAPACITY.getAsInt(this);
+    }
+
+    private static Path cacheDirectory(
+        Configuration config,
+        String cacheDirectory)
+    {
+        return ENGINE_CACHE_DIRECTORY.get(config).resolve(cacheDirectory);
+    }
 }
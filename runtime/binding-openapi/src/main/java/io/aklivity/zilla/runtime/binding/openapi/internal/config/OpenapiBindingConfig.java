@@ -40,7 +40,6 @@ import org.agrona.collections.Object2ObjectHashMap;
 import io.aklivity.zilla.runtime.binding.openapi.config.OpenapiCatalogConfig;
 import io.aklivity.zilla.runtime.binding.openapi.config.OpenapiConfig;
 import io.aklivity.zilla.runtime.binding.openapi.config.OpenapiOptionsConfig;
-import io.aklivity.zilla.runtime.binding.openapi.config.OpenapiParser;
 import io.aklivity.zilla.runtime.binding.openapi.config.OpenapiSchemaConfig;
 import io.aklivity.zilla.runtime.binding.openapi.internal.model.Openapi;
 import io.aklivity.zilla.runtime.binding.openapi.internal.model.OpenapiPathItem;
@@ -70,7 +69,7 @@ public final class OpenapiBindingConfig
     private final IntHashSet httpOrigins;
     private final Long2LongHashMap apiIdsByNamespaceId;
     private final HttpHeaderHelper helper;
-    private final OpenapiParser parser;
+    private final OpenapiParserCache parsers;
     private final Consumer<NamespaceConfig> attach;
     private final Consumer<NamespaceConfig> detach;
     private final Long2LongHashMap resolvedIds;
@@ -84,6 +83,7 @@ public final class OpenapiBindingConfig
         LongFunction<CatalogHandler> supplyCatalog,
         Consumer<NamespaceConfig> attachComposite,
         Consumer<NamespaceConfig> detachComposite,
+        OpenapiParserCache parsers,
         long overrideRouteId)
     {
         this.id = binding.id;
@@ -99,7 +99,7 @@ public final class OpenapiBindingConfig
         this.resolvedIds = new Long2LongHashMap(-1);
         this.apiIdsByNamespaceId = new Long2LongHashMap(-1);
         this.httpOrigins = new IntHashSet(-1);
-        this.parser = new OpenapiParser();
+        this.parsers = parsers;
         this.helper = new HttpHeaderHelper();
         this.attach = attachComposite;
         this.detach = detachComposite;
@@ -243,7 +243,7 @@ public final class OpenapiBindingConfig
                 final CatalogHandler handler = supplyCatalog.apply(catalogId);
                 final int schemaId = handler.resolve(catalog.subject, catalog.version);
                 final String payload = handler.resolve(schemaId);
-                openapiConfigs.add(new OpenapiSchemaConfig(config.apiLabel, schemaId, parser.parse(payload)));
+                openapiConfigs.add(new OpenapiSchemaConfig(config.apiLabel, schemaId, parsers.parse(payload)));
             }
         }
         return openapiConfigs;
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.openapi.internal.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.agrona.LangUtil.rethrowUnchecked;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.aklivity.zilla.runtime.binding.openapi.config.OpenapiParser;
+import io.aklivity.zilla.runtime.binding.openapi.internal.model.Openapi;
+
+public final class OpenapiParserCache
+{
+    private final Path directory;
+    private final int capacity;
+    private final Map<String, Openapi> parsed;
+
+    private OpenapiParser parser;
+
+    public OpenapiParserCache(
+        Path directory,
+        int capacity)
+    {
+        this.directory = directory;
+        this.capacity = capacity;
+        this.parsed = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public synchronized Openapi parse(
+        String openapiText)
+    {
+        final String key = digest(openapiText);
+
+        Openapi openapi = parsed.get(key);
+        if (openapi == null)
+        {
+            // validation depends on the schemas as well as the spec, so an upgraded schema is validated again
+            final Path validated = directory != null ? directory.resolve(digest(parser().schemaDigest() + openapiText)) : null;
+            final boolean validate = validated == null || !Files.exists(validated);
+
+            openapi = parser().parse(openapiText, validate);
+
+            if (validate && validated != null)
+            {
+                markValidated(validated);
+            }
+
+            if (capacity > 0)
+            {
+                parsed.put(key, openapi);
+
+                for (Iterator<Openapi> i = parsed.values().iterator(); i.hasNext() && parsed.size() > capacity; )
+                {
+                    i.next();
+                    i.remove();
+                }
+            }
+        }
+
+        return openapi;
+    }
+
+    synchronized int entries()
+    {
+        return parsed.size();
+    }
+
+    private OpenapiParser parser()
+    {
+        if (parser == null)
+        {
+            parser = new OpenapiParser();
+        }
+        return parser;
+    }
+
+    private static void markValidated(
+        Path validated)
+    {
+        try
+        {
+            Files.createDirectories(validated.getParent());
+            Files.write(validated, new byte[0]);
+        }
+        catch (IOException ex)
+        {
+            // cache is best effort, validate again next time
+        }
+    }
+
+    private static String digest(
+        String openapiText)
+    {
+        String digest = null;
+
+        try
+        {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            digest = HexFormat.of().formatHex(sha256.digest(openapiText.getBytes(UTF_8)));
+        }
+        catch (Exception ex)
+        {
+            rethrowUnchecked(ex);
+        }
+
+        return digest;
+    }
+}
@@ -28,6 +28,7 @@ import io.aklivity.zilla.runtime.binding.openapi.internal.OpenapiBinding;
 import io.aklivity.zilla.runtime.binding.openapi.internal.OpenapiConfiguration;
 import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiBindingConfig;
 import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiClientNamespaceGenerator;
+import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiParserCache;
 import io.aklivity.zilla.runtime.binding.openapi.internal.types.Flyweight;
 import io.aklivity.zilla.runtime.binding.openapi.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.openapi.internal.types.stream.AbortFW;
@@ -84,12 +85,14 @@ public final class OpenapiClientFactory implements OpenapiStreamFactory
     private final Consumer<NamespaceConfig> attachComposite;
     private final Consumer<NamespaceConfig> detachComposite;
     private final Long2ObjectHashMap<OpenapiBindingConfig> bindings;
+    private final OpenapiParserCache parsers;
     private final int openapiTypeId;
     private final int httpTypeId;
 
     public OpenapiClientFactory(
         OpenapiConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        OpenapiParserCache parsers)
     {
         this.config = config;
         this.writeBuffer = context.writeBuffer();
@@ -104,6 +107,7 @@ public final class OpenapiClientFactory implements OpenapiStreamFactory
         this.detachComposite = context::detachComposite;
         this.namespaceGenerator = new OpenapiClientNamespaceGenerator();
         this.bindings = new Long2ObjectHashMap<>();
+        this.parsers = parsers;
         this.openapiTypeId = context.supplyTypeId(OpenapiBinding.NAME);
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
     }
@@ -125,7 +129,7 @@ public final class OpenapiClientFactory implements OpenapiStreamFactory
         BindingConfig binding)
     {
         OpenapiBindingConfig openapiBinding = new OpenapiBindingConfig(binding, namespaceGenerator, supplyCatalog,
-            attachComposite, detachComposite, config.targetRouteId());
+            attachComposite, detachComposite, parsers, config.targetRouteId());
         bindings.put(binding.id, openapiBinding);
 
         openapiBinding.attach(binding);
@@ -27,6 +27,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import io.aklivity.zilla.runtime.binding.openapi.internal.OpenapiBinding;
 import io.aklivity.zilla.runtime.binding.openapi.internal.OpenapiConfiguration;
 import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiBindingConfig;
+import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiParserCache;
 import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiRouteConfig;
 import io.aklivity.zilla.runtime.binding.openapi.internal.config.OpenapiServerNamespaceGenerator;
 import io.aklivity.zilla.runtime.binding.openapi.internal.types.Flyweight;
@@ -87,12 +88,14 @@ public final class OpenapiServerFactory implements OpenapiStreamFactory
     private final Consumer<NamespaceConfig> attachComposite;
     private final Consumer<NamespaceConfig> detachComposite;
     private final Long2ObjectHashMap<OpenapiBindingConfig> bindings;
+    private final OpenapiParserCache parsers;
     private final int openapiTypeId;
     private final int httpTypeId;
 
     public OpenapiServerFactory(
         OpenapiConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        OpenapiParserCache parsers)
     {
         this.config = config;
         this.writeBuffer = context.writeBuffer();
@@ -107,6 +110,7 @@ public final class OpenapiServerFactory implements OpenapiStreamFactory
         this.detachComposite = context::detachComposite;
         this.namespaceGenerator = new OpenapiServerNamespaceGenerator();
         this.bindings = new Long2ObjectHashMap<>();
+        this.parsers = parsers;
         this.openapiTypeId = context.supplyTypeId(OpenapiBinding.NAME);
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
     }
@@ -128,7 +132,7 @@ public final class OpenapiServerFactory implements OpenapiStreamFactory
         BindingConfig binding)
     {
         OpenapiBindingConfig openapiBinding = new OpenapiBindingConfig(binding, namespaceGenerator, supplyCatalog,
-            attachComposite, detachComposite, config.targetRouteId());
+            attachComposite, detachComposite, parsers, config.targetRouteId());
         bindings.put(binding.id, openapiBinding);
 
         openapiBinding.attach(binding);
@@ -33,6 +33,7 @@ public final class OpenapiSchemaView extends OpenapiResolvable<OpenapiSchema>
     private static final String ARRAY_TYPE = "array";
 
     private final OpenapiSchema schema;
+    private final OpenapiSchema items;
     private final Map<String, OpenapiSchema> schemas;
     private final OpenapiSchema schemaRef;
 
@@ -42,19 +43,22 @@ public final class OpenapiSchemaView extends OpenapiResolvable<OpenapiSchema>
     {
         super(schemas, "#/components/schemas/(\\w+)");
         OpenapiSchema schemaRef = null;
+        OpenapiSchema items = schema.items;
         if (schema.ref != null)
         {
             schemaRef = new OpenapiSchema();
             schemaRef.ref = schema.ref;
             schema = resolveRef(schema.ref);
+            items = schema.items;
         }
-        else if (ARRAY_TYPE.equals(schema.type) && schema.items != null && schema.items.ref != null)
+        else if (ARRAY_TYPE.equals(schema.type) && items != null && items.ref != null)
         {
-            schema.items = resolveRef(schema.items.ref);
+            items = resolveRef(items.ref);
         }
         this.schemaRef = schemaRef;
         this.schemas = schemas;
         this.schema = schema;
+        this.items = items;
     }
 
     public String refKey()
@@ -73,7 +77,7 @@ public final class OpenapiSchemaView extends OpenapiResolvable<OpenapiSchema>
 
     public OpenapiSchemaView getItems()
     {
-        return schema.items == null ? null : OpenapiSchemaView.of(schemas, schema.items);
+        return items == null ? null : OpenapiSchemaView.of(schemas, items);
     }
 
     public Map<String, OpenapiItem> getProperties()
@@ -29,25 +29,25 @@ public final class OpenapiServerView
     private static final Pattern VARIABLE = Pattern.compile("\\{([^}]*.?)\\}");
     private final Matcher variable = VARIABLE.matcher("");
 
-    private final OpenapiServer server;
     private String defaultUrl;
+    private String resolvedUrl;
 
     public Matcher urlMatcher;
 
     public URI url()
     {
-        return URI.create(server.url);
+        return URI.create(resolvedUrl);
     }
 
     public int getPort()
     {
-        return URI.create(server.url).getPort();
+        return URI.create(resolvedUrl).getPort();
     }
 
     public void resolveURL(
         String url)
     {
-        server.url = (url == null || url.isEmpty()) ? defaultUrl : url;
+        this.resolvedUrl = (url == null || url.isEmpty()) ? defaultUrl : url;
     }
 
     public static OpenapiServerView of(
@@ -66,14 +66,14 @@ public final class OpenapiServerView
     private OpenapiServerView(
         OpenapiServer server)
     {
-        this.server = server;
+        this.resolvedUrl = server.url;
     }
 
     private OpenapiServerView(
         OpenapiServer server,
         Map<String, OpenapiVariable> variables)
     {
-        this.server = server;
+        this.resolvedUrl = server.url;
         Pattern urlPattern = Pattern.compile(variable.reset(Optional.ofNullable(server.url).orElse(""))
             .replaceAll(mr -> OpenapiVariableView.of(variables, server.variables.get(mr.group(1))).values().stream()
                 .collect(Collectors.joining("|", "(", ")"))));
@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.binding.openapi.internal;
 
+import static io.aklivity.zilla.runtime.binding.openapi.internal.OpenapiConfiguration.OPENAPI_CACHE_CAPACITY;
+import static io.aklivity.zilla.runtime.binding.openapi.internal.OpenapiConfiguration.OPENAPI_CACHE_DIRECTORY;
 import static io.aklivity.zilla.runtime.binding.openapi.internal.OpenapiConfiguration.OPENAPI_TARGET_ROUTE_ID;
 import static org.junit.Assert.assertEquals;
 
@@ -22,10 +24,14 @@ import org.junit.Test;
 public class OpenapiConfigurationTest
 {
     public static final String OPENAPI_TARGET_ROUTE_ID_NAME = "zilla.binding.openapi.target.route.id";
+    public static final String OPENAPI_CACHE_DIRECTORY_NAME = "zilla.binding.openapi.cache.directory";
+    public static final String OPENAPI_CACHE_CAPACITY_NAME = "zilla.binding.openapi.cache.capacity";
 
     @Test
     public void shouldVerifyConstants() throws Exception
     {
         assertEquals(OPENAPI_TARGET_ROUTE_ID.name(), OPENAPI_TARGET_ROUTE_ID_NAME);
+        assertEquals(OPENAPI_CACHE_DIRECTORY.name(), OPENAPI_CACHE_DIRECTORY_NAME);
+        assertEquals(OPENAPI_CACHE_CAPACITY.name(), OPENAPI_CACHE_CAPACITY_NAME);
     }
 }
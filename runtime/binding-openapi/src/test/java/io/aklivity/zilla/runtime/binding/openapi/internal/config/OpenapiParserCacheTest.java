@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.openapi.internal.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OpenapiParserCacheTest
+{
+    private static final String OPENAPI_TEXT = """
+        {
+          "openapi": "3.0.0",
+          "info": {
+            "title": "Test API",
+            "version": "0.1.0"
+          },
+          "paths": {}
+        }
+        """;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldRecordValidatedSpecification() throws Exception
+    {
+        Path directory = folder.getRoot().toPath().resolve("openapi");
+
+        OpenapiParserCache parsers = new OpenapiParserCache(directory, 16);
+
+        assertNotNull(parsers.parse(OPENAPI_TEXT));
+        assertNotNull(parsers.parse(OPENAPI_TEXT));
+
+        try (Stream<Path> validated = Files.list(directory))
+        {
+            assertEquals(1L, validated.count());
+        }
+
+        assertNotNull(new OpenapiParserCache(directory, 16).parse(OPENAPI_TEXT));
+    }
+
+    @Test
+    public void shouldShareParsedSpecification() throws Exception
+    {
+        OpenapiParserCache parsers = new OpenapiParserCache(null, 16);
+
+        assertSame(parsers.parse(OPENAPI_TEXT), parsers.parse(OPENAPI_TEXT));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedSpecification() throws Exception
+    {
+        OpenapiParserCache parsers = new OpenapiParserCache(null, 1);
+
+        parsers.parse(OPENAPI_TEXT);
+        parsers.parse(OPENAPI_TEXT.replace("0.1.0", "0.2.0"));
+
+        assertEquals(1, parsers.entries());
+    }
+}
@@ -21,6 +21,7 @@ public class TcpConfiguration extends Configuration
 {
     public static final IntPropertyDef TCP_WINDOW_THRESHOLD;
     public static final IntPropertyDef TCP_MAX_CONNECTIONS;
+    public static final BooleanPropertyDef TCP_ACCEPT_PER_WORKER;
 
     private static final ConfigurationDef TCP_CONFIG;
 
@@ -29,6 +30,7 @@ public class TcpConfiguration extends Configuration
         ConfigurationDef config = new ConfigurationDef("zilla.binding.tcp");
         TCP_WINDOW_THRESHOLD = config.property("window.threshold", 0);
         TCP_MAX_CONNECTIONS = config.property("max.connections", Integer.MAX_VALUE);
+        TCP_ACCEPT_PER_WORKER = config.property("accept.per.worker", false);
         TCP_CONFIG = config;
     }
 
@@ -49,4 +51,9 @@ public class TcpConfiguration extends Configuration
     {
         return TCP_MAX_CONNECTIONS.getAsInt(this);
     }
+
+    public boolean acceptPerWorker()
+    {
+        return TCP_ACCEPT_PER_WORKER.getAsBoolean(this);
+    }
 }
@@ -57,23 +57,7 @@ public final class TcpServerBindingConfig
             {
                 assert channels == null;
 
-                int size = options.ports != null ? options.ports.length : 0;
-                channels = new ServerSocketChannel[size];
-
-                for (int i = 0; i < size; i++)
-                {
-                    ServerSocketChannel channel = ServerSocketChannel.open();
-
-                    InetAddress address = InetAddress.getByName(options.host);
-                    InetSocketAddress local = new InetSocketAddress(address, options.ports[i]);
-
-                    channel.setOption(SO_REUSEADDR, true);
-                    channel.setOption(SO_REUSEPORT, true);
-                    channel.bind(local, options.backlog);
-                    channel.configureBlocking(false);
-
-                    channels[i] = channel;
-                }
+                channels = open(options);
             }
         }
         catch (IOException ex)
@@ -88,6 +72,23 @@ public final class TcpServerBindingConfig
         return channels;
     }
 
+    public ServerSocketChannel[] listen(
+        TcpOptionsConfig options)
+    {
+        ServerSocketChannel[] listeners = null;
+
+        try
+        {
+            listeners = open(options);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return listeners;
+    }
+
     public void unbind()
     {
         try
@@ -109,4 +110,28 @@ public final class TcpServerBindingConfig
             lock.unlock();
         }
     }
+
+    private static ServerSocketChannel[] open(
+        TcpOptionsConfig options) throws IOException
+    {
+        int size = options.ports != null ? options.ports.length : 0;
+        ServerSocketChannel[] opened = new ServerSocketChannel[size];
+
+        for (int i = 0; i < size; i++)
+        {
+            ServerSocketChannel channel = ServerSocketChannel.open();
+
+            InetAddress address = InetAddress.getByName(options.host);
+            InetSocketAddress local = new InetSocketAddress(address, options.ports[i]);
+
+            channel.setOption(SO_REUSEADDR, true);
+            channel.setOption(SO_REUSEPORT, true);
+            channel.bind(local, options.backlog);
+            channel.configureBlocking(false);
+
+            opened[i] = channel;
+        }
+
+        return opened;
+    }
 }
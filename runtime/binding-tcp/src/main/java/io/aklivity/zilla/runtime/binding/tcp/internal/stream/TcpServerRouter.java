@@ -25,6 +25,7 @@ import java.nio.channels.SocketChannel;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 
 import org.agrona.CloseHelper;
 import org.agrona.collections.Long2ObjectHashMap;
@@ -41,6 +42,7 @@ public final class TcpServerRouter
     private final ToIntFunction<PollerKey> acceptHandler;
     private final Function<SelectableChannel, PollerKey> supplyPollerKey;
     private final LongFunction<TcpServerBindingConfig> lookupServer;
+    private final boolean acceptPerWorker;
 
     private int remainingConnections;
     private boolean unbound;
@@ -56,6 +58,7 @@ public final class TcpServerRouter
         this.supplyPollerKey = context::supplyPollerKey;
         this.acceptHandler = acceptHandler;
         this.lookupServer = lookupServer;
+        this.acceptPerWorker = config.acceptPerWorker();
     }
 
     public void attach(
@@ -105,7 +108,7 @@ public final class TcpServerRouter
         {
             bindings.values().stream()
                 .filter(b -> b.kind == SERVER)
-                .forEach(this::unregister);
+                .forEach(this::pause);
             unbound = true;
         }
 
@@ -122,7 +125,7 @@ public final class TcpServerRouter
         {
             bindings.values().stream()
                 .filter(b -> b.kind == SERVER)
-                .forEach(this::register);
+                .forEach(this::resume);
             unbound = false;
         }
     }
@@ -131,7 +134,9 @@ public final class TcpServerRouter
         TcpBindingConfig binding)
     {
         TcpServerBindingConfig server = lookupServer.apply(binding.id);
-        ServerSocketChannel[] channels = server.bind(binding.options);
+        ServerSocketChannel[] channels = listenPerWorker(binding)
+            ? server.listen(binding.options)
+            : server.bind(binding.options);
 
         PollerKey[] acceptKeys = new PollerKey[channels.length];
         for (int i = 0; i < channels.length; i++)
@@ -149,16 +154,77 @@ public final class TcpServerRouter
     private void unregister(
         TcpBindingConfig binding)
     {
+        final boolean listenPerWorker = listenPerWorker(binding);
+
         PollerKey[] acceptKeys = binding.attach(null);
         if (acceptKeys != null)
         {
             for (PollerKey acceptKey : acceptKeys)
             {
                 acceptKey.cancel();
+
+                if (listenPerWorker)
+                {
+                    CloseHelper.quietClose(acceptKey.channel());
+                }
             }
         }
 
-        TcpServerBindingConfig server = lookupServer.apply(binding.id);
-        server.unbind();
+        if (!listenPerWorker)
+        {
+            TcpServerBindingConfig server = lookupServer.apply(binding.id);
+            server.unbind();
+        }
+    }
+
+    private void pause(
+        TcpBindingConfig binding)
+    {
+        if (listenPerWorker(binding))
+        {
+            PollerKey[] acceptKeys = binding.attached();
+
+            if (acceptKeys != null)
+            {
+                for (PollerKey acceptKey : acceptKeys)
+                {
+                    acceptKey.clear(OP_ACCEPT);
+                }
+            }
+        }
+        else
+        {
+            unregister(binding);
+        }
+    }
+
+    private void resume(
+        TcpBindingConfig binding)
+    {
+        if (listenPerWorker(binding))
+        {
+            PollerKey[] acceptKeys = binding.attached();
+
+            if (acceptKeys != null)
+            {
+                for (PollerKey acceptKey : acceptKeys)
+                {
+                    acceptKey.register(OP_ACCEPT);
+                }
+            }
+        }
+        else
+        {
+            register(binding);
+        }
+    }
+
+    private boolean listenPerWorker(
+        TcpBindingConfig binding)
+    {
+        // ephemeral port 0 would give each worker a different port, so keep the shared listener
+        return acceptPerWorker &&
+            binding.options.ports != null &&
+            IntStream.of(binding.options.ports).noneMatch(p -> p == 0);
     }
 }
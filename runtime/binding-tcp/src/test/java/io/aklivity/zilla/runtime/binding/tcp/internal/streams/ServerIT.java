@@ -16,6 +16,7 @@
 package io.aklivity.zilla.runtime.binding.tcp.internal.streams;
 
 import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfiguration.TCP_MAX_CONNECTIONS;
+import static io.aklivity.zilla.runtime.binding.tcp.internal.TcpConfigurationTest.TCP_ACCEPT_PER_WORKER_NAME;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DRAIN_ON_CLOSE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -41,6 +42,7 @@ import io.aklivity.k3po.runtime.junit.annotation.Specification;
 import io.aklivity.k3po.runtime.junit.rules.K3poRule;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class ServerIT
 {
@@ -73,6 +75,18 @@ public class ServerIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/client.and.server.sent.data.multiple.frames/server",
+        "${net}/client.and.server.sent.data.multiple.frames/client"
+    })
+    @Configure(name = TCP_ACCEPT_PER_WORKER_NAME, value = "true")
+    public void shouldSendAndReceiveDataWhenAcceptPerWorker() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("server.yaml")
     @Specification({
@@ -427,4 +441,44 @@ public class ServerIT
 
         k3po.finish();
     }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/max.connections/server"
+    })
+    @Configure(name = TCP_ACCEPT_PER_WORKER_NAME, value = "true")
+    public void shouldPauseResumeAcceptWhenAcceptPerWorker() throws Exception
+    {
+        k3po.start();
+
+        SocketChannel channel1 = SocketChannel.open();
+        channel1.connect(new InetSocketAddress("127.0.0.1", 12345));
+
+        SocketChannel channel2 = SocketChannel.open();
+        channel2.connect(new InetSocketAddress("127.0.0.1", 12345));
+
+        SocketChannel channel3 = SocketChannel.open();
+        channel3.connect(new InetSocketAddress("127.0.0.1", 12345));
+
+        k3po.awaitBarrier("CONNECTION_ACCEPTED_1");
+        k3po.awaitBarrier("CONNECTION_ACCEPTED_2");
+        k3po.awaitBarrier("CONNECTION_ACCEPTED_3");
+
+        // listener stays open while accept is paused, so connect succeeds into the backlog
+        SocketChannel channel4 = SocketChannel.open();
+        channel4.connect(new InetSocketAddress("127.0.0.1", 12345));
+
+        channel1.close();
+
+        k3po.awaitBarrier("CLOSED");
+        k3po.awaitBarrier("CONNECTION_ACCEPTED_4");
+
+        channel2.close();
+        channel3.close();
+        channel4.close();
+        Thread.sleep(500);
+
+        k3po.finish();
+    }
 }
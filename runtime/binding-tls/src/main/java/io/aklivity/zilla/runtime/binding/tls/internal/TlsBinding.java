@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.binding.tls.internal;
 
 import java.net.URL;
 
+import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsServerContexts;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.Binding;
 import io.aklivity.zilla.runtime.engine.config.KindConfig;
@@ -26,11 +27,13 @@ public final class TlsBinding implements Binding
     public static final String NAME = "tls";
 
     private final TlsConfiguration config;
+    private final TlsServerContexts contexts;
 
     TlsBinding(
         TlsConfiguration config)
     {
         this.config = config;
+        this.contexts = new TlsServerContexts();
     }
 
     @Override
@@ -63,6 +66,6 @@ public final class TlsBinding implements Binding
     public TlsBindingContext supply(
         EngineContext context)
     {
-        return new TlsBindingContext(config, context);
+        return new TlsBindingContext(config, context, contexts);
     }
 }
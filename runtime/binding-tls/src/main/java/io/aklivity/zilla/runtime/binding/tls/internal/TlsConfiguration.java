@@ -27,6 +27,13 @@ public class TlsConfiguration extends Configuration
     public static final LongPropertyDef TLS_AWAIT_SYNC_CLOSE_MILLIS;
     public static final BooleanPropertyDef TLS_PROACTIVE_CLIENT_REPLY_BEGIN;
     public static final BooleanPropertyDef TLS_VERBOSE;
+    public static final BooleanPropertyDef TLS_CLIENT_SESSION_RESUMPTION;
+    public static final IntPropertyDef TLS_CLIENT_SESSION_CACHE_SIZE;
+    public static final IntPropertyDef TLS_CLIENT_SESSION_TIMEOUT;
+    public static final BooleanPropertyDef TLS_SERVER_SESSION_SHARED;
+    public static final IntPropertyDef TLS_SERVER_SESSION_CACHE_SIZE;
+    public static final IntPropertyDef TLS_SERVER_SESSION_TIMEOUT;
+    public static final BooleanPropertyDef TLS_COALESCE_RECORDS;
 
     private static final ConfigurationDef TLS_CONFIG;
 
@@ -39,6 +46,13 @@ public class TlsConfiguration extends Configuration
         TLS_AWAIT_SYNC_CLOSE_MILLIS = config.property("await.sync.close.millis", 3000L);
         TLS_PROACTIVE_CLIENT_REPLY_BEGIN = config.property("proactive.client.reply.begin", false);
         TLS_VERBOSE = config.property("verbose", TlsConfiguration::verboseDefault);
+        TLS_CLIENT_SESSION_RESUMPTION = config.property("client.session.resumption", true);
+        TLS_CLIENT_SESSION_CACHE_SIZE = config.property("client.session.cache.size", 1024);
+        TLS_CLIENT_SESSION_TIMEOUT = config.property("client.session.timeout", 3600);
+        TLS_SERVER_SESSION_SHARED = config.property("server.session.shared", true);
+        TLS_SERVER_SESSION_CACHE_SIZE = config.property("server.session.cache.size", 20480);
+        TLS_SERVER_SESSION_TIMEOUT = config.property("server.session.timeout", 86400);
+        TLS_COALESCE_RECORDS = config.property("coalesce.records", false);
         TLS_CONFIG = config;
     }
 
@@ -78,6 +92,41 @@ public class TlsConfiguration extends Configuration
         return TLS_VERBOSE.getAsBoolean(this);
     }
 
+    public boolean clientSessionResumption()
+    {
+        return TLS_CLIENT_SESSION_RESUMPTION.getAsBoolean(this);
+    }
+
+    public int clientSessionCacheSize()
+    {
+        return TLS_CLIENT_SESSION_CACHE_SIZE.getAsInt(this);
+    }
+
+    public int clientSessionTimeout()
+    {
+        return TLS_CLIENT_SESSION_TIMEOUT.getAsInt(this);
+    }
+
+    public boolean serverSessionShared()
+    {
+        return TLS_SERVER_SESSION_SHARED.getAsBoolean(this);
+    }
+
+    public int serverSessionCacheSize()
+    {
+        return TLS_SERVER_SESSION_CACHE_SIZE.getAsInt(this);
+    }
+
+    public int serverSessionTimeout()
+    {
+        return TLS_SERVER_SESSION_TIMEOUT.getAsInt(this);
+    }
+
+    public boolean coalesceRecords()
+    {
+        return TLS_COALESCE_RECORDS.getAsBoolean(this);
+    }
+
     private static boolean verboseDefault(
         Configuration config)
     {
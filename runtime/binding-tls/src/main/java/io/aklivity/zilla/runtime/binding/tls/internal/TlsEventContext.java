@@ -17,6 +17,8 @@ package io.aklivity.zilla.runtime.binding.tls.internal;
 
 import static io.aklivity.zilla.runtime.binding.tls.internal.types.event.TlsEventType.TLS_FAILED;
 import static io.aklivity.zilla.runtime.binding.tls.internal.types.event.TlsEventType.TLS_HANDSHAKE_FAILED;
+import static io.aklivity.zilla.runtime.binding.tls.internal.types.event.TlsEventType.TLS_HANDSHAKE_FULL;
+import static io.aklivity.zilla.runtime.binding.tls.internal.types.event.TlsEventType.TLS_HANDSHAKE_RESUMED;
 import static io.aklivity.zilla.runtime.binding.tls.internal.types.event.TlsEventType.TLS_KEY_REJECTED;
 import static io.aklivity.zilla.runtime.binding.tls.internal.types.event.TlsEventType.TLS_PEER_NOT_VERIFIED;
 import static io.aklivity.zilla.runtime.binding.tls.internal.types.event.TlsEventType.TLS_PROTOCOL_REJECTED;
@@ -46,6 +48,8 @@ public class TlsEventContext
     private final int tlsKeyRejectedEventId;
     private final int tlsPeerNotVerifiedEventId;
     private final int tlsHandshakeFailedEventId;
+    private final int tlsHandshakeFullEventId;
+    private final int tlsHandshakeResumedEventId;
     private final MessageConsumer eventWriter;
     private final Clock clock;
 
@@ -58,6 +62,8 @@ public class TlsEventContext
         this.tlsKeyRejectedEventId = context.supplyEventId("binding.tls.key.rejected");
         this.tlsPeerNotVerifiedEventId = context.supplyEventId("binding.tls.peer.not.verified");
         this.tlsHandshakeFailedEventId = context.supplyEventId("binding.tls.handshake.failed");
+        this.tlsHandshakeFullEventId = context.supplyEventId("binding.tls.handshake.full");
+        this.tlsHandshakeResumedEventId = context.supplyEventId("binding.tls.handshake.resumed");
         this.eventWriter = context.supplyEventWriter();
         this.clock = context.clock();
     }
@@ -166,4 +172,46 @@ public class TlsEventContext
             .build();
         eventWriter.accept(tlsTypeId, event.buffer(), event.offset(), event.limit());
     }
+
+    public void tlsHandshakeFull(
+        long traceId,
+        long bindingId)
+    {
+        TlsEventExFW extension = tlsEventExRW
+            .wrap(extensionBuffer, 0, extensionBuffer.capacity())
+            .tlsHandshakeFull(e -> e
+                .typeId(TLS_HANDSHAKE_FULL.value())
+            )
+            .build();
+        EventFW event = eventRW
+            .wrap(eventBuffer, 0, eventBuffer.capacity())
+            .id(tlsHandshakeFullEventId)
+            .timestamp(clock.millis())
+            .traceId(traceId)
+            .namespacedId(bindingId)
+            .extension(extension.buffer(), extension.offset(), extension.limit())
+            .build();
+        eventWriter.accept(tlsTypeId, event.buffer(), event.offset(), event.limit());
+    }
+
+    public void tlsHandshakeResumed(
+        long traceId,
+        long bindingId)
+    {
+        TlsEventExFW extension = tlsEventExRW
+            .wrap(extensionBuffer, 0, extensionBuffer.capacity())
+            .tlsHandshakeResumed(e -> e
+                .typeId(TLS_HANDSHAKE_RESUMED.value())
+            )
+            .build();
+        EventFW event = eventRW
+            .wrap(eventBuffer, 0, eventBuffer.capacity())
+            .id(tlsHandshakeResumedEventId)
+            .timestamp(clock.millis())
+            .traceId(traceId)
+            .namespacedId(bindingId)
+            .extension(extension.buffer(), extension.offset(), extension.limit())
+            .build();
+        eventWriter.accept(tlsTypeId, event.buffer(), event.offset(), event.limit());
+    }
 }
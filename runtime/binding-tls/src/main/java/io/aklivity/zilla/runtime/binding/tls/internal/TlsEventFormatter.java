@@ -68,6 +68,16 @@ public final class TlsEventFormatter implements EventFormatterSpi
             result = "The client and server could not negotiate the desired level of security.";
             break;
         }
+        case TLS_HANDSHAKE_FULL:
+        {
+            result = "The client completed a full handshake with the server.";
+            break;
+        }
+        case TLS_HANDSHAKE_RESUMED:
+        {
+            result = "The client resumed a previous session with the server.";
+            break;
+        }
         }
         return result;
     }
@@ -20,6 +20,7 @@ import static io.aklivity.zilla.runtime.binding.tls.internal.types.ProxyInfoType
 import static io.aklivity.zilla.runtime.binding.tls.internal.types.ProxyInfoType.AUTHORITY;
 import static io.aklivity.zilla.runtime.binding.tls.internal.types.ProxyInfoType.SECURE;
 import static io.aklivity.zilla.runtime.binding.tls.internal.types.ProxySecureInfoType.NAME;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static javax.net.ssl.StandardConstants.SNI_HOST_NAME;
@@ -39,6 +40,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509ExtendedKeyManager;
@@ -71,6 +73,7 @@ public final class TlsBindingConfig
     public final List<TlsRouteConfig> routes;
 
     private SSLContext context;
+    private boolean resumption;
 
     public TlsBindingConfig(
         BindingConfig binding)
@@ -89,6 +92,29 @@ public final class TlsBindingConfig
         VaultHandler vault,
         SecureRandom random)
     {
+        init(config, events, vault, random, null);
+    }
+
+    public void init(
+        TlsConfiguration config,
+        TlsEventContext events,
+        VaultHandler vault,
+        SecureRandom random,
+        TlsServerContexts contexts)
+    {
+        this.context = contexts != null && kind == KindConfig.SERVER
+            ? contexts.attach(id, options, () -> newContext(config, vault, random))
+            : newContext(config, vault, random);
+        this.resumption = config.clientSessionResumption();
+    }
+
+    private SSLContext newContext(
+        TlsConfiguration config,
+        VaultHandler vault,
+        SecureRandom random)
+    {
+        SSLContext newContext = null;
+
         KeyManagerFactory keys = newKeys(config, vault, options.keys, options.signers);
         TrustManagerFactory trust = newTrust(config, vault, options.trust, options.trustcacerts && kind == KindConfig.CLIENT);
 
@@ -122,12 +148,27 @@ public final class TlsBindingConfig
             SSLContext context = SSLContext.getInstance(version);
             context.init(keyManagers, trustManagers, random);
 
-            this.context = context;
+            if (kind == KindConfig.CLIENT)
+            {
+                SSLSessionContext sessions = context.getClientSessionContext();
+                sessions.setSessionCacheSize(config.clientSessionCacheSize());
+                sessions.setSessionTimeout(config.clientSessionTimeout());
+            }
+            else if (kind == KindConfig.SERVER)
+            {
+                SSLSessionContext sessions = context.getServerSessionContext();
+                sessions.setSessionCacheSize(config.serverSessionCacheSize());
+                sessions.setSessionTimeout(config.serverSessionTimeout());
+            }
+
+            newContext = context;
         }
         catch (Exception ex)
         {
             LangUtil.rethrowUnchecked(ex);
         }
+
+        return newContext;
     }
 
     public TlsRouteConfig resolve(
@@ -184,6 +225,28 @@ public final class TlsBindingConfig
         return port;
     }
 
+    public static String resolveDestinationHost(
+        ProxyBeginExFW beginEx)
+    {
+        String host = null;
+
+        if (beginEx != null)
+        {
+            ProxyAddressFW address = beginEx.address();
+
+            switch (address.kind())
+            {
+            case INET:
+                host = address.inet().destination().asString();
+                break;
+            default:
+                break;
+            }
+        }
+
+        return host;
+    }
+
     public TlsRouteConfig resolve(
         long authorization,
         String hostname,
@@ -203,9 +266,6 @@ public final class TlsBindingConfig
 
         if (context != null)
         {
-            engine = context.createSSLEngine();
-            engine.setUseClientMode(true);
-
             List<String> sni = options.sni;
             if (beginEx != null)
             {
@@ -218,6 +278,28 @@ public final class TlsBindingConfig
                 }
             }
 
+            String commonName = null;
+            if (beginEx != null)
+            {
+                ProxyInfoFW info = beginEx.infos().matchFirst(a -> a.kind() == SECURE && a.secure().kind() == NAME);
+                if (info != null)
+                {
+                    commonName = info.secure().name().asString();
+                }
+            }
+
+            // client sessions are cached by peer host and port, so only resume when client identity is not selected per stream
+            String peerHost = sni != null && !sni.isEmpty() ? sni.get(0) : resolveDestinationHost(beginEx);
+            if (resumption && peerHost != null && commonName == null)
+            {
+                engine = context.createSSLEngine(peerHost, resolveDestinationPort(beginEx));
+            }
+            else
+            {
+                engine = context.createSSLEngine();
+            }
+            engine.setUseClientMode(true);
+
             List<String> alpn = options.alpn;
             if (alpn == null && beginEx != null)
             {
@@ -240,6 +322,11 @@ public final class TlsBindingConfig
                         .collect(toList());
                 parameters.setServerNames(serverNames);
             }
+            else
+            {
+                // peer host may be the destination host for session resumption, never send it as implicit sni
+                parameters.setServerNames(emptyList());
+            }
 
             if (alpn != null)
             {
@@ -251,18 +338,10 @@ public final class TlsBindingConfig
 
             engine.setSSLParameters(parameters);
 
-            if (beginEx != null)
+            if (commonName != null)
             {
-                ProxyInfoFW info = beginEx.infos().matchFirst(a -> a.kind() == SECURE && a.secure().kind() == NAME);
-                if (info != null)
-                {
-                    String commonName = info.secure().name().asString();
-                    if (commonName != null)
-                    {
-                        SSLSession session = engine.getSession();
-                        session.putValue(COMMON_NAME_KEY, commonName);
-                    }
-                }
+                SSLSession session = engine.getSession();
+                session.putValue(COMMON_NAME_KEY, commonName);
             }
         }
 
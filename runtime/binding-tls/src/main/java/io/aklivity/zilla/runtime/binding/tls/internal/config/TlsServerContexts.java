@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tls.internal.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.net.ssl.SSLContext;
+
+import io.aklivity.zilla.runtime.binding.tls.config.TlsOptionsConfig;
+
+public final class TlsServerContexts
+{
+    private final Map<Long, TlsServerContext> contexts;
+
+    public TlsServerContexts()
+    {
+        this.contexts = new ConcurrentHashMap<>();
+    }
+
+    public SSLContext attach(
+        long bindingId,
+        TlsOptionsConfig options,
+        Supplier<SSLContext> supplyContext)
+    {
+        return contexts.compute(bindingId, (id, c) -> attach(c, options, supplyContext)).context;
+    }
+
+    public void detach(
+        long bindingId,
+        TlsOptionsConfig options)
+    {
+        contexts.computeIfPresent(bindingId, (id, c) ->
+            c.options != options || --c.attached > 0 ? c : null);
+    }
+
+    int attached(
+        long bindingId)
+    {
+        TlsServerContext context = contexts.get(bindingId);
+        return context != null ? context.attached : 0;
+    }
+
+    private static TlsServerContext attach(
+        TlsServerContext current,
+        TlsOptionsConfig options,
+        Supplier<SSLContext> supplyContext)
+    {
+        TlsServerContext context = current != null && current.options == options
+            ? current
+            : new TlsServerContext(options, supplyContext.get());
+        context.attached++;
+        return context;
+    }
+
+    private static final class TlsServerContext
+    {
+        private final TlsOptionsConfig options;
+        private final SSLContext context;
+
+        private int attached;
+
+        private TlsServerContext(
+            TlsOptionsConfig options,
+            SSLContext context)
+        {
+            this.options = options;
+            this.context = context;
+        }
+    }
+}
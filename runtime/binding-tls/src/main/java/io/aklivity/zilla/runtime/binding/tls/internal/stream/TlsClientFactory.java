@@ -80,6 +80,7 @@ public final class TlsClientFactory implements TlsStreamFactory
     private static final int MAXIMUM_HEADER_SIZE = 5 + 20 + 256;    // TODO version + MAC + padding
     private static final int HANDSHAKE_TASK_COMPLETE_SIGNAL = 1;
     private static final int HANDSHAKE_TIMEOUT_SIGNAL = 2;
+    private static final int COALESCE_FLUSH_SIGNAL = 3;
     private static final MutableDirectBuffer EMPTY_MUTABLE_DIRECT_BUFFER = new UnsafeBuffer(new byte[0]);
 
     private static final Optional<TlsStream> NULL_STREAM = ofNullable(null);
@@ -139,6 +140,7 @@ public final class TlsClientFactory implements TlsStreamFactory
     private final int handshakeMax;
     private final long handshakeTimeoutMillis;
     private final boolean proactiveReplyBegin;
+    private final int coalesceMax;
 
     private final ByteBuffer inNetByteBuffer;
     private final MutableDirectBuffer inNetBuffer;
@@ -178,6 +180,7 @@ public final class TlsClientFactory implements TlsStreamFactory
         this.inNetBuffer = new UnsafeBuffer(inNetByteBuffer);
         this.outNetByteBuffer = ByteBuffer.allocate(writeBuffer.capacity() << 1);
         this.outNetBuffer = new UnsafeBuffer(outNetByteBuffer);
+        this.coalesceMax = config.coalesceRecords() ? Math.min(encodePool.slotCapacity(), writeBuffer.capacity()) : 0;
         this.inAppByteBuffer = ByteBuffer.allocate(writeBuffer.capacity());
         this.inAppBuffer = new UnsafeBuffer(inAppByteBuffer);
         this.outAppByteBuffer = ByteBuffer.allocate(writeBuffer.capacity());
@@ -1037,6 +1040,7 @@ public final class TlsClientFactory implements TlsStreamFactory
             }
             else
             {
+                client.doEncodeWrapCoalesced(traceId);
                 client.doNetFlush(traceId, budgetId, reserved, extension);
             }
         }
@@ -1067,7 +1071,14 @@ public final class TlsClientFactory implements TlsStreamFactory
                 final long budgetId = data.budgetId();
                 final OctetsFW payload = data.payload();
 
-                client.doEncodeWrap(traceId, budgetId, payload);
+                if (coalesceMax > 0)
+                {
+                    client.doEncodeWrapCoalescing(traceId, budgetId, payload);
+                }
+                else
+                {
+                    client.doEncodeWrap(traceId, budgetId, payload);
+                }
             }
         }
 
@@ -1330,8 +1341,13 @@ public final class TlsClientFactory implements TlsStreamFactory
 
             private int decodableRecordBytes;
 
+            private int coalesceSlot = NO_SLOT;
+            private int coalesceSlotOffset;
+            private long coalesceSlotBudgetId;
+
             private long handshakeTaskFutureId = NO_CANCEL_ID;
             private long handshakeTimeoutFutureId = NO_CANCEL_ID;
+            private long handshakeAt;
 
             private Optional<TlsStream> stream;
 
@@ -1351,7 +1367,7 @@ public final class TlsClientFactory implements TlsStreamFactory
 
             public int initialPendingAck()
             {
-                return (int)(initialSeq - initialAck) + encodeSlotOffset;
+                return (int)(initialSeq - initialAck) + encodeSlotOffset + coalesceSlotOffset;
             }
 
             private int initialWindow()
@@ -1635,6 +1651,11 @@ public final class TlsClientFactory implements TlsStreamFactory
                     final int limit = encodeSlotOffset;
 
                     encodeNet(encodeSlotTraceId, budgetId, buffer, 0, limit);
+
+                    if (encodeSlot == NO_SLOT)
+                    {
+                        doEncodeWrapCoalesced(traceId);
+                    }
                 }
 
                 doEncodeWrapIfNecessary(traceId, budgetId);
@@ -1656,6 +1677,9 @@ public final class TlsClientFactory implements TlsStreamFactory
                 case HANDSHAKE_TIMEOUT_SIGNAL:
                     onNetSignalHandshakeTimeout(signal);
                     break;
+                case COALESCE_FLUSH_SIGNAL:
+                    onNetSignalCoalesceFlush(signal);
+                    break;
                 }
             }
 
@@ -1684,6 +1708,17 @@ public final class TlsClientFactory implements TlsStreamFactory
                 decodeNet(traceId, budgetId, reserved, buffer, offset, limit);
             }
 
+            private void onNetSignalCoalesceFlush(
+                SignalFW signal)
+            {
+                final long traceId = signal.traceId();
+
+                if (encodeSlot == NO_SLOT)
+                {
+                    doEncodeWrapCoalesced(traceId);
+                }
+            }
+
             private void onNetSignalHandshakeTimeout(
                 SignalFW signal)
             {
@@ -1713,6 +1748,7 @@ public final class TlsClientFactory implements TlsStreamFactory
                 {
                     try
                     {
+                        handshakeAt = currentTimeMillis();
                         tlsEngine.beginHandshake();
                     }
                     catch (SSLProtocolException ex)
@@ -1766,19 +1802,27 @@ public final class TlsClientFactory implements TlsStreamFactory
                 int offset,
                 int limit)
             {
-                if (encodeSlot != NO_SLOT)
+                if (encodeSlot != NO_SLOT &&
+                    encodeSlotOffset + limit - offset > encodePool.slotCapacity())
                 {
-                    final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
-                    encodeBuffer.putBytes(encodeSlotOffset, buffer, offset, limit - offset);
-                    encodeSlotOffset += limit - offset;
-                    encodeSlotTraceId = traceId;
-
-                    buffer = encodeBuffer;
-                    offset = 0;
-                    limit = encodeSlotOffset;
+                    cleanupNet(traceId);
                 }
+                else
+                {
+                    if (encodeSlot != NO_SLOT)
+                    {
+                        final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
+                        encodeBuffer.putBytes(encodeSlotOffset, buffer, offset, limit - offset);
+                        encodeSlotOffset += limit - offset;
+                        encodeSlotTraceId = traceId;
 
-                encodeNet(traceId, budgetId, buffer, offset, limit);
+                        buffer = encodeBuffer;
+                        offset = 0;
+                        limit = encodeSlotOffset;
+                    }
+
+                    encodeNet(traceId, budgetId, buffer, offset, limit);
+                }
             }
 
             private void doNetEnd(
@@ -1792,6 +1836,7 @@ public final class TlsClientFactory implements TlsStreamFactory
                 }
 
                 cleanupEncodeSlot();
+                cleanupCoalesceSlot();
 
                 cancelHandshakeTask();
             }
@@ -1807,6 +1852,7 @@ public final class TlsClientFactory implements TlsStreamFactory
                 }
 
                 cleanupEncodeSlot();
+                cleanupCoalesceSlot();
 
                 cancelHandshakeTask();
             }
@@ -2041,6 +2087,15 @@ public final class TlsClientFactory implements TlsStreamFactory
                         .findFirst()
                         .orElse(null);
 
+                if (session.getCreationTime() < handshakeAt)
+                {
+                    event.tlsHandshakeResumed(traceId, client.originId);
+                }
+                else
+                {
+                    event.tlsHandshakeFull(traceId, client.originId);
+                }
+
                 TlsBindingConfig binding = bindings.get(TlsStream.this.routedId);
                 TlsRouteConfig route = binding.resolve(initialAuth, hostname, protocol, port);
 
@@ -2079,10 +2134,66 @@ public final class TlsClientFactory implements TlsStreamFactory
                 long budgetId,
                 OctetsFW payload)
             {
-                final DirectBuffer buffer = payload.buffer();
-                final int offset = payload.offset();
+                doEncodeWrap(traceId, budgetId, payload.buffer(), payload.offset(), payload.sizeof());
+            }
+
+            private void doEncodeWrapCoalescing(
+                long traceId,
+                long budgetId,
+                OctetsFW payload)
+            {
                 final int length = payload.sizeof();
 
+                if (coalesceSlot != NO_SLOT && coalesceSlotOffset + length > coalesceMax)
+                {
+                    doEncodeWrapCoalesced(traceId);
+                }
+
+                if (coalesceSlot == NO_SLOT && length < coalesceMax)
+                {
+                    coalesceSlot = encodePool.acquire(initialId);
+
+                    if (coalesceSlot != NO_SLOT)
+                    {
+                        signaler.signalNow(originId, routedId, initialId, traceId, COALESCE_FLUSH_SIGNAL, 0);
+                    }
+                }
+
+                if (coalesceSlot != NO_SLOT)
+                {
+                    final MutableDirectBuffer coalesceBuffer = encodePool.buffer(coalesceSlot);
+                    coalesceBuffer.putBytes(coalesceSlotOffset, payload.buffer(), payload.offset(), length);
+                    coalesceSlotOffset += length;
+                    coalesceSlotBudgetId = budgetId;
+                }
+                else
+                {
+                    doEncodeWrap(traceId, budgetId, payload);
+                }
+            }
+
+            private void doEncodeWrapCoalesced(
+                long traceId)
+            {
+                if (coalesceSlot != NO_SLOT)
+                {
+                    final MutableDirectBuffer coalesceBuffer = encodePool.buffer(coalesceSlot);
+                    final int coalesceLength = coalesceSlotOffset;
+
+                    coalesceSlotOffset = 0;
+                    doEncodeWrap(traceId, coalesceSlotBudgetId, coalesceBuffer, 0, coalesceLength);
+
+                    cleanupCoalesceSlot();
+                }
+            }
+
+            private void doEncodeWrap(
+                long traceId,
+                long budgetId,
+                DirectBuffer buffer,
+                int offset,
+                int length)
+            {
                 inAppByteBuffer.clear();
                 inAppBuffer.putBytes(0, buffer, offset, length);
                 inAppByteBuffer.limit(length);
@@ -2161,6 +2272,8 @@ public final class TlsClientFactory implements TlsStreamFactory
                 long traceId,
                 long budgetId)
             {
+                doEncodeWrapCoalesced(traceId);
+
                 tlsEngine.closeOutbound();
                 state = TlsState.closingInitial(state);
 
@@ -2208,6 +2321,17 @@ public final class TlsClientFactory implements TlsStreamFactory
                 }
             }
 
+            private void cleanupCoalesceSlot()
+            {
+                if (coalesceSlot != NO_SLOT)
+                {
+                    encodePool.release(coalesceSlot);
+                    coalesceSlot = NO_SLOT;
+                    coalesceSlotOffset = 0;
+                    coalesceSlotBudgetId = 0L;
+                }
+            }
+
             private void cancelHandshakeTimeout()
             {
                 if (handshakeTimeoutFutureId != NO_CANCEL_ID)
@@ -58,6 +58,7 @@ import io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration;
 import io.aklivity.zilla.runtime.binding.tls.internal.TlsEventContext;
 import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsBindingConfig;
 import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsRouteConfig;
+import io.aklivity.zilla.runtime.binding.tls.internal.config.TlsServerContexts;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.OctetsFW;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.codec.TlsRecordInfoFW;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.codec.TlsUnwrappedDataFW;
@@ -87,6 +88,7 @@ public final class TlsServerFactory implements TlsStreamFactory
     private static final int MAXIMUM_HEADER_SIZE = 5 + 20 + 256;    // TODO version + MAC + padding
     private static final int NET_SIGNAL_HANDSHAKE_TASK_COMPLETE = 1;
     private static final int NET_SIGNAL_HANDSHAKE_TIMEOUT = 2;
+    private static final int NET_SIGNAL_COALESCE_FLUSH = 3;
     private static final int APP_SIGNAL_RESET_LATER = 1;
     private static final MutableDirectBuffer EMPTY_MUTABLE_DIRECT_BUFFER = new UnsafeBuffer(new byte[0]);
 
@@ -165,10 +167,13 @@ public final class TlsServerFactory implements TlsStreamFactory
     private final DirectBuffer outAppBuffer;
 
     private final SecureRandom random;
+    private final TlsServerContexts contexts;
+    private final int coalesceMax;
 
     public TlsServerFactory(
         TlsConfiguration config,
-        EngineContext context)
+        EngineContext context,
+        TlsServerContexts contexts)
     {
         this.config = config;
         this.awaitSyncCloseMillis = config.awaitSyncCloseMillis();
@@ -200,6 +205,8 @@ public final class TlsServerFactory implements TlsStreamFactory
         this.outAppBuffer = new UnsafeBuffer(outAppByteBuffer);
 
         this.random = new SecureRandom();
+        this.contexts = config.serverSessionShared() ? contexts : null;
+        this.coalesceMax = config.coalesceRecords() ? Math.min(encodePool.slotCapacity(), writeBuffer.capacity()) : 0;
     }
 
     @Override
@@ -223,7 +230,7 @@ public final class TlsServerFactory implements TlsStreamFactory
 
         VaultHandler vault = supplyVault.apply(tlsBinding.vaultId);
 
-        tlsBinding.init(config, event, vault, random);
+        tlsBinding.init(config, event, vault, random, contexts);
 
         bindings.put(binding.id, tlsBinding);
     }
@@ -232,7 +239,12 @@ public final class TlsServerFactory implements TlsStreamFactory
     public void detach(
         long bindingId)
     {
-        bindings.remove(bindingId);
+        TlsBindingConfig tlsBinding = bindings.remove(bindingId);
+
+        if (tlsBinding != null && contexts != null)
+        {
+            contexts.detach(bindingId, tlsBinding.options);
+        }
     }
 
     @Override
@@ -1003,6 +1015,10 @@ public final class TlsServerFactory implements TlsStreamFactory
         private int encodeSlotOffset;
         private long encodeSlotTraceId;
 
+        private int coalesceSlot = NO_SLOT;
+        private int coalesceSlotOffset;
+        private long coalesceSlotBudgetId;
+
         private long initialSeq;
         private long initialAck;
 
@@ -1042,7 +1058,7 @@ public final class TlsServerFactory implements TlsStreamFactory
 
         private int replyPendingAck()
         {
-            return (int)(replySeq - replyAck) + encodeSlotOffset;
+            return (int)(replySeq - replyAck) + encodeSlotOffset + coalesceSlotOffset;
         }
 
         private int replyWindow()
@@ -1343,6 +1359,11 @@ public final class TlsServerFactory implements TlsStreamFactory
                 final int limit = encodeSlotOffset;
 
                 encodeNet(encodeSlotTraceId, budgetId, buffer, 0, limit);
+
+                if (encodeSlot == NO_SLOT)
+                {
+                    doEncodeWrapCoalesced(traceId);
+                }
             }
 
             if (encodeSlot == NO_SLOT)
@@ -1362,6 +1383,9 @@ public final class TlsServerFactory implements TlsStreamFactory
             case NET_SIGNAL_HANDSHAKE_TIMEOUT:
                 onNetSignalHandshakeTimeout(signal);
                 break;
+            case NET_SIGNAL_COALESCE_FLUSH:
+                onNetSignalCoalesceFlush(signal);
+                break;
             }
         }
 
@@ -1390,6 +1414,17 @@ public final class TlsServerFactory implements TlsStreamFactory
             decodeNet(traceId, budgetId, reserved, buffer, offset, limit);
         }
 
+        private void onNetSignalCoalesceFlush(
+            SignalFW signal)
+        {
+            final long traceId = signal.traceId();
+
+            if (encodeSlot == NO_SLOT)
+            {
+                doEncodeWrapCoalesced(traceId);
+            }
+        }
+
         private void onNetSignalHandshakeTimeout(
             SignalFW signal)
         {
@@ -1420,19 +1455,27 @@ public final class TlsServerFactory implements TlsStreamFactory
             int offset,
             int limit)
         {
-            if (encodeSlot != NO_SLOT)
+            if (encodeSlot != NO_SLOT &&
+                encodeSlotOffset + limit - offset > encodePool.slotCapacity())
             {
-                final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
-                encodeBuffer.putBytes(encodeSlotOffset, buffer, offset, limit - offset);
-                encodeSlotOffset += limit - offset;
-                encodeSlotTraceId = traceId;
-
-                buffer = encodeBuffer;
-                offset = 0;
-                limit = encodeSlotOffset;
+                cleanupNet(traceId);
             }
+            else
+            {
+                if (encodeSlot != NO_SLOT)
+                {
+                    final MutableDirectBuffer encodeBuffer = encodePool.buffer(encodeSlot);
+                    encodeBuffer.putBytes(encodeSlotOffset, buffer, offset, limit - offset);
+                    encodeSlotOffset += limit - offset;
+                    encodeSlotTraceId = traceId;
 
-            encodeNet(traceId, budgetId, buffer, offset, limit);
+                    buffer = encodeBuffer;
+                    offset = 0;
+                    limit = encodeSlotOffset;
+                }
+
+                encodeNet(traceId, budgetId, buffer, offset, limit);
+            }
         }
 
         private void doNetEnd(
@@ -1445,6 +1488,7 @@ public final class TlsServerFactory implements TlsStreamFactory
             }
 
             cleanupEncodeSlot();
+            cleanupCoalesceSlot();
 
             cancelHandshakeTask();
         }
@@ -1459,6 +1503,7 @@ public final class TlsServerFactory implements TlsStreamFactory
             }
 
             cleanupEncodeSlot();
+            cleanupCoalesceSlot();
 
             cancelHandshakeTask();
         }
@@ -1733,10 +1778,66 @@ public final class TlsServerFactory implements TlsStreamFactory
             long budgetId,
             OctetsFW payload)
         {
-            final DirectBuffer buffer = payload.buffer();
-            final int offset = payload.offset();
+            doEncodeWrap(traceId, budgetId, payload.buffer(), payload.offset(), payload.sizeof());
+        }
+
+        private void doEncodeWrapCoalescing(
+            long traceId,
+            long budgetId,
+            OctetsFW payload)
+        {
             final int length = payload.sizeof();
 
+            if (coalesceSlot != NO_SLOT && coalesceSlotOffset + length > coalesceMax)
+            {
+                doEncodeWrapCoalesced(traceId);
+            }
+
+            if (coalesceSlot == NO_SLOT && length < coalesceMax)
+            {
+                coalesceSlot = encodePool.acquire(replyId);
+
+                if (coalesceSlot != NO_SLOT)
+                {
+                    signaler.signalNow(originId, routedId, replyId, traceId, NET_SIGNAL_COALESCE_FLUSH, 0);
+                }
+            }
+
+            if (coalesceSlot != NO_SLOT)
+            {
+                final MutableDirectBuffer coalesceBuffer = encodePool.buffer(coalesceSlot);
+                coalesceBuffer.putBytes(coalesceSlotOffset, payload.buffer(), payload.offset(), length);
+                coalesceSlotOffset += length;
+                coalesceSlotBudgetId = budgetId;
+            }
+            else
+            {
+                doEncodeWrap(traceId, budgetId, payload);
+            }
+        }
+
+        private void doEncodeWrapCoalesced(
+            long traceId)
+        {
+            if (coalesceSlot != NO_SLOT)
+            {
+                final MutableDirectBuffer coalesceBuffer = encodePool.buffer(coalesceSlot);
+                final int coalesceLength = coalesceSlotOffset;
+
+                coalesceSlotOffset = 0;
+                doEncodeWrap(traceId, coalesceSlotBudgetId, coalesceBuffer, 0, coalesceLength);
+
+                cleanupCoalesceSlot();
+            }
+        }
+
+        private void doEncodeWrap(
+            long traceId,
+            long budgetId,
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
             inAppByteBuffer.clear();
             inAppBuffer.putBytes(0, buffer, offset, length);
             inAppByteBuffer.limit(length);
@@ -1813,6 +1914,8 @@ public final class TlsServerFactory implements TlsStreamFactory
             long traceId,
             long budgetId)
         {
+            doEncodeWrapCoalesced(traceId);
+
             tlsEngine.closeOutbound();
             state = TlsState.closingReply(state);
 
@@ -1860,6 +1963,17 @@ public final class TlsServerFactory implements TlsStreamFactory
             }
         }
 
+        private void cleanupCoalesceSlot()
+        {
+            if (coalesceSlot != NO_SLOT)
+            {
+                encodePool.release(coalesceSlot);
+                coalesceSlot = NO_SLOT;
+                coalesceSlotOffset = 0;
+                coalesceSlotBudgetId = 0L;
+            }
+        }
+
         private void cancelHandshakeTimeout()
         {
             if (handshakeTimeoutFutureId != NO_CANCEL_ID)
@@ -2010,7 +2124,14 @@ public final class TlsServerFactory implements TlsStreamFactory
                     final long budgetId = data.budgetId();
                     final OctetsFW payload = data.payload();
 
-                    doEncodeWrap(traceId, budgetId, payload);
+                    if (coalesceMax > 0)
+                    {
+                        doEncodeWrapCoalescing(traceId, budgetId, payload);
+                    }
+                    else
+                    {
+                        doEncodeWrap(traceId, budgetId, payload);
+                    }
                 }
             }
 
@@ -2039,6 +2160,7 @@ public final class TlsServerFactory implements TlsStreamFactory
                 }
                 else
                 {
+                    doEncodeWrapCoalesced(traceId);
                     doNetFlush(traceId, budgetId, reserved, extension);
                 }
             }
@@ -15,8 +15,15 @@
  */
 package io.aklivity.zilla.runtime.binding.tls.internal;
 
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_CLIENT_SESSION_CACHE_SIZE;
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_CLIENT_SESSION_RESUMPTION;
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_CLIENT_SESSION_TIMEOUT;
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_COALESCE_RECORDS;
 import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_HANDSHAKE_TIMEOUT;
 import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_HANDSHAKE_WINDOW_BYTES;
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_SERVER_SESSION_CACHE_SIZE;
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_SERVER_SESSION_SHARED;
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_SERVER_SESSION_TIMEOUT;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_TASK_PARALLELISM;
 import static org.junit.Assert.assertEquals;
 
@@ -26,6 +33,13 @@ public class TlsConfigurationTest
 {
     public static final String TLS_HANDSHAKE_WINDOW_BYTES_NAME = "zilla.binding.tls.handshake.window.bytes";
     public static final String TLS_HANDSHAKE_TIMEOUT_NAME = "zilla.binding.tls.handshake.timeout";
+    public static final String TLS_CLIENT_SESSION_RESUMPTION_NAME = "zilla.binding.tls.client.session.resumption";
+    public static final String TLS_CLIENT_SESSION_CACHE_SIZE_NAME = "zilla.binding.tls.client.session.cache.size";
+    public static final String TLS_CLIENT_SESSION_TIMEOUT_NAME = "zilla.binding.tls.client.session.timeout";
+    public static final String TLS_SERVER_SESSION_SHARED_NAME = "zilla.binding.tls.server.session.shared";
+    public static final String TLS_SERVER_SESSION_CACHE_SIZE_NAME = "zilla.binding.tls.server.session.cache.size";
+    public static final String TLS_SERVER_SESSION_TIMEOUT_NAME = "zilla.binding.tls.server.session.timeout";
+    public static final String TLS_COALESCE_RECORDS_NAME = "zilla.binding.tls.coalesce.records";
     public static final String ENGINE_TASK_PARALLELISM_NAME = "zilla.engine.task.parallelism";
 
     @Test
@@ -33,6 +47,13 @@ public class TlsConfigurationTest
     {
         assertEquals(TLS_HANDSHAKE_WINDOW_BYTES.name(), TLS_HANDSHAKE_WINDOW_BYTES_NAME);
         assertEquals(TLS_HANDSHAKE_TIMEOUT.name(), TLS_HANDSHAKE_TIMEOUT_NAME);
+        assertEquals(TLS_CLIENT_SESSION_RESUMPTION.name(), TLS_CLIENT_SESSION_RESUMPTION_NAME);
+        assertEquals(TLS_CLIENT_SESSION_CACHE_SIZE.name(), TLS_CLIENT_SESSION_CACHE_SIZE_NAME);
+        assertEquals(TLS_CLIENT_SESSION_TIMEOUT.name(), TLS_CLIENT_SESSION_TIMEOUT_NAME);
+        assertEquals(TLS_SERVER_SESSION_SHARED.name(), TLS_SERVER_SESSION_SHARED_NAME);
+        assertEquals(TLS_SERVER_SESSION_CACHE_SIZE.name(), TLS_SERVER_SESSION_CACHE_SIZE_NAME);
+        assertEquals(TLS_SERVER_SESSION_TIMEOUT.name(), TLS_SERVER_SESSION_TIMEOUT_NAME);
+        assertEquals(TLS_COALESCE_RECORDS.name(), TLS_COALESCE_RECORDS_NAME);
         assertEquals(ENGINE_TASK_PARALLELISM.name(), ENGINE_TASK_PARALLELISM_NAME);
     }
 }
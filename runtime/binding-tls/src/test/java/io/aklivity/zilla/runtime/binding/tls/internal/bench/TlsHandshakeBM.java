@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.binding.tls.internal.bench;
 
+import static io.aklivity.zilla.runtime.binding.tls.internal.TlsConfiguration.TLS_CLIENT_SESSION_RESUMPTION;
+import static io.aklivity.zilla.runtime.binding.tls.internal.types.ProxyAddressProtocol.STREAM;
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_CONFIG_URL;
 import static io.aklivity.zilla.runtime.engine.config.KindConfig.CLIENT;
 import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
@@ -33,6 +35,7 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -46,6 +49,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import io.aklivity.zilla.runtime.binding.tls.config.TlsOptionsConfig;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.stream.BeginFW;
+import io.aklivity.zilla.runtime.binding.tls.internal.types.stream.ProxyBeginExFW;
 import io.aklivity.zilla.runtime.binding.tls.internal.types.stream.WindowFW;
 import io.aklivity.zilla.runtime.engine.EngineConfiguration;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
@@ -65,7 +69,12 @@ public class TlsHandshakeBM
 
     private final BeginFW.Builder beginRW = new BeginFW.Builder();
     private final WindowFW.Builder windowRW = new WindowFW.Builder();
+    private final ProxyBeginExFW.Builder beginExRW = new ProxyBeginExFW.Builder();
     private final MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[BUFFER_SIZE]);
+    private final MutableDirectBuffer extBuffer = new UnsafeBuffer(new byte[BUFFER_SIZE]);
+
+    @Param({"true", "false"})
+    public boolean resumption;
 
     private BindingHandler streamFactory;
     private TlsWorker worker;
@@ -76,6 +85,7 @@ public class TlsHandshakeBM
         final Properties properties = new Properties();
         URL configURL = TlsHandshakeBM.class.getClassLoader().getResource("io/aklivity/zilla/specs/binding/tls/config");
         properties.setProperty(ENGINE_CONFIG_URL.name(), String.format("%s/zilla.yaml", configURL.toString()));
+        properties.setProperty(TLS_CLIENT_SESSION_RESUMPTION.name(), Boolean.toString(resumption));
         final EngineConfiguration config = new EngineConfiguration(properties);
         this.worker = new TlsWorker(config);
 
@@ -235,7 +245,6 @@ public class TlsHandshakeBM
                 .vault("server")
                 .options(TlsOptionsConfig.builder()
                     .trust(List.of("serverca"))
-                    .sni(List.of("localhost"))
                     .build())
                 .exit("tls_server0")
                 .build()
@@ -279,6 +288,16 @@ public class TlsHandshakeBM
         final long initialId = worker.supplyInitialId(0L);
         final long replyId = worker.supplyReplyId(initialId);
 
+        // no sni, so client sessions are resumed by destination host and port
+        final ProxyBeginExFW beginEx = beginExRW.wrap(extBuffer, 0, extBuffer.capacity())
+            .typeId(0)
+            .address(a -> a.inet(i -> i.protocol(p -> p.set(STREAM))
+                .source("127.0.0.1")
+                .destination("localhost")
+                .sourcePort(0)
+                .destinationPort(443)))
+            .build();
+
         final BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
             .originId(0L)
             .routedId(4261135416L)
@@ -289,6 +308,7 @@ public class TlsHandshakeBM
             .traceId(0L)
             .authorization(0L)
             .affinity(0L)
+            .extension(beginEx.buffer(), beginEx.offset(), beginEx.sizeof())
             .build();
 
         MessageConsumer sender = MessageConsumer.NOOP;
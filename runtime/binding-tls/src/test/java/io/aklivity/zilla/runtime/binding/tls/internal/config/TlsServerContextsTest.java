@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.tls.internal.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import javax.net.ssl.SSLContext;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.tls.config.TlsOptionsConfig;
+
+public class TlsServerContextsTest
+{
+    @Test
+    public void shouldShareContextAcrossAttachments() throws Exception
+    {
+        TlsServerContexts contexts = new TlsServerContexts();
+        TlsOptionsConfig options = TlsOptionsConfig.builder().build();
+        SSLContext context = SSLContext.getInstance("TLS");
+
+        SSLContext attached0 = contexts.attach(1L, options, () -> context);
+        SSLContext attached1 = contexts.attach(1L, options, () -> null);
+
+        assertSame(context, attached0);
+        assertSame(context, attached1);
+        assertEquals(2, contexts.attached(1L));
+    }
+
+    @Test
+    public void shouldReplaceContextWhenOptionsChange() throws Exception
+    {
+        TlsServerContexts contexts = new TlsServerContexts();
+        TlsOptionsConfig options = TlsOptionsConfig.builder().build();
+        TlsOptionsConfig changed = TlsOptionsConfig.builder().build();
+
+        SSLContext attached0 = contexts.attach(1L, options, () -> newContext());
+        SSLContext attached1 = contexts.attach(1L, changed, () -> newContext());
+        contexts.detach(1L, options);
+
+        assertNotSame(attached0, attached1);
+        assertEquals(1, contexts.attached(1L));
+    }
+
+    @Test
+    public void shouldRemoveContextWhenDetached() throws Exception
+    {
+        TlsServerContexts contexts = new TlsServerContexts();
+        TlsOptionsConfig options = TlsOptionsConfig.builder().build();
+
+        SSLContext attached0 = contexts.attach(1L, options, () -> newContext());
+        contexts.attach(1L, options, () -> newContext());
+        contexts.detach(1L, options);
+
+        assertEquals(1, contexts.attached(1L));
+
+        contexts.detach(1L, options);
+        SSLContext attached1 = contexts.attach(1L, options, () -> newContext());
+
+        assertNotSame(attached0, attached1);
+    }
+
+    private static SSLContext newContext()
+    {
+        SSLContext context = null;
+        try
+        {
+            context = SSLContext.getInstance("TLS");
+        }
+        catch (Exception ex)
+        {
+            throw new IllegalStateException(ex);
+        }
+        return context;
+    }
+}
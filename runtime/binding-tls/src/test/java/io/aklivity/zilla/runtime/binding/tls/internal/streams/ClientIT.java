@@ -191,6 +191,28 @@ public class ClientIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("client.yaml")
+    @Specification({
+        "${app}/echo.payload.length.10k/client",
+        "${net}/echo.payload.length.10k/server"})
+    @Configure(name = TlsConfigurationTest.TLS_COALESCE_RECORDS_NAME, value = "true")
+    public void shouldEchoPayloadLength10kWithCoalescedRecords() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("client.yaml")
+    @Specification({
+        "${app}/echo.payload.fragmented.length.10k/client",
+        "${net}/echo.payload.length.10k.window.4k/server"})
+    @Configure(name = TlsConfigurationTest.TLS_COALESCE_RECORDS_NAME, value = "true")
+    public void shouldEchoFragmentedPayloadWithCoalescedRecordsAndSmallWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("client.yaml")
     @Specification({
@@ -151,6 +151,28 @@ public class ServerIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/echo.payload.length.10k/client",
+        "${app}/echo.payload.length.10k/server"})
+    @Configure(name = TlsConfigurationTest.TLS_COALESCE_RECORDS_NAME, value = "true")
+    public void shouldEchoPayloadLength10kWithCoalescedRecords() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/echo.payload.length.10k.window.4k/client",
+        "${app}/echo.payload.fragmented.length.10k/server"})
+    @Configure(name = TlsConfigurationTest.TLS_COALESCE_RECORDS_NAME, value = "true")
+    public void shouldEchoFragmentedPayloadWithCoalescedRecordsAndSmallWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("server.yaml")
     @Specification({
@@ -19,11 +19,16 @@ import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class WsConfiguration extends Configuration
 {
+    public static final BooleanPropertyDef WS_DEFLATE;
+    public static final IntPropertyDef WS_DEFLATE_MEMORY_BUDGET;
+
     private static final ConfigurationDef WS_CONFIG;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.ws");
+        WS_DEFLATE = config.property("deflate", false);
+        WS_DEFLATE_MEMORY_BUDGET = config.property("deflate.memory.budget", 320 * 1024);
         WS_CONFIG = config;
     }
 
@@ -32,4 +37,14 @@ public class WsConfiguration extends Configuration
     {
         super(WS_CONFIG, config);
     }
+
+    public boolean deflate()
+    {
+        return WS_DEFLATE.getAsBoolean(this);
+    }
+
+    public int deflateMemoryBudget()
+    {
+        return WS_DEFLATE_MEMORY_BUDGET.getAsInt(this);
+    }
 }
@@ -15,10 +15,16 @@
  */
 package io.aklivity.zilla.runtime.binding.ws.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.CLIENT_NO_CONTEXT_TAKEOVER;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.NOT_ACCEPTABLE;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.NOT_NEGOTIATED;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.NO_LENGTH;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.SERVER_NO_CONTEXT_TAKEOVER;
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_NORMAL_CLOSURE;
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_PROTOCOL_ERROR;
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_UNEXPECTED_CONDITION;
 import static io.aklivity.zilla.runtime.binding.ws.internal.util.WsMaskUtil.xor;
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -34,6 +40,8 @@ import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 import java.util.function.LongUnaryOperator;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
@@ -66,6 +74,7 @@ import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WsEndExFW;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
@@ -113,6 +122,7 @@ public final class WsClientFactory implements WsStreamFactory
     private final OctetsFW.Builder payloadRW = new OctetsFW.Builder();
 
     private final OctetsFW payloadRO = new OctetsFW();
+    private final OctetsFW deflatedRO = new OctetsFW();
 
     private final HttpBeginExFW httpBeginExRO = new HttpBeginExFW();
     private final HttpBeginExFW.Builder httpBeginExRW = new HttpBeginExFW.Builder();
@@ -125,6 +135,9 @@ public final class WsClientFactory implements WsStreamFactory
 
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer extBuffer;
+    private final MutableDirectBuffer deflateBuffer;
+    private final BufferPool bufferPool;
+    private final WsPerMessageDeflate deflate;
     private final BindingHandler streamFactory;
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
@@ -140,6 +153,11 @@ public final class WsClientFactory implements WsStreamFactory
     {
         this.writeBuffer = context.writeBuffer();
         this.extBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
+        this.deflateBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
+        this.bufferPool = context.bufferPool();
+        this.deflate = config.deflate()
+            ? new WsPerMessageDeflate(context.writeBuffer().capacity(), config.deflateMemoryBudget())
+            : null;
         this.streamFactory = context.streamFactory();
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
@@ -309,6 +327,11 @@ public final class WsClientFactory implements WsStreamFactory
             assert replySeq <= replyAck + replyMax;
         }
 
+        private int replyWindow()
+        {
+            return replyMax - (int)(replySeq - replyAck) - replyPad;
+        }
+
         private void doAppEnd(
             long traceId,
             long authorization,
@@ -647,6 +670,7 @@ public final class WsClientFactory implements WsStreamFactory
 
             assert replyAck <= replySeq;
 
+            client.decodeNetDeferred(traceId, authorization);
             client.doNetWindow(traceId, authorization, budgetId, (int)(replySeq - replyAck), replyPad);
         }
 
@@ -700,6 +724,21 @@ public final class WsClientFactory implements WsStreamFactory
             private final String path;
             private final String key;
             private final String protocol;
+            private final int deflateOffer;
+
+            private int deflateParams = NOT_NEGOTIATED;
+            private Deflater deflater;
+            private Inflater inflater;
+            private boolean inflating;
+            private boolean inflateFin;
+            private boolean inflateStalled;
+            private int inflateFlags;
+
+            private int decodeSlot = NO_SLOT;
+            private int decodeSlotOffset;
+            private boolean decodeEndDeferred;
+            private boolean decoding;
+            private boolean replyClosed;
 
             private long initialBudgetId;
             private long initialSeq;
@@ -740,6 +779,7 @@ public final class WsClientFactory implements WsStreamFactory
                 this.path = path;
                 this.key = newSecWebsocketKey();
                 this.protocol = protocol;
+                this.deflateOffer = deflate != null ? deflate.offer() : NOT_NEGOTIATED;
                 this.initialId = supplyInitialId.applyAsLong(routedId);
                 this.replyId =  supplyReplyId.applyAsLong(initialId);
                 this.header = new UnsafeBuffer(new byte[MAXIMUM_HEADER_SIZE]);
@@ -752,7 +792,7 @@ public final class WsClientFactory implements WsStreamFactory
                 long affinity)
             {
                 network = doHttpBegin(this::onNetMessage, originId, routedId, initialId, initialSeq, initialAck, initialMax,
-                        traceId, authorization, affinity, setHttpHeaders(scheme, authority, path, key, protocol));
+                        traceId, authorization, affinity, setHttpHeaders(scheme, authority, path, key, protocol, deflateOffer));
             }
 
             private void doNetData(
@@ -763,12 +803,39 @@ public final class WsClientFactory implements WsStreamFactory
                 OctetsFW payload,
                 int flags)
             {
-                final int payloadSize = payload.sizeof();
+                OctetsFW frame = payload;
+                int flagsAndOpcode = flags;
+
+                if (deflateParams != NOT_NEGOTIATED && (flags == 0x81 || flags == 0x82))
+                {
+                    if (deflater == null)
+                    {
+                        deflater = deflate.acquireDeflater();
+                    }
+
+                    final int deflated = deflate.deflate(deflater, payload.buffer(), payload.offset(), payload.sizeof(),
+                        deflateBuffer, 0);
+
+                    if ((deflateParams & CLIENT_NO_CONTEXT_TAKEOVER) != 0)
+                    {
+                        deflate.releaseDeflater(deflater);
+                        deflater = null;
+                    }
+
+                    if (deflated != NO_LENGTH)
+                    {
+                        frame = deflatedRO.wrap(deflateBuffer, 0, deflated);
+                        flagsAndOpcode |= 0x40;
+                    }
+                }
+
+                final OctetsFW framePayload = frame;
+                final int payloadSize = framePayload.sizeof();
                 final int maskingKey = ThreadLocalRandom.current().nextInt();
 
                 WsHeaderFW wsHeader = wsHeaderRW.wrap(writeBuffer, DataFW.FIELD_OFFSET_PAYLOAD, writeBuffer.capacity())
                                                 .length(payloadSize)
-                                                .flagsAndOpcode(flags)
+                                                .flagsAndOpcode(flagsAndOpcode)
                                                 .maskingKey(maskingKey)
                                                 .build();
 
@@ -788,7 +855,7 @@ public final class WsClientFactory implements WsStreamFactory
                         .budgetId(budgetId)
                         .reserved(reserved)
                         .payload(p -> p.set((b, o, m) -> wsHeaderSize)
-                                       .put(payload.buffer(), payload.offset(), payloadSize)
+                                       .put(framePayload.buffer(), framePayload.offset(), payloadSize)
                                        .set((b, o, l) -> wsHeaderSize +
                                                xor(b, o + wsHeaderSize, o + wsHeaderSize + payloadSize, maskingKey)))
                         .build();
@@ -815,6 +882,8 @@ public final class WsClientFactory implements WsStreamFactory
                         .build();
 
                 network.accept(end.typeId(), end.buffer(), end.offset(), end.sizeof());
+
+                cleanupEncode();
             }
 
             private void doNetAbort(
@@ -833,6 +902,8 @@ public final class WsClientFactory implements WsStreamFactory
                         .build();
 
                 network.accept(abort.typeId(), abort.buffer(), abort.offset(), abort.sizeof());
+
+                cleanupEncode();
             }
 
             private void doNetFlush(
@@ -873,6 +944,9 @@ public final class WsClientFactory implements WsStreamFactory
                         .build();
 
                 network.accept(reset.typeId(), reset.buffer(), reset.offset(), reset.sizeof());
+
+                replyClosed = true;
+                cleanupDecode();
             }
 
             private void doNetChallenge(
@@ -902,11 +976,15 @@ public final class WsClientFactory implements WsStreamFactory
                 int pendingAck,
                 int paddingMin)
             {
-                long replyAckMax = Math.max(replySeq - pendingAck, replyAck);
-                if (replyAckMax > replyAck || WsStream.this.replyMax > replyMax)
+                final int maximum = deflateParams != NOT_NEGOTIATED
+                    ? Math.min(WsStream.this.replyMax, bufferPool.slotCapacity())
+                    : WsStream.this.replyMax;
+
+                long replyAckMax = Math.max(replySeq - pendingAck - decodeSlotOffset, replyAck);
+                if (replyAckMax > replyAck || maximum > replyMax)
                 {
                     replyAck = replyAckMax;
-                    replyMax = WsStream.this.replyMax;
+                    replyMax = maximum;
                     assert replyAck <= replySeq;
 
                     final WindowFW window = windowRW.wrap(writeBuffer, 0, writeBuffer.capacity())
@@ -1011,8 +1089,14 @@ public final class WsClientFactory implements WsStreamFactory
                     final String upgrade = headers.get("upgrade");
                     final String hash = headers.get("sec-websocket-accept");
                     final String protocol = headers.get("sec-websocket-protocol");
+                    final String extensions = headers.get("sec-websocket-extensions");
                     // TODO: need lightweight approach (end)
 
+                    if (deflate != null)
+                    {
+                        deflateParams = deflate.accept(extensions, deflateOffer);
+                    }
+
                     if (WEBSOCKET_STATUS.equals(status) &&
                         WEBSOCKET_UPGRADE.equals(upgrade) &&
                         Objects.equals(this.protocol, protocol))
@@ -1023,7 +1107,7 @@ public final class WsClientFactory implements WsStreamFactory
                         final Encoder encoder = Base64.getEncoder();
                         final String handshakeHash = new String(encoder.encode(digest), US_ASCII);
 
-                        handshakeHashOK = handshakeHash.equals(hash);
+                        handshakeHashOK = handshakeHash.equals(hash) && deflateParams != NOT_ACCEPTABLE;
                     }
                 }
 
@@ -1059,28 +1143,132 @@ public final class WsClientFactory implements WsStreamFactory
                 }
                 else
                 {
-                    decodeTraceId = traceId;
-                    decodeAuthorization = authorization;
-
                     final OctetsFW payload = data.payload();
-                    final DirectBuffer buffer = payload.buffer();
 
+                    DirectBuffer buffer = payload.buffer();
                     int offset = payload.offset();
-                    int length = payload.sizeof();
-                    while (length > 0)
+                    int limit = payload.limit();
+
+                    if (decodeSlot != NO_SLOT)
+                    {
+                        final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+                        slot.putBytes(decodeSlotOffset, buffer, offset, limit - offset);
+                        decodeSlotOffset += limit - offset;
+
+                        buffer = slot;
+                        offset = 0;
+                        limit = decodeSlotOffset;
+                    }
+
+                    decodeNet(traceId, authorization, buffer, offset, limit);
+                }
+            }
+
+            private void decodeNet(
+                long traceId,
+                long authorization,
+                DirectBuffer buffer,
+                int offset,
+                int limit)
+            {
+                decodeTraceId = traceId;
+                decodeAuthorization = authorization;
+                decoding = true;
+                inflateStalled = false;
+
+                int progress = offset;
+                while (progress < limit && !inflateStalled && !replyClosed)
+                {
+                    progress += decodeState.decode(buffer, progress, limit - progress);
+                }
+
+                // Since we have two decoding states for a frame, the following is
+                // needed to handle empty close, empty ping etc. Otherwise, it will be
+                // delayed until next handleData() (which may not come for e.g empty close frame)
+                if (!replyClosed && (payloadLength == 0 || inflating && !inflateStalled))
+                {
+                    decodeState.decode(buffer, 0, 0);
+                }
+
+                if (progress < limit && !replyClosed)
+                {
+                    if (decodeSlot == NO_SLOT)
+                    {
+                        decodeSlot = bufferPool.acquire(replyId);
+                    }
+
+                    if (decodeSlot == NO_SLOT)
+                    {
+                        doNetReset(traceId, authorization);
+                        doAppAbort(traceId, authorization, STATUS_UNEXPECTED_CONDITION);
+                    }
+                    else
                     {
-                        int consumed = decodeState.decode(buffer, offset, length);
-                        offset += consumed;
-                        length -= consumed;
+                        final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+                        slot.putBytes(0, buffer, progress, limit - progress);
+                        decodeSlotOffset = limit - progress;
                     }
+                }
+                else
+                {
+                    cleanupDecodeSlot();
+                }
+
+                decoding = false;
+
+                if (decodeEndDeferred && !inflateStalled && decodeSlot == NO_SLOT)
+                {
+                    decodeEndDeferred = false;
+                    doAppEnd(traceId, authorization, STATUS_PROTOCOL_ERROR);
+                    cleanupDecode();
+                }
+            }
 
-                    // Since we have two decoding states for a frame, the following is
-                    // needed to handle empty close, empty ping etc. Otherwise, it will be
-                    // delayed until next handleData() (which may not come for e.g empty close frame)
-                    if (payloadLength == 0)
+            private void decodeNetDeferred(
+                long traceId,
+                long authorization)
+            {
+                if (inflateStalled && !decoding)
+                {
+                    if (decodeSlot != NO_SLOT)
                     {
-                        decodeState.decode(buffer, 0, 0);
+                        decodeNet(traceId, authorization, bufferPool.buffer(decodeSlot), 0, decodeSlotOffset);
                     }
+                    else
+                    {
+                        decodeNet(traceId, authorization, deflateBuffer, 0, 0);
+                    }
+                }
+            }
+
+            private void cleanupDecodeSlot()
+            {
+                if (decodeSlot != NO_SLOT)
+                {
+                    bufferPool.release(decodeSlot);
+                    decodeSlot = NO_SLOT;
+                    decodeSlotOffset = 0;
+                }
+            }
+
+            private void cleanupDecode()
+            {
+                cleanupDecodeSlot();
+                inflateStalled = false;
+
+                if (inflater != null)
+                {
+                    deflate.releaseInflater(inflater);
+                    inflater = null;
+                }
+            }
+
+            private void cleanupEncode()
+            {
+                if (deflater != null)
+                {
+                    deflate.releaseDeflater(deflater);
+                    deflater = null;
                 }
             }
 
@@ -1117,7 +1305,15 @@ public final class WsClientFactory implements WsStreamFactory
 
                 assert replyAck <= replySeq;
 
-                doAppEnd(traceId, authorization, STATUS_PROTOCOL_ERROR);
+                if (decodeSlot != NO_SLOT || inflateStalled)
+                {
+                    decodeEndDeferred = true;
+                }
+                else
+                {
+                    doAppEnd(traceId, authorization, STATUS_PROTOCOL_ERROR);
+                    cleanupDecode();
+                }
             }
 
             private void onNetAbort(
@@ -1136,6 +1332,7 @@ public final class WsClientFactory implements WsStreamFactory
 
                 assert replyAck <= replySeq;
 
+                cleanupDecode();
                 doAppAbort(traceId, authorization, STATUS_UNEXPECTED_CONDITION);
             }
 
@@ -1192,6 +1389,7 @@ public final class WsClientFactory implements WsStreamFactory
                 final long traceId = reset.traceId();
                 final long authorization = reset.authorization();
 
+                cleanupEncode();
                 doAppReset(traceId, authorization);
             }
 
@@ -1269,16 +1467,27 @@ public final class WsClientFactory implements WsStreamFactory
                     this.payloadLength = wsHeader.length();
                     this.payloadProgress = 0;
 
-                    switch (wsHeaderRO.opcode())
+                    final int opcode = wsHeaderRO.opcode();
+                    final boolean compressed = deflateParams != NOT_NEGOTIATED && wsHeader.rsv1();
+
+                    // RSV1 is only permitted on the first frame of a compressed data message
+                    switch (compressed && opcode != 0x01 && opcode != 0x02 ? -1 : opcode)
                     {
                     case 0x00:
-                        this.decodeState = this::decodeContinuation;
+                        this.inflateFin = wsHeader.fin();
+                        this.decodeState = inflating ? this::decodeCompressed : this::decodeContinuation;
                         break;
                     case 0x01:
-                        this.decodeState = this::decodeText;
+                        this.inflating = compressed;
+                        this.inflateFin = wsHeader.fin();
+                        this.inflateFlags = 0x81;
+                        this.decodeState = compressed ? this::decodeCompressed : this::decodeText;
                         break;
                     case 0x02:
-                        this.decodeState = this::decodeBinary;
+                        this.inflating = compressed;
+                        this.inflateFin = wsHeader.fin();
+                        this.inflateFlags = 0x82;
+                        this.decodeState = compressed ? this::decodeCompressed : this::decodeBinary;
                         break;
                     case 0x08:
                         this.decodeState = this::decodeClose;
@@ -1370,6 +1579,87 @@ public final class WsClientFactory implements WsStreamFactory
                 return decodeBytes;
             }
 
+            private int decodeCompressed(
+                final DirectBuffer buffer,
+                final int offset,
+                final int length)
+            {
+                final int decodeBytes =
+                    (int) Math.min(Math.min(length, deflateBuffer.capacity()), payloadLength - payloadProgress);
+
+                if (inflater == null)
+                {
+                    inflater = deflate.acquireInflater();
+                }
+
+                int progress = 0;
+                int inflated = 0;
+                int maxLength = 0;
+
+                inflateStalled = false;
+                do
+                {
+                    maxLength = Math.min(WsStream.this.replyWindow(), deflateBuffer.capacity());
+                    if (maxLength <= 0)
+                    {
+                        inflateStalled = true;
+                        break;
+                    }
+
+                    final int remaining = decodeBytes - progress;
+                    inflated = deflate.inflate(inflater, buffer, offset + progress, remaining, deflateBuffer, 0, maxLength);
+                    final int consumed = inflated != NO_LENGTH ? remaining - inflater.getRemaining() : 0;
+
+                    if (inflated == NO_LENGTH || inflated == 0 && consumed == 0 && remaining > 0)
+                    {
+                        this.inflating = false;
+                        this.decodeState = this::decodeHeader;
+                        return decodeUnexpected(buffer, offset, length);
+                    }
+
+                    if (inflated > 0)
+                    {
+                        doAppData(decodeTraceId, inflateFlags, 0, payloadRO.wrap(deflateBuffer, 0, inflated));
+                        inflateFlags = 0x80;
+                    }
+
+                    progress += consumed;
+                }
+                while (progress < decodeBytes || inflated == maxLength);
+
+                payloadProgress += progress;
+
+                if (!inflateStalled && payloadProgress == payloadLength)
+                {
+                    if (inflateFin)
+                    {
+                        if (deflate.inflateTail(inflater) == NO_LENGTH)
+                        {
+                            this.inflating = false;
+                            this.decodeState = this::decodeHeader;
+                            return decodeUnexpected(buffer, offset, length);
+                        }
+
+                        if (inflateFlags != 0x80)
+                        {
+                            doAppData(decodeTraceId, inflateFlags, 0, payloadRO.wrap(deflateBuffer, 0, 0));
+                        }
+
+                        if ((deflateParams & SERVER_NO_CONTEXT_TAKEOVER) != 0)
+                        {
+                            deflate.releaseInflater(inflater);
+                            inflater = null;
+                        }
+
+                        this.inflating = false;
+                    }
+
+                    this.decodeState = this::decodeHeader;
+                }
+
+                return progress;
+            }
+
             private int rotateMaskingKey(
                 int maskingKey,
                 int decodeBytes)
@@ -1594,7 +1884,8 @@ public final class WsClientFactory implements WsStreamFactory
         String authority,
         String path,
         String handshakeKey,
-        String protocol)
+        String protocol,
+        int deflateOffer)
     {
         return headers ->
         {
@@ -1620,6 +1911,12 @@ public final class WsClientFactory implements WsStreamFactory
             {
                 headers.item(h -> h.name("sec-websocket-protocol").value(protocol));
             }
+
+            if (deflateOffer != NOT_NEGOTIATED)
+            {
+                final String extension = WsPerMessageDeflate.extension(deflateOffer);
+                headers.item(h -> h.name("sec-websocket-extensions").value(extension));
+            }
         };
     }
 
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.ws.internal.stream;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+final class WsPerMessageDeflate
+{
+    static final int NOT_NEGOTIATED = -1;
+    static final int NOT_ACCEPTABLE = -2;
+    static final int SERVER_NO_CONTEXT_TAKEOVER = 0x01;
+    static final int CLIENT_NO_CONTEXT_TAKEOVER = 0x02;
+    static final int NO_LENGTH = -1;
+
+    // zlib footprint at 15 window bits and default memory level
+    static final int DEFLATER_FOOTPRINT = (1 << (15 + 2)) + (1 << (8 + 9));
+    static final int INFLATER_FOOTPRINT = (1 << 15) + 7 * 1024;
+
+    static final int TAIL_SIZE = 4;
+
+    private static final String EXTENSION_NAME = "permessage-deflate";
+    private static final String PARAM_SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String PARAM_CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    private static final String PARAM_SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    private static final String PARAM_CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+    private static final int MAX_WINDOW_BITS = 15;
+
+    private static final byte[] TAIL = { 0x00, 0x00, (byte) 0xff, (byte) 0xff };
+
+    private final Deque<Deflater> deflaters;
+    private final Deque<Inflater> inflaters;
+    private final int budget;
+    private final byte[] input;
+    private final byte[] output;
+
+    WsPerMessageDeflate(
+        int capacity,
+        int budget)
+    {
+        this.deflaters = new ArrayDeque<>();
+        this.inflaters = new ArrayDeque<>();
+        this.budget = budget;
+        this.input = new byte[capacity + TAIL_SIZE];
+        this.output = new byte[capacity + TAIL_SIZE];
+    }
+
+    int negotiate(
+        String offers)
+    {
+        int negotiated = NOT_NEGOTIATED;
+
+        if (offers != null)
+        {
+            for (String offer : offers.split(","))
+            {
+                final int params = params(offer, true);
+                if (params >= 0)
+                {
+                    negotiated = budget(params, SERVER_NO_CONTEXT_TAKEOVER, CLIENT_NO_CONTEXT_TAKEOVER);
+                    break;
+                }
+            }
+        }
+
+        return negotiated;
+    }
+
+    int offer()
+    {
+        return budget(0, CLIENT_NO_CONTEXT_TAKEOVER, SERVER_NO_CONTEXT_TAKEOVER);
+    }
+
+    int accept(
+        String extensions,
+        int offered)
+    {
+        int accepted = NOT_NEGOTIATED;
+
+        if (extensions != null)
+        {
+            for (String extension : extensions.split(","))
+            {
+                final int params = params(extension, false);
+                if (params != NOT_NEGOTIATED)
+                {
+                    accepted = accepted == NOT_NEGOTIATED && params >= 0
+                        ? params | (offered & CLIENT_NO_CONTEXT_TAKEOVER)
+                        : NOT_ACCEPTABLE;
+                }
+            }
+        }
+
+        return accepted;
+    }
+
+    Deflater acquireDeflater()
+    {
+        final Deflater deflater = deflaters.poll();
+        return deflater != null ? deflater : new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+
+    void releaseDeflater(
+        Deflater deflater)
+    {
+        deflater.reset();
+        deflaters.push(deflater);
+    }
+
+    Inflater acquireInflater()
+    {
+        final Inflater inflater = inflaters.poll();
+        return inflater != null ? inflater : new Inflater(true);
+    }
+
+    void releaseInflater(
+        Inflater inflater)
+    {
+        inflater.reset();
+        inflaters.push(inflater);
+    }
+
+    int deflate(
+        Deflater deflater,
+        DirectBuffer buffer,
+        int offset,
+        int length,
+        MutableDirectBuffer target,
+        int targetOffset)
+    {
+        int deflated = NO_LENGTH;
+
+        if (length <= input.length - TAIL_SIZE)
+        {
+            buffer.getBytes(offset, input, 0, length);
+            deflater.setInput(input, 0, length);
+
+            final int maxLength = length + TAIL_SIZE;
+            final int flushed = deflater.deflate(output, 0, maxLength, Deflater.SYNC_FLUSH);
+
+            if (flushed < maxLength && flushed >= TAIL_SIZE && endsWithTail(output, flushed))
+            {
+                deflated = flushed - TAIL_SIZE;
+                target.putBytes(targetOffset, output, 0, deflated);
+            }
+            else
+            {
+                // peer never sees this message compressed, so drop any back references to it
+                deflater.reset();
+            }
+        }
+
+        return deflated;
+    }
+
+    int inflate(
+        Inflater inflater,
+        DirectBuffer buffer,
+        int offset,
+        int length,
+        MutableDirectBuffer target,
+        int targetOffset,
+        int targetLimit)
+    {
+        int inflated = NO_LENGTH;
+
+        if (length <= input.length)
+        {
+            buffer.getBytes(offset, input, 0, length);
+            inflater.setInput(input, 0, length);
+
+            try
+            {
+                final int maxLength = Math.min(targetLimit - targetOffset, output.length);
+                inflated = inflater.inflate(output, 0, maxLength);
+                target.putBytes(targetOffset, output, 0, inflated);
+            }
+            catch (DataFormatException ex)
+            {
+                inflated = NO_LENGTH;
+            }
+        }
+
+        return inflated;
+    }
+
+    int inflateTail(
+        Inflater inflater)
+    {
+        int inflated = NO_LENGTH;
+
+        if (!inflater.finished())
+        {
+            inflater.setInput(TAIL, 0, TAIL_SIZE);
+
+            try
+            {
+                inflated = inflater.inflate(output, 0, output.length);
+            }
+            catch (DataFormatException ex)
+            {
+                inflated = NO_LENGTH;
+            }
+        }
+        else
+        {
+            // message ended with a final block, next message starts a new deflate stream
+            inflater.reset();
+            inflated = 0;
+        }
+
+        return inflated;
+    }
+
+    static String extension(
+        int params)
+    {
+        final StringBuilder extension = new StringBuilder(EXTENSION_NAME);
+
+        if ((params & SERVER_NO_CONTEXT_TAKEOVER) != 0)
+        {
+            extension.append("; ").append(PARAM_SERVER_NO_CONTEXT_TAKEOVER);
+        }
+
+        if ((params & CLIENT_NO_CONTEXT_TAKEOVER) != 0)
+        {
+            extension.append("; ").append(PARAM_CLIENT_NO_CONTEXT_TAKEOVER);
+        }
+
+        return extension.toString();
+    }
+
+    private int budget(
+        int params,
+        int deflaterNoContextTakeover,
+        int inflaterNoContextTakeover)
+    {
+        int remaining = budget;
+
+        if ((params & deflaterNoContextTakeover) == 0)
+        {
+            if (remaining >= DEFLATER_FOOTPRINT)
+            {
+                remaining -= DEFLATER_FOOTPRINT;
+            }
+            else
+            {
+                params |= deflaterNoContextTakeover;
+            }
+        }
+
+        if ((params & inflaterNoContextTakeover) == 0 && remaining < INFLATER_FOOTPRINT)
+        {
+            params |= inflaterNoContextTakeover;
+        }
+
+        return params;
+    }
+
+    private static int params(
+        String extension,
+        boolean offer)
+    {
+        final String[] tokens = extension.split(";");
+
+        int params = NOT_NEGOTIATED;
+
+        if (EXTENSION_NAME.equalsIgnoreCase(tokens[0].trim()))
+        {
+            params = 0;
+
+            for (int i = 1; i < tokens.length && params >= 0; i++)
+            {
+                final String token = tokens[i].trim();
+                final int equals = token.indexOf('=');
+                final String name = equals != -1 ? token.substring(0, equals).trim() : token;
+                final String value = equals != -1 ? token.substring(equals + 1).trim().replace("\"", "") : null;
+
+                switch (name.toLowerCase())
+                {
+                case PARAM_SERVER_NO_CONTEXT_TAKEOVER:
+                    params = value == null ? params | SERVER_NO_CONTEXT_TAKEOVER : NOT_ACCEPTABLE;
+                    break;
+                case PARAM_CLIENT_NO_CONTEXT_TAKEOVER:
+                    params = value == null ? params | CLIENT_NO_CONTEXT_TAKEOVER : NOT_ACCEPTABLE;
+                    break;
+                case PARAM_SERVER_MAX_WINDOW_BITS:
+                    // Deflater window is fixed, but any window can be inflated
+                    params = offer && windowBits(value) != MAX_WINDOW_BITS ? NOT_ACCEPTABLE : params;
+                    break;
+                case PARAM_CLIENT_MAX_WINDOW_BITS:
+                    params = !offer && windowBits(value) != MAX_WINDOW_BITS ||
+                        value != null && windowBits(value) == NOT_ACCEPTABLE ? NOT_ACCEPTABLE : params;
+                    break;
+                default:
+                    params = NOT_ACCEPTABLE;
+                    break;
+                }
+            }
+        }
+
+        return params;
+    }
+
+    private static int windowBits(
+        String value)
+    {
+        int windowBits = NOT_ACCEPTABLE;
+
+        if (value != null)
+        {
+            try
+            {
+                final int bits = Integer.parseInt(value);
+                windowBits = bits >= 8 && bits <= MAX_WINDOW_BITS ? bits : NOT_ACCEPTABLE;
+            }
+            catch (NumberFormatException ex)
+            {
+                // invalid window bits
+            }
+        }
+
+        return windowBits;
+    }
+
+    private static boolean endsWithTail(
+        byte[] bytes,
+        int limit)
+    {
+        boolean matches = true;
+        for (int index = 0; matches && index < TAIL_SIZE; index++)
+        {
+            matches = bytes[limit - TAIL_SIZE + index] == TAIL[index];
+        }
+        return matches;
+    }
+}
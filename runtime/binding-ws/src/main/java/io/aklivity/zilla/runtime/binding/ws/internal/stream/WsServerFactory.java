@@ -15,10 +15,15 @@
  */
 package io.aklivity.zilla.runtime.binding.ws.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.CLIENT_NO_CONTEXT_TAKEOVER;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.NOT_NEGOTIATED;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.NO_LENGTH;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.SERVER_NO_CONTEXT_TAKEOVER;
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_NORMAL_CLOSURE;
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_PROTOCOL_ERROR;
 import static io.aklivity.zilla.runtime.binding.ws.internal.types.codec.WsHeaderFW.STATUS_UNEXPECTED_CONDITION;
 import static io.aklivity.zilla.runtime.binding.ws.internal.util.WsMaskUtil.xor;
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.nio.ByteOrder.nativeOrder;
@@ -33,6 +38,8 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.LongUnaryOperator;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import org.agrona.DirectBuffer;
 import org.agrona.LangUtil;
@@ -65,6 +72,7 @@ import io.aklivity.zilla.runtime.binding.ws.internal.types.stream.WsEndExFW;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
@@ -110,6 +118,7 @@ public final class WsServerFactory implements WsStreamFactory
     private final ChallengeFW.Builder challengeRW = new ChallengeFW.Builder();
 
     private final OctetsFW payloadRO = new OctetsFW();
+    private final OctetsFW deflatedRO = new OctetsFW();
 
     private final HttpBeginExFW httpBeginExRO = new HttpBeginExFW();
     private final HttpBeginExFW.Builder httpBeginExRW = new HttpBeginExFW.Builder();
@@ -121,6 +130,10 @@ public final class WsServerFactory implements WsStreamFactory
 
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer extBuffer;
+    private final MutableDirectBuffer inflateBuffer;
+    private final MutableDirectBuffer deflateBuffer;
+    private final BufferPool bufferPool;
+    private final WsPerMessageDeflate deflate;
     private final BindingHandler streamFactory;
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
@@ -136,6 +149,12 @@ public final class WsServerFactory implements WsStreamFactory
     {
         this.writeBuffer = context.writeBuffer();
         this.extBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
+        this.inflateBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
+        this.deflateBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
+        this.bufferPool = context.bufferPool();
+        this.deflate = config.deflate()
+            ? new WsPerMessageDeflate(context.writeBuffer().capacity(), config.deflateMemoryBudget())
+            : null;
         this.streamFactory = context.streamFactory();
         this.supplyInitialId = context::supplyInitialId;
         this.supplyReplyId = context::supplyReplyId;
@@ -200,6 +219,7 @@ public final class WsServerFactory implements WsStreamFactory
         final String version = headers.get("sec-websocket-version");
         final String key = headers.get("sec-websocket-key");
         final String[] protocols = parseProtocols(headers.get("sec-websocket-protocol"));
+        final String extensions = headers.get("sec-websocket-extensions");
         // TODO: need lightweight approach (end)
 
         MessageConsumer newStream = null;
@@ -238,6 +258,8 @@ public final class WsServerFactory implements WsStreamFactory
 
                 if (route != null)
                 {
+                    final int deflateParams = deflate != null ? deflate.negotiate(extensions) : NOT_NEGOTIATED;
+
                     newStream = new WsServer(
                         sender,
                         originId,
@@ -246,6 +268,7 @@ public final class WsServerFactory implements WsStreamFactory
                         route.id,
                         key,
                         protocol,
+                        deflateParams,
                         scheme,
                         authority,
                         path)::onNetMessage;
@@ -265,12 +288,26 @@ public final class WsServerFactory implements WsStreamFactory
         private final long replyId;
         private final String key;
         private final String protocol;
+        private final int deflateParams;
         private final String scheme;
         private final String authority;
         private final String path;
 
         private WsStream stream;
 
+        private Deflater deflater;
+        private Inflater inflater;
+        private boolean inflating;
+        private boolean inflateFin;
+        private boolean inflateStalled;
+        private int inflateFlags;
+
+        private int decodeSlot = NO_SLOT;
+        private int decodeSlotOffset;
+        private boolean decodeEndDeferred;
+        private boolean decoding;
+        private boolean initialClosed;
+
         private long decodeTraceId;
         private long decodeAuthorization;
         private DecoderState decodeState;
@@ -306,6 +343,7 @@ public final class WsServerFactory implements WsStreamFactory
             long resolvedId,
             String key,
             String protocol,
+            int deflateParams,
             String scheme,
             String authority,
             String path)
@@ -317,6 +355,7 @@ public final class WsServerFactory implements WsStreamFactory
             this.replyId = supplyReplyId.applyAsLong(initialId);
             this.key = key;
             this.protocol = protocol;
+            this.deflateParams = deflateParams;
             this.scheme = scheme;
             this.authority = authority;
             this.path = path;
@@ -340,7 +379,7 @@ public final class WsServerFactory implements WsStreamFactory
             final String handshakeHash = new String(encoder.encode(digest), US_ASCII);
 
             doHttpBegin(receiver, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, authorization, affinity,
-                    setHttpHeaders(handshakeHash, protocol));
+                    setHttpHeaders(handshakeHash, protocol, deflateParams));
         }
 
         private void doNetData(
@@ -351,11 +390,38 @@ public final class WsServerFactory implements WsStreamFactory
             OctetsFW payload,
             int flags)
         {
-            final int payloadSize = payload.sizeof();
+            OctetsFW frame = payload;
+            int flagsAndOpcode = flags;
+
+            if (deflateParams != NOT_NEGOTIATED && (flags == 0x81 || flags == 0x82))
+            {
+                if (deflater == null)
+                {
+                    deflater = deflate.acquireDeflater();
+                }
+
+                final int deflated = deflate.deflate(deflater, payload.buffer(), payload.offset(), payload.sizeof(),
+                    deflateBuffer, 0);
+
+                if ((deflateParams & SERVER_NO_CONTEXT_TAKEOVER) != 0)
+                {
+                    deflate.releaseDeflater(deflater);
+                    deflater = null;
+                }
+
+                if (deflated != NO_LENGTH)
+                {
+                    frame = deflatedRO.wrap(deflateBuffer, 0, deflated);
+                    flagsAndOpcode |= 0x40;
+                }
+            }
+
+            final OctetsFW framePayload = frame;
+            final int payloadSize = framePayload.sizeof();
 
             WsHeaderFW wsHeader = wsHeaderRW.wrap(writeBuffer, DataFW.FIELD_OFFSET_PAYLOAD, writeBuffer.capacity())
                                             .length(payloadSize)
-                                            .flagsAndOpcode(flags)
+                                            .flagsAndOpcode(flagsAndOpcode)
                                             .build();
 
             final int wsHeaderSize = wsHeader.sizeof();
@@ -374,7 +440,7 @@ public final class WsServerFactory implements WsStreamFactory
                     .budgetId(budgetId)
                     .reserved(reserved)
                     .payload(p -> p.set((b, o, m) -> wsHeaderSize)
-                                   .put(payload.buffer(), payload.offset(), payloadSize))
+                                   .put(framePayload.buffer(), framePayload.offset(), payloadSize))
                     .build();
 
             receiver.accept(data.typeId(), data.buffer(), data.offset(), data.sizeof());
@@ -397,6 +463,8 @@ public final class WsServerFactory implements WsStreamFactory
                     .build();
 
             receiver.accept(end.typeId(), end.buffer(), end.offset(), end.sizeof());
+
+            cleanupEncode();
         }
 
         private void doNetAbort(
@@ -413,6 +481,8 @@ public final class WsServerFactory implements WsStreamFactory
                     .build();
 
             receiver.accept(abort.typeId(), abort.buffer(), abort.offset(), abort.sizeof());
+
+            cleanupEncode();
         }
 
         private void doNetFlush(
@@ -451,6 +521,9 @@ public final class WsServerFactory implements WsStreamFactory
                     .build();
 
             receiver.accept(reset.typeId(), reset.buffer(), reset.offset(), reset.sizeof());
+
+            initialClosed = true;
+            cleanupDecode();
         }
 
         private void doNetChallenge(
@@ -480,11 +553,15 @@ public final class WsServerFactory implements WsStreamFactory
             int pendingAck,
             int paddingMin)
         {
-            long initialAckMax = Math.max(initialSeq - pendingAck, initialAck);
-            if (initialAckMax > initialAck || stream.initialMax > initialMax)
+            final int maximum = deflateParams != NOT_NEGOTIATED
+                ? Math.min(stream.initialMax, bufferPool.slotCapacity())
+                : stream.initialMax;
+
+            long initialAckMax = Math.max(initialSeq - pendingAck - decodeSlotOffset, initialAck);
+            if (initialAckMax > initialAck || maximum > initialMax)
             {
                 initialAck = initialAckMax;
-                initialMax = stream.initialMax;
+                initialMax = maximum;
                 assert initialAck <= initialSeq;
 
                 final WindowFW window = windowRW.wrap(writeBuffer, 0, writeBuffer.capacity())
@@ -593,31 +670,135 @@ public final class WsServerFactory implements WsStreamFactory
             }
             else
             {
-                decodeTraceId = traceId;
-                decodeAuthorization = authorization;
-
                 final OctetsFW payload = data.payload();
-                final DirectBuffer buffer = payload.buffer();
 
+                DirectBuffer buffer = payload.buffer();
                 int offset = payload.offset();
-                int length = payload.sizeof();
-                while (length > 0)
+                int limit = payload.limit();
+
+                if (decodeSlot != NO_SLOT)
                 {
-                    int consumed = decodeState.decode(buffer, offset, length);
-                    offset += consumed;
-                    length -= consumed;
+                    final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+                    slot.putBytes(decodeSlotOffset, buffer, offset, limit - offset);
+                    decodeSlotOffset += limit - offset;
+
+                    buffer = slot;
+                    offset = 0;
+                    limit = decodeSlotOffset;
                 }
 
-                // Since we have two decoding states for a frame, the following is
-                // needed to handle empty close, empty ping etc. Otherwise, it will be
-                // delayed until next handleData() (which may not come for e.g empty close frame)
-                if (payloadLength == 0)
+                decodeNet(traceId, authorization, buffer, offset, limit);
+            }
+        }
+
+        private void decodeNet(
+            long traceId,
+            long authorization,
+            DirectBuffer buffer,
+            int offset,
+            int limit)
+        {
+            decodeTraceId = traceId;
+            decodeAuthorization = authorization;
+            decoding = true;
+            inflateStalled = false;
+
+            int progress = offset;
+            while (progress < limit && !inflateStalled && !initialClosed)
+            {
+                progress += decodeState.decode(buffer, progress, limit - progress);
+            }
+
+            // Since we have two decoding states for a frame, the following is
+            // needed to handle empty close, empty ping etc. Otherwise, it will be
+            // delayed until next handleData() (which may not come for e.g empty close frame)
+            if (!initialClosed && (payloadLength == 0 || inflating && !inflateStalled))
+            {
+                decodeState.decode(buffer, 0, 0);
+            }
+
+            if (progress < limit && !initialClosed)
+            {
+                if (decodeSlot == NO_SLOT)
+                {
+                    decodeSlot = bufferPool.acquire(initialId);
+                }
+
+                if (decodeSlot == NO_SLOT)
+                {
+                    doNetReset(traceId, authorization);
+                    stream.doAppAbort(traceId, authorization, STATUS_UNEXPECTED_CONDITION);
+                }
+                else
+                {
+                    final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+                    slot.putBytes(0, buffer, progress, limit - progress);
+                    decodeSlotOffset = limit - progress;
+                }
+            }
+            else
+            {
+                cleanupDecodeSlot();
+            }
+
+            decoding = false;
+
+            if (decodeEndDeferred && !inflateStalled && decodeSlot == NO_SLOT)
+            {
+                decodeEndDeferred = false;
+                stream.doAppEnd(traceId, authorization, STATUS_NORMAL_CLOSURE);
+                cleanupDecode();
+            }
+        }
+
+        private void decodeNetDeferred(
+            long traceId,
+            long authorization)
+        {
+            if (inflateStalled && !decoding)
+            {
+                if (decodeSlot != NO_SLOT)
+                {
+                    decodeNet(traceId, authorization, bufferPool.buffer(decodeSlot), 0, decodeSlotOffset);
+                }
+                else
                 {
-                    decodeState.decode(buffer, 0, 0);
+                    decodeNet(traceId, authorization, inflateBuffer, 0, 0);
                 }
             }
         }
 
+        private void cleanupDecodeSlot()
+        {
+            if (decodeSlot != NO_SLOT)
+            {
+                bufferPool.release(decodeSlot);
+                decodeSlot = NO_SLOT;
+                decodeSlotOffset = 0;
+            }
+        }
+
+        private void cleanupDecode()
+        {
+            cleanupDecodeSlot();
+            inflateStalled = false;
+
+            if (inflater != null)
+            {
+                deflate.releaseInflater(inflater);
+                inflater = null;
+            }
+        }
+
+        private void cleanupEncode()
+        {
+            if (deflater != null)
+            {
+                deflate.releaseDeflater(deflater);
+                deflater = null;
+            }
+        }
+
         private void onNetSignal(
             SignalFW signal)
         {
@@ -641,7 +822,15 @@ public final class WsServerFactory implements WsStreamFactory
             final long traceId = end.traceId();
             final long authorization = end.authorization();
 
-            stream.doAppEnd(traceId, authorization, STATUS_NORMAL_CLOSURE);
+            if (decodeSlot != NO_SLOT || inflateStalled)
+            {
+                decodeEndDeferred = true;
+            }
+            else
+            {
+                stream.doAppEnd(traceId, authorization, STATUS_NORMAL_CLOSURE);
+                cleanupDecode();
+            }
         }
 
         private void onNetAbort(
@@ -650,6 +839,7 @@ public final class WsServerFactory implements WsStreamFactory
             final long traceId = abort.traceId();
             final long authorization = abort.authorization();
 
+            cleanupDecode();
             stream.doAppAbort(traceId, authorization, STATUS_UNEXPECTED_CONDITION);
         }
 
@@ -696,6 +886,7 @@ public final class WsServerFactory implements WsStreamFactory
             final long traceId = reset.traceId();
             final long authorization = reset.authorization();
 
+            cleanupEncode();
             stream.doAppReset(traceId, authorization);
         }
 
@@ -768,16 +959,27 @@ public final class WsServerFactory implements WsStreamFactory
                 this.payloadLength = wsHeader.length();
                 this.payloadProgress = 0;
 
-                switch (wsHeader.opcode())
+                final int opcode = wsHeader.opcode();
+                final boolean compressed = deflateParams != NOT_NEGOTIATED && wsHeader.rsv1();
+
+                // RSV1 is only permitted on the first frame of a compressed data message
+                switch (compressed && opcode != 0x01 && opcode != 0x02 ? -1 : opcode)
                 {
                 case 0x00:
-                    this.decodeState = this::decodeContinuation;
+                    this.inflateFin = wsHeader.fin();
+                    this.decodeState = inflating ? this::decodeCompressed : this::decodeContinuation;
                     break;
                 case 0x01:
-                    this.decodeState = this::decodeText;
+                    this.inflating = compressed;
+                    this.inflateFin = wsHeader.fin();
+                    this.inflateFlags = 0x81;
+                    this.decodeState = compressed ? this::decodeCompressed : this::decodeText;
                     break;
                 case 0x02:
-                    this.decodeState = this::decodeBinary;
+                    this.inflating = compressed;
+                    this.inflateFin = wsHeader.fin();
+                    this.inflateFlags = 0x82;
+                    this.decodeState = compressed ? this::decodeCompressed : this::decodeBinary;
                     break;
                 case 0x08:
                     this.decodeState = this::decodeClose;
@@ -873,6 +1075,92 @@ public final class WsServerFactory implements WsStreamFactory
             return decodeBytes;
         }
 
+        private int decodeCompressed(
+            final DirectBuffer buffer,
+            final int offset,
+            final int length)
+        {
+            final int decodeBytes = (int) Math.min(Math.min(length, inflateBuffer.capacity()), payloadLength - payloadProgress);
+
+            if (inflater == null)
+            {
+                inflater = deflate.acquireInflater();
+            }
+
+            inflateBuffer.putBytes(0, buffer, offset, decodeBytes);
+            xor(inflateBuffer, 0, decodeBytes, maskingKey);
+
+            int progress = 0;
+            int inflated = 0;
+            int maxLength = 0;
+
+            inflateStalled = false;
+            do
+            {
+                maxLength = Math.min(stream.initialWindow(), deflateBuffer.capacity());
+                if (maxLength <= 0)
+                {
+                    inflateStalled = true;
+                    break;
+                }
+
+                final int remaining = decodeBytes - progress;
+                inflated = deflate.inflate(inflater, inflateBuffer, progress, remaining, deflateBuffer, 0, maxLength);
+                final int consumed = inflated != NO_LENGTH ? remaining - inflater.getRemaining() : 0;
+
+                if (inflated == NO_LENGTH || inflated == 0 && consumed == 0 && remaining > 0)
+                {
+                    this.inflating = false;
+                    this.decodeState = this::decodeHeader;
+                    return decodeUnexpected(buffer, offset, length);
+                }
+
+                if (inflated > 0)
+                {
+                    stream.doAppData(decodeTraceId, decodeAuthorization, inflateFlags, 0,
+                        payloadRO.wrap(deflateBuffer, 0, inflated));
+                    inflateFlags = 0x80;
+                }
+
+                progress += consumed;
+            }
+            while (progress < decodeBytes || inflated == maxLength);
+
+            payloadProgress += progress;
+            maskingKey = rotateMaskingKey(maskingKey, progress);
+
+            if (!inflateStalled && payloadProgress == payloadLength)
+            {
+                if (inflateFin)
+                {
+                    if (deflate.inflateTail(inflater) == NO_LENGTH)
+                    {
+                        this.inflating = false;
+                        this.decodeState = this::decodeHeader;
+                        return decodeUnexpected(buffer, offset, length);
+                    }
+
+                    if (inflateFlags != 0x80)
+                    {
+                        stream.doAppData(decodeTraceId, decodeAuthorization, inflateFlags, 0,
+                            payloadRO.wrap(deflateBuffer, 0, 0));
+                    }
+
+                    if ((deflateParams & CLIENT_NO_CONTEXT_TAKEOVER) != 0)
+                    {
+                        deflate.releaseInflater(inflater);
+                        inflater = null;
+                    }
+
+                    this.inflating = false;
+                }
+
+                this.decodeState = this::decodeHeader;
+            }
+
+            return progress;
+        }
+
         private int decodeClose(
             final DirectBuffer buffer,
             final int offset,
@@ -1097,6 +1385,11 @@ public final class WsServerFactory implements WsStreamFactory
                 assert initialSeq <= initialAck + initialMax;
             }
 
+            private int initialWindow()
+            {
+                return initialMax - (int)(initialSeq - initialAck) - initialPad;
+            }
+
             private void doAppEnd(
                 long traceId,
                 long authorization,
@@ -1400,6 +1693,7 @@ public final class WsServerFactory implements WsStreamFactory
 
                 assert initialAck <= initialSeq;
 
+                decodeNetDeferred(traceId, authorization);
                 doNetWindow(traceId, authorization, budgetId, (int)(initialSeq - initialAck), initialPad);
             }
 
@@ -1542,7 +1836,8 @@ public final class WsServerFactory implements WsStreamFactory
 
     private Consumer<Array32FW.Builder<HttpHeaderFW.Builder, HttpHeaderFW>> setHttpHeaders(
         String handshakeHash,
-        String protocol)
+        String protocol,
+        int deflateParams)
     {
         return headers ->
         {
@@ -1555,6 +1850,12 @@ public final class WsServerFactory implements WsStreamFactory
             {
                 headers.item(h -> h.name("sec-websocket-protocol").value(protocol));
             }
+
+            if (deflateParams != NOT_NEGOTIATED)
+            {
+                final String extension = WsPerMessageDeflate.extension(deflateParams);
+                headers.item(h -> h.name("sec-websocket-extensions").value(extension));
+            }
         };
     }
 
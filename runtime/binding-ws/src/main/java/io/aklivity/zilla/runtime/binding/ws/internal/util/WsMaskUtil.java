@@ -61,7 +61,17 @@ public final class WsMaskUtil
             int index = offset;
             int remaining = length;
 
-            while (remaining >= BitUtil.SIZE_OF_INT)
+            // both halves repeat the masking key, so byte order does not matter
+            final long bits64 = ((long) bits << Integer.SIZE) | (bits & 0xffffffffL);
+
+            while (remaining >= BitUtil.SIZE_OF_LONG)
+            {
+                buffer.putLong(index, buffer.getLong(index) ^ bits64);
+                index += BitUtil.SIZE_OF_LONG;
+                remaining -= BitUtil.SIZE_OF_LONG;
+            }
+
+            if (remaining >= BitUtil.SIZE_OF_INT)
             {
                 buffer.putInt(index, buffer.getInt(index) ^ bits);
                 index += BitUtil.SIZE_OF_INT;
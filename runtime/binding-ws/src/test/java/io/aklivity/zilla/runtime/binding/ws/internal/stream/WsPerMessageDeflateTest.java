@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.ws.internal.stream;
+
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.CLIENT_NO_CONTEXT_TAKEOVER;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.DEFLATER_FOOTPRINT;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.INFLATER_FOOTPRINT;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.NOT_ACCEPTABLE;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.NOT_NEGOTIATED;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.NO_LENGTH;
+import static io.aklivity.zilla.runtime.binding.ws.internal.stream.WsPerMessageDeflate.SERVER_NO_CONTEXT_TAKEOVER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class WsPerMessageDeflateTest
+{
+    private static final int BUDGET_UNLIMITED = Integer.MAX_VALUE;
+
+    @Test
+    public void shouldNegotiateContextTakeoverWithinBudget()
+    {
+        WsPerMessageDeflate deflate = new WsPerMessageDeflate(1024, DEFLATER_FOOTPRINT + INFLATER_FOOTPRINT);
+
+        assertThat(deflate.negotiate("permessage-deflate; client_max_window_bits"), equalTo(0));
+        assertThat(WsPerMessageDeflate.extension(0), equalTo("permessage-deflate"));
+    }
+
+    @Test
+    public void shouldNegotiateNoContextTakeoverWhenBudgetExceeded()
+    {
+        WsPerMessageDeflate inflateOnly = new WsPerMessageDeflate(1024, INFLATER_FOOTPRINT);
+        WsPerMessageDeflate none = new WsPerMessageDeflate(1024, 0);
+
+        assertThat(inflateOnly.negotiate("permessage-deflate"), equalTo(SERVER_NO_CONTEXT_TAKEOVER));
+        assertThat(none.negotiate("permessage-deflate"), equalTo(SERVER_NO_CONTEXT_TAKEOVER | CLIENT_NO_CONTEXT_TAKEOVER));
+        assertThat(WsPerMessageDeflate.extension(SERVER_NO_CONTEXT_TAKEOVER | CLIENT_NO_CONTEXT_TAKEOVER),
+            equalTo("permessage-deflate; server_no_context_takeover; client_no_context_takeover"));
+    }
+
+    @Test
+    public void shouldNegotiateFirstAcceptableOffer()
+    {
+        WsPerMessageDeflate deflate = new WsPerMessageDeflate(1024, BUDGET_UNLIMITED);
+
+        assertThat(deflate.negotiate("x-webkit-deflate-frame, permessage-deflate; server_max_window_bits=10, " +
+            "permessage-deflate; client_no_context_takeover"), equalTo(CLIENT_NO_CONTEXT_TAKEOVER));
+        assertThat(deflate.negotiate("permessage-deflate; unknown"), equalTo(NOT_NEGOTIATED));
+        assertThat(deflate.negotiate(null), equalTo(NOT_NEGOTIATED));
+    }
+
+    @Test
+    public void shouldAcceptResponse()
+    {
+        WsPerMessageDeflate deflate = new WsPerMessageDeflate(1024, BUDGET_UNLIMITED);
+
+        assertThat(deflate.offer(), equalTo(0));
+        assertThat(deflate.accept("permessage-deflate; server_no_context_takeover", 0), equalTo(SERVER_NO_CONTEXT_TAKEOVER));
+        assertThat(deflate.accept("permessage-deflate; client_max_window_bits=10", 0), equalTo(NOT_ACCEPTABLE));
+        assertThat(deflate.accept("permessage-deflate, permessage-deflate", 0), equalTo(NOT_ACCEPTABLE));
+        assertThat(deflate.accept(null, 0), equalTo(NOT_NEGOTIATED));
+    }
+
+    @Test
+    public void shouldDeflateAndInflateWithContextTakeover()
+    {
+        WsPerMessageDeflate deflate = new WsPerMessageDeflate(1024, BUDGET_UNLIMITED);
+        Deflater deflater = deflate.acquireDeflater();
+        Inflater inflater = deflate.acquireInflater();
+
+        MutableDirectBuffer message = new UnsafeBuffer("hello, hello, hello, hello".getBytes(UTF_8));
+        MutableDirectBuffer deflated = new UnsafeBuffer(new byte[1024]);
+        MutableDirectBuffer inflated = new UnsafeBuffer(new byte[1024]);
+
+        for (int i = 0; i < 2; i++)
+        {
+            int deflatedLength = deflate.deflate(deflater, message, 0, message.capacity(), deflated, 0);
+            assertThat(deflatedLength, lessThan(message.capacity()));
+
+            int inflatedLength = deflate.inflate(inflater, deflated, 0, deflatedLength, inflated, 0, inflated.capacity());
+            assertThat(inflatedLength, equalTo(message.capacity()));
+            assertThat(inflated.getStringWithoutLengthUtf8(0, inflatedLength), equalTo("hello, hello, hello, hello"));
+            assertThat(deflate.inflateTail(inflater), equalTo(0));
+        }
+    }
+
+    @Test
+    public void shouldNotDeflateIncompressibleMessage()
+    {
+        WsPerMessageDeflate deflate = new WsPerMessageDeflate(1024, BUDGET_UNLIMITED);
+        Deflater deflater = deflate.acquireDeflater();
+
+        MutableDirectBuffer message = new UnsafeBuffer("x".getBytes(UTF_8));
+        MutableDirectBuffer deflated = new UnsafeBuffer(new byte[1024]);
+
+        assertThat(deflate.deflate(deflater, message, 0, message.capacity(), deflated, 0), equalTo(NO_LENGTH));
+    }
+
+    @Test
+    public void shouldRejectMalformedMessage()
+    {
+        WsPerMessageDeflate deflate = new WsPerMessageDeflate(1024, BUDGET_UNLIMITED);
+        Inflater inflater = deflate.acquireInflater();
+
+        MutableDirectBuffer malformed = new UnsafeBuffer(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff });
+        MutableDirectBuffer inflated = new UnsafeBuffer(new byte[1024]);
+
+        assertThat(deflate.inflate(inflater, malformed, 0, malformed.capacity(), inflated, 0, inflated.capacity()),
+            equalTo(NO_LENGTH));
+    }
+
+    @Test
+    public void shouldReusePooledDeflater()
+    {
+        WsPerMessageDeflate deflate = new WsPerMessageDeflate(1024, BUDGET_UNLIMITED);
+        Deflater deflater = deflate.acquireDeflater();
+        Inflater inflater = deflate.acquireInflater();
+
+        deflate.releaseDeflater(deflater);
+        deflate.releaseInflater(inflater);
+
+        assertThat(deflate.acquireDeflater(), sameInstance(deflater));
+        assertThat(deflate.acquireInflater(), sameInstance(inflater));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.ws.internal.streams.server;
+
+import static io.aklivity.zilla.runtime.binding.ws.internal.WsConfiguration.WS_DEFLATE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.rules.RuleChain.outerRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.DisableOnDebug;
+import org.junit.rules.TestRule;
+import org.junit.rules.Timeout;
+
+import io.aklivity.k3po.runtime.junit.annotation.Specification;
+import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+import io.aklivity.zilla.runtime.engine.test.EngineRule;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
+
+/**
+ * RFC-7692, section 7 "The permessage-deflate Extension"
+ */
+public class PerMessageDeflateIT
+{
+    private final K3poRule k3po = new K3poRule()
+        .addScriptRoot("net", "io/aklivity/zilla/specs/binding/ws/streams/network/compression")
+        .addScriptRoot("app", "io/aklivity/zilla/specs/binding/ws/streams/application/compression");
+
+    private final TestRule timeout = new DisableOnDebug(new Timeout(10, SECONDS));
+
+    private final EngineRule engine = new EngineRule()
+        .directory("target/zilla-itests")
+        .countersBufferCapacity(4096)
+        .configure(WS_DEFLATE, true)
+        .configurationRoot("io/aklivity/zilla/specs/binding/ws/config")
+        .external("app0")
+        .clean();
+
+    @Rule
+    public final TestRule chain = outerRule(engine).around(k3po).around(timeout);
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/extension.negotiated/handshake.request",
+        "${app}/connection.established/handshake.response" })
+    public void shouldNegotiateExtension() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/extension.negotiated.no.context.takeover/handshake.request",
+        "${app}/connection.established/handshake.response" })
+    @Configure(name = "zilla.binding.ws.deflate.memory.budget", value = "0")
+    public void shouldNegotiateNoContextTakeoverWhenMemoryBudgetExceeded() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/extension.declined/handshake.request",
+        "${app}/connection.established/handshake.response" })
+    public void shouldDeclineExtensionWithUnsupportedWindowBits() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/echo.text.payload.compressed/handshake.request.and.frame",
+        "${app}/echo.text.payload.compressed/handshake.response.and.frame" })
+    public void shouldEchoCompressedTextFrame() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/echo.binary.payload.compressed/handshake.request.and.frame",
+        "${app}/echo.binary.payload.compressed/handshake.response.and.frame" })
+    public void shouldEchoCompressedBinaryFrame() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/client.echo.text.payload.compressed.fragmented/handshake.request.and.frames",
+        "${app}/echo.text.payload.compressed.fragmented/handshake.response.and.frame" })
+    public void shouldEchoClientSendCompressedTextFrameFragmented() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${net}/echo.text.payload.compressed.no.context.takeover/handshake.request.and.frames",
+        "${app}/echo.text.payload.compressed.no.context.takeover/handshake.response.and.frames" })
+    public void shouldEchoCompressedTextFramesWithNoContextTakeover() throws Exception
+    {
+        k3po.finish();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.ws.internal.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Random;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class WsMaskUtilTest
+{
+    @Test
+    public void shouldUnmaskEachLengthAndOffset()
+    {
+        final Random random = new Random(0L);
+        final byte[] mask = new byte[4];
+        random.nextBytes(mask);
+
+        final MutableDirectBuffer key = new UnsafeBuffer(mask);
+        final int bits = key.getInt(0);
+
+        for (int offset = 0; offset < 8; offset++)
+        {
+            for (int length = 0; length <= 67; length++)
+            {
+                final byte[] payload = new byte[offset + length + 8];
+                random.nextBytes(payload);
+
+                final byte[] expected = payload.clone();
+                for (int index = 0; index < length; index++)
+                {
+                    expected[offset + index] ^= mask[index & 0x03];
+                }
+
+                final MutableDirectBuffer buffer = new UnsafeBuffer(payload);
+                final int unmasked = WsMaskUtil.xor(buffer, offset, offset + length, bits);
+
+                assertThat(unmasked, equalTo(length));
+                assertThat(payload, equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    public void shouldUnmaskSampleFrame()
+    {
+        final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[] { 0x7f, (byte) 0x9f, 0x4d, 0x51, 0x58 });
+        final int bits = new UnsafeBuffer(new byte[] { 0x37, (byte) 0xfa, 0x21, 0x3d }).getInt(0);
+
+        WsMaskUtil.xor(buffer, 0, buffer.capacity(), bits);
+
+        assertThat(buffer.getStringWithoutLengthAscii(0, buffer.capacity()), equalTo("Hello"));
+    }
+}
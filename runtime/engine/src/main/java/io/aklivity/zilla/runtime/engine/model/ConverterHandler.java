@@ -22,12 +22,38 @@ import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 public interface ConverterHandler
 {
     int FLAGS_COMPLETE = 0x03;
+    int FLAGS_INIT = 0x02;
+    int FLAGS_FIN = 0x01;
     int VALIDATION_FAILURE = -1;
 
-    ConverterHandler NONE = (traceId, bindingId, data, index, length, next) ->
+    ConverterHandler NONE = new ConverterHandler()
     {
-        next.accept(data, index, length);
-        return length;
+        @Override
+        public int convert(
+            long traceId,
+            long bindingId,
+            DirectBuffer data,
+            int index,
+            int length,
+            ValueConsumer next)
+        {
+            next.accept(data, index, length);
+            return length;
+        }
+
+        @Override
+        public int convert(
+            long traceId,
+            long bindingId,
+            int flags,
+            DirectBuffer data,
+            int index,
+            int length,
+            ValueConsumer next)
+        {
+            next.accept(data, index, length);
+            return length;
+        }
     };
 
     @FunctionalInterface
@@ -52,6 +78,28 @@ public interface ConverterHandler
         int length,
         ValueConsumer next);
 
+    /**
+     * Converts one fragment of a value delivered across multiple calls, where {@code flags} carries
+     * {@link #FLAGS_INIT} on the first fragment and {@link #FLAGS_FIN} on the last.
+     * <p>
+     * Returns the number of bytes passed to {@code next} by this call, which is {@code 0} for fragments
+     * retained until the value is complete, or {@link #VALIDATION_FAILURE}. Handlers that do not support
+     * fragmented values only accept {@link #FLAGS_COMPLETE}, see {@link FragmentedConverterHandler}.
+     */
+    default int convert(
+        long traceId,
+        long bindingId,
+        int flags,
+        DirectBuffer data,
+        int index,
+        int length,
+        ValueConsumer next)
+    {
+        return flags == FLAGS_COMPLETE
+            ? convert(traceId, bindingId, data, index, length, next)
+            : VALIDATION_FAILURE;
+    }
+
     default int extractedLength(
         String path)
     {
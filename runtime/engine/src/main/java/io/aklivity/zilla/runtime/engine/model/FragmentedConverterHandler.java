@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.model;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.MutableDirectBuffer;
+
+import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
+
+/**
+ * Retains the fragments of a value until {@link ConverterHandler#FLAGS_FIN} arrives, then converts the
+ * complete value with the wrapped handler. Retained values are bounded by {@code valueSizeMax}.
+ * <p>
+ * Bindings opt in by wrapping a supplied handler when they only see a value one fragment at a time.
+ * Bindings that already hold the complete value should convert it once instead, avoiding the copy.
+ */
+public final class FragmentedConverterHandler implements ConverterHandler
+{
+    private static final int NO_FRAGMENTS = -1;
+
+    private final ConverterHandler handler;
+    private final MutableDirectBuffer fragments;
+    private final int valueSizeMax;
+
+    private int fragmentsLimit = NO_FRAGMENTS;
+
+    public FragmentedConverterHandler(
+        ConverterHandler handler,
+        int valueSizeMax)
+    {
+        this.handler = handler;
+        this.fragments = new ExpandableDirectByteBuffer(0);
+        this.valueSizeMax = valueSizeMax;
+    }
+
+    @Override
+    public void extract(
+        String path)
+    {
+        handler.extract(path);
+    }
+
+    @Override
+    public int convert(
+        long traceId,
+        long bindingId,
+        DirectBuffer data,
+        int index,
+        int length,
+        ValueConsumer next)
+    {
+        return handler.convert(traceId, bindingId, data, index, length, next);
+    }
+
+    @Override
+    public int convert(
+        long traceId,
+        long bindingId,
+        int flags,
+        DirectBuffer data,
+        int index,
+        int length,
+        ValueConsumer next)
+    {
+        int valLength = 0;
+
+        if (flags == FLAGS_COMPLETE)
+        {
+            fragmentsLimit = NO_FRAGMENTS;
+            valLength = handler.convert(traceId, bindingId, data, index, length, next);
+        }
+        else
+        {
+            if ((flags & FLAGS_INIT) != 0x00)
+            {
+                fragmentsLimit = 0;
+            }
+
+            if (fragmentsLimit == NO_FRAGMENTS || fragmentsLimit + length > valueSizeMax)
+            {
+                fragmentsLimit = NO_FRAGMENTS;
+                valLength = VALIDATION_FAILURE;
+            }
+            else
+            {
+                fragments.putBytes(fragmentsLimit, data, index, length);
+                fragmentsLimit += length;
+
+                if ((flags & FLAGS_FIN) != 0x00)
+                {
+                    valLength = handler.convert(traceId, bindingId, fragments, 0, fragmentsLimit, next);
+                    fragmentsLimit = NO_FRAGMENTS;
+                }
+            }
+        }
+
+        return valLength;
+    }
+
+    @Override
+    public int extractedLength(
+        String path)
+    {
+        return handler.extractedLength(path);
+    }
+
+    @Override
+    public void extracted(
+        String path,
+        FieldVisitor visitor)
+    {
+        handler.extracted(path, visitor);
+    }
+
+    @Override
+    public int padding(
+        DirectBuffer data,
+        int index,
+        int length)
+    {
+        return handler.padding(data, index, length);
+    }
+}
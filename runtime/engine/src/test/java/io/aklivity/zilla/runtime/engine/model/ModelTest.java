@@ -39,6 +39,53 @@ public class ModelTest
             new UnsafeBuffer(), 1, 1, (b, i, l) -> {}));
     }
 
+    @Test
+    public void shouldCreateAndVerifyNoOpValueConverterFragments()
+    {
+        ConverterHandler converter = ConverterHandler.NONE;
+
+        assertEquals(1, converter.convert(0L, 0L, ConverterHandler.FLAGS_INIT,
+            new UnsafeBuffer(), 1, 1, (b, i, l) -> {}));
+        assertEquals(1, converter.convert(0L, 0L, ConverterHandler.FLAGS_FIN,
+            new UnsafeBuffer(), 1, 1, (b, i, l) -> {}));
+    }
+
+    @Test
+    public void shouldConvertFragmentedValue()
+    {
+        TestModelConfig modelConfig = TestModelConfig.builder()
+            .length(4)
+            .build();
+        ModelContext context = new TestModelContext(mock(EngineContext.class));
+        ConverterHandler converter = new FragmentedConverterHandler(context.supplyReadConverterHandler(modelConfig), 4);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        byte[] bytes = {0, 0, 0, 42};
+        data.wrap(bytes, 0, bytes.length);
+        assertEquals(0, converter.convert(0L, 0L, ConverterHandler.FLAGS_INIT, data, 0, 2, ValueConsumer.NOP));
+        assertEquals(4, converter.convert(0L, 0L, ConverterHandler.FLAGS_FIN, data, 2, 2, ValueConsumer.NOP));
+        assertEquals(4, converter.convert(0L, 0L, ConverterHandler.FLAGS_COMPLETE, data, 0, 4, ValueConsumer.NOP));
+    }
+
+    @Test
+    public void shouldRejectFragmentedValueExceedingSizeMax()
+    {
+        TestModelConfig modelConfig = TestModelConfig.builder()
+            .length(4)
+            .build();
+        ModelContext context = new TestModelContext(mock(EngineContext.class));
+        ConverterHandler converter = new FragmentedConverterHandler(context.supplyReadConverterHandler(modelConfig), 3);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        byte[] bytes = {0, 0, 0, 42};
+        data.wrap(bytes, 0, bytes.length);
+        assertEquals(0, converter.convert(0L, 0L, ConverterHandler.FLAGS_INIT, data, 0, 2, ValueConsumer.NOP));
+        assertEquals(-1, converter.convert(0L, 0L, ConverterHandler.FLAGS_FIN, data, 2, 2, ValueConsumer.NOP));
+        assertEquals(-1, converter.convert(0L, 0L, ConverterHandler.FLAGS_FIN, data, 2, 2, ValueConsumer.NOP));
+    }
+
     @Test
     public void shouldValidateWithoutFlag()
     {
@@ -29,6 +29,7 @@ import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
+import io.aklivity.zilla.runtime.engine.model.FragmentedConverterHandler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 import io.aklivity.zilla.runtime.engine.test.internal.catalog.TestCatalogHandler;
 import io.aklivity.zilla.runtime.engine.test.internal.catalog.config.TestCatalogConfig;
@@ -103,6 +104,43 @@ public class AvroModelTest
         assertEquals(data.capacity(), converter.convert(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
     }
 
+    @Test
+    public void shouldVerifyValidFragmentedAvroEvent()
+    {
+        TestCatalogConfig catalog = CatalogConfig.builder(TestCatalogConfig::new)
+            .namespace("test")
+            .name("test0")
+            .type("test")
+            .options(TestCatalogOptionsConfig::builder)
+                .id(9)
+                .schema(SCHEMA)
+                .build()
+            .build();
+        AvroModelConfig model = AvroModelConfig.builder()
+            .catalog()
+                .name("test0")
+                    .schema()
+                        .strategy("topic")
+                        .version("latest")
+                        .subject("test-value")
+                        .build()
+                .build()
+            .build();
+
+        when(context.supplyCatalog(catalog.id)).thenReturn(new TestCatalogHandler(catalog.options));
+        ConverterHandler converter = new FragmentedConverterHandler(new AvroReadConverterHandler(model, context), 1024);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        byte[] bytes = {0x06, 0x69, 0x64,
+            0x30, 0x10, 0x70, 0x6f, 0x73, 0x69, 0x74, 0x69, 0x76, 0x65};
+        data.wrap(bytes, 0, bytes.length);
+        assertEquals(0, converter.convert(0L, 0L, ConverterHandler.FLAGS_INIT, data, 0, 4, ValueConsumer.NOP));
+        assertEquals(0, converter.convert(0L, 0L, 0x00, data, 4, 4, ValueConsumer.NOP));
+        assertEquals(data.capacity(), converter.convert(0L, 0L, ConverterHandler.FLAGS_FIN,
+            data, 8, data.capacity() - 8, ValueConsumer.NOP));
+    }
+
     @Test
     public void shouldWriteValidAvroEvent()
     {
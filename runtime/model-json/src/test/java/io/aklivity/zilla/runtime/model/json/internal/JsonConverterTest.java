@@ -30,6 +30,7 @@ import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
+import io.aklivity.zilla.runtime.engine.model.FragmentedConverterHandler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 import io.aklivity.zilla.runtime.engine.test.internal.catalog.TestCatalogHandler;
 import io.aklivity.zilla.runtime.engine.test.internal.catalog.config.TestCatalogConfig;
@@ -112,6 +113,52 @@ public class JsonConverterTest
         assertEquals(data.capacity(), converter.convert(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
     }
 
+    @Test
+    public void shouldVerifyValidFragmentedJsonObject()
+    {
+        TestCatalogConfig catalog = CatalogConfig.builder(TestCatalogConfig::new)
+            .namespace("test")
+            .name("test0")
+            .type("test")
+            .options(TestCatalogOptionsConfig::builder)
+                .id(9)
+                .schema(OBJECT_SCHEMA)
+                .build()
+            .build();
+
+        JsonModelConfig model = JsonModelConfig.builder()
+            .catalog()
+                .name("test0")
+                .schema()
+                    .strategy("topic")
+                    .subject(null)
+                    .version("latest")
+                    .id(0)
+                    .build()
+                .build()
+            .build();
+
+        when(context.supplyCatalog(catalog.id)).thenReturn(new TestCatalogHandler(catalog.options));
+        ConverterHandler converter = new FragmentedConverterHandler(new JsonReadConverterHandler(model, context), 1024);
+
+        DirectBuffer data = new UnsafeBuffer();
+        String payload =
+                "{" +
+                    "\"id\": \"123\"," +
+                    "\"status\": \"OK\"" +
+                "}";
+        byte[] bytes = payload.getBytes();
+        data.wrap(bytes, 0, bytes.length);
+
+        int split = data.capacity() / 2;
+        assertEquals(0, converter.convert(0L, 0L, ConverterHandler.FLAGS_INIT,
+            data, 0, split, ValueConsumer.NOP));
+        assertEquals(data.capacity(), converter.convert(0L, 0L, ConverterHandler.FLAGS_FIN,
+            data, split, data.capacity() - split, ValueConsumer.NOP));
+        assertEquals(data.capacity(), converter.convert(0L, 0L, ConverterHandler.FLAGS_COMPLETE,
+            data, 0, data.capacity(), ValueConsumer.NOP));
+    }
+
     @Test
     public void shouldVerifyValidJsonArray()
     {
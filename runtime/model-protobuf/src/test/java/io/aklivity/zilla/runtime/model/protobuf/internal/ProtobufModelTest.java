@@ -30,6 +30,7 @@ import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
+import io.aklivity.zilla.runtime.engine.model.FragmentedConverterHandler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 import io.aklivity.zilla.runtime.engine.test.internal.catalog.TestCatalogHandler;
 import io.aklivity.zilla.runtime.engine.test.internal.catalog.config.TestCatalogConfig;
@@ -138,6 +139,31 @@ public class ProtobufModelTest
         assertEquals(data.capacity() + 1, converter.convert(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
     }
 
+    @Test
+    public void shouldWriteValidFragmentedProtobufEvent()
+    {
+        ProtobufModelConfig model = ProtobufModelConfig.builder()
+            .catalog()
+                .name("test0")
+                .schema()
+                    .strategy("topic")
+                    .version("latest")
+                    .subject("test-value")
+                    .record("SimpleMessage")
+                    .build()
+                .build()
+            .build();
+        ConverterHandler converter = new FragmentedConverterHandler(new ProtobufWriteConverterHandler(model, context), 1024);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        byte[] bytes = {0x0a, 0x02, 0x4f, 0x4b, 0x12, 0x08, 0x30, 0x31, 0x30, 0x31, 0x32, 0x30, 0x32, 0x34};
+        data.wrap(bytes, 0, bytes.length);
+        assertEquals(0, converter.convert(0L, 0L, ConverterHandler.FLAGS_INIT, data, 0, 5, ValueConsumer.NOP));
+        assertEquals(data.capacity() + 1, converter.convert(0L, 0L, ConverterHandler.FLAGS_FIN,
+            data, 5, data.capacity() - 5, ValueConsumer.NOP));
+    }
+
     @Test
     public void shouldWriteValidProtobufEventNestedMessage()
     {
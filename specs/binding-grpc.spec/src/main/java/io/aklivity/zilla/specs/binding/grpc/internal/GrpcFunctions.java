@@ -21,6 +21,8 @@ import java.nio.ByteOrder;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -443,7 +445,7 @@ public final class GrpcFunctions
         private final MutableDirectBuffer messageBuffer = new UnsafeBuffer(new byte[1024 * 200]);
 
         private int messageBufferLimit = 5;
-
+        private String encoding;
 
         private GrpcMessageBuilder()
         {
@@ -472,14 +474,80 @@ public final class GrpcFunctions
             return this;
         }
 
+        public GrpcMessageBuilder compressed(
+            String encoding)
+        {
+            this.encoding = encoding;
+            return this;
+        }
+
         public byte[] build()
         {
-            final byte[] array = new byte[messageBufferLimit];
-            messageBuffer.putByte(0, (byte) 0);
-            messageBuffer.putInt(1, messageBufferLimit - 5, ByteOrder.BIG_ENDIAN);
-            messageBuffer.getBytes(0, array);
+            final byte[] payload = new byte[messageBufferLimit - 5];
+            messageBuffer.getBytes(5, payload);
+
+            final byte[] message = encoding != null ? compress(encoding, payload) : payload;
+            final byte[] array = new byte[5 + message.length];
+            final MutableDirectBuffer arrayBuffer = new UnsafeBuffer(array);
+            arrayBuffer.putByte(0, (byte) (encoding != null ? 1 : 0));
+            arrayBuffer.putInt(1, message.length, ByteOrder.BIG_ENDIAN);
+            arrayBuffer.putBytes(5, message);
             return array;
         }
+
+        private static byte[] compress(
+            String encoding,
+            byte[] payload)
+        {
+            byte[] compressed;
+
+            switch (encoding)
+            {
+            case "deflate":
+                compressed = deflate(new Deflater(), payload, 0);
+                break;
+            case "gzip":
+                final CRC32 checksum = new CRC32();
+                checksum.update(payload);
+
+                compressed = deflate(new Deflater(Deflater.DEFAULT_COMPRESSION, true), payload, 10);
+                final int trailer = compressed.length - 8;
+                final MutableDirectBuffer gzip = new UnsafeBuffer(compressed);
+                gzip.putByte(0, (byte) 0x1f);
+                gzip.putByte(1, (byte) 0x8b);
+                gzip.putByte(2, (byte) 0x08);
+                gzip.putByte(9, (byte) 0xff);
+                gzip.putInt(trailer, (int) checksum.getValue(), ByteOrder.LITTLE_ENDIAN);
+                gzip.putInt(trailer + 4, payload.length, ByteOrder.LITTLE_ENDIAN);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+            }
+
+            return compressed;
+        }
+
+        private static byte[] deflate(
+            Deflater deflater,
+            byte[] payload,
+            int headerSize)
+        {
+            final byte[] output = new byte[headerSize + payload.length + payload.length / 100 + 64];
+            deflater.setInput(payload);
+            deflater.finish();
+
+            int progress = headerSize;
+            while (!deflater.finished())
+            {
+                progress += deflater.deflate(output, progress, output.length - progress);
+            }
+            deflater.end();
+
+            final int trailerSize = headerSize != 0 ? 8 : 0;
+            final byte[] deflated = new byte[progress + trailerSize];
+            System.arraycopy(output, 0, deflated, 0, progress);
+            return deflated;
+        }
     }
 
     public static final class ProtobufBuilder
@@ -16,14 +16,19 @@ package io.aklivity.zilla.specs.binding.grpc.internal;
 
 import static io.aklivity.zilla.specs.binding.grpc.internal.types.stream.GrpcType.TEXT;
 import static io.aklivity.zilla.specs.binding.http.internal.HttpFunctions.randomBytes;
+import static java.nio.ByteOrder.BIG_ENDIAN;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import javax.el.ELContext;
 import javax.el.FunctionMapper;
@@ -211,6 +216,44 @@ public class GrpcFunctionsTest
         assertArrayEquals(expected, message);
     }
 
+    @Test
+    public void shouldGenerateGzipCompressedGrpcMessage() throws Exception
+    {
+        byte[] message = GrpcFunctions.message()
+            .string(1, "value value value value value value value value")
+            .compressed("gzip")
+            .build();
+        byte[] expected = GrpcFunctions.protobuf()
+            .string(1, "value value value value value value value value")
+            .build();
+
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(message, 5, message.length - 5)))
+        {
+            assertEquals(1, message[0]);
+            assertEquals(message.length - 5, new UnsafeBuffer(message).getInt(1, BIG_ENDIAN));
+            assertArrayEquals(expected, input.readAllBytes());
+        }
+    }
+
+    @Test
+    public void shouldGenerateDeflateCompressedGrpcMessage() throws Exception
+    {
+        byte[] message = GrpcFunctions.message()
+            .string(1, "value value value value value value value value")
+            .compressed("deflate")
+            .build();
+        byte[] expected = GrpcFunctions.protobuf()
+            .string(1, "value value value value value value value value")
+            .build();
+
+        try (InputStream input = new InflaterInputStream(new ByteArrayInputStream(message, 5, message.length - 5)))
+        {
+            assertEquals(1, message[0]);
+            assertEquals(message.length - 5, new UnsafeBuffer(message).getInt(1, BIG_ENDIAN));
+            assertArrayEquals(expected, input.readAllBytes());
+        }
+    }
+
     @Test
     public void shouldGenerateProtobuf()
     {
@@ -115,4 +115,34 @@ public class UnaryRpcIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${app}/message.exchange.compressed/client",
+        "${app}/message.exchange.compressed/server",
+    })
+    public void shouldExchangeCompressedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/message.size.exceeded/client",
+        "${app}/message.size.exceeded/server",
+    })
+    public void shouldAbortMessageSizeExceeded() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/response.unsupported.encoding/client",
+        "${app}/response.unsupported.encoding/server",
+    })
+    public void shouldAbortResponseUnsupportedEncoding() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -76,4 +76,14 @@ public class RejectedRpcIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${net}/unsupported.encoding/client",
+        "${net}/unsupported.encoding/server",
+    })
+    public void shouldRejectUnsupportedEncoding() throws Exception
+    {
+        k3po.finish();
+    }
 }
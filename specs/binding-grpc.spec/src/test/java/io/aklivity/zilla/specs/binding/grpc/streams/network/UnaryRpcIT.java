@@ -146,4 +146,34 @@ public class UnaryRpcIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${net}/message.exchange.compressed/client",
+        "${net}/message.exchange.compressed/server",
+    })
+    public void shouldExchangeCompressedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/message.size.exceeded/client",
+        "${net}/message.size.exceeded/server",
+    })
+    public void shouldRejectMessageSizeExceeded() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${net}/response.unsupported.encoding/client",
+        "${net}/response.unsupported.encoding/server",
+    })
+    public void shouldAbortResponseUnsupportedEncoding() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -45,6 +45,33 @@ public class FileSystemIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${filesystem}/client.read.file.encoding.br/client",
+        "${filesystem}/client.read.file.encoding.br/server"})
+    public void shouldReceiveClientReadFileEncodingBr() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${filesystem}/client.read.file.encoding.gzip/client",
+        "${filesystem}/client.read.file.encoding.gzip/server"})
+    public void shouldReceiveClientReadFileEncodingGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${filesystem}/client.read.file.encoding.identity/client",
+        "${filesystem}/client.read.file.encoding.identity/server"})
+    public void shouldReceiveClientReadFileEncodingIdentity() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${filesystem}/client.read.file.map.modified/client",
@@ -72,6 +99,15 @@ public class FileSystemIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${filesystem}/client.read.file.info.encoding.gzip/client",
+        "${filesystem}/client.read.file.info.encoding.gzip/server"})
+    public void shouldReceiveClientReadFileInfoEncodingGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${filesystem}/server.sent.abort/client",
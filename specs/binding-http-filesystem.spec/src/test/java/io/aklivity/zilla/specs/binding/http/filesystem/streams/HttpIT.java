@@ -45,6 +45,33 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/client.read.file.encoding.br/client",
+        "${http}/client.read.file.encoding.br/server"})
+    public void shouldReceiveClientReadFileEncodingBr() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/client.read.file.encoding.gzip/client",
+        "${http}/client.read.file.encoding.gzip/server"})
+    public void shouldReceiveClientReadFileEncodingGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/client.read.file.encoding.identity/client",
+        "${http}/client.read.file.encoding.identity/server"})
+    public void shouldReceiveClientReadFileEncodingIdentity() throws Exception
+    {
+        k3po.finish();
+    }
+
 
     @Test
     @Specification({
@@ -82,6 +109,15 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/client.read.file.info.encoding.gzip/client",
+        "${http}/client.read.file.info.encoding.gzip/server"})
+    public void shouldReceiveClientReadFileInfoEncodingGzip() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${http}/client.rejected/client",
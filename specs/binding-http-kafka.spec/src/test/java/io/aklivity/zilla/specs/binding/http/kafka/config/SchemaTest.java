@@ -82,6 +82,14 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateProxyGetItemsSnapshot()
+    {
+        JsonObject config = schema.validate("proxy.get.items.snapshot.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateProxyPatchItem()
     {
@@ -414,6 +414,42 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/get.items.snapshot/client",
+        "${http}/get.items.snapshot/server"})
+    public void shouldGetItemsSnapshot() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/get.items.snapshot.replayed/client",
+        "${http}/get.items.snapshot.replayed/server"})
+    public void shouldGetItemsSnapshotReplayed() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/get.items.snapshot.if.none.match.not.modified/client",
+        "${http}/get.items.snapshot.if.none.match.not.modified/server"})
+    public void shouldNotGetItemsSnapshotIfNoneMatchNotModified() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/get.items.snapshot.deleted/client",
+        "${http}/get.items.snapshot.deleted/server"})
+    public void shouldGetItemsSnapshotDeleted() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${http}/patch.item/client",
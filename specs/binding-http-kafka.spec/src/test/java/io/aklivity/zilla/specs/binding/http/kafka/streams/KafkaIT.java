@@ -378,6 +378,33 @@ public class KafkaIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${kafka}/get.items.snapshot/client",
+        "${kafka}/get.items.snapshot/server"})
+    public void shouldGetItemsSnapshot() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${kafka}/get.items.snapshot.unchanged/client",
+        "${kafka}/get.items.snapshot.unchanged/server"})
+    public void shouldGetItemsSnapshotUnchanged() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${kafka}/get.items.snapshot.deleted/client",
+        "${kafka}/get.items.snapshot.deleted/server"})
+    public void shouldGetItemsSnapshotDeleted() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${kafka}/patch.item/client",
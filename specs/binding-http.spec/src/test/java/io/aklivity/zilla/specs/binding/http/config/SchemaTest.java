@@ -147,6 +147,14 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateHttp1ServerCompression()
+    {
+        JsonObject config = schema.validate("v1.1/server.compression.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateHttp1ServerAccessControlSameOrigin()
     {
@@ -283,6 +291,14 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateHttp2ServerCompression()
+    {
+        JsonObject config = schema.validate("v2/server.compression.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateHttp2ServerAccessControlSameOrigin()
     {
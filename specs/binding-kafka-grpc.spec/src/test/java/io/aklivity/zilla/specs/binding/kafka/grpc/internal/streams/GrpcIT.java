@@ -98,4 +98,22 @@ public class GrpcIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${grpc}/unary.rpc.inflight.limit/client",
+        "${grpc}/unary.rpc.inflight.limit/server"})
+    public void shouldLimitInflightMessagesInUnary() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${grpc}/unary.rpc.ordered.by.key/client",
+        "${grpc}/unary.rpc.ordered.by.key/server"})
+    public void shouldOrderMessagesByKeyInUnary() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -99,4 +99,22 @@ public class KafkaIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Specification({
+        "${kafka}/unary.rpc.inflight.limit/client",
+        "${kafka}/unary.rpc.inflight.limit/server"})
+    public void shouldLimitInflightMessagesInUnary() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${kafka}/unary.rpc.ordered.by.key/client",
+        "${kafka}/unary.rpc.ordered.by.key/server"})
+    public void shouldOrderMessagesByKeyInUnary() throws Exception
+    {
+        k3po.finish();
+    }
 }
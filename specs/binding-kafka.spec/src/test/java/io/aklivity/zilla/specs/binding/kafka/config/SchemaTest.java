@@ -131,6 +131,14 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateCacheClientOptionsConflate()
+    {
+        JsonObject config = schema.validate("cache.client.options.conflate.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateCacheOptionsExtractHeaders()
     {
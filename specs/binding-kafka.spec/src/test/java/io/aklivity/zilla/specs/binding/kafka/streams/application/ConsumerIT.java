@@ -55,6 +55,15 @@ public class ConsumerIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/rebalance.sticky.assignment/client",
+        "${app}/rebalance.sticky.assignment/server"})
+    public void shouldRebalanceStickyAssignment() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/acknowledge.message.offset/client",
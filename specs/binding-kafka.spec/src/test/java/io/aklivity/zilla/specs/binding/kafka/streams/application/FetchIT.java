@@ -530,6 +530,51 @@ public class FetchIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/conflated.message.with.message/client",
+        "${app}/conflated.message.with.message/server"})
+    public void shouldReceiveConflatedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/conflated.message.with.aborted.message/client",
+        "${app}/conflated.message.with.aborted.message/server"})
+    public void shouldReceiveMessageConflatedWithAbortedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/conflated.message.with.filtered.message/client",
+        "${app}/conflated.message.with.filtered.message/server"})
+    public void shouldReceiveMessageConflatedWithFilteredMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/conflate.message.with.aborted.message/client",
+        "${app}/conflate.message.with.aborted.message/server"})
+    public void shouldConflateMessageWithAbortedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/conflate.message.with.filtered.message/client",
+        "${app}/conflate.message.with.filtered.message/server"})
+    public void shouldConflateMessageWithFilteredMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/filter.not.header/client",
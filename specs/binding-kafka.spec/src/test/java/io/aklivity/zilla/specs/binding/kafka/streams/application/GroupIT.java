@@ -154,6 +154,24 @@ public class GroupIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/rebalance.sticky.assignment/client",
+        "${app}/rebalance.sticky.assignment/server"})
+    public void shouldRebalanceStickyAssignment() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/rebalance.protocol.cooperative/client",
+        "${app}/rebalance.protocol.cooperative/server"})
+    public void shouldRebalanceProtocolCooperative() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/rebalance.multiple.members.with.same.group.id/client",
@@ -316,6 +316,29 @@ public class MergedIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/merged.produce.message.values.sticky/client",
+        "${app}/merged.produce.message.values.sticky/server"})
+    public void shouldProduceMergedMessageValuesSticky() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/merged.produce.message.values.sticky.linger/client",
+        "${app}/merged.produce.message.values.sticky.linger/server"})
+    public void shouldProduceMergedMessageValuesStickyLinger() throws Exception
+    {
+        k3po.start();
+        k3po.awaitBarrier("SENT_MESSAGE_B2");
+        k3po.notifyBarrier("LINGER_EXPIRED_B");
+        k3po.awaitBarrier("SENT_MESSAGE_C2");
+        k3po.notifyBarrier("LINGER_EXPIRED_C");
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/merged.produce.message.values.dynamic.hashed/client",
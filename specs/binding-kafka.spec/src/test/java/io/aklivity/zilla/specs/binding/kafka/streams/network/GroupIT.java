@@ -172,6 +172,15 @@ public class GroupIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/rebalance.protocol.cooperative/client",
+        "${net}/rebalance.protocol.cooperative/server"})
+    public void shouldRebalanceProtocolCooperative() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/group.authorization.failed/client",
@@ -102,6 +102,15 @@ public class ApplicationIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/echo.payload.fragmented.length.10k/client",
+        "${app}/echo.payload.fragmented.length.10k/server"})
+    public void shouldEchoFragmentedPayloadLength10k() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.auth/client",
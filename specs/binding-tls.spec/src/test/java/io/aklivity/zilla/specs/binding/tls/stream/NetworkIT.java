@@ -94,6 +94,15 @@ public class NetworkIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/echo.payload.length.10k.window.4k/client",
+        "${net}/echo.payload.length.10k.window.4k/server"})
+    public void shouldEchoPayloadLength10kWithSmallWindow() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/client.auth/client",
@@ -29,6 +29,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 import io.aklivity.k3po.runtime.lang.el.Function;
 import io.aklivity.k3po.runtime.lang.el.spi.FunctionMapperSpi;
 import io.aklivity.zilla.specs.binding.ws.internal.types.stream.WsBeginExFW;
+import io.aklivity.zilla.specs.binding.ws.internal.types.stream.WsDataExFW;
 
 public final class WsFunctions
 {
@@ -98,6 +99,46 @@ public final class WsFunctions
         }
     }
 
+    @Function
+    public static WsDataExHelper dataEx()
+    {
+        return new WsDataExHelper();
+    }
+
+    public static final class WsDataExHelper
+    {
+        private final WsDataExFW.Builder wsDataExRW;
+
+        private WsDataExHelper()
+        {
+            MutableDirectBuffer writeBuffer = new UnsafeBuffer(new byte[MAX_BUFFER_SIZE]);
+            this.wsDataExRW = new WsDataExFW.Builder()
+                                    .wrap(writeBuffer, 0, writeBuffer.capacity());
+        }
+
+        public WsDataExHelper typeId(
+            int typeId)
+        {
+            wsDataExRW.typeId(typeId);
+            return this;
+        }
+
+        public WsDataExHelper flags(
+            int flags)
+        {
+            wsDataExRW.flags(flags);
+            return this;
+        }
+
+        public byte[] build()
+        {
+            final WsDataExFW wsDataEx = wsDataExRW.build();
+            final byte[] result = new byte[wsDataEx.sizeof()];
+            wsDataEx.buffer().getBytes(0, result);
+            return result;
+        }
+    }
+
     @Function
     public static String handshakeKey()
     {
@@ -17,6 +17,7 @@ package io.aklivity.zilla.specs.binding.ws.internal;
 
 import static io.aklivity.k3po.runtime.lang.internal.el.ExpressionFactoryUtils.newExpressionFactory;
 import static io.aklivity.zilla.specs.binding.ws.internal.WsFunctions.beginEx;
+import static io.aklivity.zilla.specs.binding.ws.internal.WsFunctions.dataEx;
 import static io.aklivity.zilla.specs.binding.ws.internal.WsFunctions.handshakeHash;
 import static io.aklivity.zilla.specs.binding.ws.internal.WsFunctions.handshakeKey;
 import static org.junit.Assert.assertEquals;
@@ -34,6 +35,7 @@ import org.junit.Test;
 import io.aklivity.k3po.runtime.lang.internal.el.ExpressionContext;
 import io.aklivity.zilla.specs.binding.ws.internal.WsFunctions.WsBeginExHelper;
 import io.aklivity.zilla.specs.binding.ws.internal.types.stream.WsBeginExFW;
+import io.aklivity.zilla.specs.binding.ws.internal.types.stream.WsDataExFW;
 
 public class WsFunctionsTest
 {
@@ -90,4 +92,19 @@ public class WsFunctionsTest
         assertEquals(wsBeginEx.authority().asString(), "localhost:8080");
         assertEquals(wsBeginEx.path().asString(), "/path?query");
     }
+
+    @Test
+    public void shouldEncodeWsDataExt()
+    {
+        final byte[] array = dataEx().typeId(0x01)
+                                     .flags(0x81)
+                                     .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(array);
+        WsDataExFW wsDataEx = new WsDataExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(wsDataEx.typeId(), 0x01);
+        assertEquals(wsDataEx.flags(), 0x81);
+        assertEquals(wsDataEx.info().sizeof(), 0);
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.specs.binding.ws.streams.application;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.rules.RuleChain.outerRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.DisableOnDebug;
+import org.junit.rules.TestRule;
+import org.junit.rules.Timeout;
+
+import io.aklivity.k3po.runtime.junit.annotation.Specification;
+import io.aklivity.k3po.runtime.junit.rules.K3poRule;
+
+/**
+ * RFC-7692, section 7 "The permessage-deflate Extension"
+ */
+public class PerMessageDeflateIT
+{
+    private final K3poRule k3po = new K3poRule()
+        .addScriptRoot("app", "io/aklivity/zilla/specs/binding/ws/streams/application/compression");
+
+    private final TestRule timeout = new DisableOnDebug(new Timeout(5, SECONDS));
+
+    @Rule
+    public final TestRule chain = outerRule(k3po).around(timeout);
+
+    @Test
+    @Specification({
+        "${app}/connection.established/handshake.request",
+        "${app}/connection.established/handshake.response" })
+    public void shouldEstablishConnection() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/echo.text.payload.compressed/handshake.request.and.frame",
+        "${app}/echo.text.payload.compressed/handshake.response.and.frame" })
+    public void shouldEchoCompressedTextFrame() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/echo.binary.payload.compressed/handshake.request.and.frame",
+        "${app}/echo.binary.payload.compressed/handshake.response.and.frame" })
+    public void shouldEchoCompressedBinaryFrame() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/echo.text.payload.compressed.fragmented/handshake.request.and.frame",
+        "${app}/echo.text.payload.compressed.fragmented/handshake.response.and.frame" })
+    public void shouldEchoCompressedTextFrameFragmented() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/echo.text.payload.compressed.no.context.takeover/handshake.request.and.frames",
+        "${app}/echo.text.payload.compressed.no.context.takeover/handshake.response.and.frames" })
+    public void shouldEchoCompressedTextFramesWithNoContextTakeover() throws Exception
+    {
+        k3po.finish();
+    }
+}